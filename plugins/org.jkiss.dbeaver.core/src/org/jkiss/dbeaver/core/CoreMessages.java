@@ -57,6 +57,8 @@ public class CoreMessages extends NLS {
     public static String action_menu_transaction_pref_page_link_extended;
     public static String action_menu_transaction_commit_mode_edit_restricted_dialog_title;
     public static String action_menu_transaction_commit_mode_edit_restricted_dialog_description;
+    public static String action_folder_connect_job_name;
+    public static String action_folder_connect_error_message;
 
     public static String pref_page_connection_types_label_auto_close_enabled_tip;
     public static String pref_page_connection_types_label_auto_close_ttl_tip;
@@ -299,6 +301,14 @@ public class CoreMessages extends NLS {
     public static String pref_page_database_general_group_performance;
     public static String pref_page_database_general_checkbox_disable_extra_metadata;
     public static String pref_page_database_general_checkbox_disable_extra_metadata_tip;
+    public static String pref_page_database_general_checkbox_metadata_snapshot;
+    public static String pref_page_database_general_checkbox_metadata_snapshot_tip;
+    public static String pref_page_database_general_checkbox_metadata_warm_up;
+    public static String pref_page_database_general_checkbox_metadata_warm_up_tip;
+    public static String pref_page_database_general_label_metadata_warm_up_schemas;
+    public static String pref_page_database_general_label_metadata_warm_up_schemas_tip;
+    public static String pref_page_database_general_label_metadata_warm_up_threads;
+    public static String pref_page_database_general_label_metadata_warm_up_threads_tip;
     public static String pref_page_database_general_checkbox_rollback_on_error;
     public static String pref_page_database_general_checkbox_show_row_count;
     public static String pref_page_database_general_group_metadata;
@@ -342,6 +352,8 @@ public class CoreMessages extends NLS {
     public static String pref_page_query_manager_group_settings;
     public static String pref_page_query_manager_group_storage;
     public static String pref_page_query_manager_checkbox_store_log_file;
+    public static String pref_page_query_manager_checkbox_store_history;
+    public static String pref_page_query_manager_checkbox_store_history_tip;
     public static String pref_page_query_manager_logs_folder;
     public static String pref_page_query_manager_label_days_to_store_log;
     public static String pref_page_query_manager_label_entries_per_page;
@@ -44,6 +44,7 @@ import org.jkiss.dbeaver.registry.DataSourceProviderRegistry;
 import org.jkiss.dbeaver.registry.GlobalEventManagerImpl;
 import org.jkiss.dbeaver.registry.language.PlatformLanguageRegistry;
 import org.jkiss.dbeaver.runtime.SecurityProviderUtils;
+import org.jkiss.dbeaver.runtime.qm.QMHistoryStore;
 import org.jkiss.dbeaver.runtime.qm.QMLogFileWriter;
 import org.jkiss.dbeaver.runtime.qm.QMRegistryImpl;
 import org.jkiss.dbeaver.utils.ContentUtils;
@@ -87,6 +88,7 @@ public class DesktopPlatform extends BasePlatformImpl implements DBPPlatformDesk
     private DBPWorkspaceDesktop workspace;
     private QMRegistryImpl queryManager;
     private QMLogFileWriter qmLogWriter;
+    private QMHistoryStore qmHistoryStore;
     private DBACertificateStorage certificateStorage;
     private DBPPlatformLanguage language;
     private volatile boolean workbenchStarted;
@@ -144,6 +146,9 @@ public class DesktopPlatform extends BasePlatformImpl implements DBPPlatformDesk
 
         this.qmLogWriter = new QMLogFileWriter();
         this.queryManager.registerMetaListener(qmLogWriter);
+        this.qmHistoryStore = new QMHistoryStore();
+        this.queryManager.registerMetaListener(qmHistoryStore);
+        this.queryManager.setHistoryStore(qmHistoryStore);
 
         super.initialize();
 
@@ -182,6 +187,12 @@ public class DesktopPlatform extends BasePlatformImpl implements DBPPlatformDesk
             this.qmLogWriter.dispose();
             this.qmLogWriter = null;
         }
+        if (this.qmHistoryStore != null) {
+            this.queryManager.unregisterMetaListener(qmHistoryStore);
+            this.queryManager.setHistoryStore(null);
+            this.qmHistoryStore.dispose();
+            this.qmHistoryStore = null;
+        }
         if (this.queryManager != null) {
             this.queryManager.dispose();
             //queryManager = null;
@@ -0,0 +1,83 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.actions.datasource;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.ui.handlers.HandlerUtil;
+import org.jkiss.dbeaver.core.CoreMessages;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.navigator.DBNDataSource;
+import org.jkiss.dbeaver.model.navigator.DBNLocalFolder;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.runtime.jobs.ConnectGroupJob;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Connects all data sources of selected folders in parallel
+ */
+public class FolderConnectHandler extends AbstractHandler {
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        ISelection selection = HandlerUtil.getCurrentSelection(event);
+
+        if (selection instanceof IStructuredSelection treeSelection) {
+            Set<DBPDataSourceContainer> containers = new LinkedHashSet<>();
+            for (Object el : treeSelection) {
+                if (el instanceof DBNLocalFolder localFolder) {
+                    for (DBNDataSource ds : localFolder.getNestedDataSources()) {
+                        if (!ds.getObject().isConnected()) {
+                            containers.add(ds.getObject());
+                        }
+                    }
+                }
+            }
+            if (!containers.isEmpty()) {
+                ConnectGroupJob connectJob = new ConnectGroupJob(
+                    NLS.bind(CoreMessages.action_folder_connect_job_name, containers.size()), containers, false);
+                connectJob.addJobChangeListener(new JobChangeAdapter() {
+                    @Override
+                    public void done(IJobChangeEvent event) {
+                        Map<DBPDataSourceContainer, Throwable> errors = connectJob.getErrors();
+                        if (!errors.isEmpty()) {
+                            String names = errors.keySet().stream()
+                                .map(DBPDataSourceContainer::getName)
+                                .collect(Collectors.joining(", "));
+                            DBWorkbench.getPlatformUI().showError(
+                                connectJob.getName(),
+                                NLS.bind(CoreMessages.action_folder_connect_error_message, names),
+                                errors.values().iterator().next());
+                        }
+                    }
+                });
+                connectJob.schedule();
+            }
+        }
+        return null;
+    }
+}
@@ -18,6 +18,7 @@ package org.jkiss.dbeaver.ui.preferences;
 
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.*;
 import org.jkiss.code.NotNull;
@@ -42,6 +43,10 @@ public class PrefPageMetaData extends TargetPrefPage
     private Button readExpensiveCheck;
     private Combo separateMetaConnectionCombo;
     private Button disableExtraMetadataRead;
+    private Button metadataSnapshotCheck;
+    private Button metadataWarmUpCheck;
+    private Text metadataWarmUpSchemasText;
+    private Spinner metadataWarmUpThreadsSpinner;
     private Button caseSensitiveNamesCheck;
     private Button serverSideFiltersCheck;
     private Button addExtraDDLInfo;
@@ -60,6 +65,10 @@ public class PrefPageMetaData extends TargetPrefPage
             store.contains(ModelPreferences.META_SEPARATE_CONNECTION) ||
             store.contains(ModelPreferences.META_CASE_SENSITIVE) ||
             store.contains(ModelPreferences.META_DISABLE_EXTRA_READ) ||
+            store.contains(ModelPreferences.META_SNAPSHOT_ENABLED) ||
+            store.contains(ModelPreferences.META_WARM_UP_ENABLED) ||
+            store.contains(ModelPreferences.META_WARM_UP_SCHEMAS) ||
+            store.contains(ModelPreferences.META_WARM_UP_THREADS) ||
             store.contains(ModelPreferences.META_USE_SERVER_SIDE_FILTERS)
             ;
     }
@@ -145,6 +154,32 @@ public class PrefPageMetaData extends TargetPrefPage
                 CoreMessages.pref_page_database_general_checkbox_show_row_count_tip,
                 false,
                 1);
+            metadataSnapshotCheck = UIUtils.createCheckbox(
+                performanceGroup,
+                CoreMessages.pref_page_database_general_checkbox_metadata_snapshot,
+                CoreMessages.pref_page_database_general_checkbox_metadata_snapshot_tip,
+                false,
+                1);
+            metadataWarmUpCheck = UIUtils.createCheckbox(
+                performanceGroup,
+                CoreMessages.pref_page_database_general_checkbox_metadata_warm_up,
+                CoreMessages.pref_page_database_general_checkbox_metadata_warm_up_tip,
+                false,
+                1);
+            Composite warmUpComposite = UIUtils.createComposite(performanceGroup, 2);
+            metadataWarmUpSchemasText = UIUtils.createLabelText(
+                warmUpComposite,
+                CoreMessages.pref_page_database_general_label_metadata_warm_up_schemas,
+                "");
+            metadataWarmUpSchemasText.setToolTipText(CoreMessages.pref_page_database_general_label_metadata_warm_up_schemas_tip);
+            metadataWarmUpThreadsSpinner = UIUtils.createLabelSpinner(
+                warmUpComposite,
+                CoreMessages.pref_page_database_general_label_metadata_warm_up_threads,
+                CoreMessages.pref_page_database_general_label_metadata_warm_up_threads_tip,
+                4,
+                1,
+                16);
+            metadataWarmUpCheck.addSelectionListener(SelectionListener.widgetSelectedAdapter(e -> updateWarmUpControls()));
         }
 
         return composite;
@@ -160,6 +195,11 @@ public class PrefPageMetaData extends TargetPrefPage
             ));
             caseSensitiveNamesCheck.setSelection(store.getBoolean(ModelPreferences.META_CASE_SENSITIVE));
             disableExtraMetadataRead.setSelection(store.getBoolean(ModelPreferences.META_DISABLE_EXTRA_READ));
+            metadataSnapshotCheck.setSelection(store.getBoolean(ModelPreferences.META_SNAPSHOT_ENABLED));
+            metadataWarmUpCheck.setSelection(store.getBoolean(ModelPreferences.META_WARM_UP_ENABLED));
+            metadataWarmUpSchemasText.setText(store.getString(ModelPreferences.META_WARM_UP_SCHEMAS));
+            metadataWarmUpThreadsSpinner.setSelection(store.getInt(ModelPreferences.META_WARM_UP_THREADS));
+            updateWarmUpControls();
             addExtraDDLInfo.setSelection(store.getBoolean(ModelPreferences.META_EXTRA_DDL_INFO));
             serverSideFiltersCheck.setSelection(store.getBoolean(ModelPreferences.META_USE_SERVER_SIDE_FILTERS));
 
@@ -179,6 +219,10 @@ public class PrefPageMetaData extends TargetPrefPage
             );
             store.setValue(ModelPreferences.META_CASE_SENSITIVE, caseSensitiveNamesCheck.getSelection());
             store.setValue(ModelPreferences.META_DISABLE_EXTRA_READ, disableExtraMetadataRead.getSelection());
+            store.setValue(ModelPreferences.META_SNAPSHOT_ENABLED, metadataSnapshotCheck.getSelection());
+            store.setValue(ModelPreferences.META_WARM_UP_ENABLED, metadataWarmUpCheck.getSelection());
+            store.setValue(ModelPreferences.META_WARM_UP_SCHEMAS, metadataWarmUpSchemasText.getText().trim());
+            store.setValue(ModelPreferences.META_WARM_UP_THREADS, metadataWarmUpThreadsSpinner.getSelection());
             store.setValue(ModelPreferences.META_EXTRA_DDL_INFO, addExtraDDLInfo.getSelection());
             store.setValue(ModelPreferences.META_USE_SERVER_SIDE_FILTERS, serverSideFiltersCheck.getSelection());
 
@@ -195,6 +239,10 @@ public class PrefPageMetaData extends TargetPrefPage
         store.setToDefault(ModelPreferences.META_SEPARATE_CONNECTION);
         store.setToDefault(ModelPreferences.META_CASE_SENSITIVE);
         store.setToDefault(ModelPreferences.META_DISABLE_EXTRA_READ);
+        store.setToDefault(ModelPreferences.META_SNAPSHOT_ENABLED);
+        store.setToDefault(ModelPreferences.META_WARM_UP_ENABLED);
+        store.setToDefault(ModelPreferences.META_WARM_UP_SCHEMAS);
+        store.setToDefault(ModelPreferences.META_WARM_UP_THREADS);
         store.setToDefault(ModelPreferences.META_USE_SERVER_SIDE_FILTERS);
         store.setToDefault(ModelPreferences.META_EXTRA_DDL_INFO);
     }
@@ -208,11 +256,21 @@ public class PrefPageMetaData extends TargetPrefPage
         ));
         caseSensitiveNamesCheck.setSelection(store.getDefaultBoolean(ModelPreferences.META_CASE_SENSITIVE));
         disableExtraMetadataRead.setSelection(store.getDefaultBoolean(ModelPreferences.META_DISABLE_EXTRA_READ));
+        metadataSnapshotCheck.setSelection(store.getDefaultBoolean(ModelPreferences.META_SNAPSHOT_ENABLED));
+        metadataWarmUpCheck.setSelection(store.getDefaultBoolean(ModelPreferences.META_WARM_UP_ENABLED));
+        metadataWarmUpSchemasText.setText(store.getDefaultString(ModelPreferences.META_WARM_UP_SCHEMAS));
+        metadataWarmUpThreadsSpinner.setSelection(store.getDefaultInt(ModelPreferences.META_WARM_UP_THREADS));
+        updateWarmUpControls();
         addExtraDDLInfo.setSelection(store.getDefaultBoolean(ModelPreferences.META_EXTRA_DDL_INFO));
         serverSideFiltersCheck.setSelection(store.getDefaultBoolean(ModelPreferences.META_USE_SERVER_SIDE_FILTERS));
         super.performDefaults();
     }
 
+    private void updateWarmUpControls() {
+        metadataWarmUpSchemasText.setEnabled(metadataWarmUpCheck.getSelection());
+        metadataWarmUpThreadsSpinner.setEnabled(metadataWarmUpCheck.getSelection());
+    }
+
     @Override
     protected String getPropertyPageID()
     {
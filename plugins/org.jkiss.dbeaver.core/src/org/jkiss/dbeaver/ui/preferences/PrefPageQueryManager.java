@@ -61,6 +61,7 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
     private Text textHistoryDays;
     private Text textEntriesPerPage;
     private Button checkStoreLog;
+    private Button checkStoreHistory;
     private Text textOutputFolder;
 
 
@@ -117,8 +118,20 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
                 @Override
                 public void widgetSelected(SelectionEvent e)
                 {
-                    UIUtils.enableWithChildren(textOutputFolder.getParent(), checkStoreLog.getSelection());
-                    UIUtils.enableWithChildren(textHistoryDays, checkStoreLog.getSelection());
+                    updateStorageControls();
+                }
+            });
+            checkStoreHistory = UIUtils.createCheckbox(
+                storageSettings,
+                CoreMessages.pref_page_query_manager_checkbox_store_history,
+                CoreMessages.pref_page_query_manager_checkbox_store_history_tip,
+                store.getBoolean(QMConstants.PROP_STORE_HISTORY),
+                2);
+            checkStoreHistory.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e)
+                {
+                    updateStorageControls();
                 }
             });
             textOutputFolder = DialogUtils.createOutputFolderChooser(storageSettings, CoreMessages.pref_page_query_manager_logs_folder, null, false, null);
@@ -145,8 +158,12 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
         Collection<String> queryTypes = CommonUtils.splitString(store.getString(QMConstants.PROP_QUERY_TYPES), ',');
         checkObjectTypes(objectTypes);
         checkQueryTypes(queryTypes);
+        updateStorageControls();
+    }
+
+    private void updateStorageControls() {
         UIUtils.enableWithChildren(textOutputFolder.getParent(), checkStoreLog.getSelection());
-        UIUtils.enableWithChildren(textHistoryDays, checkStoreLog.getSelection());
+        UIUtils.enableWithChildren(textHistoryDays, checkStoreLog.getSelection() || checkStoreHistory.getSelection());
     }
 
     private void checkObjectTypes(Collection<QMObjectType> objectTypes) {
@@ -181,8 +198,8 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
 
         checkStoreLog.setSelection(store.getDefaultBoolean(QMConstants.PROP_STORE_LOG_FILE));
         textOutputFolder.setText(store.getDefaultString(QMConstants.PROP_LOG_DIRECTORY));
-        UIUtils.enableWithChildren(textOutputFolder.getParent(), checkStoreLog.getSelection());
-        UIUtils.enableWithChildren(textHistoryDays, checkStoreLog.getSelection());
+        checkStoreHistory.setSelection(store.getDefaultBoolean(QMConstants.PROP_STORE_HISTORY));
+        updateStorageControls();
 
         super.performDefaults();
     }
@@ -216,6 +233,7 @@ public class PrefPageQueryManager extends AbstractPrefPage implements IWorkbench
             store.setValue(QMConstants.PROP_ENTRIES_PER_PAGE, Math.max(1, entriesPerPage));
         }
         store.setValue(QMConstants.PROP_STORE_LOG_FILE, checkStoreLog.getSelection());
+        store.setValue(QMConstants.PROP_STORE_HISTORY, checkStoreHistory.getSelection());
         store.setValue(QMConstants.PROP_LOG_DIRECTORY, textOutputFolder.getText());
         PrefUtils.savePreferenceStore(store);
 
@@ -62,6 +62,12 @@ public class DTUIMessages extends NLS {
     public static String database_consumer_wizard_ignore_duplicate_rows_tip;
     public static String database_consumer_wizard_use_bulk_load_label;
     public static String database_consumer_wizard_use_bulk_load_description;
+    public static String database_consumer_wizard_bulk_load_method_label;
+    public static String database_consumer_wizard_bulk_load_method_description;
+    public static String database_consumer_wizard_bulk_load_method_native;
+    public static String database_consumer_wizard_bulk_load_method_multi_row_insert;
+    public static String database_consumer_wizard_pipelined_write_label;
+    public static String database_consumer_wizard_pipelined_write_description;
     public static String database_consumer_wizard_on_duplicate_key_insert_method_text;
     public static String database_consumer_wizard_link_label_replace_method_wiki;
     public static String database_consumer_wizard_label_replace_method_not_supported;
@@ -73,6 +73,8 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
     private Button useBatchCheck;
     private Button ignoreDuplicateRows;
     private Button useBulkLoadCheck;
+    private Combo bulkLoadMethodCombo;
+    private Button pipelinedWriteCheck;
     private List<SQLDialectInsertReplaceMethod> availableInsertMethodsDescriptors;
     private final Map<String, EventProcessorComposite<?>> processors = new HashMap<>();
 
@@ -336,6 +338,7 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
                 public void widgetSelected(SelectionEvent e) {
                     boolean checkSelection = useBulkLoadCheck.getSelection();
                     settings.setUseBulkLoad(checkSelection);
+                    updateBulkLoadMethodEnablement();
                     if (buttonIsAvailable(ignoreDuplicateRows)) {
                         if (checkSelection) {
                             disableButton(ignoreDuplicateRows);
@@ -347,11 +350,47 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
                     onDuplicateKeyInsertMethods.setEnabled(!checkSelection);
                 }
             });
+
+            bulkLoadMethodCombo = UIUtils.createLabelCombo(
+                performanceSettings,
+                DTUIMessages.database_consumer_wizard_bulk_load_method_label,
+                DTUIMessages.database_consumer_wizard_bulk_load_method_description,
+                SWT.DROP_DOWN | SWT.READ_ONLY);
+            bulkLoadMethodCombo.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING, GridData.VERTICAL_ALIGN_BEGINNING, false, false, 3, 1));
+            bulkLoadMethodCombo.add(DTUIMessages.database_consumer_wizard_bulk_load_method_native);
+            bulkLoadMethodCombo.add(DTUIMessages.database_consumer_wizard_bulk_load_method_multi_row_insert);
+            bulkLoadMethodCombo.select(settings.getBulkLoadMethod().ordinal());
+            bulkLoadMethodCombo.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setBulkLoadMethod(DatabaseConsumerSettings.BulkLoadMethod.values()[bulkLoadMethodCombo.getSelectionIndex()]);
+                }
+            });
+            updateBulkLoadMethodEnablement();
+
+            pipelinedWriteCheck = UIUtils.createCheckbox(
+                performanceSettings,
+                DTUIMessages.database_consumer_wizard_pipelined_write_label,
+                DTUIMessages.database_consumer_wizard_pipelined_write_description,
+                settings.isPipelinedWrite(),
+                4);
+            pipelinedWriteCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setPipelinedWrite(pipelinedWriteCheck.getSelection());
+                }
+            });
         }
 
         setControl(composite);
     }
 
+    private void updateBulkLoadMethodEnablement() {
+        if (bulkLoadMethodCombo != null && !bulkLoadMethodCombo.isDisposed()) {
+            bulkLoadMethodCombo.setEnabled(useBulkLoadCheck.getSelection());
+        }
+    }
+
     private boolean buttonIsAvailable(Button button) {
         return button != null && !button.isDisposed();
     }
@@ -431,11 +470,13 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
             settings.setTruncateBeforeLoad(false);
         }
 
-        if (buttonIsAvailable(useBulkLoadCheck)) {
+        if (bulkLoadMethodCombo != null && !bulkLoadMethodCombo.isDisposed()) {
             final DBPDataSource dataSource = settings.getContainer() == null ? null : settings.getContainer().getDataSource();
             if (DBUtils.getAdapter(DBSDataBulkLoader.class, dataSource) == null) {
-                disableButton(useBulkLoadCheck);
-                settings.setUseBulkLoad(false);
+                // Only generic loader is available
+                settings.setBulkLoadMethod(DatabaseConsumerSettings.BulkLoadMethod.MULTI_ROW_INSERT);
+                bulkLoadMethodCombo.select(DatabaseConsumerSettings.BulkLoadMethod.MULTI_ROW_INSERT.ordinal());
+                bulkLoadMethodCombo.setEnabled(false);
             }
         }
 
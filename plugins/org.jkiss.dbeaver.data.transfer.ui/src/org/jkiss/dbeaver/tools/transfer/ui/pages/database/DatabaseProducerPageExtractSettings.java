@@ -23,6 +23,7 @@ import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.*;
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.data.DBDCellValue;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
@@ -43,11 +44,16 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
 
     private static final int EXTRACT_TYPE_SINGLE_QUERY = 0;
     private static final int EXTRACT_TYPE_SEGMENTS = 1;
+    private static final int EXTRACT_TYPE_KEY_RANGES = 2;
 
+    private Label threadsNumLabel;
     private Text threadsNumText;
     private Combo rowsExtractType;
     private Label segmentSizeLabel;
     private Text segmentSizeText;
+    private Text partitionCountText;
+    private Button orderedPartitionsCheckbox;
+    private Button useBulkReadCheckbox;
     private Button newConnectionCheckbox;
     private Button rowCountCheckbox;
     private Button selectedColumnsOnlyCheckbox;
@@ -72,7 +78,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
         {
             Group generalSettings = UIUtils.createControlGroup(composite, DTMessages.data_transfer_wizard_output_group_progress, 4, GridData.HORIZONTAL_ALIGN_BEGINNING, 0);
 
-            Label threadsNumLabel = UIUtils.createControlLabel(generalSettings, DTMessages.data_transfer_wizard_output_label_max_threads);
+            threadsNumLabel = UIUtils.createControlLabel(generalSettings, DTMessages.data_transfer_wizard_output_label_max_threads);
             threadsNumText = new Text(generalSettings, SWT.BORDER);
             threadsNumText.setToolTipText(DTUIMessages.database_producer_page_extract_settings_threads_num_text_tooltip);
             threadsNumText.setLayoutData(new GridData(
@@ -91,10 +97,6 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
                     // do nothing
                 }
             });
-            if (getWizard().getSettings().getDataPipes().size() < 2) {
-                threadsNumLabel.setEnabled(false);
-                threadsNumText.setEnabled(false);
-            }
 
             {
 
@@ -103,14 +105,17 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
                 rowsExtractType.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING, GridData.VERTICAL_ALIGN_BEGINNING, false, false, 3, 1));
                 rowsExtractType.setItems(
                     DTMessages.data_transfer_wizard_output_combo_extract_type_item_single_query,
-                    DTMessages.data_transfer_wizard_output_combo_extract_type_item_by_segments);
+                    DTMessages.data_transfer_wizard_output_combo_extract_type_item_by_segments,
+                    DTMessages.data_transfer_wizard_output_combo_extract_type_item_by_key_ranges);
                 rowsExtractType.addSelectionListener(new SelectionAdapter() {
                     @Override
                     public void widgetSelected(SelectionEvent e) {
                         switch (rowsExtractType.getSelectionIndex()) {
                             case EXTRACT_TYPE_SEGMENTS: settings.setExtractType(DatabaseProducerSettings.ExtractType.SEGMENTS); break;
                             case EXTRACT_TYPE_SINGLE_QUERY: settings.setExtractType(DatabaseProducerSettings.ExtractType.SINGLE_QUERY); break;
+                            case EXTRACT_TYPE_KEY_RANGES: settings.setExtractType(DatabaseProducerSettings.ExtractType.KEY_RANGES); break;
                         }
+                        updateExtractTypeControls(settings);
                         updatePageCompletion();
                     }
                 });
@@ -127,6 +132,32 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
                 });
                 segmentSizeText.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING, GridData.VERTICAL_ALIGN_BEGINNING, false, false, 1, 1));
                 ((GridData)segmentSizeText.getLayoutData()).widthHint = UIUtils.getFontHeight(segmentSizeText) * 10;
+
+                partitionCountText = UIUtils.createLabelText(generalSettings, DTMessages.data_transfer_wizard_output_label_partition_count, "", SWT.BORDER);
+                partitionCountText.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
+                ((GridData)partitionCountText.getLayoutData()).widthHint = UIUtils.getFontHeight(partitionCountText) * 5;
+                partitionCountText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.ENGLISH));
+                partitionCountText.addModifyListener(e -> {
+                    try {
+                        settings.setPartitionCount(Integer.parseInt(partitionCountText.getText()));
+                    } catch (NumberFormatException e1) {
+                        // just skip it
+                    }
+                });
+                orderedPartitionsCheckbox = UIUtils.createCheckbox(generalSettings, DTMessages.data_transfer_wizard_output_checkbox_ordered_partitions, null, false, 2);
+                orderedPartitionsCheckbox.addSelectionListener(new SelectionAdapter() {
+                    @Override
+                    public void widgetSelected(SelectionEvent e) {
+                        settings.setOrderedPartitions(orderedPartitionsCheckbox.getSelection());
+                    }
+                });
+                useBulkReadCheckbox = UIUtils.createCheckbox(generalSettings, DTMessages.data_transfer_wizard_output_checkbox_use_bulk_read, DTMessages.data_transfer_wizard_output_checkbox_use_bulk_read_tip, false, 4);
+                useBulkReadCheckbox.addSelectionListener(new SelectionAdapter() {
+                    @Override
+                    public void widgetSelected(SelectionEvent e) {
+                        settings.setUseBulkRead(useBulkReadCheckbox.getSelection());
+                    }
+                });
             }
 
             newConnectionCheckbox = UIUtils.createCheckbox(generalSettings, DTMessages.data_transfer_wizard_output_checkbox_new_connection, DTUIMessages.database_producer_page_extract_settings_new_connection_checkbox_tooltip, true, 4);
@@ -215,6 +246,19 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
 
     }
 
+    private void updateExtractTypeControls(@NotNull DatabaseProducerSettings settings) {
+        boolean keyRanges = settings.getExtractType() == DatabaseProducerSettings.ExtractType.KEY_RANGES;
+        // Threads number limits both parallel data pipes and parallel key ranges
+        boolean threadsEnabled = keyRanges || getWizard().getSettings().getDataPipes().size() > 1;
+        threadsNumLabel.setEnabled(threadsEnabled);
+        threadsNumText.setEnabled(threadsEnabled);
+        if (partitionCountText != null) {
+            partitionCountText.setEnabled(keyRanges);
+            orderedPartitionsCheckbox.setEnabled(keyRanges);
+            useBulkReadCheckbox.setEnabled(settings.getExtractType() == DatabaseProducerSettings.ExtractType.SINGLE_QUERY);
+        }
+    }
+
     private void enableNewConnectionCheckbox() {
         if (selectedColumnsOnlyCheckbox == null || selectedRowsOnlyCheckbox == null) {
             return;
@@ -242,8 +286,13 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
             switch (settings.getExtractType()) {
                 case SINGLE_QUERY: rowsExtractType.select(EXTRACT_TYPE_SINGLE_QUERY); break;
                 case SEGMENTS: rowsExtractType.select(EXTRACT_TYPE_SEGMENTS); break;
+                case KEY_RANGES: rowsExtractType.select(EXTRACT_TYPE_KEY_RANGES); break;
             }
+            partitionCountText.setText(String.valueOf(settings.getPartitionCount()));
+            orderedPartitionsCheckbox.setSelection(settings.isOrderedPartitions());
+            useBulkReadCheckbox.setSelection(settings.isUseBulkRead());
         }
+        updateExtractTypeControls(settings);
         fetchSizeText.setText(String.valueOf(settings.getFetchSize()));
         if (selectedColumnsOnlyCheckbox != null) {
             selectedColumnsOnlyCheckbox.setSelection(settings.isSelectedColumnsOnly());
@@ -26,10 +26,12 @@ import org.jkiss.dbeaver.model.exec.DBCStatistics;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.task.DBTTask;
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseProducerSettings;
 import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
 import org.jkiss.utils.CommonUtils;
 
 import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Data transfer job
@@ -93,11 +95,19 @@ public class DataTransferJob extends AbstractJob {
             if (transferPipe == null) {
                 break;
             }
+            if (!acquireConnectionSlot(monitor)) {
+                break;
+            }
             try {
                 if (logStream != null) {
                     Log.setLogWriter(logStream);
                 }
-                boolean transferResult = transferData(monitor, transferPipe);
+                boolean transferResult;
+                try {
+                    transferResult = transferData(monitor, transferPipe);
+                } finally {
+                    settings.getConnectionSlots().release();
+                }
                 Log.setLogWriter(null);
 
                 hasErrors |= !transferResult;
@@ -116,6 +126,20 @@ public class DataTransferJob extends AbstractJob {
         return Status.OK_STATUS;
     }
 
+    private boolean acquireConnectionSlot(DBRProgressMonitor monitor) {
+        // Slot may be temporarily taken by partitions of other pipes
+        try {
+            while (!settings.getConnectionSlots().tryAcquire(500, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
     private boolean transferData(DBRProgressMonitor monitor, DataTransferPipe transferPipe) throws Exception {
         IDataTransferProducer producer = transferPipe.getProducer();
         IDataTransferConsumer consumer = transferPipe.getConsumer();
@@ -128,6 +152,10 @@ public class DataTransferJob extends AbstractJob {
                 CommonUtils.truncateString(outputName, 200)), 1);
 
         IDataTransferSettings nodeSettings = settings.getNodeSettings(settings.getProducer());
+        if (nodeSettings instanceof DatabaseProducerSettings producerSettings) {
+            // Key range partitions share the same threads limit as data pipes
+            producerSettings.setConnectionSlots(settings.getConnectionSlots());
+        }
         try {
             //consumer.initTransfer(producer.getDatabaseObject(), consumerSettings, );
 
@@ -46,6 +46,7 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.*;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 /**
@@ -78,6 +79,7 @@ public class DataTransferSettings implements DBTTaskSettings<DBPObject> {
     private boolean consumerOptional;
     private boolean producerOptional;
     private int maxJobCount = DEFAULT_THREADS_NUM;
+    private transient Semaphore connectionSlots;
 
     private transient boolean nodeSettingsLoaded = false;
 
@@ -685,6 +687,18 @@ public class DataTransferSettings implements DBTTaskSettings<DBPObject> {
         return maxJobCount;
     }
 
+    /**
+     * Connection slots shared by all jobs of this transfer. Each data pipe job holds one slot while it runs,
+     * additional readers (e.g. key range partitions) may only use free slots.
+     */
+    @NotNull
+    public synchronized Semaphore getConnectionSlots() {
+        if (connectionSlots == null) {
+            connectionSlots = new Semaphore(maxJobCount);
+        }
+        return connectionSlots;
+    }
+
     public void setMaxJobCount(int maxJobCount) {
         if (maxJobCount > 0) {
             this.maxJobCount = maxJobCount;
@@ -46,6 +46,13 @@ import java.util.*;
 @SuppressWarnings("unchecked")
 public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
 
+    public enum BulkLoadMethod {
+        // Database-specific loader (COPY, LOAD DATA, bulk copy API, etc). Falls back to multi-row insert if not available
+        NATIVE,
+        // Generic loader based on multi-row INSERT statements
+        MULTI_ROW_INSERT
+    }
+
     private static final Log log = Log.getLog(DatabaseConsumerSettings.class);
 
     @Deprecated // entityId is used from database consumer
@@ -65,6 +72,8 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
     private boolean disableUsingBatches = false;
     private boolean ignoreDuplicateRows;
     private boolean useBulkLoad = false;
+    private BulkLoadMethod bulkLoadMethod = BulkLoadMethod.NATIVE;
+    private boolean pipelinedWrite = false;
     private String onDuplicateKeyInsertMethodId;
     private boolean disableReferentialIntegrity;
     private final Map<String, Map<String, Object>> eventProcessors = new HashMap<>();
@@ -210,6 +219,26 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         this.useBulkLoad = useBulkLoad;
     }
 
+    @NotNull
+    public BulkLoadMethod getBulkLoadMethod() {
+        return bulkLoadMethod;
+    }
+
+    public void setBulkLoadMethod(@NotNull BulkLoadMethod bulkLoadMethod) {
+        this.bulkLoadMethod = bulkLoadMethod;
+    }
+
+    /**
+     * Rows are written to the target by a separate thread while the source is still being read.
+     */
+    public boolean isPipelinedWrite() {
+        return pipelinedWrite;
+    }
+
+    public void setPipelinedWrite(boolean pipelinedWrite) {
+        this.pipelinedWrite = pipelinedWrite;
+    }
+
     @Nullable
     public DBPDataSource getTargetDataSource(DatabaseMappingObject attrMapping) {
         DBSObjectContainer container = getContainer();
@@ -240,6 +269,8 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         transferAutoGeneratedColumns = CommonUtils.getBoolean(settings.get("transferAutoGeneratedColumns"), transferAutoGeneratedColumns);
         disableReferentialIntegrity = CommonUtils.getBoolean(settings.get("disableReferentialIntegrity"), disableReferentialIntegrity);
         useBulkLoad = CommonUtils.getBoolean(settings.get("useBulkLoad"), useBulkLoad);
+        bulkLoadMethod = CommonUtils.valueOf(BulkLoadMethod.class, (String) settings.get("bulkLoadMethod"), bulkLoadMethod);
+        pipelinedWrite = CommonUtils.getBoolean(settings.get("pipelinedWrite"), pipelinedWrite);
         truncateBeforeLoad = CommonUtils.getBoolean(settings.get("truncateBeforeLoad"), truncateBeforeLoad);
         openTableOnFinish = CommonUtils.getBoolean(settings.get("openTableOnFinish"), openTableOnFinish);
 
@@ -313,6 +344,8 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         settings.put("transferAutoGeneratedColumns", transferAutoGeneratedColumns);
         settings.put("disableReferentialIntegrity", disableReferentialIntegrity);
         settings.put("useBulkLoad", useBulkLoad);
+        settings.put("bulkLoadMethod", bulkLoadMethod.name());
+        settings.put("pipelinedWrite", pipelinedWrite);
         settings.put("truncateBeforeLoad", truncateBeforeLoad);
         settings.put("openTableOnFinish", openTableOnFinish);
 
@@ -352,6 +385,10 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_transfer_auto_generated_columns, transferAutoGeneratedColumns);
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_disable_referential_integrity, disableReferentialIntegrity);
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_use_bulk_load, useBulkLoad);
+        if (useBulkLoad) {
+            DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_bulk_load_method, bulkLoadMethod.name());
+        }
+        DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_pipelined_write, pipelinedWrite);
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_truncate_before_load, truncateBeforeLoad);
 
         return summary.toString();
@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.tools.transfer.database;
 
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
 import org.jkiss.dbeaver.tools.transfer.DTUtils;
 import org.jkiss.dbeaver.tools.transfer.DataTransferSettings;
@@ -24,6 +25,7 @@ import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 /**
  * DatabaseProducerSettings
@@ -32,11 +34,13 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
 
     public enum ExtractType {
         SINGLE_QUERY,
-        SEGMENTS
+        SEGMENTS,
+        KEY_RANGES
     }
 
     private static final int DEFAULT_SEGMENT_SIZE = 100000;
     private static final int DEFAULT_FETCH_SIZE = 10000;
+    private static final int DEFAULT_PARTITION_COUNT = 4;
 
     private int segmentSize = DEFAULT_SEGMENT_SIZE;
 
@@ -46,6 +50,12 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
     private boolean selectedColumnsOnly = false;
     private ExtractType extractType = ExtractType.SINGLE_QUERY;
     private int fetchSize = DEFAULT_FETCH_SIZE;
+    private int partitionCount = DEFAULT_PARTITION_COUNT;
+    private String partitionColumn;
+    private boolean orderedPartitions = false;
+    private boolean useBulkRead = false;
+    @Nullable
+    private transient Semaphore connectionSlots;
 
     public DatabaseProducerSettings() {
     }
@@ -100,6 +110,68 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         this.openNewConnections = openNewConnections;
     }
 
+    /**
+     * Number of key ranges the source table is split into in {@link ExtractType#KEY_RANGES} mode.
+     */
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public void setPartitionCount(int partitionCount) {
+        if (partitionCount > 0) {
+            this.partitionCount = partitionCount;
+        }
+    }
+
+    /**
+     * Column used to split table into key ranges.
+     * If not specified then single-column unique key of the source table is used.
+     */
+    @Nullable
+    public String getPartitionColumn() {
+        return partitionColumn;
+    }
+
+    public void setPartitionColumn(@Nullable String partitionColumn) {
+        this.partitionColumn = partitionColumn;
+    }
+
+    /**
+     * If true then partitions are passed to the consumer in key order,
+     * otherwise rows of all partitions are interleaved.
+     */
+    public boolean isOrderedPartitions() {
+        return orderedPartitions;
+    }
+
+    public void setOrderedPartitions(boolean orderedPartitions) {
+        this.orderedPartitions = orderedPartitions;
+    }
+
+    /**
+     * Connection slots of the whole transfer (see {@link DataTransferSettings#getConnectionSlots()}).
+     * Partitions beyond the first one are read only if a free slot is available.
+     */
+    @Nullable
+    public Semaphore getConnectionSlots() {
+        return connectionSlots;
+    }
+
+    public void setConnectionSlots(@Nullable Semaphore connectionSlots) {
+        this.connectionSlots = connectionSlots;
+    }
+
+    /**
+     * Read table data with database-native bulk protocol (see {@link org.jkiss.dbeaver.model.struct.DBSDataBulkReader}) if possible.
+     */
+    public boolean isUseBulkRead() {
+        return useBulkRead;
+    }
+
+    public void setUseBulkRead(boolean useBulkRead) {
+        this.useBulkRead = useBulkRead;
+    }
+
     public ExtractType getExtractType() {
         return extractType;
     }
@@ -117,6 +189,10 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         queryRowCount = CommonUtils.toBoolean(settings.get("queryRowCount"));
         selectedColumnsOnly = CommonUtils.toBoolean(settings.get("selectedColumnsOnly"));
         selectedRowsOnly = CommonUtils.toBoolean(settings.get("selectedRowsOnly"));
+        partitionCount = CommonUtils.toInt(settings.get("partitionCount"), DEFAULT_PARTITION_COUNT);
+        partitionColumn = CommonUtils.toString(settings.get("partitionColumn"), null);
+        orderedPartitions = CommonUtils.toBoolean(settings.get("orderedPartitions"));
+        useBulkRead = CommonUtils.toBoolean(settings.get("useBulkRead"));
     }
 
     @Override
@@ -128,6 +204,12 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         settings.put("queryRowCount", queryRowCount);
         settings.put("selectedColumnsOnly", selectedColumnsOnly);
         settings.put("selectedRowsOnly", selectedRowsOnly);
+        settings.put("partitionCount", partitionCount);
+        if (!CommonUtils.isEmpty(partitionColumn)) {
+            settings.put("partitionColumn", partitionColumn);
+        }
+        settings.put("orderedPartitions", orderedPartitions);
+        settings.put("useBulkRead", useBulkRead);
     }
 
     @Override
@@ -136,6 +218,13 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
 
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_new_connection, openNewConnections);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_label_extract_type, extractType.name());
+        if (extractType == ExtractType.KEY_RANGES) {
+            DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_label_partition_count, partitionCount);
+            DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_ordered_partitions, orderedPartitions);
+        }
+        if (extractType == ExtractType.SINGLE_QUERY) {
+            DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_use_bulk_read, useBulkRead);
+        }
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_select_row_count, queryRowCount);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_selected_rows_only, selectedRowsOnly);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_selected_columns_only, selectedColumnsOnly);
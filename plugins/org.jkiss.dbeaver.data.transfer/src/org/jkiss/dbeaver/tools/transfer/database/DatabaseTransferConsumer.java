@@ -16,6 +16,8 @@
  */
 package org.jkiss.dbeaver.tools.transfer.database;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
@@ -29,12 +31,14 @@ import org.jkiss.dbeaver.model.data.DBDValueHandler;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.impl.data.MultiRowInsertBulkLoader;
 import org.jkiss.dbeaver.model.impl.struct.AbstractAttribute;
 import org.jkiss.dbeaver.model.meta.DBSerializable;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.DBNEvent;
 import org.jkiss.dbeaver.model.navigator.DBNModel;
 import org.jkiss.dbeaver.model.navigator.DBNUtils;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.sql.SQLDialectInsertReplaceMethod;
@@ -43,6 +47,7 @@ import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
 import org.jkiss.dbeaver.model.struct.rdb.DBSManipulationType;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.runtime.ui.DBPPlatformUI;
@@ -58,6 +63,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Stream transfer consumer
@@ -69,6 +77,10 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
 
     public static final String NODE_ID = "databaseTransferConsumer";
 
+    private static final int MIN_PIPELINE_BUFFER_SIZE = 1000;
+    private static final int MAX_PIPELINE_BUFFER_SIZE = 100000;
+    private static final long PIPELINE_POLL_TIMEOUT = 100;
+
     private final DBCStatistics statistics = new DBCStatistics();
     private DatabaseConsumerSettings settings;
     private DatabaseMappingContainer containerMapping;
@@ -80,6 +92,8 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     private DBSDataBulkLoader.BulkLoadManager bulkLoadManager;
     private long rowsExported = 0;
     private boolean ignoreErrors = false;
+    @Nullable
+    private RowWriterJob rowWriter;
 
     private List<DBSAttributeBase> targetAttributes;
     private boolean useIsolatedConnection;
@@ -284,10 +298,17 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         Map<String, Object> options = new HashMap<>();
         options.put(DBSDataManipulator.OPTION_USE_MULTI_INSERT, settings.isUseMultiRowInsert());
         options.put(DBSDataManipulator.OPTION_SKIP_BIND_VALUES, settings.isSkipBindValues());
+        options.put(DBSDataManipulator.OPTION_MULTI_INSERT_BATCH_SIZE, settings.getMultiRowInsertBatch());
 
         if (!isPreview && targetObject != null) {
             if (settings.isUseBulkLoad()) {
-                DBSDataBulkLoader bulkLoader = DBUtils.getAdapter(DBSDataBulkLoader.class, targetContext.getDataSource());
+                DBSDataBulkLoader bulkLoader = null;
+                if (settings.getBulkLoadMethod() == DatabaseConsumerSettings.BulkLoadMethod.NATIVE) {
+                    bulkLoader = DBUtils.getAdapter(DBSDataBulkLoader.class, targetContext.getDataSource());
+                }
+                if (bulkLoader == null && targetObject instanceof DBSTable) {
+                    bulkLoader = new MultiRowInsertBulkLoader();
+                }
                 if (bulkLoader != null) {
                     try {
                         bulkLoadManager = bulkLoader.createBulkLoad(
@@ -312,6 +333,38 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
             previewRows = new ArrayList<>();
             executeBatch = new PreviewBatch();
         }
+
+        if (!isPreview && settings.isPipelinedWrite() && isPipelineSupported(session)) {
+            // Buffer holds a couple of commit batches: enough to smooth out commit pauses
+            int bufferSize = Math.max(MIN_PIPELINE_BUFFER_SIZE, Math.min(MAX_PIPELINE_BUFFER_SIZE, settings.getCommitAfterRows() * 2));
+            rowWriter = new RowWriterJob(bufferSize);
+            rowWriter.schedule();
+        }
+    }
+
+    /**
+     * Rows may be converted and written by a separate thread only if the target session is used by nobody else
+     * and value conversion doesn't need the source connection (LOBs, structures, transformers).
+     * Otherwise rows are written by the reader thread.
+     */
+    private boolean isPipelineSupported(@NotNull DBCSession sourceSession) {
+        if (!useIsolatedConnection || sourceSession.getExecutionContext() == targetContext) {
+            return false;
+        }
+        for (ColumnMapping column : columnMappings) {
+            if (column == null) {
+                continue;
+            }
+            if (column.valueTransformer != null) {
+                return false;
+            }
+            DBPDataKind dataKind = column.sourceAttr.getDataKind();
+            if (dataKind != DBPDataKind.BOOLEAN && dataKind != DBPDataKind.NUMERIC && dataKind != DBPDataKind.STRING &&
+                dataKind != DBPDataKind.DATETIME && dataKind != DBPDataKind.BINARY) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private boolean isSkipColumn(DBDAttributeBinding attr) {
@@ -352,18 +405,15 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                 // No value handler - get raw value
                 attrValue = resultSet.getAttributeValue(i);
             }
+            rowValues[column.targetIndex] = attrValue;
+        }
 
-            if (containerMapping != null && containerMapping.getTarget() instanceof DBSDocumentContainer) {
-                rowValues[column.targetIndex] = attrValue;
-            } else {
-                DatabaseMappingAttribute targetAttr = column.targetAttr;
-                rowValues[column.targetIndex] = column.targetValueHandler.getValueFromObject(
-                    targetSession,
-                    targetAttr.getTarget() == null ? targetAttr.getSource() : targetAttr.getTarget(),
-                    attrValue,
-                    false, false);
-            }
+        if (rowWriter != null) {
+            // Writer thread converts values, so only it works with the target session
+            rowWriter.putRow(session.getProgressMonitor(), rowValues);
+            return;
         }
+        convertRow(rowValues);
 
         // Transform value
         for (ColumnMapping column : columnMappings) {
@@ -388,6 +438,30 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
             }
         }
 
+        writeRow(rowValues);
+    }
+
+    /**
+     * Converts source values to target values
+     */
+    private void convertRow(@NotNull Object[] rowValues) throws DBCException {
+        if (containerMapping != null && containerMapping.getTarget() instanceof DBSDocumentContainer) {
+            return;
+        }
+        for (ColumnMapping column : columnMappings) {
+            if (column == null || column.targetIndex < 0) {
+                continue;
+            }
+            DatabaseMappingAttribute targetAttr = column.targetAttr;
+            rowValues[column.targetIndex] = column.targetValueHandler.getValueFromObject(
+                targetSession,
+                targetAttr.getTarget() == null ? targetAttr.getSource() : targetAttr.getTarget(),
+                rowValues[column.targetIndex],
+                false, false);
+        }
+    }
+
+    private void writeRow(@NotNull Object[] rowValues) throws DBCException {
         if (bulkLoadManager != null) {
             bulkLoadManager.addRow(targetSession, rowValues);
         } else {
@@ -512,6 +586,11 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     @Override
     public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
         try {
+            if (rowWriter != null) {
+                RowWriterJob writer = rowWriter;
+                rowWriter = null;
+                writer.finish(session.getProgressMonitor());
+            }
             if (rowsExported > 0) {
                 insertBatch(true);
             }
@@ -535,6 +614,11 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
 
     @Override
     public void close() {
+        if (rowWriter != null) {
+            // fetchEnd wasn't called
+            rowWriter.abort();
+            rowWriter = null;
+        }
         closeExporter();
     }
 
@@ -1025,4 +1109,105 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     public void setContainerMapping(@Nullable DatabaseMappingContainer containerMapping) {
         this.containerMapping = containerMapping;
     }
+
+    /**
+     * Writes rows to the target in a separate thread.
+     * Source reader thread puts source values in the bounded buffer, writer thread takes them, converts
+     * to target values and executes batches/commits. Full buffer blocks the reader, so memory usage is limited.
+     * All target session operations are performed by the writer thread until {@link #finish} returns.
+     * Used only with isolated target connection, see {@link #isPipelineSupported}.
+     */
+    private class RowWriterJob extends AbstractJob {
+        private static final Object[] END_OF_DATA = new Object[0];
+
+        private final BlockingQueue<Object[]> buffer;
+        private volatile Throwable writeError;
+        private volatile boolean aborted;
+
+        RowWriterJob(int bufferSize) {
+            super("Write rows to " + getObjectName());
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            setUser(false);
+            setSystem(true);
+        }
+
+        void putRow(@NotNull DBRProgressMonitor monitor, @NotNull Object[] row) throws DBCException {
+            try {
+                while (!buffer.offer(row, PIPELINE_POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    checkWriteError();
+                    if (monitor.isCanceled()) {
+                        // Reader will stop on its own, row is skipped anyway
+                        abort();
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DBCException("Row write interrupted", e);
+            }
+            checkWriteError();
+        }
+
+        /**
+         * Waits until all buffered rows are written
+         */
+        void finish(@NotNull DBRProgressMonitor monitor) throws DBCException {
+            if (monitor.isCanceled()) {
+                // Buffered rows must not be written after cancel
+                abort();
+            } else {
+                putRow(monitor, END_OF_DATA);
+            }
+            try {
+                join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DBCException("Row write interrupted", e);
+            }
+            checkWriteError();
+        }
+
+        void abort() {
+            aborted = true;
+            buffer.clear();
+        }
+
+        private void checkWriteError() throws DBCException {
+            Throwable error = writeError;
+            if (error instanceof DBCException dbe) {
+                throw dbe;
+            } else if (error != null) {
+                throw new DBCException("Error writing rows", error);
+            }
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                while (true) {
+                    Object[] row = buffer.poll(PIPELINE_POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                    if (row == END_OF_DATA) {
+                        break;
+                    }
+                    if (isAborted(monitor)) {
+                        break;
+                    }
+                    if (row == null) {
+                        continue;
+                    }
+                    convertRow(row);
+                    writeRow(row);
+                }
+            } catch (Throwable e) {
+                writeError = e;
+                buffer.clear();
+                return new Status(IStatus.ERROR, DatabaseTransferConsumer.class, "Error writing rows", e);
+            }
+            return Status.OK_STATUS;
+        }
+
+        private boolean isAborted(@NotNull DBRProgressMonitor monitor) {
+            return aborted || monitor.isCanceled() || targetSession.getProgressMonitor().isCanceled();
+        }
+    }
 }
@@ -0,0 +1,498 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.database;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.utils.CommonUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads entity data split by key ranges.
+ * Each range is read in a separate isolated execution context. All ranges feed the same data receiver.
+ * In ordered mode ranges are passed to the receiver one by one in key order (queries are still executed
+ * concurrently), otherwise rows of different ranges are interleaved.
+ */
+public class DatabaseTransferPartitionReader {
+
+    private static final Log log = Log.getLog(DatabaseTransferPartitionReader.class);
+
+    private final DBSDataContainer dataContainer;
+    private final DBSEntity entity;
+    private final DBSEntityAttribute keyAttribute;
+    private final DBDDataReceiver consumer;
+    private final DatabaseProducerSettings settings;
+    @Nullable
+    private final DBDDataFilter dataFilter;
+    private final long readFlags;
+
+    private final Object consumerLock = new Object();
+    private boolean fetchStarted;
+    private DBCResultSet lastResultSet;
+    private boolean[] partitionsFinished;
+    private int orderedTurn;
+
+    private DatabaseTransferPartitionReader(
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBSEntity entity,
+        @NotNull DBSEntityAttribute keyAttribute,
+        @NotNull DBDDataReceiver consumer,
+        @NotNull DatabaseProducerSettings settings,
+        @Nullable DBDDataFilter dataFilter,
+        long readFlags
+    ) {
+        this.dataContainer = dataContainer;
+        this.entity = entity;
+        this.keyAttribute = keyAttribute;
+        this.consumer = consumer;
+        this.settings = settings;
+        this.dataFilter = dataFilter;
+        this.readFlags = readFlags;
+    }
+
+    /**
+     * Creates partition reader for specified data container.
+     * Returns null if container can't be split by key ranges (not an entity, no suitable key column).
+     */
+    @Nullable
+    public static DatabaseTransferPartitionReader create(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBDDataReceiver consumer,
+        @NotNull DatabaseProducerSettings settings,
+        @Nullable DBDDataFilter dataFilter,
+        long readFlags
+    ) {
+        if (!(dataContainer instanceof DBSEntity entity)) {
+            return null;
+        }
+        DBSEntityAttribute keyAttribute = null;
+        try {
+            if (!CommonUtils.isEmpty(settings.getPartitionColumn())) {
+                keyAttribute = entity.getAttribute(monitor, settings.getPartitionColumn());
+                if (keyAttribute == null) {
+                    log.warn("Partition column '" + settings.getPartitionColumn() + "' not found in " + entity.getName());
+                }
+            } else {
+                List<? extends DBSEntityAttribute> identifier = DBUtils.getBestTableIdentifier(monitor, entity);
+                if (identifier.size() == 1) {
+                    keyAttribute = identifier.get(0);
+                }
+            }
+        } catch (DBException e) {
+            log.warn("Error reading partition key of " + entity.getName(), e);
+        }
+        if (keyAttribute == null) {
+            return null;
+        }
+        DBPDataKind dataKind = keyAttribute.getDataKind();
+        if (dataKind != DBPDataKind.NUMERIC && dataKind != DBPDataKind.DATETIME) {
+            return null;
+        }
+        return new DatabaseTransferPartitionReader(dataContainer, entity, keyAttribute, consumer, settings, dataFilter, readFlags);
+    }
+
+    /**
+     * Reads all partitions. Returns null if key range can't be determined (e.g. table is empty)
+     * and data must be read in the ordinary way.
+     */
+    @Nullable
+    public DBCStatistics readData(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCSession session,
+        @NotNull DBCExecutionSource source
+    ) throws DBException {
+        List<Partition> partitions = makePartitions(session, source);
+        if (partitions == null) {
+            return null;
+        }
+        partitionsFinished = new boolean[partitions.size()];
+        orderedTurn = 0;
+
+        log.debug("Read " + entity.getName() + " in " + partitions.size() + " partitions");
+
+        // One partition at a time is read in place of this data pipe, others only use free slots of the whole transfer
+        // so the number of source connections stays within the transfer threads limit
+        Semaphore ownSlot = new Semaphore(1);
+        Semaphore sharedSlots = settings.getConnectionSlots();
+        List<PartitionJob> jobs = new ArrayList<>(partitions.size());
+        try {
+            for (Partition partition : partitions) {
+                Semaphore slot = null;
+                while (slot == null) {
+                    if (monitor.isCanceled() || hasFailedJobs(jobs)) {
+                        break;
+                    }
+                    if (ownSlot.tryAcquire(sharedSlots == null ? 500 : 100, TimeUnit.MILLISECONDS)) {
+                        slot = ownSlot;
+                    } else if (sharedSlots != null && sharedSlots.tryAcquire()) {
+                        slot = sharedSlots;
+                    }
+                }
+                if (slot == null) {
+                    break;
+                }
+                PartitionJob job = new PartitionJob(session.getExecutionContext(), partition, slot);
+                job.schedule();
+                jobs.add(job);
+            }
+            for (PartitionJob job : jobs) {
+                while (!job.join(1000, monitor.getNestedMonitor())) {
+                    if (monitor.isCanceled() || hasFailedJobs(jobs)) {
+                        break;
+                    }
+                }
+                if (monitor.isCanceled() || hasFailedJobs(jobs)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException | OperationCanceledException e) {
+            log.debug("Partitioned read was interrupted");
+        }
+        if (monitor.isCanceled() || hasFailedJobs(jobs)) {
+            for (PartitionJob job : jobs) {
+                job.cancel();
+            }
+            // Wait for canceled jobs to stop before finishing consumer
+            for (PartitionJob job : jobs) {
+                try {
+                    job.join();
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+        }
+
+        DBCStatistics statistics = new DBCStatistics();
+        Throwable error = null;
+        for (PartitionJob job : jobs) {
+            IStatus result = job.getResult();
+            if (result != null && result.getException() != null) {
+                if (error == null) {
+                    error = result.getException();
+                } else {
+                    error.addSuppressed(result.getException());
+                }
+            }
+            statistics.accumulate(job.statistics);
+            statistics.addMessage("Partition " + job.partition + ": " + job.statistics.getRowsFetched() +
+                " row(s) fetched in " + job.statistics.getExecuteTime() + "+" + job.statistics.getFetchTime() + "ms");
+        }
+        try {
+            synchronized (consumerLock) {
+                if (fetchStarted) {
+                    consumer.fetchEnd(session, lastResultSet);
+                }
+            }
+        } finally {
+            consumer.close();
+        }
+        if (error != null) {
+            throw new DBCException("Error reading partitioned data of " + entity.getName(), error);
+        }
+        return statistics;
+    }
+
+    private static boolean hasFailedJobs(@NotNull List<PartitionJob> jobs) {
+        for (PartitionJob job : jobs) {
+            IStatus result = job.getResult();
+            if (result != null && !result.isOK()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private List<Partition> makePartitions(@NotNull DBCSession session, @NotNull DBCExecutionSource source) throws DBException {
+        DBPDataSource dataSource = session.getDataSource();
+        String keyName = DBUtils.getQuotedIdentifier(keyAttribute);
+        StringBuilder query = new StringBuilder();
+        query.append("SELECT MIN(").append(keyName).append("), MAX(").append(keyName).append(") FROM ")
+            .append(DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML));
+        SQLUtils.appendQueryConditions(dataSource, query, null, dataFilter);
+
+        Object minValue, maxValue;
+        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.toString(), false, false, false)) {
+            dbStat.setStatementSource(source);
+            if (!dbStat.executeStatement()) {
+                return null;
+            }
+            try (DBCResultSet dbResult = dbStat.openResultSet()) {
+                if (dbResult == null || !dbResult.nextRow()) {
+                    return null;
+                }
+                minValue = dbResult.getAttributeValue(0);
+                maxValue = dbResult.getAttributeValue(1);
+            }
+        }
+        Long minKey = toLongKey(minValue);
+        Long maxKey = toLongKey(maxValue);
+        if (minKey == null || maxKey == null || maxKey <= minKey) {
+            return null;
+        }
+
+        // Boundaries are strictly increasing. First range is open from below and last range is open from above,
+        // so rows with null keys and rows inserted during the read are transferred as well.
+        int partitionCount = settings.getPartitionCount();
+        double step = ((double) maxKey - (double) minKey) / partitionCount;
+        List<Long> bounds = new ArrayList<>(partitionCount);
+        for (int i = 1; i < partitionCount; i++) {
+            long bound = minKey + (long) (step * i);
+            if (bound > minKey && (bounds.isEmpty() || bound > bounds.get(bounds.size() - 1))) {
+                bounds.add(bound);
+            }
+        }
+        if (bounds.isEmpty()) {
+            return null;
+        }
+        List<Partition> partitions = new ArrayList<>(bounds.size() + 1);
+        for (int i = 0; i <= bounds.size(); i++) {
+            String lowerBound = i == 0 ? null : formatKey(dataSource, bounds.get(i - 1));
+            String upperBound = i == bounds.size() ? null : formatKey(dataSource, bounds.get(i));
+            StringBuilder condition = new StringBuilder();
+            if (lowerBound != null) {
+                condition.append(keyName).append(" >= ").append(lowerBound);
+            }
+            if (upperBound != null) {
+                if (lowerBound != null) {
+                    condition.append(" AND ");
+                }
+                condition.append(keyName).append(" < ").append(upperBound);
+            }
+            if (i == 0) {
+                condition.insert(0, "(").append(" OR ").append(keyName).append(" IS NULL)");
+            }
+            partitions.add(new Partition(i, condition.toString()));
+        }
+        return partitions;
+    }
+
+    @Nullable
+    private Long toLongKey(@Nullable Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof BigInteger bigInteger) {
+            return bigInteger.bitLength() < Long.SIZE ? bigInteger.longValue() : null;
+        } else if (value instanceof BigDecimal || value instanceof Number) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) || Math.abs(doubleValue) >= Long.MAX_VALUE) {
+                return null;
+            }
+            return (long) Math.floor(doubleValue);
+        } else if (value instanceof Date date) {
+            return date.getTime();
+        }
+        return null;
+    }
+
+    @NotNull
+    private String formatKey(@NotNull DBPDataSource dataSource, long key) {
+        if (keyAttribute.getDataKind() == DBPDataKind.DATETIME) {
+            return SQLUtils.convertValueToSQL(dataSource, keyAttribute, new Timestamp(key));
+        }
+        return Long.toString(key);
+    }
+
+    @NotNull
+    private DBDDataFilter makePartitionFilter(@NotNull Partition partition) {
+        DBDDataFilter filter = dataFilter == null ? new DBDDataFilter() : new DBDDataFilter(dataFilter);
+        String where = filter.getWhere();
+        if (CommonUtils.isEmpty(where)) {
+            filter.setWhere(partition.condition);
+        } else {
+            filter.setWhere("(" + where + ") AND (" + partition.condition + ")");
+        }
+        if (settings.isOrderedPartitions()) {
+            // Ranges are passed in key order, rows inside each range must be ordered too
+            filter.resetOrderBy();
+            filter.setOrder(DBUtils.getQuotedIdentifier(keyAttribute));
+        }
+        return filter;
+    }
+
+    private void waitForTurn(@NotNull DBRProgressMonitor monitor, @NotNull Partition partition) throws DBCException {
+        synchronized (consumerLock) {
+            while (orderedTurn != partition.index) {
+                if (monitor.isCanceled()) {
+                    throw new DBCException("Partitioned read canceled");
+                }
+                try {
+                    consumerLock.wait(100);
+                } catch (InterruptedException e) {
+                    throw new DBCException("Partitioned read interrupted", e);
+                }
+            }
+        }
+    }
+
+    private void finishPartition(@NotNull Partition partition) {
+        synchronized (consumerLock) {
+            partitionsFinished[partition.index] = true;
+            while (orderedTurn < partitionsFinished.length && partitionsFinished[orderedTurn]) {
+                orderedTurn++;
+            }
+            consumerLock.notifyAll();
+        }
+    }
+
+    private static class Partition {
+        final int index;
+        final String condition;
+
+        Partition(int index, @NotNull String condition) {
+            this.index = index;
+            this.condition = condition;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + (index + 1) + " [" + condition + "]";
+        }
+    }
+
+    /**
+     * Passes rows of a single partition to the shared consumer.
+     * Consumer is started once (by the first partition) and finished after all partitions are read.
+     */
+    private class PartitionReceiver implements DBDDataReceiver {
+        private final Partition partition;
+
+        PartitionReceiver(@NotNull Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+            if (settings.isOrderedPartitions()) {
+                waitForTurn(session.getProgressMonitor(), partition);
+            }
+            synchronized (consumerLock) {
+                if (!fetchStarted) {
+                    consumer.fetchStart(session, resultSet, 0, -1);
+                    fetchStarted = true;
+                }
+                lastResultSet = resultSet;
+            }
+        }
+
+        @Override
+        public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+            synchronized (consumerLock) {
+                consumer.fetchRow(session, resultSet);
+            }
+        }
+
+        @Override
+        public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+            // Consumer is finished after the last partition
+        }
+
+        @Override
+        public void close() {
+            // Consumer is closed after the last partition
+        }
+    }
+
+    private class PartitionJob extends AbstractJob {
+        private final DBCExecutionContext initContext;
+        private final Partition partition;
+        private final Semaphore threadSlots;
+        private final DBCStatistics statistics = new DBCStatistics();
+
+        PartitionJob(@NotNull DBCExecutionContext initContext, @NotNull Partition partition, @NotNull Semaphore threadSlots) {
+            super("Read " + entity.getName() + " partition " + (partition.index + 1));
+            this.initContext = initContext;
+            this.partition = partition;
+            this.threadSlots = threadSlots;
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBCExecutionContext context = null;
+            try {
+                context = DBUtils.getObjectOwnerInstance(entity).openIsolatedContext(
+                    monitor, "Data transfer partition " + (partition.index + 1), initContext);
+                try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Read partition data")) {
+                    session.enableLogging(false);
+                    DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+                    if (txnManager != null && txnManager.isSupportsTransactions()) {
+                        // Some drivers use fetch size (and read LOBs) only in transactional mode
+                        try {
+                            txnManager.setAutoCommit(monitor, false);
+                        } catch (DBCException e) {
+                            log.debug("Can't disable auto-commit in partition context: " + e.getMessage());
+                        }
+                    }
+                    try {
+                        statistics.accumulate(dataContainer.readData(
+                            new AbstractExecutionSource(dataContainer, context, consumer),
+                            session,
+                            new PartitionReceiver(partition),
+                            makePartitionFilter(partition),
+                            -1,
+                            -1,
+                            readFlags,
+                            settings.getFetchSize()));
+                    } finally {
+                        if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
+                            txnManager.rollback(session, null);
+                        }
+                    }
+                }
+                return Status.OK_STATUS;
+            } catch (Throwable e) {
+                return new Status(IStatus.ERROR, DatabaseTransferPartitionReader.class, "Error reading partition " + partition, e);
+            } finally {
+                if (context != null) {
+                    context.close();
+                }
+                finishPartition(partition);
+                threadSlots.release();
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.impl.DataSourceContextProvider;
+import org.jkiss.dbeaver.model.impl.data.KeysetPaginator;
 import org.jkiss.dbeaver.model.meta.DBSerializable;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
@@ -36,6 +37,7 @@ import org.jkiss.dbeaver.model.sql.SQLQueryContainer;
 import org.jkiss.dbeaver.model.sql.SQLScriptContext;
 import org.jkiss.dbeaver.model.sql.SQLScriptElement;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkReader;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.task.DBTTask;
@@ -273,16 +275,46 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
                             monitor.subTask("Read data");
 
                             // Perform export
-                            if (settings.getExtractType() == DatabaseProducerSettings.ExtractType.SINGLE_QUERY) {
+                            DatabaseTransferPartitionReader partitionReader = null;
+                            if (settings.getExtractType() == DatabaseProducerSettings.ExtractType.KEY_RANGES) {
+                                if (!selectiveExportFromUI && newConnection) {
+                                    partitionReader = DatabaseTransferPartitionReader.create(
+                                        monitor, dataContainer, consumer, settings, dataFilter, readFlags);
+                                }
+                                if (partitionReader == null) {
+                                    log.debug("Can't split '" + dataContainer.getName() + "' by key ranges. Read it in single query.");
+                                }
+                            }
+                            DBCStatistics partitionStatistics = partitionReader == null ?
+                                null : partitionReader.readData(monitor, session, transferSource);
+                            if (partitionStatistics != null) {
+                                producerStatistics.accumulate(partitionStatistics);
+                            } else if (settings.getExtractType() != DatabaseProducerSettings.ExtractType.SEGMENTS) {
                                 // Just do it in single query
-                                producerStatistics.accumulate(dataContainer.readData(transferSource, session, consumer, dataFilter, -1, -1, readFlags, settings.getFetchSize()));
+                                DBSDataBulkReader bulkReader = settings.isUseBulkRead() && !selectiveExportFromUI ?
+                                    DBUtils.getAdapter(DBSDataBulkReader.class, dataSource) : null;
+                                if (bulkReader != null && bulkReader.isBulkReadSupported(monitor, dataContainer, dataFilter)) {
+                                    producerStatistics.accumulate(bulkReader.readBulkData(transferSource, session, dataContainer, consumer, dataFilter));
+                                } else {
+                                    producerStatistics.accumulate(dataContainer.readData(transferSource, session, consumer, dataFilter, -1, -1, readFlags, settings.getFetchSize()));
+                                }
                             } else {
-                                // Read all data by segments
+                                // Read all data by segments.
+                                // Use keyset pagination if possible, so database doesn't rescan previous segments.
+                                KeysetPaginator paginator = selectiveExportFromUI ?
+                                    null : KeysetPaginator.create(monitor, dataContainer, dataFilter);
                                 long offset = 0;
                                 int segmentSize = settings.getSegmentSize();
                                 for (; ; ) {
-                                    DBCStatistics statistics = dataContainer.readData(
-                                        transferSource, session, consumer, dataFilter, offset, segmentSize, readFlags, settings.getFetchSize());
+                                    DBCStatistics statistics;
+                                    if (paginator != null) {
+                                        statistics = dataContainer.readData(
+                                            transferSource, session, paginator.wrapReceiver(consumer), paginator.makePageFilter(dataSource, dataFilter),
+                                            0, segmentSize, readFlags, settings.getFetchSize());
+                                    } else {
+                                        statistics = dataContainer.readData(
+                                            transferSource, session, consumer, dataFilter, offset, segmentSize, readFlags, settings.getFetchSize());
+                                    }
                                     if (statistics == null || statistics.getRowsFetched() < segmentSize) {
                                         // Done
                                         break;
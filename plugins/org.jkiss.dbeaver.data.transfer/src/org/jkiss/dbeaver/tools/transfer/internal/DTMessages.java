@@ -39,6 +39,11 @@ public class DTMessages extends NLS {
     public static String data_transfer_wizard_output_checkbox_selected_rows_only;
     public static String data_transfer_wizard_output_combo_extract_type_item_by_segments;
     public static String data_transfer_wizard_output_combo_extract_type_item_single_query;
+    public static String data_transfer_wizard_output_combo_extract_type_item_by_key_ranges;
+    public static String data_transfer_wizard_output_label_partition_count;
+    public static String data_transfer_wizard_output_checkbox_ordered_partitions;
+    public static String data_transfer_wizard_output_checkbox_use_bulk_read;
+    public static String data_transfer_wizard_output_checkbox_use_bulk_read_tip;
     public static String data_transfer_wizard_output_description;
     public static String data_transfer_wizard_output_dialog_directory_message;
     public static String data_transfer_wizard_output_dialog_directory_text;
@@ -141,6 +146,8 @@ public class DTMessages extends NLS {
     public static String database_consumer_settings_option_transfer_auto_generated_columns;
     public static String database_consumer_settings_option_disable_referential_integrity;
     public static String database_consumer_settings_option_use_bulk_load;
+    public static String database_consumer_settings_option_bulk_load_method;
+    public static String database_consumer_settings_option_pipelined_write;
     public static String database_consumer_settings_option_truncate_before_load;
 
     public static String data_transfer_settings_title_find_producer;
@@ -0,0 +1,258 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Output stream which writes data to the target stream in a background job.
+ * <p>
+ * Data is collected in blocks, full blocks are passed to the job through a bounded queue.
+ * Used in front of compressing streams, so compression doesn't block the exporter thread.
+ * The target stream is closed by the job, {@link #closeAsync()} lets the job finish it while the caller proceeds.
+ * {@link #abort()} discards queued data and closes the target stream, so the job ends when the caller fails.
+ */
+public class BackgroundOutputStream extends OutputStream {
+
+    public static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+    public static final int DEFAULT_QUEUED_BLOCKS = 4;
+
+    private static final byte[] FLUSH_BLOCK = new byte[0];
+    private static final byte[] CLOSE_BLOCK = new byte[0];
+
+    @NotNull
+    private final OutputStream out;
+    private final int blockSize;
+    private final BlockingQueue<byte[]> blocks;
+    private final BlockingQueue<Object> flushes = new ArrayBlockingQueue<>(1);
+    private final WriterJob writerJob;
+    private volatile IOException error;
+    private volatile boolean done;
+    private volatile boolean aborted;
+    private byte[] block;
+    private int blockLength;
+    private boolean closed;
+
+    public BackgroundOutputStream(@NotNull OutputStream out, @NotNull String name) {
+        this(out, name, DEFAULT_BLOCK_SIZE, DEFAULT_QUEUED_BLOCKS);
+    }
+
+    public BackgroundOutputStream(@NotNull OutputStream out, @NotNull String name, int blockSize, int maxQueuedBlocks) {
+        this.out = out;
+        this.blockSize = blockSize;
+        this.blocks = new ArrayBlockingQueue<>(maxQueuedBlocks);
+        this.block = new byte[blockSize];
+        this.writerJob = new WriterJob(name);
+        this.writerJob.schedule();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (blockLength == blockSize) {
+            sendBlock();
+        }
+        block[blockLength++] = (byte) b;
+    }
+
+    @Override
+    public void write(@NotNull byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        while (len > 0) {
+            if (blockLength == blockSize) {
+                sendBlock();
+            }
+            int count = Math.min(len, blockSize - blockLength);
+            System.arraycopy(b, off, block, blockLength, count);
+            blockLength += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Waits until all written data is passed to the target stream and flushes it
+     */
+    @Override
+    public void flush() throws IOException {
+        checkOpen();
+        sendBlock();
+        put(FLUSH_BLOCK);
+        try {
+            flushes.take();
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("Flush was interrupted");
+        }
+        checkError();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closeAsync();
+        }
+        waitForClose();
+    }
+
+    /**
+     * Passes remaining data to the job and returns without waiting for the target stream to be closed
+     */
+    public void closeAsync() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            sendBlock();
+        } finally {
+            closed = true;
+            put(CLOSE_BLOCK);
+        }
+    }
+
+    /**
+     * Discards written data which was not passed to the target stream yet and lets the job close the target stream.
+     * Doesn't wait for the job. Stream can't be used after abort.
+     */
+    public void abort() {
+        if (closed) {
+            // Close block is already queued
+            return;
+        }
+        closed = true;
+        aborted = true;
+        blockLength = 0;
+        blocks.clear();
+        // Queue was just cleared and this stream is its only producer, so there is room for the close block
+        blocks.offer(CLOSE_BLOCK);
+    }
+
+    /**
+     * Waits until the job writes all data and closes the target stream
+     */
+    public void waitForClose() throws IOException {
+        try {
+            writerJob.join();
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("Close was interrupted");
+        }
+        checkError();
+    }
+
+    /**
+     * Returns true if the stream was closed and the job has finished
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    private void sendBlock() throws IOException {
+        checkOpen();
+        if (blockLength == 0) {
+            return;
+        }
+        put(blockLength == blockSize ? block : Arrays.copyOf(block, blockLength));
+        block = new byte[blockSize];
+        blockLength = 0;
+    }
+
+    private void put(@NotNull byte[] data) throws IOException {
+        try {
+            blocks.put(data);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("Write was interrupted");
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        checkError();
+    }
+
+    private void checkError() throws IOException {
+        IOException e = error;
+        if (e != null) {
+            throw new IOException("Background write failed", e);
+        }
+    }
+
+    private class WriterJob extends AbstractJob {
+
+        WriterJob(@NotNull String name) {
+            super(name);
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                for (;;) {
+                    byte[] data = blocks.take();
+                    if (data == CLOSE_BLOCK) {
+                        try {
+                            out.close();
+                        } catch (IOException e) {
+                            if (error == null) {
+                                error = e;
+                            }
+                        }
+                        break;
+                    } else if (data == FLUSH_BLOCK) {
+                        if (error == null) {
+                            try {
+                                out.flush();
+                            } catch (IOException e) {
+                                error = e;
+                            }
+                        }
+                        flushes.put(FLUSH_BLOCK);
+                    } else if (error == null && !aborted) {
+                        try {
+                            out.write(data);
+                        } catch (IOException e) {
+                            // Keep draining the queue, so the writer never blocks. Error is reported on the next call.
+                            error = e;
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                error = new InterruptedIOException("Background write was interrupted");
+                return Status.CANCEL_STATUS;
+            } finally {
+                done = true;
+            }
+            return Status.OK_STATUS;
+        }
+    }
+}
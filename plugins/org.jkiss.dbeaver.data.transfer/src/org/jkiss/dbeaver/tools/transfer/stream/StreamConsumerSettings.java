@@ -111,6 +111,19 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         }
     }
 
+    public enum CompressionFormat {
+        ZIP("ZIP", "zip"),
+        GZIP("GZip", "gz");
+
+        public final String title;
+        public final String extension;
+
+        CompressionFormat(String title, String extension) {
+            this.title = title;
+            this.extension = extension;
+        }
+    }
+
     public static final String PROP_EXTRACT_IMAGES = "extractImages";
     public static final String PROP_FILE_EXTENSION = "extension";
 
@@ -135,6 +148,8 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
     private boolean outputClipboard = false;
     private boolean useSingleFile = false;
     private boolean compressResults = false;
+    @NotNull
+    private CompressionFormat compressionFormat = CompressionFormat.ZIP;
     private boolean splitOutFiles = false;
     private long maxOutFileSize = 10 * 1000 * 1000;
     private final Map<DBSDataContainer, StreamMappingContainer> dataMappings = new LinkedHashMap<>();
@@ -244,6 +259,15 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         this.compressResults = compressResults;
     }
 
+    @NotNull
+    public CompressionFormat getCompressionFormat() {
+        return compressionFormat;
+    }
+
+    public void setCompressionFormat(@NotNull CompressionFormat compressionFormat) {
+        this.compressionFormat = compressionFormat;
+    }
+
     public boolean isSplitOutFiles() {
         return splitOutFiles;
     }
@@ -329,6 +353,7 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         );
 
         compressResults = CommonUtils.getBoolean(settings.get("compressResults"), compressResults);
+        compressionFormat = CommonUtils.valueOf(CompressionFormat.class, CommonUtils.toString(settings.get("compressionFormat")), compressionFormat);
         splitOutFiles = CommonUtils.getBoolean(settings.get("splitOutFiles"), splitOutFiles);
         maxOutFileSize = CommonUtils.toLong(settings.get("maxOutFileSize"), maxOutFileSize);
 
@@ -416,6 +441,7 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         settings.put("useSingleFile", useSingleFile);
 
         settings.put("compressResults", compressResults);
+        settings.put("compressionFormat", compressionFormat.name());
         settings.put("splitOutFiles", splitOutFiles);
         settings.put("maxOutFileSize", maxOutFileSize);
 
@@ -458,7 +484,11 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
             DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_label_copy_to_clipboard, outputClipboard);
         }
 
-        DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_compress, compressResults);
+        if (compressResults) {
+            DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_compress, compressionFormat.title);
+        } else {
+            DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_compress, false);
+        }
 
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_settings_label_binaries, lobExtractType);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_settings_label_encoding, lobEncoding);
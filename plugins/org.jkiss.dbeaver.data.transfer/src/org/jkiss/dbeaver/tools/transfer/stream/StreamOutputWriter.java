@@ -0,0 +1,164 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Character writer for stream exporters.
+ * <p>
+ * Characters are collected in a block and encoded with a single reusable encoder when the block is full.
+ * Unlike {@link java.io.OutputStreamWriter} {@link #flush()} only encodes pending characters into the target stream
+ * and doesn't flush the stream itself: the stream is flushed explicitly by the consumer.
+ */
+public class StreamOutputWriter extends Writer {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    @NotNull
+    private final OutputStream out;
+    @NotNull
+    private final CharsetEncoder encoder;
+    @NotNull
+    private final CharBuffer charBuffer;
+    @NotNull
+    private final ByteBuffer byteBuffer;
+    private boolean finished;
+
+    public StreamOutputWriter(@NotNull OutputStream out, @NotNull Charset charset) {
+        this(out, charset, DEFAULT_BLOCK_SIZE);
+    }
+
+    public StreamOutputWriter(@NotNull OutputStream out, @NotNull Charset charset, int blockSize) {
+        this.out = out;
+        this.encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.charBuffer = CharBuffer.allocate(blockSize);
+        this.byteBuffer = ByteBuffer.allocate((int) Math.ceil(blockSize * (double) encoder.maxBytesPerChar()));
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        checkNotFinished();
+        if (!charBuffer.hasRemaining()) {
+            encodeBlock(false);
+        }
+        charBuffer.put((char) c);
+    }
+
+    @Override
+    public void write(@NotNull char[] cbuf, int off, int len) throws IOException {
+        checkNotFinished();
+        while (len > 0) {
+            if (!charBuffer.hasRemaining()) {
+                encodeBlock(false);
+            }
+            int count = Math.min(len, charBuffer.remaining());
+            charBuffer.put(cbuf, off, count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    @Override
+    public void write(@NotNull String str, int off, int len) throws IOException {
+        checkNotFinished();
+        while (len > 0) {
+            if (!charBuffer.hasRemaining()) {
+                encodeBlock(false);
+            }
+            int count = Math.min(len, charBuffer.remaining());
+            charBuffer.put(str, off, off + count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Encodes pending characters into the target stream. The target stream is not flushed.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (!finished) {
+            encodeBlock(false);
+        }
+    }
+
+    /**
+     * Encodes all pending characters and writes the final encoder state.
+     * The target stream is neither flushed nor closed.
+     */
+    public void finish() throws IOException {
+        if (!finished) {
+            encodeBlock(true);
+            finished = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    private void checkNotFinished() throws IOException {
+        if (finished) {
+            throw new IOException("Writer is already finished");
+        }
+    }
+
+    private void encodeBlock(boolean endOfInput) throws IOException {
+        charBuffer.flip();
+        for (;;) {
+            CoderResult result = encoder.encode(charBuffer, byteBuffer, endOfInput);
+            if (result.isOverflow()) {
+                writeBytes();
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+        if (endOfInput) {
+            while (encoder.flush(byteBuffer).isOverflow()) {
+                writeBytes();
+            }
+            encoder.reset();
+        }
+        writeBytes();
+        // Incomplete surrogate pair stays in the buffer until the next block
+        charBuffer.compact();
+    }
+
+    private void writeBytes() throws IOException {
+        if (byteBuffer.position() > 0) {
+            out.write(byteBuffer.array(), byteBuffer.arrayOffset(), byteBuffer.position());
+            byteBuffer.clear();
+        }
+    }
+}
@@ -64,6 +64,7 @@ import org.jkiss.utils.IOUtils;
 import org.jkiss.utils.io.ByteOrderMark;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -71,6 +72,8 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -122,6 +125,8 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     };
 
     public static final int OUT_FILE_BUFFER_SIZE = 100000;
+    // Maximum amount of uncompressed data buffered for each split file which is compressed in background
+    private static final int MAX_SPLIT_FILE_BUFFER_SIZE = 16 * 1024 * 1024;
 
     private IStreamDataExporter processor;
     private StreamConsumerSettings settings;
@@ -131,7 +136,12 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     private DBPProject project;
 
     private OutputStream outputStream;
-    private ZipOutputStream zipStream;
+    private BackgroundOutputStream compressStream;
+    private StreamOutputWriter outputWriter;
+    // Split files which are still being compressed in background
+    private final List<BackgroundOutputStream> pendingOutputs = new ArrayList<>();
+    // Error of the output file which was closed after the last check
+    private IOException outputError;
     private PrintWriter writer;
     private int multiFileNumber;
     private long bytesWritten = 0;
@@ -197,8 +207,10 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     @Override
     public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
         try {
+            checkOutputError();
             // Check for file split
             if (settings.isSplitOutFiles() && !parameters.isBinary && !firstRow) {
+                // Encode pending characters to count written bytes. Output stream itself is not flushed here.
                 writer.flush();
                 if (bytesWritten >= settings.getMaxOutFileSize()) {
                     // First add footer for the previous file
@@ -377,7 +389,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
             if (outputClipboard) {
                 this.outputBuffer = new StringWriter(2048);
-                this.writer = new PrintWriter(this.outputBuffer, true);
+                this.writer = new PrintWriter(this.outputBuffer);
             } else {
                 openOutputStreams(session.getProgressMonitor());
             }
@@ -415,6 +427,44 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         closeOutputStreams();
     }
     
+    /**
+     * Releases exporter and output streams of the failed transfer.
+     * Data which is not written yet is discarded, errors are only logged: the transfer has already failed.
+     */
+    private void abortExporter() {
+        if (processor != null) {
+            try {
+                processor.dispose();
+            } catch (Exception e) {
+                log.debug(e);
+            }
+            processor = null;
+        }
+        outputWriter = null;
+        if (compressStream != null) {
+            compressStream.abort();
+            try {
+                compressStream.waitForClose();
+            } catch (IOException e) {
+                log.debug(e);
+            }
+        } else if (outputStream != null) {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                log.debug(e);
+            }
+        }
+        compressStream = null;
+        outputStream = null;
+        try {
+            waitForPendingOutputs(0);
+        } catch (IOException e) {
+            log.debug(e);
+        }
+        outputError = null;
+    }
+
     private DataFileConflictBehavior prepareDataFileConflictBehavior(String fileName) {
         DataFileConflictBehavior behavior = runtimeParameters.dataFileConflictBehavior;
         
@@ -515,10 +565,28 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         this.outputStream = this.statStream = new StatOutputStream(outputStream);
 
         if (settings.isCompressResults()) {
-            log.debug("\tUse ZIP compression");
-            this.zipStream = new ZipOutputStream(this.outputStream);
-            this.zipStream.putNextEntry(new ZipEntry(getOutputFileName()));
-            this.outputStream = zipStream;
+            log.debug("\tUse " + settings.getCompressionFormat().title + " compression");
+            DeflaterOutputStream deflaterStream;
+            if (settings.getCompressionFormat() == StreamConsumerSettings.CompressionFormat.GZIP) {
+                deflaterStream = new GZIPOutputStream(this.outputStream, OUT_FILE_BUFFER_SIZE);
+            } else {
+                ZipOutputStream zipStream = new ZipOutputStream(this.outputStream);
+                zipStream.putNextEntry(new ZipEntry(getOutputFileName()));
+                deflaterStream = zipStream;
+            }
+            // Compress in background, so exporter doesn't wait for deflater.
+            // Split files get a larger buffer: the next file is written while the previous one is still being compressed.
+            int maxQueuedBlocks = BackgroundOutputStream.DEFAULT_QUEUED_BLOCKS;
+            if (settings.isSplitOutFiles()) {
+                long fileBlocks = settings.getMaxOutFileSize() / BackgroundOutputStream.DEFAULT_BLOCK_SIZE + 1;
+                maxQueuedBlocks = (int) Math.max(maxQueuedBlocks, Math.min(fileBlocks, MAX_SPLIT_FILE_BUFFER_SIZE / BackgroundOutputStream.DEFAULT_BLOCK_SIZE));
+            }
+            this.compressStream = new BackgroundOutputStream(
+                deflaterStream,
+                "Compress " + getOutputFileName(),
+                BackgroundOutputStream.DEFAULT_BLOCK_SIZE,
+                maxQueuedBlocks);
+            this.outputStream = compressStream;
         }
 
         // If we need to split files - use stream wrapper to calculate file size
@@ -532,51 +600,121 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             try {
                 final ByteOrderMark bom = ByteOrderMark.fromCharset(settings.getOutputEncoding());
                 outputStream.write(bom.getBytes());
-                outputStream.flush();
             } catch (IllegalArgumentException e) {
                 log.debug("Error writing byte order mask", e);
             }
         }
 
         if (!parameters.isBinary) {
-            this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, settings.getOutputEncoding()), true);
+            Charset charset;
+            try {
+                charset = Charset.forName(settings.getOutputEncoding());
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedEncodingException(settings.getOutputEncoding());
+            }
+            this.outputWriter = new StreamOutputWriter(this.outputStream, charset);
+            this.writer = new PrintWriter(this.outputWriter);
         }
     }
 
     private void closeOutputStreams() {
+        closeOutputStreams(false);
+    }
+
+    /**
+     * Closes current output file.
+     * If closeInBackground is set then compressed file is finished in background and added to pending outputs.
+     */
+    private void closeOutputStreams(boolean closeInBackground) {
         log.debug("\tClose output stream");
-        if (this.writer != null) {
+        if (this.outputWriter != null) {
+            try {
+                this.outputWriter.finish();
+            } catch (IOException e) {
+                addOutputError(e);
+            }
+            this.outputWriter = null;
+        } else if (this.writer != null) {
             this.writer.flush();
         }
 
-        // Finish zip stream
-        if (zipStream != null) {
+        if (closeInBackground && compressStream != null) {
+            // Errors are reported when pending output is finished
+            pendingOutputs.add(compressStream);
             try {
-                zipStream.closeEntry();
+                compressStream.closeAsync();
             } catch (IOException e) {
-                log.debug(e);
+                addOutputError(e);
             }
+        } else if (outputStream != null) {
             try {
-                zipStream.finish();
+                // Compressor is finished on close
+                outputStream.close();
             } catch (IOException e) {
-                log.debug(e);
+                addOutputError(e);
             }
-            zipStream = null;
         }
+        compressStream = null;
+        outputStream = null;
 
-        if (outputStream != null) {
+        if (!closeInBackground) {
             try {
-                outputStream.flush();
+                waitForPendingOutputs(0);
             } catch (IOException e) {
-                log.debug(e);
+                addOutputError(e);
+            }
+        }
+    }
+
+    private void addOutputError(@NotNull IOException e) {
+        log.debug(e);
+        if (outputError == null) {
+            outputError = e;
+        } else if (outputError != e) {
+            outputError.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Throws error of previously closed output file (if any).
+     * Incomplete file must fail the transfer, otherwise truncated output is reported as success.
+     */
+    private void checkOutputError() throws IOException {
+        IOException error = outputError;
+        if (error != null) {
+            outputError = null;
+            throw new IOException("Error writing output file", error);
+        }
+    }
+
+    private void waitForPendingOutputs(int maxPending) throws IOException {
+        IOException error = null;
+        for (Iterator<BackgroundOutputStream> iter = pendingOutputs.iterator(); iter.hasNext(); ) {
+            BackgroundOutputStream pendingOutput = iter.next();
+            if (!pendingOutput.isDone() && pendingOutputs.size() <= maxPending) {
+                continue;
             }
-            ContentUtils.close(outputStream);
-            outputStream = null;
+            iter.remove();
+            try {
+                pendingOutput.waitForClose();
+            } catch (IOException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
         }
     }
 
     private void createNewOutFile(DBRProgressMonitor monitor) throws IOException {
-        closeOutputStreams();
+        // Previous file is compressed in background while the next one is being written
+        closeOutputStreams(true);
+        checkOutputError();
+        waitForPendingOutputs(Math.max(Runtime.getRuntime().availableProcessors() - 1, 1));
 
         bytesWritten = 0;
         multiFileNumber++;
@@ -630,10 +768,20 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
     @Override
     public void finishTransfer(@NotNull DBRProgressMonitor monitor, @Nullable Throwable error, @Nullable DBTTask task, boolean last) {
+        if (error != null) {
+            // Exporter is not closed after failure, background compression would wait for the rest of data forever
+            abortExporter();
+        }
         if (!last && error == null) {
             exportFooterInFile(monitor);
 
             closeExporter();
+            try {
+                checkOutputError();
+            } catch (IOException e) {
+                // Fails the transfer of this pipe
+                throw new RuntimeException(e.getMessage(), e);
+            }
             return;
         }
 
@@ -802,7 +950,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
         String fileName = getOutputFileName(suffix);
         if (settings.isCompressResults()) {
-            fileName += ".zip";
+            fileName += "." + settings.getCompressionFormat().extension;
         }
         return dir.resolve(fileName);
     }
@@ -0,0 +1,98 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Arrow IPC format constants (see Schema.fbs, Message.fbs and File.fbs)
+ */
+class ArrowConstants {
+
+    static final byte[] MAGIC = "ARROW1".getBytes(StandardCharsets.US_ASCII);
+    static final int CONTINUATION_MARKER = 0xFFFFFFFF;
+
+    static final int METADATA_VERSION_V5 = 4;
+
+    // MessageHeader union
+    static final int HEADER_SCHEMA = 1;
+    static final int HEADER_DICTIONARY_BATCH = 2;
+    static final int HEADER_RECORD_BATCH = 3;
+
+    // Type union
+    static final int TYPE_NULL = 1;
+    static final int TYPE_INT = 2;
+    static final int TYPE_FLOATING_POINT = 3;
+    static final int TYPE_BINARY = 4;
+    static final int TYPE_UTF8 = 5;
+    static final int TYPE_BOOL = 6;
+    static final int TYPE_DECIMAL = 7;
+    static final int TYPE_DATE = 8;
+    static final int TYPE_TIMESTAMP = 10;
+    static final int TYPE_FIXED_SIZE_BINARY = 15;
+    static final int TYPE_LARGE_BINARY = 19;
+    static final int TYPE_LARGE_UTF8 = 20;
+
+    static final int PRECISION_HALF = 0;
+    static final int PRECISION_SINGLE = 1;
+    static final int PRECISION_DOUBLE = 2;
+
+    static final int DATE_UNIT_DAY = 0;
+    static final int DATE_UNIT_MILLISECOND = 1;
+
+    static final int TIME_UNIT_SECOND = 0;
+    static final int TIME_UNIT_MILLISECOND = 1;
+    static final int TIME_UNIT_MICROSECOND = 2;
+    static final int TIME_UNIT_NANOSECOND = 3;
+
+    // Message table slots
+    static final int MESSAGE_VERSION = 0;
+    static final int MESSAGE_HEADER_TYPE = 1;
+    static final int MESSAGE_HEADER = 2;
+    static final int MESSAGE_BODY_LENGTH = 3;
+
+    // Schema table slots
+    static final int SCHEMA_FIELDS = 1;
+
+    // Field table slots
+    static final int FIELD_NAME = 0;
+    static final int FIELD_NULLABLE = 1;
+    static final int FIELD_TYPE_TYPE = 2;
+    static final int FIELD_TYPE = 3;
+    static final int FIELD_DICTIONARY = 4;
+    static final int FIELD_CHILDREN = 5;
+
+    // RecordBatch table slots
+    static final int BATCH_LENGTH = 0;
+    static final int BATCH_NODES = 1;
+    static final int BATCH_BUFFERS = 2;
+    static final int BATCH_COMPRESSION = 3;
+
+    // Footer table slots
+    static final int FOOTER_VERSION = 0;
+    static final int FOOTER_SCHEMA = 1;
+    static final int FOOTER_DICTIONARIES = 2;
+    static final int FOOTER_RECORD_BATCHES = 3;
+
+    // Struct sizes
+    static final int FIELD_NODE_SIZE = 16;
+    static final int BUFFER_SIZE = 16;
+    static final int BLOCK_SIZE = 24;
+
+    private ArrowConstants() {
+    }
+}
@@ -0,0 +1,524 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Apache Arrow IPC reader. Supports both file and stream formats.
+ * <p>
+ * Supports flat schemas of primitive, string, binary, decimal and temporal types.
+ * Dictionary encoded columns are decoded. Compressed bodies are not supported.
+ */
+public class ArrowFileReader implements ColumnarReader {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    @NotNull
+    private final SeekableByteChannel channel;
+    @NotNull
+    private final List<ColumnarField> fields = new ArrayList<>();
+    @NotNull
+    private final List<FieldInfo> fieldInfos = new ArrayList<>();
+    @NotNull
+    private final Map<Long, ColumnVector> dictionaries = new HashMap<>();
+
+    // File format: record batch blocks from the footer. Stream format: sequential input.
+    @Nullable
+    private long[] recordBatchOffsets;
+    private int currentBatch;
+    @Nullable
+    private InputStream streamInput;
+    private boolean endOfStream;
+
+    private static class FieldInfo {
+        ColumnarField field;
+        int arrowType;
+        int bitWidth;
+        boolean signed;
+        int byteWidth;
+        int unit;
+        long dictionaryId = -1;
+        int indexBitWidth;
+        boolean indexSigned;
+    }
+
+    private static class Message {
+        int headerType;
+        FlatBufferTable header;
+        ByteBuffer body;
+    }
+
+    public ArrowFileReader(@NotNull SeekableByteChannel channel) throws IOException {
+        this.channel = channel;
+        try {
+            long fileSize = channel.size();
+            if (fileSize >= 2L * ArrowConstants.MAGIC.length + 8 && hasMagic(0) && hasMagic(fileSize - ArrowConstants.MAGIC.length)) {
+                readFileFooter(fileSize);
+            } else {
+                channel.position(0);
+                streamInput = new BufferedInputStream(Channels.newInputStream(channel));
+                Message message = readMessage(streamInput);
+                if (message == null || message.headerType != ArrowConstants.HEADER_SCHEMA) {
+                    throw new IOException("Arrow stream doesn't start with schema");
+                }
+                readSchema(message.header);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted Arrow file metadata", e);
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<ColumnarField> getFields() {
+        return fields;
+    }
+
+    @Nullable
+    @Override
+    public ColumnVector[] readBatch() throws IOException {
+        try {
+            if (recordBatchOffsets != null) {
+                if (currentBatch >= recordBatchOffsets.length) {
+                    return null;
+                }
+                Message message = readMessageAt(recordBatchOffsets[currentBatch++]);
+                if (message.headerType != ArrowConstants.HEADER_RECORD_BATCH) {
+                    throw new IOException("Record batch expected but message type " + message.headerType + " found");
+                }
+                return readRecordBatch(message.header, message.body);
+            }
+            while (!endOfStream && streamInput != null) {
+                Message message = readMessage(streamInput);
+                if (message == null) {
+                    endOfStream = true;
+                } else if (message.headerType == ArrowConstants.HEADER_DICTIONARY_BATCH) {
+                    readDictionaryBatch(message.header, message.body);
+                } else if (message.headerType == ArrowConstants.HEADER_RECORD_BATCH) {
+                    return readRecordBatch(message.header, message.body);
+                }
+            }
+            return null;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted Arrow record batch", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    ////////////////////////////////////////////////////////////
+    // Metadata
+
+    private boolean hasMagic(long position) throws IOException {
+        byte[] magic = new byte[ArrowConstants.MAGIC.length];
+        readFully(position, ByteBuffer.wrap(magic));
+        return Arrays.equals(magic, ArrowConstants.MAGIC);
+    }
+
+    private void readFileFooter(long fileSize) throws IOException {
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        long lengthPosition = fileSize - ArrowConstants.MAGIC.length - 4;
+        readFully(lengthPosition, lengthBuffer);
+        int footerLength = lengthBuffer.getInt(0);
+        if (footerLength <= 0 || footerLength > lengthPosition) {
+            throw new IOException("Bad Arrow footer length " + footerLength);
+        }
+        ByteBuffer footerBuffer = ByteBuffer.allocate(footerLength);
+        readFully(lengthPosition - footerLength, footerBuffer);
+        footerBuffer.flip();
+        FlatBufferTable footer = FlatBufferTable.getRoot(footerBuffer);
+        FlatBufferTable schema = footer.getTable(ArrowConstants.FOOTER_SCHEMA);
+        if (schema == null) {
+            throw new IOException("Arrow file footer doesn't contain schema");
+        }
+        readSchema(schema);
+
+        int dictionaryCount = footer.getVectorLength(ArrowConstants.FOOTER_DICTIONARIES);
+        for (int i = 0; i < dictionaryCount; i++) {
+            Message message = readMessageAt(footer.getVectorStructLong(ArrowConstants.FOOTER_DICTIONARIES, i, ArrowConstants.BLOCK_SIZE, 0));
+            if (message.headerType == ArrowConstants.HEADER_DICTIONARY_BATCH) {
+                readDictionaryBatch(message.header, message.body);
+            }
+        }
+        int batchCount = footer.getVectorLength(ArrowConstants.FOOTER_RECORD_BATCHES);
+        recordBatchOffsets = new long[batchCount];
+        for (int i = 0; i < batchCount; i++) {
+            recordBatchOffsets[i] = footer.getVectorStructLong(ArrowConstants.FOOTER_RECORD_BATCHES, i, ArrowConstants.BLOCK_SIZE, 0);
+        }
+    }
+
+    private void readSchema(@NotNull FlatBufferTable schema) throws IOException {
+        int fieldCount = schema.getVectorLength(ArrowConstants.SCHEMA_FIELDS);
+        for (int i = 0; i < fieldCount; i++) {
+            FlatBufferTable fieldTable = schema.getVectorTable(ArrowConstants.SCHEMA_FIELDS, i);
+            String name = fieldTable.getString(ArrowConstants.FIELD_NAME);
+            if (name == null || name.isEmpty()) {
+                name = "column" + (i + 1);
+            }
+            if (fieldTable.getVectorLength(ArrowConstants.FIELD_CHILDREN) > 0) {
+                throw new IOException("Nested Arrow column '" + name + "' is not supported");
+            }
+            FieldInfo info = new FieldInfo();
+            info.arrowType = fieldTable.getByte(ArrowConstants.FIELD_TYPE_TYPE, 0);
+            FlatBufferTable type = fieldTable.getTable(ArrowConstants.FIELD_TYPE);
+            FlatBufferTable dictionary = fieldTable.getTable(ArrowConstants.FIELD_DICTIONARY);
+            if (dictionary != null) {
+                info.dictionaryId = dictionary.getLong(0, 0);
+                FlatBufferTable indexType = dictionary.getTable(1);
+                info.indexBitWidth = indexType == null ? 32 : indexType.getInt(0, 32);
+                info.indexSigned = indexType == null || indexType.getBool(1, false);
+            }
+            info.field = createField(name, info, type);
+            fieldInfos.add(info);
+            fields.add(info.field);
+        }
+    }
+
+    @NotNull
+    private static ColumnarField createField(@NotNull String name, @NotNull FieldInfo info, @Nullable FlatBufferTable type) throws IOException {
+        switch (info.arrowType) {
+            case ArrowConstants.TYPE_NULL, ArrowConstants.TYPE_UTF8, ArrowConstants.TYPE_LARGE_UTF8 -> {
+                return new ColumnarField(name, ColumnarType.STRING);
+            }
+            case ArrowConstants.TYPE_BINARY, ArrowConstants.TYPE_LARGE_BINARY -> {
+                return new ColumnarField(name, ColumnarType.BINARY);
+            }
+            case ArrowConstants.TYPE_BOOL -> {
+                return new ColumnarField(name, ColumnarType.BOOLEAN);
+            }
+        }
+        if (type == null) {
+            throw new IOException("Type of Arrow column '" + name + "' is not specified");
+        }
+        switch (info.arrowType) {
+            case ArrowConstants.TYPE_INT -> {
+                info.bitWidth = type.getInt(0, 32);
+                info.signed = type.getBool(1, false);
+                if (info.bitWidth < 32 || info.bitWidth == 32 && info.signed) {
+                    return new ColumnarField(name, ColumnarType.INT32);
+                } else if (info.bitWidth == 32 || info.signed) {
+                    return new ColumnarField(name, ColumnarType.INT64);
+                } else {
+                    return new ColumnarField(name, ColumnarType.DECIMAL, 20, 0);
+                }
+            }
+            case ArrowConstants.TYPE_FLOATING_POINT -> {
+                info.unit = type.getShort(0, ArrowConstants.PRECISION_HALF);
+                if (info.unit == ArrowConstants.PRECISION_HALF) {
+                    throw new IOException("Half-precision floating point column '" + name + "' is not supported");
+                }
+                return new ColumnarField(name, info.unit == ArrowConstants.PRECISION_SINGLE ? ColumnarType.FLOAT : ColumnarType.DOUBLE);
+            }
+            case ArrowConstants.TYPE_DECIMAL -> {
+                info.byteWidth = type.getInt(2, 128) / 8;
+                return new ColumnarField(name, ColumnarType.DECIMAL, type.getInt(0, 0), type.getInt(1, 0));
+            }
+            case ArrowConstants.TYPE_DATE -> {
+                info.unit = type.getShort(0, ArrowConstants.DATE_UNIT_MILLISECOND);
+                return new ColumnarField(name, ColumnarType.DATE);
+            }
+            case ArrowConstants.TYPE_TIMESTAMP -> {
+                info.unit = type.getShort(0, ArrowConstants.TIME_UNIT_SECOND);
+                String timezone = type.getString(1);
+                return new ColumnarField(name, timezone == null || timezone.isEmpty() ? ColumnarType.TIMESTAMP : ColumnarType.TIMESTAMP_TZ);
+            }
+            case ArrowConstants.TYPE_FIXED_SIZE_BINARY -> {
+                info.byteWidth = type.getInt(0, 0);
+                return new ColumnarField(name, ColumnarType.BINARY);
+            }
+            default -> throw new IOException("Arrow column '" + name + "' type " + info.arrowType + " is not supported");
+        }
+    }
+
+    ////////////////////////////////////////////////////////////
+    // Data
+
+    /**
+     * Reads node and buffer descriptors of record batch sequentially
+     */
+    private static class BatchDecoder {
+        final FlatBufferTable batch;
+        final ByteBuffer body;
+        int nodeIndex;
+        int bufferIndex;
+
+        BatchDecoder(@NotNull FlatBufferTable batch, @NotNull ByteBuffer body) throws IOException {
+            if (batch.hasField(ArrowConstants.BATCH_COMPRESSION)) {
+                throw new IOException("Compressed Arrow record batches are not supported");
+            }
+            this.batch = batch;
+            this.body = body;
+        }
+
+        int nextNodeLength() {
+            return (int) batch.getVectorStructLong(ArrowConstants.BATCH_NODES, nodeIndex++, ArrowConstants.FIELD_NODE_SIZE, 0);
+        }
+
+        long getLastNodeNullCount() {
+            return batch.getVectorStructLong(ArrowConstants.BATCH_NODES, nodeIndex - 1, ArrowConstants.FIELD_NODE_SIZE, 8);
+        }
+
+        @NotNull
+        ByteBuffer nextBuffer() {
+            int index = bufferIndex++;
+            long offset = batch.getVectorStructLong(ArrowConstants.BATCH_BUFFERS, index, ArrowConstants.BUFFER_SIZE, 0);
+            long length = batch.getVectorStructLong(ArrowConstants.BATCH_BUFFERS, index, ArrowConstants.BUFFER_SIZE, 8);
+            return body.duplicate().position((int) offset).limit((int) (offset + length)).slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    @NotNull
+    private ColumnVector[] readRecordBatch(@NotNull FlatBufferTable batch, @NotNull ByteBuffer body) throws IOException {
+        BatchDecoder decoder = new BatchDecoder(batch, body);
+        int rowCount = (int) batch.getLong(ArrowConstants.BATCH_LENGTH, 0);
+        ColumnVector[] vectors = new ColumnVector[fieldInfos.size()];
+        for (int i = 0; i < vectors.length; i++) {
+            FieldInfo info = fieldInfos.get(i);
+            vectors[i] = new ColumnVector(info.field, rowCount);
+            readColumn(info, decoder, vectors[i], info.dictionaryId >= 0);
+        }
+        return vectors;
+    }
+
+    private void readDictionaryBatch(@NotNull FlatBufferTable dictionaryBatch, @NotNull ByteBuffer body) throws IOException {
+        long id = dictionaryBatch.getLong(0, 0);
+        FlatBufferTable data = dictionaryBatch.getTable(1);
+        boolean delta = dictionaryBatch.getBool(2, false);
+        FieldInfo info = null;
+        for (FieldInfo fi : fieldInfos) {
+            if (fi.dictionaryId == id) {
+                info = fi;
+                break;
+            }
+        }
+        if (info == null || data == null) {
+            // Dictionary of unknown or nested field
+            return;
+        }
+        ColumnVector values = new ColumnVector(info.field, (int) data.getLong(ArrowConstants.BATCH_LENGTH, 0));
+        readColumn(info, new BatchDecoder(data, body), values, false);
+        ColumnVector existing = dictionaries.get(id);
+        if (delta && existing != null) {
+            for (int i = 0; i < values.getSize(); i++) {
+                existing.addFrom(values, i);
+            }
+        } else {
+            dictionaries.put(id, values);
+        }
+    }
+
+    private void readColumn(@NotNull FieldInfo info, @NotNull BatchDecoder decoder, @NotNull ColumnVector target, boolean dictionaryEncoded) throws IOException {
+        int length = decoder.nextNodeLength();
+        if (info.arrowType == ArrowConstants.TYPE_NULL) {
+            for (int i = 0; i < length; i++) {
+                target.addNull();
+            }
+            return;
+        }
+        boolean hasNulls = decoder.getLastNodeNullCount() > 0;
+        ByteBuffer validity = decoder.nextBuffer();
+        if (validity.limit() == 0) {
+            hasNulls = false;
+        }
+
+        if (dictionaryEncoded) {
+            ColumnVector dictionary = dictionaries.get(info.dictionaryId);
+            if (dictionary == null) {
+                throw new IOException("Dictionary " + info.dictionaryId + " of column '" + info.field.getName() + "' not found");
+            }
+            ByteBuffer indexes = decoder.nextBuffer();
+            for (int i = 0; i < length; i++) {
+                if (hasNulls && !getBit(validity, i)) {
+                    target.addNull();
+                    continue;
+                }
+                long index = switch (info.indexBitWidth) {
+                    case 8 -> info.indexSigned ? indexes.get(i) : indexes.get(i) & 0xFF;
+                    case 16 -> info.indexSigned ? indexes.getShort(2 * i) : indexes.getShort(2 * i) & 0xFFFF;
+                    case 64 -> indexes.getLong(8 * i);
+                    default -> info.indexSigned ? indexes.getInt(4 * i) : indexes.getInt(4 * i) & 0xFFFFFFFFL;
+                };
+                if (index < 0 || index >= dictionary.getSize()) {
+                    throw new IOException("Dictionary index " + index + " is out of range");
+                }
+                target.addFrom(dictionary, (int) index);
+            }
+            return;
+        }
+
+        ByteBuffer data = decoder.nextBuffer();
+        ByteBuffer offsets = null;
+        if (info.arrowType == ArrowConstants.TYPE_UTF8 || info.arrowType == ArrowConstants.TYPE_BINARY ||
+            info.arrowType == ArrowConstants.TYPE_LARGE_UTF8 || info.arrowType == ArrowConstants.TYPE_LARGE_BINARY)
+        {
+            offsets = data;
+            data = decoder.nextBuffer();
+        }
+        ColumnarType type = info.field.getType();
+        for (int i = 0; i < length; i++) {
+            if (hasNulls && !getBit(validity, i)) {
+                target.addNull();
+                continue;
+            }
+            switch (info.arrowType) {
+                case ArrowConstants.TYPE_BOOL -> target.addLong(getBit(data, i) ? 1 : 0);
+                case ArrowConstants.TYPE_INT -> {
+                    long value = switch (info.bitWidth) {
+                        case 8 -> info.signed ? data.get(i) : data.get(i) & 0xFF;
+                        case 16 -> info.signed ? data.getShort(2 * i) : data.getShort(2 * i) & 0xFFFF;
+                        case 32 -> info.signed ? data.getInt(4 * i) : data.getInt(4 * i) & 0xFFFFFFFFL;
+                        default -> data.getLong(8 * i);
+                    };
+                    if (type == ColumnarType.DECIMAL) {
+                        target.addObject(new BigInteger(Long.toUnsignedString(value)));
+                    } else {
+                        target.addLong(value);
+                    }
+                }
+                case ArrowConstants.TYPE_FLOATING_POINT -> target.addDouble(
+                    info.unit == ArrowConstants.PRECISION_SINGLE ? data.getFloat(4 * i) : data.getDouble(8 * i));
+                case ArrowConstants.TYPE_DECIMAL -> {
+                    // Little-endian two's complement to big-endian
+                    byte[] bytes = new byte[info.byteWidth];
+                    for (int k = 0; k < bytes.length; k++) {
+                        bytes[bytes.length - 1 - k] = data.get(info.byteWidth * i + k);
+                    }
+                    target.addObject(new BigInteger(bytes));
+                }
+                case ArrowConstants.TYPE_DATE -> target.addLong(info.unit == ArrowConstants.DATE_UNIT_DAY ?
+                    data.getInt(4 * i) :
+                    Math.floorDiv(data.getLong(8 * i), MILLIS_PER_DAY));
+                case ArrowConstants.TYPE_TIMESTAMP -> {
+                    long value = data.getLong(8 * i);
+                    target.addLong(switch (info.unit) {
+                        case ArrowConstants.TIME_UNIT_SECOND -> Math.multiplyExact(value, 1_000_000L);
+                        case ArrowConstants.TIME_UNIT_MILLISECOND -> Math.multiplyExact(value, 1000L);
+                        case ArrowConstants.TIME_UNIT_NANOSECOND -> Math.floorDiv(value, 1000L);
+                        default -> value;
+                    });
+                }
+                case ArrowConstants.TYPE_FIXED_SIZE_BINARY -> {
+                    byte[] bytes = new byte[info.byteWidth];
+                    data.get(info.byteWidth * i, bytes);
+                    target.addObject(bytes);
+                }
+                default -> {
+                    boolean large = info.arrowType == ArrowConstants.TYPE_LARGE_UTF8 || info.arrowType == ArrowConstants.TYPE_LARGE_BINARY;
+                    int start = large ? (int) offsets.getLong(8 * i) : offsets.getInt(4 * i);
+                    int end = large ? (int) offsets.getLong(8 * i + 8) : offsets.getInt(4 * i + 4);
+                    byte[] bytes = new byte[end - start];
+                    data.get(start, bytes);
+                    target.addObject(type == ColumnarType.STRING ? new String(bytes, StandardCharsets.UTF_8) : bytes);
+                }
+            }
+        }
+    }
+
+    private static boolean getBit(@NotNull ByteBuffer bitmap, int index) {
+        return ((bitmap.get(index >> 3) >> (index & 7)) & 1) != 0;
+    }
+
+    ////////////////////////////////////////////////////////////
+    // IO
+
+    @NotNull
+    private Message readMessageAt(long offset) throws IOException {
+        channel.position(offset);
+        Message message = readMessage(Channels.newInputStream(channel));
+        if (message == null) {
+            throw new IOException("Arrow message expected at offset " + offset);
+        }
+        return message;
+    }
+
+    /**
+     * Reads encapsulated message. Returns null at the end of stream.
+     */
+    @Nullable
+    private static Message readMessage(@NotNull InputStream in) throws IOException {
+        byte[] prefix = in.readNBytes(4);
+        if (prefix.length < 4) {
+            return null;
+        }
+        int metadataLength = getIntLE(prefix);
+        if (metadataLength == ArrowConstants.CONTINUATION_MARKER) {
+            prefix = in.readNBytes(4);
+            if (prefix.length < 4) {
+                return null;
+            }
+            metadataLength = getIntLE(prefix);
+        }
+        if (metadataLength == 0) {
+            return null;
+        }
+        if (metadataLength < 0) {
+            throw new IOException("Bad Arrow message length " + metadataLength);
+        }
+        FlatBufferTable message = FlatBufferTable.getRoot(ByteBuffer.wrap(readBytes(in, metadataLength)));
+        Message result = new Message();
+        result.headerType = message.getByte(ArrowConstants.MESSAGE_HEADER_TYPE, 0);
+        result.header = message.getTable(ArrowConstants.MESSAGE_HEADER);
+        if (result.header == null) {
+            throw new IOException("Arrow message without header");
+        }
+        long bodyLength = message.getLong(ArrowConstants.MESSAGE_BODY_LENGTH, 0);
+        if (bodyLength < 0 || bodyLength > Integer.MAX_VALUE) {
+            throw new IOException("Unsupported Arrow message body length " + bodyLength);
+        }
+        result.body = ByteBuffer.wrap(readBytes(in, (int) bodyLength)).order(ByteOrder.LITTLE_ENDIAN);
+        return result;
+    }
+
+    @NotNull
+    private static byte[] readBytes(@NotNull InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("Unexpected end of Arrow data");
+        }
+        return bytes;
+    }
+
+    private static int getIntLE(@NotNull byte[] bytes) {
+        return (bytes[0] & 0xFF) | (bytes[1] & 0xFF) << 8 | (bytes[2] & 0xFF) << 16 | (bytes[3] & 0xFF) << 24;
+    }
+
+    private void readFully(long position, @NotNull ByteBuffer buffer) throws IOException {
+        channel.position(position);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of Arrow file");
+            }
+        }
+    }
+}
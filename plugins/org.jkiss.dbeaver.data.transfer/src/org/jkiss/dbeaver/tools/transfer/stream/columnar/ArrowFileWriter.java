@@ -0,0 +1,289 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Apache Arrow IPC file format writer.
+ * <p>
+ * Each batch becomes a record batch. Buffers are written uncompressed and without dictionary encoding.
+ */
+public class ArrowFileWriter implements ColumnarWriter {
+
+    private static final int DECIMAL_BYTE_WIDTH = 16;
+
+    @NotNull
+    private final OutputStream out;
+    @NotNull
+    private final ColumnarField[] fields;
+    private long position;
+
+    private final ByteSink body = new ByteSink(64 * 1024);
+    private final ByteSink nodes = new ByteSink(256);
+    private final ByteSink buffers = new ByteSink(256);
+    private final ByteSink blocks = new ByteSink(256);
+    private int blockCount;
+
+    public ArrowFileWriter(@NotNull OutputStream out, @NotNull ColumnarField[] fields) throws IOException {
+        this.out = out;
+        this.fields = fields;
+        write(ArrowConstants.MAGIC, 0, ArrowConstants.MAGIC.length);
+        write(new byte[2], 0, 2);
+        writeMessage(ArrowConstants.HEADER_SCHEMA, createSchema(), null);
+    }
+
+    @Override
+    public void writeBatch(@NotNull ColumnVector[] batch) throws IOException {
+        int rowCount = batch.length == 0 ? 0 : batch[0].getSize();
+        if (rowCount == 0) {
+            return;
+        }
+        body.reset();
+        nodes.reset();
+        buffers.reset();
+        for (int i = 0; i < fields.length; i++) {
+            writeColumn(fields[i], batch[i]);
+        }
+        FlatBufferBuilder.Table recordBatch = new FlatBufferBuilder.Table()
+            .addLong(ArrowConstants.BATCH_LENGTH, rowCount)
+            .addOffset(ArrowConstants.BATCH_NODES, new FlatBufferBuilder.StructVector(fields.length, nodes.getBuffer(), nodes.size()))
+            .addOffset(ArrowConstants.BATCH_BUFFERS, new FlatBufferBuilder.StructVector(
+                buffers.size() / ArrowConstants.BUFFER_SIZE, buffers.getBuffer(), buffers.size()));
+
+        long blockOffset = position;
+        int metadataLength = writeMessage(ArrowConstants.HEADER_RECORD_BATCH, recordBatch, body);
+        blocks.writeLongLE(blockOffset);
+        blocks.writeIntLE(metadataLength);
+        blocks.writeIntLE(0);
+        blocks.writeLongLE(body.size());
+        blockCount++;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        // End-of-stream marker
+        byte[] eos = new byte[8];
+        writeIntLE(eos, 0, ArrowConstants.CONTINUATION_MARKER);
+        write(eos, 0, eos.length);
+
+        FlatBufferBuilder.Table footer = new FlatBufferBuilder.Table()
+            .addShort(ArrowConstants.FOOTER_VERSION, ArrowConstants.METADATA_VERSION_V5)
+            .addOffset(ArrowConstants.FOOTER_SCHEMA, createSchema())
+            .addOffset(ArrowConstants.FOOTER_DICTIONARIES, new FlatBufferBuilder.StructVector(0, new byte[0], 0))
+            .addOffset(ArrowConstants.FOOTER_RECORD_BATCHES, new FlatBufferBuilder.StructVector(blockCount, blocks.getBuffer(), blocks.size()));
+        byte[] footerBytes = FlatBufferBuilder.finish(footer);
+        write(footerBytes, 0, footerBytes.length);
+        byte[] footerLength = new byte[4];
+        writeIntLE(footerLength, 0, footerBytes.length);
+        write(footerLength, 0, 4);
+        write(ArrowConstants.MAGIC, 0, ArrowConstants.MAGIC.length);
+        out.flush();
+    }
+
+    @NotNull
+    private FlatBufferBuilder.Table createSchema() {
+        List<FlatBufferBuilder.Table> fieldTables = new ArrayList<>(fields.length);
+        for (ColumnarField field : fields) {
+            FlatBufferBuilder.Table type = new FlatBufferBuilder.Table();
+            int typeType;
+            switch (field.getType()) {
+                case BOOLEAN -> typeType = ArrowConstants.TYPE_BOOL;
+                case INT32, INT64 -> {
+                    typeType = ArrowConstants.TYPE_INT;
+                    type.addInt(0, field.getType() == ColumnarType.INT32 ? 32 : 64).addBool(1, true);
+                }
+                case FLOAT, DOUBLE -> {
+                    typeType = ArrowConstants.TYPE_FLOATING_POINT;
+                    type.addShort(0, field.getType() == ColumnarType.FLOAT ? ArrowConstants.PRECISION_SINGLE : ArrowConstants.PRECISION_DOUBLE);
+                }
+                case DECIMAL -> {
+                    typeType = ArrowConstants.TYPE_DECIMAL;
+                    type.addInt(0, field.getPrecision()).addInt(1, field.getScale()).addInt(2, DECIMAL_BYTE_WIDTH * 8);
+                }
+                case STRING -> typeType = ArrowConstants.TYPE_UTF8;
+                case BINARY -> typeType = ArrowConstants.TYPE_BINARY;
+                case DATE -> {
+                    typeType = ArrowConstants.TYPE_DATE;
+                    type.addShort(0, ArrowConstants.DATE_UNIT_DAY);
+                }
+                case TIMESTAMP, TIMESTAMP_TZ -> {
+                    typeType = ArrowConstants.TYPE_TIMESTAMP;
+                    type.addShort(0, ArrowConstants.TIME_UNIT_MICROSECOND);
+                    if (field.getType() == ColumnarType.TIMESTAMP_TZ) {
+                        type.addString(1, "UTC");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unsupported column type " + field.getType());
+            }
+            fieldTables.add(new FlatBufferBuilder.Table()
+                .addString(ArrowConstants.FIELD_NAME, field.getName())
+                .addBool(ArrowConstants.FIELD_NULLABLE, true)
+                .addByte(ArrowConstants.FIELD_TYPE_TYPE, typeType)
+                .addOffset(ArrowConstants.FIELD_TYPE, type)
+                .addOffset(ArrowConstants.FIELD_CHILDREN, new FlatBufferBuilder.TableVector(List.of())));
+        }
+        return new FlatBufferBuilder.Table()
+            .addOffset(ArrowConstants.SCHEMA_FIELDS, new FlatBufferBuilder.TableVector(fieldTables));
+    }
+
+    private void writeColumn(@NotNull ColumnarField field, @NotNull ColumnVector vector) {
+        int count = vector.getSize();
+        nodes.writeLongLE(count);
+        nodes.writeLongLE(vector.getNullCount());
+
+        // Validity bitmap is omitted if there are no nulls
+        int start = body.size();
+        if (vector.getNullCount() > 0) {
+            writeBitmap(count, i -> !vector.isNull(i));
+        }
+        addBuffer(start);
+
+        start = body.size();
+        switch (field.getType()) {
+            case BOOLEAN -> writeBitmap(count, i -> !vector.isNull(i) && vector.getLong(i) != 0);
+            case INT32, DATE -> {
+                for (int i = 0; i < count; i++) {
+                    body.writeIntLE(vector.isNull(i) ? 0 : (int) vector.getLong(i));
+                }
+            }
+            case INT64, TIMESTAMP, TIMESTAMP_TZ -> {
+                for (int i = 0; i < count; i++) {
+                    body.writeLongLE(vector.isNull(i) ? 0 : vector.getLong(i));
+                }
+            }
+            case FLOAT -> {
+                for (int i = 0; i < count; i++) {
+                    body.writeIntLE(vector.isNull(i) ? 0 : Float.floatToRawIntBits((float) vector.getDouble(i)));
+                }
+            }
+            case DOUBLE -> {
+                for (int i = 0; i < count; i++) {
+                    body.writeLongLE(vector.isNull(i) ? 0 : Double.doubleToRawLongBits(vector.getDouble(i)));
+                }
+            }
+            case DECIMAL -> {
+                for (int i = 0; i < count; i++) {
+                    if (vector.isNull(i)) {
+                        body.writeZeros(DECIMAL_BYTE_WIDTH);
+                        continue;
+                    }
+                    // Little-endian two's complement
+                    BigInteger unscaled = (BigInteger) vector.getObject(i);
+                    byte[] bytes = unscaled.toByteArray();
+                    for (int k = 0; k < DECIMAL_BYTE_WIDTH; k++) {
+                        int index = bytes.length - 1 - k;
+                        body.write(index >= 0 ? bytes[index] : (unscaled.signum() < 0 ? 0xFF : 0));
+                    }
+                }
+            }
+            case STRING, BINARY -> {
+                // Offsets buffer, then data buffer
+                int offset = 0;
+                body.writeIntLE(0);
+                List<byte[]> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    byte[] bytes = null;
+                    if (!vector.isNull(i)) {
+                        Object value = vector.getObject(i);
+                        bytes = value instanceof String str ? str.getBytes(StandardCharsets.UTF_8) : (byte[]) value;
+                        offset += bytes.length;
+                    }
+                    values.add(bytes);
+                    body.writeIntLE(offset);
+                }
+                addBuffer(start);
+                start = body.size();
+                for (byte[] bytes : values) {
+                    if (bytes != null) {
+                        body.write(bytes, 0, bytes.length);
+                    }
+                }
+            }
+        }
+        addBuffer(start);
+    }
+
+    private interface BitSource {
+        boolean get(int index);
+    }
+
+    private void writeBitmap(int count, @NotNull BitSource source) {
+        int current = 0;
+        for (int i = 0; i < count; i++) {
+            if (source.get(i)) {
+                current |= 1 << (i & 7);
+            }
+            if ((i & 7) == 7) {
+                body.write(current);
+                current = 0;
+            }
+        }
+        if ((count & 7) != 0) {
+            body.write(current);
+        }
+    }
+
+    /**
+     * Registers buffer which starts at the specified body position and pads body to 8 bytes
+     */
+    private void addBuffer(int start) {
+        buffers.writeLongLE(start);
+        buffers.writeLongLE(body.size() - start);
+        body.align(8);
+    }
+
+    /**
+     * Writes encapsulated message and returns its metadata length (including prefix and padding)
+     */
+    private int writeMessage(int headerType, @NotNull FlatBufferBuilder.Table header, ByteSink messageBody) throws IOException {
+        FlatBufferBuilder.Table message = new FlatBufferBuilder.Table()
+            .addShort(ArrowConstants.MESSAGE_VERSION, ArrowConstants.METADATA_VERSION_V5)
+            .addByte(ArrowConstants.MESSAGE_HEADER_TYPE, headerType)
+            .addOffset(ArrowConstants.MESSAGE_HEADER, header)
+            .addLong(ArrowConstants.MESSAGE_BODY_LENGTH, messageBody == null ? 0 : messageBody.size());
+        // Flatbuffer is already padded to 8 bytes
+        byte[] metadata = FlatBufferBuilder.finish(message);
+        byte[] prefix = new byte[8];
+        writeIntLE(prefix, 0, ArrowConstants.CONTINUATION_MARKER);
+        writeIntLE(prefix, 4, metadata.length);
+        write(prefix, 0, prefix.length);
+        write(metadata, 0, metadata.length);
+        if (messageBody != null) {
+            write(messageBody.getBuffer(), 0, messageBody.size());
+        }
+        return prefix.length + metadata.length;
+    }
+
+    private static void writeIntLE(@NotNull byte[] buffer, int offset, int value) {
+        for (int i = 0; i < 4; i++) {
+            buffer[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private void write(byte[] data, int offset, int length) throws IOException {
+        out.write(data, offset, length);
+        position += length;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Growable little-endian byte buffer
+ */
+class ByteSink extends ByteArrayOutputStream {
+
+    ByteSink(int initialSize) {
+        super(initialSize);
+    }
+
+    /**
+     * Returns internal buffer, its valid length is {@link #size()}
+     */
+    @NotNull
+    byte[] getBuffer() {
+        return buf;
+    }
+
+    void writeShortLE(int value) {
+        write(value);
+        write(value >>> 8);
+    }
+
+    void writeIntLE(int value) {
+        write(value);
+        write(value >>> 8);
+        write(value >>> 16);
+        write(value >>> 24);
+    }
+
+    void writeLongLE(long value) {
+        writeIntLE((int) value);
+        writeIntLE((int) (value >>> 32));
+    }
+
+    void writeZeros(int count) {
+        for (int i = 0; i < count; i++) {
+            write(0);
+        }
+    }
+
+    /**
+     * Pads buffer with zeros to the specified alignment
+     */
+    void align(int alignment) {
+        int remainder = count % alignment;
+        if (remainder != 0) {
+            writeZeros(alignment - remainder);
+        }
+    }
+
+    void putIntLE(int position, int value) {
+        buf[position] = (byte) value;
+        buf[position + 1] = (byte) (value >>> 8);
+        buf[position + 2] = (byte) (value >>> 16);
+        buf[position + 3] = (byte) (value >>> 24);
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.*;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Batch of values of a single column.
+ * Values are kept in primitive arrays (see {@link ColumnarType} for the representation of each type),
+ * so writers can encode the whole column at once.
+ */
+public class ColumnVector {
+
+    private static final int MIN_CAPACITY = 16;
+
+    @NotNull
+    private final ColumnarField field;
+    @NotNull
+    private final ColumnarType type;
+    private int size;
+    private int nullCount;
+    private boolean[] nulls;
+    private long[] longValues;
+    private double[] doubleValues;
+    private Object[] objectValues;
+
+    public ColumnVector(@NotNull ColumnarField field, int capacity) {
+        this.field = field;
+        this.type = field.getType();
+        capacity = Math.max(capacity, MIN_CAPACITY);
+        this.nulls = new boolean[capacity];
+        if (type.isObjectType()) {
+            objectValues = new Object[capacity];
+        } else if (type.isFloatingType()) {
+            doubleValues = new double[capacity];
+        } else {
+            longValues = new long[capacity];
+        }
+    }
+
+    @NotNull
+    public ColumnarField getField() {
+        return field;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getNullCount() {
+        return nullCount;
+    }
+
+    public boolean isNull(int index) {
+        return nulls[index];
+    }
+
+    public long getLong(int index) {
+        return longValues[index];
+    }
+
+    public double getDouble(int index) {
+        return doubleValues[index];
+    }
+
+    /**
+     * Returns raw object value: unscaled BigInteger for decimals, String or byte[]
+     */
+    public Object getObject(int index) {
+        return objectValues[index];
+    }
+
+    public void reset() {
+        if (objectValues != null) {
+            Arrays.fill(objectValues, 0, size, null);
+        }
+        size = 0;
+        nullCount = 0;
+    }
+
+    public void addNull() {
+        ensureCapacity();
+        nulls[size] = true;
+        if (objectValues != null) {
+            objectValues[size] = null;
+        }
+        nullCount++;
+        size++;
+    }
+
+    public void addLong(long value) {
+        ensureCapacity();
+        nulls[size] = false;
+        longValues[size++] = value;
+    }
+
+    public void addDouble(double value) {
+        ensureCapacity();
+        nulls[size] = false;
+        doubleValues[size++] = value;
+    }
+
+    public void addObject(@NotNull Object value) {
+        ensureCapacity();
+        nulls[size] = false;
+        objectValues[size++] = value;
+    }
+
+    /**
+     * Copies value from another vector of the same type (used for dictionary decoding)
+     */
+    public void addFrom(@NotNull ColumnVector source, int index) {
+        if (source.nulls[index]) {
+            addNull();
+        } else if (objectValues != null) {
+            addObject(source.objectValues[index]);
+        } else if (doubleValues != null) {
+            addDouble(source.doubleValues[index]);
+        } else {
+            addLong(source.longValues[index]);
+        }
+    }
+
+    /**
+     * Converts value to the column type representation and adds it to the vector
+     */
+    public void add(@Nullable Object value) throws IOException {
+        if (value == null) {
+            addNull();
+            return;
+        }
+        try {
+            switch (type) {
+                case BOOLEAN -> addLong(toBoolean(value) ? 1 : 0);
+                case INT32 -> {
+                    long longValue = toLong(value);
+                    if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+                        throw new IOException("Value " + value + " is out of 32-bit integer range");
+                    }
+                    addLong(longValue);
+                }
+                case INT64 -> addLong(toLong(value));
+                case FLOAT, DOUBLE -> addDouble(value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString().trim()));
+                case DECIMAL -> addObject(toUnscaledDecimal(value));
+                case STRING -> addObject(value.toString());
+                case BINARY -> addObject(value instanceof byte[] bytes ? bytes : value.toString().getBytes(StandardCharsets.UTF_8));
+                case DATE -> addLong(toLocalDate(value).toEpochDay());
+                case TIMESTAMP -> addLong(localDateTimeToMicros(toLocalDateTime(value)));
+                case TIMESTAMP_TZ -> addLong(instantToMicros(toInstant(value)));
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Can't convert value '" + value + "' (" + value.getClass().getName() + ") to " + field, e);
+        }
+    }
+
+    /**
+     * Returns value as a Java object. Dates and timestamps are returned as java.sql types.
+     */
+    @Nullable
+    public Object getValue(int index) {
+        if (nulls[index]) {
+            return null;
+        }
+        return switch (type) {
+            case BOOLEAN -> longValues[index] != 0;
+            case INT32 -> (int) longValues[index];
+            case INT64 -> longValues[index];
+            case FLOAT -> (float) doubleValues[index];
+            case DOUBLE -> doubleValues[index];
+            case DECIMAL -> new BigDecimal((BigInteger) objectValues[index], field.getScale());
+            case STRING, BINARY -> objectValues[index];
+            case DATE -> java.sql.Date.valueOf(LocalDate.ofEpochDay(longValues[index]));
+            case TIMESTAMP -> Timestamp.valueOf(microsToLocalDateTime(longValues[index]));
+            case TIMESTAMP_TZ -> Timestamp.from(microsToInstant(longValues[index]));
+        };
+    }
+
+    private void ensureCapacity() {
+        if (size < nulls.length) {
+            return;
+        }
+        int newCapacity = nulls.length * 2;
+        nulls = Arrays.copyOf(nulls, newCapacity);
+        if (objectValues != null) {
+            objectValues = Arrays.copyOf(objectValues, newCapacity);
+        } else if (doubleValues != null) {
+            doubleValues = Arrays.copyOf(doubleValues, newCapacity);
+        } else {
+            longValues = Arrays.copyOf(longValues, newCapacity);
+        }
+    }
+
+    @NotNull
+    private BigInteger toUnscaledDecimal(@NotNull Object value) throws IOException {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal bd) {
+            decimal = bd;
+        } else if (value instanceof BigInteger bi) {
+            decimal = new BigDecimal(bi);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            decimal = BigDecimal.valueOf(((Number) value).longValue());
+        } else {
+            decimal = new BigDecimal(value.toString().trim());
+        }
+        BigInteger unscaled = decimal.setScale(field.getScale(), RoundingMode.HALF_UP).unscaledValue();
+        if (field.getPrecision() > 0 && unscaled.abs().toString().length() > field.getPrecision()) {
+            throw new IOException("Value " + value + " doesn't fit " + field);
+        }
+        return unscaled;
+    }
+
+    private static boolean toBoolean(@NotNull Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        } else if (value instanceof Number number) {
+            return number.longValue() != 0;
+        }
+        String strValue = value.toString().trim();
+        return strValue.equalsIgnoreCase("true") || strValue.equals("1") || strValue.equalsIgnoreCase("t") ||
+            strValue.equalsIgnoreCase("y") || strValue.equalsIgnoreCase("yes");
+    }
+
+    private static long toLong(@NotNull Object value) {
+        if (value instanceof Boolean bool) {
+            return bool ? 1 : 0;
+        } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return new BigDecimal(value.toString()).longValueExact();
+        } else if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString().trim());
+    }
+
+    @NotNull
+    private static LocalDate toLocalDate(@NotNull Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        } else if (value instanceof Date || value instanceof Instant) {
+            return toLocalDateTime(value).toLocalDate();
+        } else if (value instanceof TemporalAccessor ta) {
+            return LocalDate.from(ta);
+        }
+        return LocalDate.parse(value.toString().trim());
+    }
+
+    @NotNull
+    private static LocalDateTime toLocalDateTime(@NotNull Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        } else if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().atStartOfDay();
+        } else if (value instanceof Date date) {
+            return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        } else if (value instanceof Instant instant) {
+            return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        } else if (value instanceof LocalDate date) {
+            return date.atStartOfDay();
+        } else if (value instanceof TemporalAccessor ta) {
+            return LocalDateTime.from(ta);
+        }
+        return Timestamp.valueOf(value.toString().trim()).toLocalDateTime();
+    }
+
+    @NotNull
+    private static Instant toInstant(@NotNull Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        } else if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().atStartOfDay(ZoneId.systemDefault()).toInstant();
+        } else if (value instanceof Date date) {
+            return date.toInstant();
+        } else if (value instanceof Instant instant) {
+            return instant;
+        } else if (value instanceof OffsetDateTime odt) {
+            return odt.toInstant();
+        } else if (value instanceof ZonedDateTime zdt) {
+            return zdt.toInstant();
+        } else if (value instanceof LocalDateTime || value instanceof LocalDate) {
+            return toLocalDateTime(value).atZone(ZoneId.systemDefault()).toInstant();
+        }
+        String strValue = value.toString().trim();
+        try {
+            return OffsetDateTime.parse(strValue).toInstant();
+        } catch (Exception e) {
+            return Timestamp.valueOf(strValue).toInstant();
+        }
+    }
+
+    public static long localDateTimeToMicros(@NotNull LocalDateTime dateTime) {
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000L), dateTime.getNano() / 1000);
+    }
+
+    public static long instantToMicros(@NotNull Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000);
+    }
+
+    @NotNull
+    public static LocalDateTime microsToLocalDateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    @NotNull
+    public static Instant microsToInstant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+/**
+ * Column of columnar file.
+ * Precision and scale are meaningful for {@link ColumnarType#DECIMAL} columns only.
+ */
+public class ColumnarField {
+
+    /**
+     * Max decimal precision supported by both Parquet and Arrow decimals
+     */
+    public static final int MAX_DECIMAL_PRECISION = 38;
+
+    @NotNull
+    private final String name;
+    @NotNull
+    private final ColumnarType type;
+    private final int precision;
+    private final int scale;
+
+    public ColumnarField(@NotNull String name, @NotNull ColumnarType type) {
+        this(name, type, 0, 0);
+    }
+
+    public ColumnarField(@NotNull String name, @NotNull ColumnarType type, int precision, int scale) {
+        this.name = name;
+        this.type = type;
+        this.precision = precision;
+        this.scale = scale;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public ColumnarType getType() {
+        return type;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + type + (type == ColumnarType.DECIMAL ? "(" + precision + "," + scale + ")" : "");
+    }
+}
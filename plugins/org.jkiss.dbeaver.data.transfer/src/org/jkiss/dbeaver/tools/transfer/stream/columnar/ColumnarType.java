@@ -0,0 +1,54 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+/**
+ * Logical column type of columnar formats.
+ * Each type has a single in-memory representation in {@link ColumnVector}.
+ */
+public enum ColumnarType {
+    /** Stored as long 0/1 */
+    BOOLEAN,
+    /** Stored as long */
+    INT32,
+    /** Stored as long */
+    INT64,
+    /** Stored as double */
+    FLOAT,
+    /** Stored as double */
+    DOUBLE,
+    /** Stored as unscaled BigInteger, scale is defined by the field */
+    DECIMAL,
+    /** Stored as String */
+    STRING,
+    /** Stored as byte[] */
+    BINARY,
+    /** Stored as long, days since epoch */
+    DATE,
+    /** Stored as long, microseconds since epoch of local date time */
+    TIMESTAMP,
+    /** Stored as long, microseconds since epoch in UTC */
+    TIMESTAMP_TZ;
+
+    public boolean isObjectType() {
+        return this == DECIMAL || this == STRING || this == BINARY;
+    }
+
+    public boolean isFloatingType() {
+        return this == FLOAT || this == DOUBLE;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Minimal FlatBuffers serializer used for Arrow IPC metadata.
+ * <p>
+ * Objects are described as a tree and written front-to-back: each table is preceded by its vtable
+ * and followed by the objects it references, so all offsets point forward as the format requires.
+ */
+class FlatBufferBuilder {
+
+    private FlatBufferBuilder() {
+    }
+
+    /**
+     * Serializes the object tree and returns buffer padded to 8 bytes
+     */
+    @NotNull
+    static byte[] finish(@NotNull Table root) {
+        ByteSink out = new ByteSink(256);
+        out.writeZeros(4);
+        int rootPosition = root.write(out);
+        out.putIntLE(0, rootPosition);
+        out.align(8);
+        return out.toByteArray();
+    }
+
+    abstract static class Node {
+        /**
+         * Writes the object and returns its position (the position offsets must point to)
+         */
+        abstract int write(@NotNull ByteSink out);
+    }
+
+    static class Table extends Node {
+
+        private static class Field {
+            final int slot;
+            final int size;
+            final long value;
+            final Node child;
+            int position;
+
+            Field(int slot, int size, long value, Node child) {
+                this.slot = slot;
+                this.size = size;
+                this.value = value;
+                this.child = child;
+            }
+        }
+
+        private final List<Field> fields = new ArrayList<>();
+
+        @NotNull
+        Table addByte(int slot, int value) {
+            fields.add(new Field(slot, 1, value, null));
+            return this;
+        }
+
+        @NotNull
+        Table addBool(int slot, boolean value) {
+            return addByte(slot, value ? 1 : 0);
+        }
+
+        @NotNull
+        Table addShort(int slot, int value) {
+            fields.add(new Field(slot, 2, value, null));
+            return this;
+        }
+
+        @NotNull
+        Table addInt(int slot, int value) {
+            fields.add(new Field(slot, 4, value, null));
+            return this;
+        }
+
+        @NotNull
+        Table addLong(int slot, long value) {
+            fields.add(new Field(slot, 8, value, null));
+            return this;
+        }
+
+        @NotNull
+        Table addOffset(int slot, @NotNull Node child) {
+            fields.add(new Field(slot, 4, 0, child));
+            return this;
+        }
+
+        @NotNull
+        Table addString(int slot, @NotNull String value) {
+            return addOffset(slot, new StringNode(value));
+        }
+
+        @Override
+        int write(@NotNull ByteSink out) {
+            // Layout inline fields: bigger first, each aligned to its size
+            List<Field> layout = new ArrayList<>(fields);
+            layout.sort(Comparator.comparingInt((Field f) -> f.size).reversed());
+            int tableSize = 4;
+            int slotCount = 0;
+            for (Field field : layout) {
+                tableSize = (tableSize + field.size - 1) / field.size * field.size;
+                field.position = tableSize;
+                tableSize += field.size;
+                slotCount = Math.max(slotCount, field.slot + 1);
+            }
+
+            out.align(2);
+            int vtablePosition = out.size();
+            int vtableSize = 4 + 2 * slotCount;
+            out.writeShortLE(vtableSize);
+            out.writeShortLE(tableSize);
+            for (int slot = 0; slot < slotCount; slot++) {
+                int fieldPosition = 0;
+                for (Field field : layout) {
+                    if (field.slot == slot) {
+                        fieldPosition = field.position;
+                    }
+                }
+                out.writeShortLE(fieldPosition);
+            }
+
+            out.align(8);
+            int tablePosition = out.size();
+            ByteBuffer table = ByteBuffer.allocate(tableSize).order(ByteOrder.LITTLE_ENDIAN);
+            table.putInt(0, tablePosition - vtablePosition);
+            for (Field field : layout) {
+                switch (field.size) {
+                    case 1 -> table.put(field.position, (byte) field.value);
+                    case 2 -> table.putShort(field.position, (short) field.value);
+                    case 4 -> table.putInt(field.position, (int) field.value);
+                    default -> table.putLong(field.position, field.value);
+                }
+            }
+            out.write(table.array(), 0, tableSize);
+
+            for (Field field : layout) {
+                if (field.child != null) {
+                    int offsetPosition = tablePosition + field.position;
+                    int childPosition = field.child.write(out);
+                    out.putIntLE(offsetPosition, childPosition - offsetPosition);
+                }
+            }
+            return tablePosition;
+        }
+    }
+
+    static class TableVector extends Node {
+        private final List<Table> tables;
+
+        TableVector(@NotNull List<Table> tables) {
+            this.tables = tables;
+        }
+
+        @Override
+        int write(@NotNull ByteSink out) {
+            out.align(4);
+            int position = out.size();
+            out.writeIntLE(tables.size());
+            out.writeZeros(4 * tables.size());
+            for (int i = 0; i < tables.size(); i++) {
+                int offsetPosition = position + 4 + 4 * i;
+                int tablePosition = tables.get(i).write(out);
+                out.putIntLE(offsetPosition, tablePosition - offsetPosition);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Vector of 8-byte aligned structs, given as raw little-endian bytes
+     */
+    static class StructVector extends Node {
+        private final int count;
+        private final byte[] data;
+        private final int length;
+
+        StructVector(int count, @NotNull byte[] data, int length) {
+            this.count = count;
+            this.data = data;
+            this.length = length;
+        }
+
+        @Override
+        int write(@NotNull ByteSink out) {
+            // Elements follow the length and must be 8-byte aligned
+            while (out.size() % 8 != 4) {
+                out.write(0);
+            }
+            int position = out.size();
+            out.writeIntLE(count);
+            out.write(data, 0, length);
+            return position;
+        }
+    }
+
+    static class StringNode extends Node {
+        private final byte[] bytes;
+
+        StringNode(@NotNull String value) {
+            this.bytes = value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        int write(@NotNull ByteSink out) {
+            out.align(4);
+            int position = out.size();
+            out.writeIntLE(bytes.length);
+            out.write(bytes, 0, bytes.length);
+            out.write(0);
+            return position;
+        }
+    }
+}
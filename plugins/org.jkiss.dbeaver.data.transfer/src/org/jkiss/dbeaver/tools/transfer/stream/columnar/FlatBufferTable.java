@@ -0,0 +1,134 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * FlatBuffers table accessor used for Arrow IPC metadata reading
+ */
+class FlatBufferTable {
+
+    @NotNull
+    private final ByteBuffer buffer;
+    private final int position;
+
+    private FlatBufferTable(@NotNull ByteBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    @NotNull
+    static FlatBufferTable getRoot(@NotNull ByteBuffer buffer) {
+        ByteBuffer data = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        return new FlatBufferTable(data, data.getInt(0));
+    }
+
+    boolean hasField(int slot) {
+        return getFieldOffset(slot) != 0;
+    }
+
+    int getByte(int slot, int defaultValue) {
+        int offset = getFieldOffset(slot);
+        return offset == 0 ? defaultValue : buffer.get(position + offset) & 0xFF;
+    }
+
+    boolean getBool(int slot, boolean defaultValue) {
+        int offset = getFieldOffset(slot);
+        return offset == 0 ? defaultValue : buffer.get(position + offset) != 0;
+    }
+
+    int getShort(int slot, int defaultValue) {
+        int offset = getFieldOffset(slot);
+        return offset == 0 ? defaultValue : buffer.getShort(position + offset);
+    }
+
+    int getInt(int slot, int defaultValue) {
+        int offset = getFieldOffset(slot);
+        return offset == 0 ? defaultValue : buffer.getInt(position + offset);
+    }
+
+    long getLong(int slot, long defaultValue) {
+        int offset = getFieldOffset(slot);
+        return offset == 0 ? defaultValue : buffer.getLong(position + offset);
+    }
+
+    @Nullable
+    FlatBufferTable getTable(int slot) {
+        int offset = getFieldOffset(slot);
+        return offset == 0 ? null : new FlatBufferTable(buffer, indirect(position + offset));
+    }
+
+    @Nullable
+    String getString(int slot) {
+        int offset = getFieldOffset(slot);
+        if (offset == 0) {
+            return null;
+        }
+        int stringPosition = indirect(position + offset);
+        int length = buffer.getInt(stringPosition);
+        byte[] bytes = new byte[length];
+        buffer.get(stringPosition + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    int getVectorLength(int slot) {
+        int offset = getFieldOffset(slot);
+        return offset == 0 ? 0 : buffer.getInt(indirect(position + offset));
+    }
+
+    @NotNull
+    FlatBufferTable getVectorTable(int slot, int index) {
+        int elementPosition = getVectorStart(slot) + 4 * index;
+        return new FlatBufferTable(buffer, indirect(elementPosition));
+    }
+
+    /**
+     * Returns long value of vector of structs element
+     */
+    long getVectorStructLong(int slot, int index, int structSize, int fieldOffset) {
+        return buffer.getLong(getVectorStart(slot) + structSize * index + fieldOffset);
+    }
+
+    int getVectorStructInt(int slot, int index, int structSize, int fieldOffset) {
+        return buffer.getInt(getVectorStart(slot) + structSize * index + fieldOffset);
+    }
+
+    private int getVectorStart(int slot) {
+        int offset = getFieldOffset(slot);
+        if (offset == 0) {
+            throw new IndexOutOfBoundsException("Vector field " + slot + " is absent");
+        }
+        return indirect(position + offset) + 4;
+    }
+
+    private int indirect(int offsetPosition) {
+        return offsetPosition + buffer.getInt(offsetPosition);
+    }
+
+    private int getFieldOffset(int slot) {
+        int vtable = position - buffer.getInt(position);
+        int vtableSize = buffer.getShort(vtable) & 0xFFFF;
+        int entry = 4 + 2 * slot;
+        return entry < vtableSize ? buffer.getShort(vtable + entry) & 0xFFFF : 0;
+    }
+}
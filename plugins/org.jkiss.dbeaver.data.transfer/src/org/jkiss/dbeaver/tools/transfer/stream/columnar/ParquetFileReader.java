@@ -0,0 +1,646 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Apache Parquet file reader.
+ * <p>
+ * Supports flat schemas only. Reads one row group per batch. Supports PLAIN and dictionary encodings,
+ * data pages v1 and v2 and Snappy/GZIP compression.
+ */
+public class ParquetFileReader implements ColumnarReader {
+
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+
+    @NotNull
+    private final SeekableByteChannel channel;
+    @NotNull
+    private final List<ColumnarField> fields = new ArrayList<>();
+    @NotNull
+    private final List<ColumnInfo> columns = new ArrayList<>();
+    @NotNull
+    private final List<RowGroupInfo> rowGroups = new ArrayList<>();
+    private long rowCount;
+    private int currentRowGroup;
+    private int[] levels = new int[0];
+    private int[] indexes = new int[0];
+
+    private static class ColumnInfo {
+        ColumnarField field;
+        int physicalType;
+        int typeLength;
+        int maxDefinitionLevel;
+        // Multiplier (positive) or divisor (negative) which converts stored timestamps to micros
+        long timeUnitFactor = 1;
+        boolean unsigned;
+        ColumnVector scratch;
+    }
+
+    private static class ColumnChunkInfo {
+        int codec;
+        long valueCount;
+        long startOffset;
+        long compressedSize;
+    }
+
+    private static class RowGroupInfo {
+        long rowCount;
+        final List<ColumnChunkInfo> columns = new ArrayList<>();
+    }
+
+    public ParquetFileReader(@NotNull SeekableByteChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        if (fileSize < 12) {
+            throw new IOException("File is too small to be a Parquet file");
+        }
+        ByteBuffer tail = readFully(fileSize - 8, 8);
+        int footerLength = tail.getInt();
+        byte[] magic = new byte[4];
+        tail.get(magic);
+        if (!Arrays.equals(magic, ParquetConstants.MAGIC)) {
+            throw new IOException("Not a Parquet file (bad magic)");
+        }
+        if (footerLength <= 0 || footerLength > fileSize - 12) {
+            throw new IOException("Bad Parquet footer length " + footerLength);
+        }
+        try {
+            readFileMetaData(new ThriftCompactReader(readFully(fileSize - 8 - footerLength, footerLength)));
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted Parquet file metadata", e);
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<ColumnarField> getFields() {
+        return fields;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Nullable
+    @Override
+    public ColumnVector[] readBatch() throws IOException {
+        while (currentRowGroup < rowGroups.size()) {
+            RowGroupInfo rowGroup = rowGroups.get(currentRowGroup++);
+            if (rowGroup.rowCount == 0) {
+                continue;
+            }
+            if (rowGroup.columns.size() != columns.size()) {
+                throw new IOException("Row group has " + rowGroup.columns.size() + " columns while schema has " + columns.size());
+            }
+            ColumnVector[] batch = new ColumnVector[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                ColumnInfo column = columns.get(i);
+                batch[i] = new ColumnVector(column.field, (int) rowGroup.rowCount);
+                try {
+                    readColumnChunk(column, rowGroup.columns.get(i), batch[i]);
+                } catch (RuntimeException e) {
+                    throw new IOException("Error reading Parquet column '" + column.field.getName() + "'", e);
+                }
+            }
+            return batch;
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    ////////////////////////////////////////////////////////////
+    // Metadata
+
+    private void readFileMetaData(@NotNull ThriftCompactReader reader) throws IOException {
+        reader.structBegin();
+        while (reader.nextField()) {
+            switch (reader.getFieldId()) {
+                case 2 -> {
+                    int count = reader.readListHeader();
+                    for (int i = 0; i < count; i++) {
+                        readSchemaElement(reader, i == 0);
+                    }
+                }
+                case 3 -> rowCount = reader.readI64();
+                case 4 -> {
+                    int count = reader.readListHeader();
+                    for (int i = 0; i < count; i++) {
+                        rowGroups.add(readRowGroup(reader));
+                    }
+                }
+                default -> reader.skipField();
+            }
+        }
+        reader.structEnd();
+    }
+
+    private void readSchemaElement(@NotNull ThriftCompactReader reader, boolean root) throws IOException {
+        int physicalType = -1;
+        int typeLength = 0;
+        int repetition = ParquetConstants.REPETITION_REQUIRED;
+        String name = null;
+        int childCount = 0;
+        int convertedType = -1;
+        int scale = 0;
+        int precision = 0;
+        int logicalType = -1;
+        boolean adjustedToUTC = true;
+        int timeUnit = ParquetConstants.TIME_UNIT_MICROS;
+        boolean signed = true;
+
+        reader.structBegin();
+        while (reader.nextField()) {
+            switch (reader.getFieldId()) {
+                case 1 -> physicalType = reader.readI32();
+                case 2 -> typeLength = reader.readI32();
+                case 3 -> repetition = reader.readI32();
+                case 4 -> name = reader.readString();
+                case 5 -> childCount = reader.readI32();
+                case 6 -> convertedType = reader.readI32();
+                case 7 -> scale = reader.readI32();
+                case 8 -> precision = reader.readI32();
+                case 10 -> {
+                    // LogicalType union
+                    reader.structBegin();
+                    while (reader.nextField()) {
+                        logicalType = reader.getFieldId();
+                        if (logicalType == ParquetConstants.LOGICAL_DECIMAL ||
+                            logicalType == ParquetConstants.LOGICAL_TIMESTAMP ||
+                            logicalType == ParquetConstants.LOGICAL_INTEGER)
+                        {
+                            reader.structBegin();
+                            while (reader.nextField()) {
+                                int fieldId = reader.getFieldId();
+                                if (logicalType == ParquetConstants.LOGICAL_DECIMAL && fieldId == 1) {
+                                    scale = reader.readI32();
+                                } else if (logicalType == ParquetConstants.LOGICAL_DECIMAL && fieldId == 2) {
+                                    precision = reader.readI32();
+                                } else if (logicalType == ParquetConstants.LOGICAL_TIMESTAMP && fieldId == 1) {
+                                    adjustedToUTC = reader.readBoolField();
+                                } else if (logicalType == ParquetConstants.LOGICAL_TIMESTAMP && fieldId == 2) {
+                                    reader.structBegin();
+                                    while (reader.nextField()) {
+                                        timeUnit = reader.getFieldId();
+                                        reader.skipField();
+                                    }
+                                    reader.structEnd();
+                                } else if (logicalType == ParquetConstants.LOGICAL_INTEGER && fieldId == 2) {
+                                    signed = reader.readBoolField();
+                                } else {
+                                    reader.skipField();
+                                }
+                            }
+                            reader.structEnd();
+                        } else {
+                            reader.skipField();
+                        }
+                    }
+                    reader.structEnd();
+                }
+                default -> reader.skipField();
+            }
+        }
+        reader.structEnd();
+
+        if (root) {
+            return;
+        }
+        if (childCount > 0) {
+            throw new IOException("Nested Parquet column '" + name + "' is not supported");
+        }
+        if (repetition == ParquetConstants.REPETITION_REPEATED) {
+            throw new IOException("Repeated Parquet column '" + name + "' is not supported");
+        }
+        if (name == null) {
+            name = "column" + (columns.size() + 1);
+        }
+
+        ColumnInfo column = new ColumnInfo();
+        column.physicalType = physicalType;
+        column.typeLength = typeLength;
+        column.maxDefinitionLevel = repetition == ParquetConstants.REPETITION_OPTIONAL ? 1 : 0;
+        boolean decimal = logicalType == ParquetConstants.LOGICAL_DECIMAL || convertedType == ParquetConstants.CONVERTED_DECIMAL;
+        column.unsigned = !signed ||
+            convertedType == ParquetConstants.CONVERTED_UINT_32 || convertedType == ParquetConstants.CONVERTED_UINT_64;
+
+        ColumnarType type;
+        switch (physicalType) {
+            case ParquetConstants.TYPE_BOOLEAN -> type = ColumnarType.BOOLEAN;
+            case ParquetConstants.TYPE_INT32 -> {
+                if (decimal) {
+                    type = ColumnarType.DECIMAL;
+                } else if (logicalType == ParquetConstants.LOGICAL_DATE || convertedType == ParquetConstants.CONVERTED_DATE) {
+                    type = ColumnarType.DATE;
+                } else {
+                    type = column.unsigned ? ColumnarType.INT64 : ColumnarType.INT32;
+                }
+            }
+            case ParquetConstants.TYPE_INT64 -> {
+                if (decimal) {
+                    type = ColumnarType.DECIMAL;
+                } else if (logicalType == ParquetConstants.LOGICAL_TIMESTAMP) {
+                    type = adjustedToUTC ? ColumnarType.TIMESTAMP_TZ : ColumnarType.TIMESTAMP;
+                    column.timeUnitFactor = switch (timeUnit) {
+                        case ParquetConstants.TIME_UNIT_MILLIS -> 1000;
+                        case ParquetConstants.TIME_UNIT_NANOS -> -1000;
+                        default -> 1;
+                    };
+                } else if (convertedType == ParquetConstants.CONVERTED_TIMESTAMP_MILLIS ||
+                    convertedType == ParquetConstants.CONVERTED_TIMESTAMP_MICROS)
+                {
+                    type = ColumnarType.TIMESTAMP_TZ;
+                    column.timeUnitFactor = convertedType == ParquetConstants.CONVERTED_TIMESTAMP_MILLIS ? 1000 : 1;
+                } else if (column.unsigned) {
+                    type = ColumnarType.DECIMAL;
+                    precision = 20;
+                    scale = 0;
+                } else {
+                    type = ColumnarType.INT64;
+                }
+            }
+            case ParquetConstants.TYPE_INT96 -> type = ColumnarType.TIMESTAMP_TZ;
+            case ParquetConstants.TYPE_FLOAT -> type = ColumnarType.FLOAT;
+            case ParquetConstants.TYPE_DOUBLE -> type = ColumnarType.DOUBLE;
+            case ParquetConstants.TYPE_BYTE_ARRAY, ParquetConstants.TYPE_FIXED_LEN_BYTE_ARRAY -> {
+                if (decimal) {
+                    type = ColumnarType.DECIMAL;
+                } else if (physicalType == ParquetConstants.TYPE_BYTE_ARRAY && (
+                    logicalType == ParquetConstants.LOGICAL_STRING || logicalType == ParquetConstants.LOGICAL_ENUM ||
+                    logicalType == ParquetConstants.LOGICAL_JSON || convertedType == ParquetConstants.CONVERTED_UTF8 ||
+                    convertedType == ParquetConstants.CONVERTED_ENUM || convertedType == ParquetConstants.CONVERTED_JSON))
+                {
+                    type = ColumnarType.STRING;
+                } else {
+                    type = ColumnarType.BINARY;
+                }
+            }
+            default -> throw new IOException("Unsupported Parquet physical type " + physicalType + " of column '" + name + "'");
+        }
+        column.field = type == ColumnarType.DECIMAL ?
+            new ColumnarField(name, type, precision, scale) :
+            new ColumnarField(name, type);
+        columns.add(column);
+        fields.add(column.field);
+    }
+
+    @NotNull
+    private static RowGroupInfo readRowGroup(@NotNull ThriftCompactReader reader) throws IOException {
+        RowGroupInfo rowGroup = new RowGroupInfo();
+        reader.structBegin();
+        while (reader.nextField()) {
+            switch (reader.getFieldId()) {
+                case 1 -> {
+                    int count = reader.readListHeader();
+                    for (int i = 0; i < count; i++) {
+                        rowGroup.columns.add(readColumnChunk(reader));
+                    }
+                }
+                case 3 -> rowGroup.rowCount = reader.readI64();
+                default -> reader.skipField();
+            }
+        }
+        reader.structEnd();
+        return rowGroup;
+    }
+
+    @NotNull
+    private static ColumnChunkInfo readColumnChunk(@NotNull ThriftCompactReader reader) throws IOException {
+        ColumnChunkInfo chunk = new ColumnChunkInfo();
+        long dataPageOffset = -1;
+        long dictionaryPageOffset = -1;
+        boolean hasMetaData = false;
+        reader.structBegin();
+        while (reader.nextField()) {
+            if (reader.getFieldId() == 3) {
+                hasMetaData = true;
+                reader.structBegin();
+                while (reader.nextField()) {
+                    switch (reader.getFieldId()) {
+                        case 4 -> chunk.codec = reader.readI32();
+                        case 5 -> chunk.valueCount = reader.readI64();
+                        case 7 -> chunk.compressedSize = reader.readI64();
+                        case 9 -> dataPageOffset = reader.readI64();
+                        case 11 -> dictionaryPageOffset = reader.readI64();
+                        default -> reader.skipField();
+                    }
+                }
+                reader.structEnd();
+            } else {
+                reader.skipField();
+            }
+        }
+        reader.structEnd();
+        if (!hasMetaData) {
+            throw new IOException("Parquet column chunks stored in external files are not supported");
+        }
+        chunk.startOffset = dictionaryPageOffset > 0 && dictionaryPageOffset < dataPageOffset ? dictionaryPageOffset : dataPageOffset;
+        return chunk;
+    }
+
+    ////////////////////////////////////////////////////////////
+    // Data
+
+    private void readColumnChunk(@NotNull ColumnInfo column, @NotNull ColumnChunkInfo chunk, @NotNull ColumnVector target) throws IOException {
+        if (chunk.compressedSize > Integer.MAX_VALUE) {
+            throw new IOException("Column chunk is too big (" + chunk.compressedSize + " bytes)");
+        }
+        ByteBuffer buffer = readFully(chunk.startOffset, (int) chunk.compressedSize);
+        ColumnVector dictionary = null;
+        while (target.getSize() < chunk.valueCount && buffer.hasRemaining()) {
+            ThriftCompactReader headerReader = new ThriftCompactReader(buffer);
+            int pageType = -1;
+            int uncompressedSize = 0;
+            int compressedSize = 0;
+            int valueCount = 0;
+            int encoding = ParquetConstants.ENCODING_PLAIN;
+            int definitionLevelsLength = 0;
+            int repetitionLevelsLength = 0;
+            boolean compressed = true;
+
+            headerReader.structBegin();
+            while (headerReader.nextField()) {
+                switch (headerReader.getFieldId()) {
+                    case 1 -> pageType = headerReader.readI32();
+                    case 2 -> uncompressedSize = headerReader.readI32();
+                    case 3 -> compressedSize = headerReader.readI32();
+                    case 5, 7, 8 -> {
+                        int headerType = headerReader.getFieldId();
+                        headerReader.structBegin();
+                        while (headerReader.nextField()) {
+                            int fieldId = headerReader.getFieldId();
+                            if (fieldId == 1) {
+                                valueCount = headerReader.readI32();
+                            } else if (headerType != 8 && fieldId == 2 || headerType == 8 && fieldId == 4) {
+                                encoding = headerReader.readI32();
+                            } else if (headerType == 8 && fieldId == 5) {
+                                definitionLevelsLength = headerReader.readI32();
+                            } else if (headerType == 8 && fieldId == 6) {
+                                repetitionLevelsLength = headerReader.readI32();
+                            } else if (headerType == 8 && fieldId == 7) {
+                                compressed = headerReader.readBoolField();
+                            } else {
+                                headerReader.skipField();
+                            }
+                        }
+                        headerReader.structEnd();
+                    }
+                    default -> headerReader.skipField();
+                }
+            }
+            headerReader.structEnd();
+
+            if (compressedSize < 0 || compressedSize > buffer.remaining()) {
+                throw new IOException("Bad Parquet page size " + compressedSize);
+            }
+            byte[] pageBytes = new byte[compressedSize];
+            buffer.get(pageBytes);
+
+            switch (pageType) {
+                case ParquetConstants.PAGE_DICTIONARY -> {
+                    ByteBuffer data = decompress(chunk.codec, pageBytes, 0, compressedSize, uncompressedSize);
+                    dictionary = new ColumnVector(column.field, valueCount);
+                    decodePlain(column, data, valueCount, dictionary);
+                }
+                case ParquetConstants.PAGE_DATA -> {
+                    ByteBuffer data = decompress(chunk.codec, pageBytes, 0, compressedSize, uncompressedSize);
+                    int[] pageLevels = null;
+                    if (column.maxDefinitionLevel > 0) {
+                        int levelsLength = data.getInt();
+                        int levelsEnd = data.position() + levelsLength;
+                        pageLevels = decodeLevels(data, valueCount);
+                        data.position(levelsEnd);
+                    }
+                    decodeValues(column, data, valueCount, encoding, pageLevels, dictionary, target);
+                }
+                case ParquetConstants.PAGE_DATA_V2 -> {
+                    // Levels are never compressed in v2 pages
+                    int[] pageLevels = null;
+                    ByteBuffer levelsData = ByteBuffer.wrap(pageBytes, repetitionLevelsLength, definitionLevelsLength);
+                    if (column.maxDefinitionLevel > 0) {
+                        pageLevels = decodeLevels(levelsData, valueCount);
+                    }
+                    int valuesOffset = repetitionLevelsLength + definitionLevelsLength;
+                    ByteBuffer data = compressed ?
+                        decompress(chunk.codec, pageBytes, valuesOffset, compressedSize - valuesOffset, uncompressedSize - valuesOffset) :
+                        ByteBuffer.wrap(pageBytes, valuesOffset, compressedSize - valuesOffset).slice().order(ByteOrder.LITTLE_ENDIAN);
+                    decodeValues(column, data, valueCount, encoding, pageLevels, dictionary, target);
+                }
+                default -> {
+                    // Index pages and unknown pages are skipped
+                }
+            }
+        }
+        if (target.getSize() != chunk.valueCount) {
+            throw new IOException("Column chunk contains " + target.getSize() + " values while " + chunk.valueCount + " expected");
+        }
+    }
+
+    @NotNull
+    private int[] decodeLevels(@NotNull ByteBuffer data, int valueCount) throws IOException {
+        if (levels.length < valueCount) {
+            levels = new int[valueCount];
+        }
+        RleBitPackedCodec.decode(data, 1, valueCount, levels);
+        return levels;
+    }
+
+    private void decodeValues(
+        @NotNull ColumnInfo column,
+        @NotNull ByteBuffer data,
+        int valueCount,
+        int encoding,
+        @Nullable int[] pageLevels,
+        @Nullable ColumnVector dictionary,
+        @NotNull ColumnVector target
+    ) throws IOException {
+        int nonNullCount = valueCount;
+        if (pageLevels != null) {
+            nonNullCount = 0;
+            for (int i = 0; i < valueCount; i++) {
+                if (pageLevels[i] != 0) {
+                    nonNullCount++;
+                }
+            }
+        }
+        if (encoding == ParquetConstants.ENCODING_PLAIN) {
+            if (nonNullCount == valueCount) {
+                decodePlain(column, data, valueCount, target);
+                return;
+            }
+            if (column.scratch == null) {
+                column.scratch = new ColumnVector(column.field, nonNullCount);
+            }
+            column.scratch.reset();
+            decodePlain(column, data, nonNullCount, column.scratch);
+            for (int i = 0, k = 0; i < valueCount; i++) {
+                if (pageLevels[i] == 0) {
+                    target.addNull();
+                } else {
+                    target.addFrom(column.scratch, k++);
+                }
+            }
+        } else if (encoding == ParquetConstants.ENCODING_PLAIN_DICTIONARY || encoding == ParquetConstants.ENCODING_RLE_DICTIONARY) {
+            if (dictionary == null) {
+                throw new IOException("Dictionary encoded page without dictionary");
+            }
+            if (indexes.length < nonNullCount) {
+                indexes = new int[nonNullCount];
+            }
+            int bitWidth = data.get() & 0xFF;
+            RleBitPackedCodec.decode(data, bitWidth, nonNullCount, indexes);
+            for (int i = 0, k = 0; i < valueCount; i++) {
+                if (pageLevels != null && pageLevels[i] == 0) {
+                    target.addNull();
+                } else {
+                    int index = indexes[k++];
+                    if (index < 0 || index >= dictionary.getSize()) {
+                        throw new IOException("Dictionary index " + index + " is out of range");
+                    }
+                    target.addFrom(dictionary, index);
+                }
+            }
+        } else {
+            throw new IOException("Unsupported Parquet encoding " + encoding);
+        }
+    }
+
+    private static void decodePlain(@NotNull ColumnInfo column, @NotNull ByteBuffer data, int count, @NotNull ColumnVector target) throws IOException {
+        ColumnarType type = column.field.getType();
+        switch (column.physicalType) {
+            case ParquetConstants.TYPE_BOOLEAN -> {
+                int current = 0;
+                for (int i = 0; i < count; i++) {
+                    if (i % 8 == 0) {
+                        current = data.get();
+                    }
+                    target.addLong((current >> (i % 8)) & 1);
+                }
+            }
+            case ParquetConstants.TYPE_INT32 -> {
+                for (int i = 0; i < count; i++) {
+                    int value = data.getInt();
+                    if (type == ColumnarType.DECIMAL) {
+                        target.addObject(BigInteger.valueOf(value));
+                    } else {
+                        target.addLong(column.unsigned ? value & 0xFFFFFFFFL : value);
+                    }
+                }
+            }
+            case ParquetConstants.TYPE_INT64 -> {
+                for (int i = 0; i < count; i++) {
+                    long value = data.getLong();
+                    if (type == ColumnarType.DECIMAL) {
+                        target.addObject(column.unsigned ?
+                            new BigInteger(Long.toUnsignedString(value)) :
+                            BigInteger.valueOf(value));
+                    } else if (column.timeUnitFactor > 0) {
+                        target.addLong(value * column.timeUnitFactor);
+                    } else {
+                        target.addLong(Math.floorDiv(value, -column.timeUnitFactor));
+                    }
+                }
+            }
+            case ParquetConstants.TYPE_INT96 -> {
+                for (int i = 0; i < count; i++) {
+                    long nanosOfDay = data.getLong();
+                    long julianDay = data.getInt() & 0xFFFFFFFFL;
+                    target.addLong((julianDay - ParquetConstants.JULIAN_EPOCH_DAY) * MICROS_PER_DAY + nanosOfDay / 1000);
+                }
+            }
+            case ParquetConstants.TYPE_FLOAT -> {
+                for (int i = 0; i < count; i++) {
+                    target.addDouble(data.getFloat());
+                }
+            }
+            case ParquetConstants.TYPE_DOUBLE -> {
+                for (int i = 0; i < count; i++) {
+                    target.addDouble(data.getDouble());
+                }
+            }
+            case ParquetConstants.TYPE_BYTE_ARRAY, ParquetConstants.TYPE_FIXED_LEN_BYTE_ARRAY -> {
+                for (int i = 0; i < count; i++) {
+                    int length = column.physicalType == ParquetConstants.TYPE_BYTE_ARRAY ? data.getInt() : column.typeLength;
+                    if (length < 0 || length > data.remaining()) {
+                        throw new IOException("Bad value length " + length);
+                    }
+                    if (type == ColumnarType.STRING) {
+                        target.addObject(new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8));
+                        data.position(data.position() + length);
+                    } else {
+                        byte[] bytes = new byte[length];
+                        data.get(bytes);
+                        target.addObject(type == ColumnarType.DECIMAL ? new BigInteger(bytes) : bytes);
+                    }
+                }
+            }
+            default -> throw new IOException("Unsupported Parquet physical type " + column.physicalType);
+        }
+    }
+
+    @NotNull
+    private static ByteBuffer decompress(int codec, @NotNull byte[] data, int offset, int length, int uncompressedSize) throws IOException {
+        byte[] result;
+        switch (codec) {
+            case ParquetConstants.CODEC_UNCOMPRESSED -> {
+                return ByteBuffer.wrap(data, offset, length).slice().order(ByteOrder.LITTLE_ENDIAN);
+            }
+            case ParquetConstants.CODEC_SNAPPY -> result = SnappyCodec.decompress(data, offset, length);
+            case ParquetConstants.CODEC_GZIP -> {
+                try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data, offset, length))) {
+                    result = in.readAllBytes();
+                }
+            }
+            default -> throw new IOException("Unsupported Parquet compression codec " + codec);
+        }
+        if (result.length != uncompressedSize) {
+            throw new IOException("Decompressed page size " + result.length + " doesn't match expected " + uncompressedSize);
+        }
+        return ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @NotNull
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        channel.position(position);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of Parquet file");
+            }
+        }
+        buffer.flip();
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Apache Parquet file writer.
+ * <p>
+ * Writes flat schema of optional columns. Each batch becomes a row group with a single data page (v1) per column.
+ * String columns are dictionary encoded if the dictionary is small enough, pages are compressed with
+ * Snappy or GZIP.
+ */
+public class ParquetFileWriter implements ColumnarWriter {
+
+    public enum Compression {
+        NONE(ParquetConstants.CODEC_UNCOMPRESSED),
+        SNAPPY(ParquetConstants.CODEC_SNAPPY),
+        GZIP(ParquetConstants.CODEC_GZIP);
+
+        private final int codec;
+
+        Compression(int codec) {
+            this.codec = codec;
+        }
+    }
+
+    // Dictionary is used if it contains not more than half of values and its size is limited
+    private static final int MAX_DICTIONARY_SIZE = 1024 * 1024;
+
+    private static final String CREATED_BY = "DBeaver";
+
+    @NotNull
+    private final OutputStream out;
+    @NotNull
+    private final ColumnarField[] fields;
+    @NotNull
+    private final Compression compression;
+    private final boolean useDictionary;
+    private long position;
+
+    private final List<RowGroupInfo> rowGroups = new ArrayList<>();
+    private long totalRows;
+
+    private final ByteSink pageBuffer = new ByteSink(64 * 1024);
+    private final ByteSink compressBuffer = new ByteSink(64 * 1024);
+    private final ThriftCompactWriter headerWriter = new ThriftCompactWriter();
+    private final SnappyCodec snappyCodec = new SnappyCodec();
+    private int[] levels = new int[0];
+
+    private static class ColumnChunkInfo {
+        long startOffset;
+        long dictionaryPageOffset = -1;
+        long dataPageOffset;
+        long uncompressedSize;
+        long compressedSize;
+        long valueCount;
+        final List<Integer> encodings = new ArrayList<>();
+    }
+
+    private static class RowGroupInfo {
+        long rowCount;
+        ColumnChunkInfo[] columns;
+    }
+
+    public ParquetFileWriter(
+        @NotNull OutputStream out,
+        @NotNull ColumnarField[] fields,
+        @NotNull Compression compression,
+        boolean useDictionary) throws IOException
+    {
+        this.out = out;
+        this.fields = fields;
+        this.compression = compression;
+        this.useDictionary = useDictionary;
+        write(ParquetConstants.MAGIC, 0, ParquetConstants.MAGIC.length);
+    }
+
+    @Override
+    public void writeBatch(@NotNull ColumnVector[] batch) throws IOException {
+        int rowCount = batch.length == 0 ? 0 : batch[0].getSize();
+        if (rowCount == 0) {
+            return;
+        }
+        RowGroupInfo rowGroup = new RowGroupInfo();
+        rowGroup.rowCount = rowCount;
+        rowGroup.columns = new ColumnChunkInfo[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            rowGroup.columns[i] = writeColumnChunk(fields[i], batch[i]);
+        }
+        rowGroups.add(rowGroup);
+        totalRows += rowCount;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        ThriftCompactWriter meta = new ThriftCompactWriter();
+        meta.structBegin();
+        meta.writeI32Field(1, 1);
+        meta.listFieldBegin(2, ThriftCompactWriter.TYPE_STRUCT, fields.length + 1);
+        {
+            meta.structBegin();
+            meta.writeStringField(4, "schema");
+            meta.writeI32Field(5, fields.length);
+            meta.structEnd();
+        }
+        for (ColumnarField field : fields) {
+            writeSchemaElement(meta, field);
+        }
+        meta.writeI64Field(3, totalRows);
+        meta.listFieldBegin(4, ThriftCompactWriter.TYPE_STRUCT, rowGroups.size());
+        for (RowGroupInfo rowGroup : rowGroups) {
+            writeRowGroup(meta, rowGroup);
+        }
+        meta.writeStringField(6, CREATED_BY);
+        meta.structEnd();
+
+        write(meta.getBuffer(), 0, meta.size());
+        byte[] footerLength = new byte[4];
+        int length = meta.size();
+        for (int i = 0; i < 4; i++) {
+            footerLength[i] = (byte) (length >>> (8 * i));
+        }
+        write(footerLength, 0, 4);
+        write(ParquetConstants.MAGIC, 0, ParquetConstants.MAGIC.length);
+        out.flush();
+    }
+
+    @NotNull
+    private ColumnChunkInfo writeColumnChunk(@NotNull ColumnarField field, @NotNull ColumnVector vector) throws IOException {
+        ColumnChunkInfo chunk = new ColumnChunkInfo();
+        chunk.startOffset = position;
+        chunk.valueCount = vector.getSize();
+
+        int valueCount = vector.getSize();
+        if (levels.length < valueCount) {
+            levels = new int[Math.max(valueCount, levels.length * 2)];
+        }
+
+        Map<Object, Integer> dictionary = null;
+        if (useDictionary && field.getType() == ColumnarType.STRING) {
+            dictionary = buildDictionary(vector);
+        }
+        if (dictionary != null) {
+            // Dictionary page
+            pageBuffer.reset();
+            for (Object value : dictionary.keySet()) {
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                pageBuffer.writeIntLE(bytes.length);
+                pageBuffer.writeBytes(bytes);
+            }
+            chunk.dictionaryPageOffset = position;
+            writePage(chunk, ParquetConstants.PAGE_DICTIONARY, dictionary.size(), ParquetConstants.ENCODING_PLAIN_DICTIONARY);
+            chunk.encodings.add(ParquetConstants.ENCODING_PLAIN_DICTIONARY);
+        }
+
+        // Data page: definition levels, then values
+        pageBuffer.reset();
+        for (int i = 0; i < valueCount; i++) {
+            levels[i] = vector.isNull(i) ? 0 : 1;
+        }
+        int levelsStart = pageBuffer.size();
+        pageBuffer.writeIntLE(0);
+        RleBitPackedCodec.encode(levels, valueCount, 1, pageBuffer);
+        pageBuffer.putIntLE(levelsStart, pageBuffer.size() - levelsStart - 4);
+
+        int encoding;
+        if (dictionary != null) {
+            int indexCount = 0;
+            for (int i = 0; i < valueCount; i++) {
+                if (!vector.isNull(i)) {
+                    levels[indexCount++] = dictionary.get(vector.getObject(i));
+                }
+            }
+            int bitWidth = Math.max(1, RleBitPackedCodec.getBitWidth(dictionary.size() - 1));
+            pageBuffer.write(bitWidth);
+            RleBitPackedCodec.encode(levels, indexCount, bitWidth, pageBuffer);
+            encoding = ParquetConstants.ENCODING_PLAIN_DICTIONARY;
+        } else {
+            writePlainValues(field, vector);
+            encoding = ParquetConstants.ENCODING_PLAIN;
+            chunk.encodings.add(ParquetConstants.ENCODING_PLAIN);
+        }
+        chunk.encodings.add(ParquetConstants.ENCODING_RLE);
+        chunk.dataPageOffset = position;
+        writePage(chunk, ParquetConstants.PAGE_DATA, valueCount, encoding);
+        return chunk;
+    }
+
+    private Map<Object, Integer> buildDictionary(@NotNull ColumnVector vector) {
+        int nonNullCount = vector.getSize() - vector.getNullCount();
+        if (nonNullCount == 0) {
+            return null;
+        }
+        Map<Object, Integer> dictionary = new LinkedHashMap<>();
+        long dictionarySize = 0;
+        for (int i = 0; i < vector.getSize(); i++) {
+            if (vector.isNull(i)) {
+                continue;
+            }
+            Object value = vector.getObject(i);
+            if (!dictionary.containsKey(value)) {
+                dictionary.put(value, dictionary.size());
+                dictionarySize += ((String) value).length() + 4;
+                if (dictionary.size() > nonNullCount / 2 + 1 || dictionarySize > MAX_DICTIONARY_SIZE) {
+                    return null;
+                }
+            }
+        }
+        return dictionary;
+    }
+
+    private void writePlainValues(@NotNull ColumnarField field, @NotNull ColumnVector vector) {
+        int valueCount = vector.getSize();
+        switch (field.getType()) {
+            case BOOLEAN -> {
+                int bits = 0;
+                int current = 0;
+                for (int i = 0; i < valueCount; i++) {
+                    if (vector.isNull(i)) {
+                        continue;
+                    }
+                    if (vector.getLong(i) != 0) {
+                        current |= 1 << bits;
+                    }
+                    if (++bits == 8) {
+                        pageBuffer.write(current);
+                        bits = 0;
+                        current = 0;
+                    }
+                }
+                if (bits > 0) {
+                    pageBuffer.write(current);
+                }
+            }
+            case INT32, DATE -> {
+                for (int i = 0; i < valueCount; i++) {
+                    if (!vector.isNull(i)) {
+                        pageBuffer.writeIntLE((int) vector.getLong(i));
+                    }
+                }
+            }
+            case INT64, TIMESTAMP, TIMESTAMP_TZ -> {
+                for (int i = 0; i < valueCount; i++) {
+                    if (!vector.isNull(i)) {
+                        pageBuffer.writeLongLE(vector.getLong(i));
+                    }
+                }
+            }
+            case FLOAT -> {
+                for (int i = 0; i < valueCount; i++) {
+                    if (!vector.isNull(i)) {
+                        pageBuffer.writeIntLE(Float.floatToRawIntBits((float) vector.getDouble(i)));
+                    }
+                }
+            }
+            case DOUBLE -> {
+                for (int i = 0; i < valueCount; i++) {
+                    if (!vector.isNull(i)) {
+                        pageBuffer.writeLongLE(Double.doubleToRawLongBits(vector.getDouble(i)));
+                    }
+                }
+            }
+            case DECIMAL -> {
+                int physicalType = ParquetConstants.getDecimalPhysicalType(field.getPrecision());
+                int typeLength = ParquetConstants.getDecimalTypeLength(field.getPrecision());
+                for (int i = 0; i < valueCount; i++) {
+                    if (vector.isNull(i)) {
+                        continue;
+                    }
+                    BigInteger unscaled = (BigInteger) vector.getObject(i);
+                    if (physicalType == ParquetConstants.TYPE_INT32) {
+                        pageBuffer.writeIntLE(unscaled.intValue());
+                    } else if (physicalType == ParquetConstants.TYPE_INT64) {
+                        pageBuffer.writeLongLE(unscaled.longValue());
+                    } else {
+                        // Big-endian two's complement, sign-extended to the fixed length
+                        byte[] bytes = unscaled.toByteArray();
+                        byte sign = (byte) (unscaled.signum() < 0 ? 0xFF : 0);
+                        for (int k = bytes.length; k < typeLength; k++) {
+                            pageBuffer.write(sign);
+                        }
+                        pageBuffer.write(bytes, Math.max(0, bytes.length - typeLength), Math.min(bytes.length, typeLength));
+                    }
+                }
+            }
+            case STRING, BINARY -> {
+                for (int i = 0; i < valueCount; i++) {
+                    if (vector.isNull(i)) {
+                        continue;
+                    }
+                    Object value = vector.getObject(i);
+                    byte[] bytes = value instanceof String str ? str.getBytes(StandardCharsets.UTF_8) : (byte[]) value;
+                    pageBuffer.writeIntLE(bytes.length);
+                    pageBuffer.writeBytes(bytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compresses page buffer and writes it with the page header
+     */
+    private void writePage(@NotNull ColumnChunkInfo chunk, int pageType, int valueCount, int encoding) throws IOException {
+        int uncompressedSize = pageBuffer.size();
+        byte[] pageData;
+        int compressedSize;
+        switch (compression) {
+            case SNAPPY -> {
+                pageData = snappyCodec.compress(pageBuffer.getBuffer(), 0, uncompressedSize);
+                compressedSize = snappyCodec.getCompressedLength();
+            }
+            case GZIP -> {
+                compressBuffer.reset();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressBuffer, 64 * 1024)) {
+                    gzip.write(pageBuffer.getBuffer(), 0, uncompressedSize);
+                }
+                pageData = compressBuffer.getBuffer();
+                compressedSize = compressBuffer.size();
+            }
+            default -> {
+                pageData = pageBuffer.getBuffer();
+                compressedSize = uncompressedSize;
+            }
+        }
+
+        ThriftCompactWriter header = headerWriter;
+        header.reset();
+        header.structBegin();
+        header.writeI32Field(1, pageType);
+        header.writeI32Field(2, uncompressedSize);
+        header.writeI32Field(3, compressedSize);
+        if (pageType == ParquetConstants.PAGE_DATA) {
+            header.structFieldBegin(5);
+            header.writeI32Field(1, valueCount);
+            header.writeI32Field(2, encoding);
+            header.writeI32Field(3, ParquetConstants.ENCODING_RLE);
+            header.writeI32Field(4, ParquetConstants.ENCODING_RLE);
+            header.structEnd();
+        } else {
+            header.structFieldBegin(7);
+            header.writeI32Field(1, valueCount);
+            header.writeI32Field(2, encoding);
+            header.structEnd();
+        }
+        header.structEnd();
+
+        write(header.getBuffer(), 0, header.size());
+        write(pageData, 0, compressedSize);
+        chunk.uncompressedSize += header.size() + uncompressedSize;
+        chunk.compressedSize += header.size() + compressedSize;
+    }
+
+    private static void writeSchemaElement(@NotNull ThriftCompactWriter meta, @NotNull ColumnarField field) {
+        meta.structBegin();
+        int physicalType = ParquetConstants.getPhysicalType(field);
+        meta.writeI32Field(1, physicalType);
+        if (physicalType == ParquetConstants.TYPE_FIXED_LEN_BYTE_ARRAY) {
+            meta.writeI32Field(2, ParquetConstants.getDecimalTypeLength(field.getPrecision()));
+        }
+        meta.writeI32Field(3, ParquetConstants.REPETITION_OPTIONAL);
+        meta.writeStringField(4, field.getName());
+        switch (field.getType()) {
+            case STRING -> {
+                meta.writeI32Field(6, ParquetConstants.CONVERTED_UTF8);
+                meta.structFieldBegin(10);
+                meta.structFieldBegin(ParquetConstants.LOGICAL_STRING);
+                meta.structEnd();
+                meta.structEnd();
+            }
+            case DECIMAL -> {
+                meta.writeI32Field(6, ParquetConstants.CONVERTED_DECIMAL);
+                meta.writeI32Field(7, field.getScale());
+                meta.writeI32Field(8, field.getPrecision());
+                meta.structFieldBegin(10);
+                meta.structFieldBegin(ParquetConstants.LOGICAL_DECIMAL);
+                meta.writeI32Field(1, field.getScale());
+                meta.writeI32Field(2, field.getPrecision());
+                meta.structEnd();
+                meta.structEnd();
+            }
+            case DATE -> {
+                meta.writeI32Field(6, ParquetConstants.CONVERTED_DATE);
+                meta.structFieldBegin(10);
+                meta.structFieldBegin(ParquetConstants.LOGICAL_DATE);
+                meta.structEnd();
+                meta.structEnd();
+            }
+            case TIMESTAMP, TIMESTAMP_TZ -> {
+                boolean adjustedToUTC = field.getType() == ColumnarType.TIMESTAMP_TZ;
+                if (adjustedToUTC) {
+                    // Legacy converted type implies UTC-normalized timestamp
+                    meta.writeI32Field(6, ParquetConstants.CONVERTED_TIMESTAMP_MICROS);
+                }
+                meta.structFieldBegin(10);
+                meta.structFieldBegin(ParquetConstants.LOGICAL_TIMESTAMP);
+                meta.writeBoolField(1, adjustedToUTC);
+                meta.structFieldBegin(2);
+                meta.structFieldBegin(ParquetConstants.TIME_UNIT_MICROS);
+                meta.structEnd();
+                meta.structEnd();
+                meta.structEnd();
+                meta.structEnd();
+            }
+            default -> {
+                // No logical type
+            }
+        }
+        meta.structEnd();
+    }
+
+    private void writeRowGroup(@NotNull ThriftCompactWriter meta, @NotNull RowGroupInfo rowGroup) {
+        long totalUncompressed = 0;
+        long totalCompressed = 0;
+        meta.structBegin();
+        meta.listFieldBegin(1, ThriftCompactWriter.TYPE_STRUCT, fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            ColumnChunkInfo chunk = rowGroup.columns[i];
+            totalUncompressed += chunk.uncompressedSize;
+            totalCompressed += chunk.compressedSize;
+
+            meta.structBegin();
+            meta.writeI64Field(2, chunk.startOffset);
+            meta.structFieldBegin(3);
+            meta.writeI32Field(1, ParquetConstants.getPhysicalType(fields[i]));
+            meta.listFieldBegin(2, ThriftCompactWriter.TYPE_I32, chunk.encodings.size());
+            for (Integer encoding : chunk.encodings) {
+                meta.writeI32(encoding);
+            }
+            meta.listFieldBegin(3, ThriftCompactWriter.TYPE_BINARY, 1);
+            meta.writeString(fields[i].getName());
+            meta.writeI32Field(4, compression.codec);
+            meta.writeI64Field(5, chunk.valueCount);
+            meta.writeI64Field(6, chunk.uncompressedSize);
+            meta.writeI64Field(7, chunk.compressedSize);
+            meta.writeI64Field(9, chunk.dataPageOffset);
+            if (chunk.dictionaryPageOffset >= 0) {
+                meta.writeI64Field(11, chunk.dictionaryPageOffset);
+            }
+            meta.structEnd();
+            meta.structEnd();
+        }
+        meta.writeI64Field(2, totalUncompressed);
+        meta.writeI64Field(3, rowGroup.rowCount);
+        meta.writeI64Field(5, rowGroup.columns[0].startOffset);
+        meta.writeI64Field(6, totalCompressed);
+        meta.structEnd();
+    }
+
+    private void write(byte[] data, int offset, int length) throws IOException {
+        out.write(data, offset, length);
+        position += length;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Parquet RLE / bit-packing hybrid encoding of levels and dictionary indexes
+ */
+class RleBitPackedCodec {
+
+    // Shorter runs of equal values are cheaper to bit-pack
+    private static final int MIN_RLE_RUN_LENGTH = 8;
+    // Header of bit-packed run fits one byte, like in parquet-mr
+    private static final int MAX_BIT_PACKED_GROUPS = 63;
+
+    /**
+     * Encodes values as a sequence of runs: runs of at least 8 equal values are RLE encoded,
+     * other values are bit-packed in groups of 8.
+     */
+    static void encode(@NotNull int[] values, int count, int bitWidth, @NotNull ByteSink out) {
+        int literalStart = 0;
+        int position = 0;
+        while (position < count) {
+            int runEnd = position + 1;
+            while (runEnd < count && values[runEnd] == values[position]) {
+                runEnd++;
+            }
+            // Bit-packed run (except the last one) must contain whole groups of 8 values,
+            // so first values of the repeated run complete the last group
+            int padding = (MIN_RLE_RUN_LENGTH - (position - literalStart) % MIN_RLE_RUN_LENGTH) % MIN_RLE_RUN_LENGTH;
+            int rleLength = runEnd - position - padding;
+            if (rleLength >= MIN_RLE_RUN_LENGTH) {
+                writeBitPacked(values, literalStart, position + padding - literalStart, bitWidth, out);
+                writeRle(values[position], rleLength, bitWidth, out);
+                literalStart = runEnd;
+            }
+            position = runEnd;
+        }
+        writeBitPacked(values, literalStart, count - literalStart, bitWidth, out);
+    }
+
+    private static void writeRle(int value, int runLength, int bitWidth, @NotNull ByteSink out) {
+        writeVarInt(out, runLength << 1);
+        for (int i = 0; i < (bitWidth + 7) / 8; i++) {
+            out.write(value >>> (8 * i));
+        }
+    }
+
+    // Only the last bit-packed run may have incomplete group, it is padded with zeros
+    private static void writeBitPacked(@NotNull int[] values, int offset, int length, int bitWidth, @NotNull ByteSink out) {
+        while (length > 0) {
+            int runLength = Math.min(length, MAX_BIT_PACKED_GROUPS * 8);
+            int groupCount = (runLength + 7) / 8;
+            writeVarInt(out, (groupCount << 1) | 1);
+            long accumulator = 0;
+            int bits = 0;
+            for (int i = 0; i < groupCount * 8; i++) {
+                long value = i < runLength ? values[offset + i] & 0xFFFFFFFFL : 0;
+                accumulator |= value << bits;
+                bits += bitWidth;
+                while (bits >= 8) {
+                    out.write((int) accumulator);
+                    accumulator >>>= 8;
+                    bits -= 8;
+                }
+            }
+            offset += runLength;
+            length -= runLength;
+        }
+    }
+
+    /**
+     * Decodes specified number of values. Buffer position is moved after the decoded runs.
+     */
+    static void decode(@NotNull ByteBuffer buffer, int bitWidth, int count, @NotNull int[] values) throws IOException {
+        int decoded = 0;
+        int valueBytes = (bitWidth + 7) / 8;
+        while (decoded < count) {
+            int header = readVarInt(buffer);
+            if ((header & 1) == 0) {
+                int runLength = header >>> 1;
+                int value = 0;
+                for (int i = 0; i < valueBytes; i++) {
+                    value |= (buffer.get() & 0xFF) << (8 * i);
+                }
+                int end = Math.min(count, decoded + runLength);
+                while (decoded < end) {
+                    values[decoded++] = value;
+                }
+            } else {
+                int valueCount = (header >>> 1) * 8;
+                long mask = (1L << bitWidth) - 1;
+                long accumulator = 0;
+                int bits = 0;
+                for (int i = 0; i < valueCount; i++) {
+                    while (bits < bitWidth) {
+                        accumulator |= (long) (buffer.get() & 0xFF) << bits;
+                        bits += 8;
+                    }
+                    if (decoded < count) {
+                        values[decoded++] = (int) (accumulator & mask);
+                    }
+                    accumulator >>>= bitWidth;
+                    bits -= bitWidth;
+                }
+            }
+        }
+    }
+
+    static int getBitWidth(int maxValue) {
+        return 32 - Integer.numberOfLeadingZeros(maxValue);
+    }
+
+    private static void writeVarInt(ByteSink out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = buffer.get() & 0xFF;
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Bad RLE run header");
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Raw Snappy block format codec (as used by Parquet pages).
+ * Compression uses the greedy hash matching of the reference implementation.
+ */
+class SnappyCodec {
+
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int HASH_BITS = 14;
+    private static final int MIN_COMPRESSIBLE_LENGTH = 15;
+
+    private final int[] hashTable = new int[1 << HASH_BITS];
+    private byte[] output = new byte[0];
+    private int outPos;
+
+    /**
+     * Compresses data. Returned array is reused by the next call, its valid length is {@link #getCompressedLength()}.
+     */
+    @NotNull
+    byte[] compress(@NotNull byte[] input, int offset, int length) {
+        int maxLength = 32 + length + length / 6;
+        if (output.length < maxLength) {
+            output = new byte[maxLength];
+        }
+        outPos = 0;
+        writeVarInt(length);
+        int end = offset + length;
+        for (int blockStart = offset; blockStart < end; blockStart += BLOCK_SIZE) {
+            compressBlock(input, blockStart, Math.min(blockStart + BLOCK_SIZE, end));
+        }
+        return output;
+    }
+
+    int getCompressedLength() {
+        return outPos;
+    }
+
+    @NotNull
+    static byte[] decompress(@NotNull byte[] input, int offset, int length) throws IOException {
+        int pos = offset;
+        int end = offset + length;
+        long uncompressedLength = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (pos >= end || shift > 28) {
+                throw new IOException("Bad snappy header");
+            }
+            int b = input[pos++] & 0xFF;
+            uncompressedLength |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (uncompressedLength > Integer.MAX_VALUE) {
+            throw new IOException("Snappy block is too big");
+        }
+        byte[] out = new byte[(int) uncompressedLength];
+        int op = 0;
+        try {
+            while (pos < end) {
+                int tag = input[pos++] & 0xFF;
+                switch (tag & 3) {
+                    case 0 -> {
+                        int literalLength = tag >>> 2;
+                        if (literalLength >= 60) {
+                            int lengthBytes = literalLength - 59;
+                            literalLength = 0;
+                            for (int i = 0; i < lengthBytes; i++) {
+                                literalLength |= (input[pos++] & 0xFF) << (8 * i);
+                            }
+                        }
+                        literalLength++;
+                        System.arraycopy(input, pos, out, op, literalLength);
+                        pos += literalLength;
+                        op += literalLength;
+                    }
+                    case 1 -> {
+                        int copyLength = ((tag >>> 2) & 7) + 4;
+                        int copyOffset = ((tag >>> 5) << 8) | (input[pos++] & 0xFF);
+                        op = copy(out, op, copyOffset, copyLength);
+                    }
+                    case 2 -> {
+                        int copyOffset = (input[pos] & 0xFF) | (input[pos + 1] & 0xFF) << 8;
+                        pos += 2;
+                        op = copy(out, op, copyOffset, (tag >>> 2) + 1);
+                    }
+                    default -> {
+                        int copyOffset = (input[pos] & 0xFF) | (input[pos + 1] & 0xFF) << 8 |
+                            (input[pos + 2] & 0xFF) << 16 | (input[pos + 3] & 0xFF) << 24;
+                        pos += 4;
+                        op = copy(out, op, copyOffset, (tag >>> 2) + 1);
+                    }
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted snappy data", e);
+        }
+        if (op != out.length) {
+            throw new IOException("Snappy data length mismatch (" + op + " <> " + out.length + ")");
+        }
+        return out;
+    }
+
+    private static int copy(byte[] out, int op, int offset, int length) throws IOException {
+        if (offset <= 0 || offset > op) {
+            throw new IOException("Bad snappy copy offset " + offset);
+        }
+        // Byte by byte - source and target may overlap
+        for (int i = 0; i < length; i++) {
+            out[op] = out[op - offset];
+            op++;
+        }
+        return op;
+    }
+
+    private void compressBlock(byte[] input, int start, int end) {
+        int literalStart = start;
+        if (end - start >= MIN_COMPRESSIBLE_LENGTH) {
+            Arrays.fill(hashTable, -1);
+            int limit = end - 4;
+            int ip = start;
+            int skip = 32;
+            while (ip <= limit) {
+                int value = readInt(input, ip);
+                int hash = (value * 0x1e35a7bd) >>> (32 - HASH_BITS);
+                int candidate = hashTable[hash];
+                hashTable[hash] = ip;
+                if (candidate >= start && readInt(input, candidate) == value) {
+                    emitLiteral(input, literalStart, ip - literalStart);
+                    int matchLength = 4;
+                    while (ip + matchLength < end && input[candidate + matchLength] == input[ip + matchLength]) {
+                        matchLength++;
+                    }
+                    emitCopy(ip - candidate, matchLength);
+                    ip += matchLength;
+                    literalStart = ip;
+                    skip = 32;
+                } else {
+                    ip += skip >>> 5;
+                    skip++;
+                }
+            }
+        }
+        emitLiteral(input, literalStart, end - literalStart);
+    }
+
+    private void emitLiteral(byte[] input, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        int n = length - 1;
+        if (n < 60) {
+            output[outPos++] = (byte) (n << 2);
+        } else {
+            int lengthBytes = n < (1 << 8) ? 1 : n < (1 << 16) ? 2 : n < (1 << 24) ? 3 : 4;
+            output[outPos++] = (byte) ((59 + lengthBytes) << 2);
+            for (int i = 0; i < lengthBytes; i++) {
+                output[outPos++] = (byte) (n >>> (8 * i));
+            }
+        }
+        System.arraycopy(input, offset, output, outPos, length);
+        outPos += length;
+    }
+
+    private void emitCopy(int offset, int length) {
+        while (length >= 68) {
+            emitCopy2(offset, 64);
+            length -= 64;
+        }
+        if (length > 64) {
+            emitCopy2(offset, 60);
+            length -= 60;
+        }
+        if (length < 12 && offset < 2048) {
+            output[outPos++] = (byte) (1 | ((length - 4) << 2) | ((offset >>> 8) << 5));
+            output[outPos++] = (byte) offset;
+        } else {
+            emitCopy2(offset, length);
+        }
+    }
+
+    private void emitCopy2(int offset, int length) {
+        output[outPos++] = (byte) (2 | ((length - 1) << 2));
+        output[outPos++] = (byte) offset;
+        output[outPos++] = (byte) (offset >>> 8);
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            output[outPos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output[outPos++] = (byte) value;
+    }
+
+    private static int readInt(byte[] data, int pos) {
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8 | (data[pos + 2] & 0xFF) << 16 | (data[pos + 3] & 0xFF) << 24;
+    }
+}
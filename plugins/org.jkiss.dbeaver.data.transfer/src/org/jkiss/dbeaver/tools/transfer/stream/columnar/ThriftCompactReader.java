@@ -0,0 +1,194 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.jkiss.dbeaver.tools.transfer.stream.columnar.ThriftCompactWriter.*;
+
+/**
+ * Thrift compact protocol reader. Used for Parquet metadata deserialization.
+ * Unknown fields must be skipped with {@link #skipField()}.
+ */
+class ThriftCompactReader {
+
+    private final ByteBuffer buffer;
+    private final int[] fieldStack = new int[64];
+    private int depth;
+    private int lastFieldId;
+
+    private int fieldId;
+    private int fieldType;
+    private int listElementType;
+
+    ThriftCompactReader(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    int getPosition() {
+        return buffer.position();
+    }
+
+    void structBegin() {
+        fieldStack[depth++] = lastFieldId;
+        lastFieldId = 0;
+    }
+
+    void structEnd() {
+        lastFieldId = fieldStack[--depth];
+    }
+
+    /**
+     * Reads next field header. Returns false on the struct end.
+     */
+    boolean nextField() throws IOException {
+        int header = readByte() & 0xFF;
+        if (header == 0) {
+            return false;
+        }
+        fieldType = header & 0x0F;
+        int delta = header >> 4;
+        fieldId = delta == 0 ? readI32() : lastFieldId + delta;
+        lastFieldId = fieldId;
+        return true;
+    }
+
+    int getFieldId() {
+        return fieldId;
+    }
+
+    boolean readBoolField() {
+        return fieldType == TYPE_BOOLEAN_TRUE;
+    }
+
+    int readI32() throws IOException {
+        int value = (int) readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    long readI64() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @NotNull
+    byte[] readBinary() throws IOException {
+        int length = (int) readVarLong();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Bad binary length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @NotNull
+    String readString() throws IOException {
+        return new String(readBinary(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads list header and returns list size
+     */
+    int readListHeader() throws IOException {
+        int header = readByte() & 0xFF;
+        listElementType = header & 0x0F;
+        int size = header >> 4;
+        if (size == 15) {
+            size = (int) readVarLong();
+        }
+        return size;
+    }
+
+    int getListElementType() {
+        return listElementType;
+    }
+
+    void skipField() throws IOException {
+        skip(fieldType, false);
+    }
+
+    void skip(int type, boolean inCollection) throws IOException {
+        switch (type) {
+            case TYPE_BOOLEAN_TRUE, TYPE_BOOLEAN_FALSE -> {
+                if (inCollection) {
+                    readByte();
+                }
+            }
+            case TYPE_BYTE -> readByte();
+            case TYPE_I16, TYPE_I32, TYPE_I64 -> readVarLong();
+            case TYPE_DOUBLE -> skipBytes(8);
+            case TYPE_BINARY -> skipBytes((int) readVarLong());
+            case TYPE_LIST, TYPE_SET -> {
+                int size = readListHeader();
+                int elementType = listElementType;
+                for (int i = 0; i < size; i++) {
+                    skip(elementType, true);
+                }
+            }
+            case TYPE_MAP -> {
+                int size = (int) readVarLong();
+                if (size > 0) {
+                    int types = readByte() & 0xFF;
+                    for (int i = 0; i < size; i++) {
+                        skip(types >> 4, true);
+                        skip(types & 0x0F, true);
+                    }
+                }
+            }
+            case TYPE_STRUCT -> {
+                structBegin();
+                while (nextField()) {
+                    skipField();
+                }
+                structEnd();
+            }
+            default -> throw new IOException("Unsupported thrift type " + type);
+        }
+    }
+
+    private void skipBytes(int count) throws IOException {
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException("Unexpected end of thrift data");
+        }
+        buffer.position(buffer.position() + count);
+    }
+
+    private byte readByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Unexpected end of thrift data");
+        }
+        return buffer.get();
+    }
+
+    private long readVarLong() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Bad varint");
+    }
+}
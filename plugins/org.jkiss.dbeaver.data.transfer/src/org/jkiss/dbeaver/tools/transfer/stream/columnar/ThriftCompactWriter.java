@@ -0,0 +1,142 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.columnar;
+
+import org.jkiss.code.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Thrift compact protocol writer. Used for Parquet metadata serialization.
+ */
+class ThriftCompactWriter extends ByteArrayOutputStream {
+
+    static final int TYPE_BOOLEAN_TRUE = 1;
+    static final int TYPE_BOOLEAN_FALSE = 2;
+    static final int TYPE_BYTE = 3;
+    static final int TYPE_I16 = 4;
+    static final int TYPE_I32 = 5;
+    static final int TYPE_I64 = 6;
+    static final int TYPE_DOUBLE = 7;
+    static final int TYPE_BINARY = 8;
+    static final int TYPE_LIST = 9;
+    static final int TYPE_SET = 10;
+    static final int TYPE_MAP = 11;
+    static final int TYPE_STRUCT = 12;
+
+    private final int[] fieldStack = new int[64];
+    private int depth;
+    private int lastFieldId;
+
+    ThriftCompactWriter() {
+        super(1024);
+    }
+
+    /**
+     * Returns internal buffer, its valid length is {@link #size()}
+     */
+    @NotNull
+    byte[] getBuffer() {
+        return buf;
+    }
+
+    void structBegin() {
+        fieldStack[depth++] = lastFieldId;
+        lastFieldId = 0;
+    }
+
+    void structEnd() {
+        write(0);
+        lastFieldId = fieldStack[--depth];
+    }
+
+    void structFieldBegin(int fieldId) {
+        fieldHeader(fieldId, TYPE_STRUCT);
+        structBegin();
+    }
+
+    void listFieldBegin(int fieldId, int elementType, int size) {
+        fieldHeader(fieldId, TYPE_LIST);
+        listHeader(elementType, size);
+    }
+
+    void listHeader(int elementType, int size) {
+        if (size < 15) {
+            write((size << 4) | elementType);
+        } else {
+            write(0xF0 | elementType);
+            writeVarInt(size);
+        }
+    }
+
+    void writeBoolField(int fieldId, boolean value) {
+        fieldHeader(fieldId, value ? TYPE_BOOLEAN_TRUE : TYPE_BOOLEAN_FALSE);
+    }
+
+    void writeI32Field(int fieldId, int value) {
+        fieldHeader(fieldId, TYPE_I32);
+        writeI32(value);
+    }
+
+    void writeI64Field(int fieldId, long value) {
+        fieldHeader(fieldId, TYPE_I64);
+        writeI64(value);
+    }
+
+    void writeStringField(int fieldId, @NotNull String value) {
+        fieldHeader(fieldId, TYPE_BINARY);
+        writeString(value);
+    }
+
+    void writeI32(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    void writeI64(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeString(@NotNull String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void fieldHeader(int fieldId, int type) {
+        int delta = fieldId - lastFieldId;
+        if (delta > 0 && delta <= 15) {
+            write((delta << 4) | type);
+        } else {
+            write(type);
+            writeI32(fieldId);
+        }
+        lastFieldId = fieldId;
+    }
+
+    private void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        write((int) value);
+    }
+}
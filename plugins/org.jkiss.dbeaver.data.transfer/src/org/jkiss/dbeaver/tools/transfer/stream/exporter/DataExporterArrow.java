@@ -0,0 +1,55 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.exporter;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ArrowFileWriter;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarField;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarWriter;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Apache Arrow IPC file exporter
+ */
+public class DataExporterArrow extends StreamExporterColumnar {
+
+    private static final String PROP_BATCH_SIZE = "batchSize";
+
+    private int batchSize;
+
+    @Override
+    public void init(IStreamDataExporterSite site) throws DBException {
+        super.init(site);
+        batchSize = Math.max(CommonUtils.toInt(site.getProperties().get(PROP_BATCH_SIZE), 65536), 1);
+    }
+
+    @Override
+    protected int getBatchSize() {
+        return batchSize;
+    }
+
+    @NotNull
+    @Override
+    protected ColumnarWriter createWriter(@NotNull OutputStream outputStream, @NotNull ColumnarField[] fields) throws IOException {
+        return new ArrowFileWriter(outputStream, fields);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.exporter;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSTypedObject;
+import org.jkiss.dbeaver.tools.transfer.DTUtils;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnVector;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarField;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarType;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarWriter;
+import org.jkiss.dbeaver.utils.ContentUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Base exporter of columnar binary formats.
+ * Rows are accumulated in column vectors and written by batches.
+ */
+public abstract class StreamExporterColumnar extends StreamExporterAbstract {
+
+    private DBDAttributeBinding[] columns;
+    private ColumnarField[] fields;
+    private ColumnVector[] vectors;
+    private ColumnarWriter writer;
+
+    /**
+     * Max number of rows in a batch (row group or record batch)
+     */
+    protected abstract int getBatchSize();
+
+    @NotNull
+    protected abstract ColumnarWriter createWriter(@NotNull OutputStream outputStream, @NotNull ColumnarField[] fields) throws IOException;
+
+    @Override
+    public void exportHeader(DBCSession session) throws DBException, IOException {
+        columns = getSite().getAttributes();
+        fields = new ColumnarField[columns.length];
+        vectors = new ColumnVector[columns.length];
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < columns.length; i++) {
+            DBDAttributeBinding column = columns[i];
+            String name = CommonUtils.isEmpty(column.getLabel()) ? column.getName() : column.getLabel();
+            String uniqueName = name;
+            for (int index = 2; !names.add(uniqueName); index++) {
+                uniqueName = name + "_" + index;
+            }
+            fields[i] = createField(uniqueName, column);
+            vectors[i] = new ColumnVector(fields[i], Math.min(getBatchSize(), 1024));
+        }
+        writer = createWriter(getOutputStream(), fields);
+    }
+
+    @Override
+    public void exportRow(DBCSession session, DBCResultSet resultSet, Object[] row) throws DBException, IOException {
+        for (int i = 0; i < columns.length; i++) {
+            Object value = row[i];
+            if (DBUtils.isNullValue(value)) {
+                value = null;
+            } else if (value instanceof DBDContent content) {
+                try {
+                    value = fields[i].getType() == ColumnarType.BINARY ?
+                        ContentUtils.getContentBinaryValue(session.getProgressMonitor(), content) :
+                        ContentUtils.getContentStringValue(session.getProgressMonitor(), content);
+                } finally {
+                    DTUtils.closeContents(resultSet, content);
+                }
+            } else if (fields[i].getType() == ColumnarType.STRING && !(value instanceof String)) {
+                value = getValueDisplayString(columns[i], value);
+            }
+            try {
+                vectors[i].add(value);
+            } catch (IOException e) {
+                throw new IOException("Error exporting column '" + fields[i].getName() + "': " + e.getMessage(), e);
+            }
+        }
+        if (vectors.length > 0 && vectors[0].getSize() >= getBatchSize()) {
+            flushBatch();
+        }
+    }
+
+    @Override
+    public void exportFooter(DBRProgressMonitor monitor) throws DBException, IOException {
+        flushBatch();
+        writer.finish();
+    }
+
+    private void flushBatch() throws IOException {
+        if (vectors.length == 0 || vectors[0].getSize() == 0) {
+            return;
+        }
+        writer.writeBatch(vectors);
+        for (ColumnVector vector : vectors) {
+            vector.reset();
+        }
+    }
+
+    @NotNull
+    private static ColumnarField createField(@NotNull String name, @NotNull DBSTypedObject column) {
+        boolean unsigned = (column.getTypeModifiers() & DBSTypedObject.TYPE_MOD_NUMBER_UNSIGNED) != 0;
+        switch (column.getDataKind()) {
+            case BOOLEAN:
+                return new ColumnarField(name, ColumnarType.BOOLEAN);
+            case NUMERIC:
+                switch (column.getTypeID()) {
+                    case Types.TINYINT:
+                    case Types.SMALLINT:
+                        return new ColumnarField(name, ColumnarType.INT32);
+                    case Types.INTEGER:
+                        return new ColumnarField(name, unsigned ? ColumnarType.INT64 : ColumnarType.INT32);
+                    case Types.BIGINT:
+                        return unsigned ?
+                            new ColumnarField(name, ColumnarType.DECIMAL, 20, 0) :
+                            new ColumnarField(name, ColumnarType.INT64);
+                    case Types.REAL:
+                        return new ColumnarField(name, ColumnarType.FLOAT);
+                    case Types.FLOAT:
+                    case Types.DOUBLE:
+                        return new ColumnarField(name, ColumnarType.DOUBLE);
+                    case Types.DECIMAL:
+                    case Types.NUMERIC: {
+                        int precision = CommonUtils.toInt(column.getPrecision());
+                        int scale = CommonUtils.toInt(column.getScale());
+                        if (precision > 0 && precision <= ColumnarField.MAX_DECIMAL_PRECISION && scale >= 0 && scale <= precision) {
+                            return new ColumnarField(name, ColumnarType.DECIMAL, precision, scale);
+                        }
+                        // Unbounded numbers are exported as strings to keep precision
+                        return new ColumnarField(name, ColumnarType.STRING);
+                    }
+                    default:
+                        return new ColumnarField(name, ColumnarType.STRING);
+                }
+            case DATETIME:
+                switch (column.getTypeID()) {
+                    case Types.DATE:
+                        return new ColumnarField(name, ColumnarType.DATE);
+                    case Types.TIMESTAMP:
+                        return new ColumnarField(name, ColumnarType.TIMESTAMP);
+                    case Types.TIMESTAMP_WITH_TIMEZONE:
+                        return new ColumnarField(name, ColumnarType.TIMESTAMP_TZ);
+                    default:
+                        return new ColumnarField(name, ColumnarType.STRING);
+                }
+            case BINARY:
+                return new ColumnarField(name, ColumnarType.BINARY);
+            case CONTENT:
+                switch (column.getTypeID()) {
+                    case Types.CLOB:
+                    case Types.NCLOB:
+                    case Types.LONGVARCHAR:
+                    case Types.LONGNVARCHAR:
+                    case Types.SQLXML:
+                        return new ColumnarField(name, ColumnarType.STRING);
+                    default:
+                        return new ColumnarField(name, ColumnarType.BINARY);
+                }
+            default:
+                return new ColumnarField(name, ColumnarType.STRING);
+        }
+    }
+}
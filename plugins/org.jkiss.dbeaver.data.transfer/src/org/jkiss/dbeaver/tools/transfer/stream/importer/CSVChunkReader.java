@@ -0,0 +1,346 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.importer;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.utils.csv.CSVParser;
+import org.jkiss.utils.csv.CSVReader;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Reads a local CSV file in chunks which are parsed in parallel.
+ * <p>
+ * The file is memory-mapped and split on line breaks which are outside of quoted values.
+ * Chunks are parsed by background jobs, {@link #nextChunk(DBRProgressMonitor)} returns parsed rows in file order.
+ * Split points are only a guess (parser escape rules are not replicated exactly), so a chunk which
+ * ends inside a quoted value is parsed once again together with the following chunk.
+ */
+public class CSVChunkReader implements AutoCloseable {
+
+    private static final Log log = Log.getLog(CSVChunkReader.class);
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final long SCAN_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    public interface ParserFactory {
+        @NotNull
+        CSVReader openReader(@NotNull Reader reader);
+    }
+
+    @NotNull
+    private final FileChannel channel;
+    private final long fileSize;
+    @NotNull
+    private final Charset charset;
+    @NotNull
+    private final ParserFactory parserFactory;
+    @NotNull
+    private final UnaryOperator<String[]> rowProcessor;
+    private final int chunkSize;
+    private final int quoteByte;
+    private final int escapeByte;
+    private final int maxChunksInFlight;
+
+    private final BlockingQueue<Chunk> parseQueue = new LinkedBlockingQueue<>();
+    private final Deque<Chunk> chunksInFlight = new ArrayDeque<>();
+    private final List<ChunkParseJob> jobs = new ArrayList<>();
+    private volatile boolean closed;
+    private boolean unterminatedQuote;
+
+    // Scanner state
+    private long scanPosition;
+    private boolean inQuotes;
+    private boolean escaped;
+    @Nullable
+    private ByteBuffer scanWindow;
+    private long scanWindowStart;
+
+    public CSVChunkReader(
+        @NotNull Path file,
+        @NotNull Charset charset,
+        char quoteChar,
+        char escapeChar,
+        int threads,
+        int chunkSize,
+        @NotNull ParserFactory parserFactory,
+        @NotNull UnaryOperator<String[]> rowProcessor
+    ) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.charset = charset;
+        this.parserFactory = parserFactory;
+        this.rowProcessor = rowProcessor;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.quoteByte = quoteChar == CSVParser.NULL_CHARACTER ? -1 : encodeSingleByte(charset, quoteChar);
+        this.escapeByte = escapeChar == CSVParser.NULL_CHARACTER || escapeChar == quoteChar ? -1 : encodeSingleByte(charset, escapeChar);
+        this.maxChunksInFlight = threads * 2;
+        this.scanPosition = getDataOffset();
+
+        for (int i = 0; i < threads; i++) {
+            ChunkParseJob job = new ChunkParseJob(i);
+            job.schedule();
+            jobs.add(job);
+        }
+    }
+
+    /**
+     * Checks whether the file can be split into chunks: it must be a regular local file
+     * and line breaks, quote and escape characters must be single bytes which never appear inside multibyte characters.
+     */
+    public static boolean isSupported(@NotNull Path file, @NotNull Charset charset, char quoteChar, char escapeChar, long minFileSize) {
+        try {
+            if (file.getFileSystem() != FileSystems.getDefault() || !Files.isRegularFile(file) || Files.size(file) < minFileSize) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        if (!charset.equals(StandardCharsets.UTF_8) && !charset.equals(StandardCharsets.US_ASCII)) {
+            if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1.0f) {
+                return false;
+            }
+        }
+        return encodeSingleByte(charset, '\n') == '\n' &&
+            (quoteChar == CSVParser.NULL_CHARACTER || encodeSingleByte(charset, quoteChar) >= 0) &&
+            (escapeChar == CSVParser.NULL_CHARACTER || encodeSingleByte(charset, escapeChar) >= 0);
+    }
+
+    /**
+     * Returns rows of the next chunk or null if the end of file was reached or the monitor was canceled
+     */
+    @Nullable
+    public List<String[]> nextChunk(@NotNull DBRProgressMonitor monitor) throws IOException {
+        if (unterminatedQuote) {
+            throw new IOException("Un-terminated quote sequence was detected");
+        }
+        fillQueue();
+        Chunk chunk = chunksInFlight.poll();
+        if (chunk == null || !waitFor(chunk, monitor)) {
+            return null;
+        }
+        while (chunk.error == null && chunk.pending) {
+            fillQueue();
+            Chunk next = chunksInFlight.poll();
+            if (next == null) {
+                // Last chunk - the quote is really not terminated
+                unterminatedQuote = true;
+                break;
+            }
+            log.debug("CSV chunk at " + chunk.start + " ends inside a quoted value, merging it with the next chunk");
+            next.discarded = true;
+            chunk = new Chunk(chunk.start, next.end);
+            parseChunk(chunk);
+        }
+        if (chunk.error != null) {
+            throw new IOException("Error parsing CSV chunk at offset " + chunk.start, chunk.error);
+        }
+        return chunk.rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        parseQueue.clear();
+        chunksInFlight.clear();
+        for (ChunkParseJob job : jobs) {
+            try {
+                job.join();
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        channel.close();
+    }
+
+    private void fillQueue() throws IOException {
+        while (chunksInFlight.size() < maxChunksInFlight && scanPosition < fileSize) {
+            long start = scanPosition;
+            long end = findChunkEnd(start);
+            scanPosition = end;
+            Chunk chunk = new Chunk(start, end);
+            chunksInFlight.add(chunk);
+            parseQueue.add(chunk);
+        }
+    }
+
+    /**
+     * Scans bytes from the start position and returns the position after the first line break
+     * outside of quotes once the chunk size is reached.
+     */
+    private long findChunkEnd(long start) throws IOException {
+        long target = Math.min(fileSize, start + chunkSize);
+        long position = start;
+        while (position < fileSize) {
+            ByteBuffer window = getScanWindow(position);
+            int offset = (int) (position - scanWindowStart);
+            int limit = window.limit();
+            for (int i = offset; i < limit; i++) {
+                int b = window.get(i) & 0xFF;
+                if (escaped) {
+                    escaped = false;
+                } else if (b == escapeByte && inQuotes) {
+                    escaped = true;
+                } else if (b == quoteByte) {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes && scanWindowStart + i >= target - 1) {
+                    return scanWindowStart + i + 1;
+                }
+            }
+            position = scanWindowStart + limit;
+        }
+        return fileSize;
+    }
+
+    @NotNull
+    private ByteBuffer getScanWindow(long position) throws IOException {
+        if (scanWindow == null || position < scanWindowStart || position >= scanWindowStart + scanWindow.limit()) {
+            scanWindowStart = position;
+            scanWindow = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SCAN_WINDOW_SIZE, fileSize - position));
+        }
+        return scanWindow;
+    }
+
+    private long getDataOffset() throws IOException {
+        if (!charset.equals(StandardCharsets.UTF_8) || fileSize < 3) {
+            return 0;
+        }
+        ByteBuffer bom = ByteBuffer.allocate(3);
+        channel.read(bom, 0);
+        return bom.get(0) == (byte) 0xEF && bom.get(1) == (byte) 0xBB && bom.get(2) == (byte) 0xBF ? 3 : 0;
+    }
+
+    private boolean waitFor(@NotNull Chunk chunk, @NotNull DBRProgressMonitor monitor) throws IOException {
+        try {
+            while (!chunk.done.await(500, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            throw new IOException("CSV parsing was interrupted", e);
+        }
+    }
+
+    private void parseChunk(@NotNull Chunk chunk) {
+        try {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+            CharBuffer chars = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(buffer);
+            Reader reader = chars.hasArray() ?
+                new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining()) :
+                new StringReader(chars.toString());
+            List<String[]> rows = new ArrayList<>();
+            try (CSVReader csvReader = parserFactory.openReader(reader)) {
+                for (String[] line = csvReader.readNext(); line != null; line = csvReader.readNext()) {
+                    if (line.length > 0) {
+                        rows.add(rowProcessor.apply(line));
+                    }
+                }
+                chunk.pending = csvReader.getParser().isPending();
+            }
+            chunk.rows = rows;
+        } catch (Throwable e) {
+            chunk.error = e;
+        } finally {
+            chunk.done.countDown();
+        }
+    }
+
+    private static int encodeSingleByte(@NotNull Charset charset, char c) {
+        byte[] bytes = String.valueOf(c).getBytes(charset);
+        if (bytes.length != 1 || (bytes[0] < 0 && charset.equals(StandardCharsets.UTF_8))) {
+            return -1;
+        }
+        return bytes[0] & 0xFF;
+    }
+
+    private static class Chunk {
+        final long start;
+        final long end;
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile boolean discarded;
+        List<String[]> rows;
+        boolean pending;
+        Throwable error;
+
+        Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private class ChunkParseJob extends AbstractJob {
+
+        ChunkParseJob(int index) {
+            super("Parse CSV chunks (" + (index + 1) + ")");
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                while (!closed && !monitor.isCanceled()) {
+                    Chunk chunk = parseQueue.poll(500, TimeUnit.MILLISECONDS);
+                    if (chunk == null) {
+                        continue;
+                    }
+                    if (chunk.discarded) {
+                        chunk.done.countDown();
+                    } else {
+                        parseChunk(chunk);
+                    }
+                }
+            } catch (InterruptedException e) {
+                return Status.CANCEL_STATUS;
+            }
+            return Status.OK_STATUS;
+        }
+    }
+}
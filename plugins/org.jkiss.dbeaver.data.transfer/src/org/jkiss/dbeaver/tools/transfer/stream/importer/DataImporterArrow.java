@@ -0,0 +1,43 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.importer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ArrowFileReader;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Apache Arrow IPC (file or stream format) importer
+ */
+public class DataImporterArrow extends StreamImporterColumnar {
+
+    @NotNull
+    @Override
+    protected String getFormatName() {
+        return "Arrow";
+    }
+
+    @NotNull
+    @Override
+    protected ColumnarReader openReader(@NotNull Path file) throws IOException {
+        return new ArrowFileReader(Files.newByteChannel(file));
+    }
+}
@@ -40,9 +40,11 @@ import org.jkiss.utils.io.BOMInputStream;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 /**
  * CSV importer
@@ -58,7 +60,10 @@ public class DataImporterCSV extends StreamImporterAbstract {
     private static final String PROP_EMPTY_STRING_NULL = "emptyStringNull";
     private static final String PROP_ESCAPE_CHAR = "escapeChar";
     private static final String PROP_TRIM_WHITESPACES = "trimWhitespaces";
+    private static final String PROP_PARSE_THREADS = "parseThreads";
     public static final int READ_BUFFER_SIZE = 255 * 1024;
+    // Smaller files are parsed in a single thread even if parallel parsing is enabled
+    private static final long MIN_PARALLEL_FILE_SIZE = 2L * CSVChunkReader.DEFAULT_CHUNK_SIZE;
 
     public enum HeaderPosition {
         none,
@@ -166,15 +171,17 @@ public class DataImporterCSV extends StreamImporterAbstract {
 
     private CSVReader openCSVReader(Reader reader, Map<String, Object> processorProperties) {
         String delimiter = StreamTransferUtils.getDelimiterString(processorProperties, PROP_DELIMITER);
+        return new CSVReader(reader, delimiter.charAt(0), getQuoteChar(processorProperties), getEscapeChar(processorProperties));
+    }
+
+    private static char getQuoteChar(Map<String, Object> processorProperties) {
         String quoteChar = CommonUtils.toString(processorProperties.get(PROP_QUOTE_CHAR));
-        if (CommonUtils.isEmpty(quoteChar)) {
-            quoteChar = String.valueOf(CSVParser.NULL_CHARACTER);
-        }
+        return CommonUtils.isEmpty(quoteChar) ? CSVParser.NULL_CHARACTER : quoteChar.charAt(0);
+    }
+
+    private static char getEscapeChar(Map<String, Object> processorProperties) {
         String escapeChar = CommonUtils.toString(processorProperties.get(PROP_ESCAPE_CHAR));
-        if (CommonUtils.isEmpty(escapeChar)) {
-            escapeChar = String.valueOf(CSVParser.NULL_CHARACTER);
-        }
-        return new CSVReader(reader, delimiter.charAt(0), quoteChar.charAt(0), escapeChar.charAt(0));
+        return CommonUtils.isEmpty(escapeChar) ? CSVParser.NULL_CHARACTER : escapeChar.charAt(0);
     }
 
     private Reader openStreamReader(InputStream inputStream, Map<String, Object> processorProperties, boolean useBufferedStream) throws UnsupportedEncodingException {
@@ -204,6 +211,37 @@ public class DataImporterCSV extends StreamImporterAbstract {
         }
     }
 
+    private static String[] prepareLine(String[] line, int targetAttrSize, boolean trimWhitespaces, boolean emptyStringNull, String nullValueMark) {
+        if (line.length < targetAttrSize) {
+            // Stream row may be shorter than header
+            String[] newLine = new String[targetAttrSize];
+            System.arraycopy(line, 0, newLine, 0, line.length);
+            line = newLine;
+        }
+        if (trimWhitespaces) {
+            for (int i = 0; i < line.length; i++) {
+                if (line[i] != null) {
+                    line[i] = line[i].trim();
+                }
+            }
+        }
+        if (emptyStringNull) {
+            for (int i = 0; i < line.length; i++) {
+                if ("".equals(line[i])) {
+                    line[i] = null;
+                }
+            }
+        }
+        if (!CommonUtils.isEmpty(nullValueMark)) {
+            for (int i = 0; i < line.length; i++) {
+                if (nullValueMark.equals(line[i])) {
+                    line[i] = null;
+                }
+            }
+        }
+        return line;
+    }
+
     @Override
     public void runImport(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSource streamDataSource, @NotNull InputStream inputStream, @NotNull IDataTransferConsumer consumer) throws DBException {
         IStreamDataImporterSite site = getSite();
@@ -223,70 +261,87 @@ public class DataImporterCSV extends StreamImporterAbstract {
 
             applyTransformHints(resultSet, consumer, properties, PROP_TIMESTAMP_FORMAT, PROP_TIMESTAMP_ZONE);
 
-            try (Reader reader = openStreamReader(inputStream, properties, true)) {
-                try (CSVReader csvReader = openCSVReader(reader, properties)) {
-
-                    int maxRows = site.getSettings().getMaxRows();
-                    int targetAttrSize = entityMapping.getStreamColumns().size();
-                    boolean headerRead = false;
-                    for (long lineNum = 0; ; ) {
-                        if (monitor.isCanceled()) {
-                            break;
-                        }
-                        String[] line = csvReader.readNext();
-                        if (line == null) {
-                            if (csvReader.getParser().isPending()) {
-                                throw new IOException("Un-terminated quote sequence was detected");
+            int maxRows = site.getSettings().getMaxRows();
+            int targetAttrSize = entityMapping.getStreamColumns().size();
+            UnaryOperator<String[]> rowProcessor = line -> prepareLine(line, targetAttrSize, trimWhitespaces, emptyStringNull, nullValueMark);
+            int parseThreads = Math.min(CommonUtils.toInt(properties.get(PROP_PARSE_THREADS), 1), Runtime.getRuntime().availableProcessors());
+            char quoteChar = getQuoteChar(properties);
+            char escapeChar = getEscapeChar(properties);
+            Path inputFile = entityMapping.getInputFile();
+            try {
+                Charset charset = Charset.forName(CommonUtils.toString(properties.get(PROP_ENCODING), GeneralUtils.UTF8_ENCODING));
+                if (parseThreads > 1 && CSVChunkReader.isSupported(inputFile, charset, quoteChar, escapeChar, MIN_PARALLEL_FILE_SIZE)) {
+                    try (CSVChunkReader chunkReader = new CSVChunkReader(
+                        inputFile,
+                        charset,
+                        quoteChar,
+                        escapeChar,
+                        parseThreads,
+                        CSVChunkReader.DEFAULT_CHUNK_SIZE,
+                        reader -> openCSVReader(reader, properties),
+                        rowProcessor)
+                    ) {
+                        boolean headerRead = false;
+                        long lineNum = 0;
+                        while (!monitor.isCanceled() && (maxRows <= 0 || lineNum < maxRows)) {
+                            List<String[]> rows = chunkReader.nextChunk(monitor);
+                            if (rows == null) {
+                                break;
                             }
-                            break;
-                        }
-                        if (line.length == 0) {
-                            continue;
-                        }
-                        if (headerPosition != HeaderPosition.none && !headerRead) {
-                            // First line is a header
-                            headerRead = true;
-                            continue;
-                        }
-                        if (maxRows > 0 && lineNum >= maxRows) {
-                            break;
-                        }
+                            for (String[] line : rows) {
+                                if (headerPosition != HeaderPosition.none && !headerRead) {
+                                    // First line is a header
+                                    headerRead = true;
+                                    continue;
+                                }
+                                if (monitor.isCanceled() || (maxRows > 0 && lineNum >= maxRows)) {
+                                    break;
+                                }
+                                resultSet.setStreamRow(line);
+                                consumer.fetchRow(producerSession, resultSet);
+                                lineNum++;
 
-                        if (line.length < targetAttrSize) {
-                            // Stream row may be shorter than header
-                            String[] newLine = new String[targetAttrSize];
-                            System.arraycopy(line, 0, newLine, 0, line.length);
-                            for (int i = line.length; i < targetAttrSize; i++) {
-                                newLine[i] = null;
-                            }
-                            line = newLine;
-                        }
-                        if (trimWhitespaces) {
-                            for (int i = 0; i < line.length; i++) {
-                                line[i] = line[i].trim();
-                            }
-                        }
-                        if (emptyStringNull) {
-                            for (int i = 0; i < line.length; i++) {
-                                if ("".equals(line[i])) {
-                                    line[i] = null;
+                                if (DBFetchProgress.monitorFetchProgress(lineNum)) {
+                                    monitor.subTask(Long.toUnsignedString(lineNum) + " rows processed");
                                 }
                             }
                         }
-                        if (!CommonUtils.isEmpty(nullValueMark)) {
-                            for (int i = 0; i < line.length; i++) {
-                                if (nullValueMark.equals(line[i])) {
-                                    line[i] = null;
+                    }
+                } else {
+                    try (Reader reader = openStreamReader(inputStream, properties, true)) {
+                        try (CSVReader csvReader = openCSVReader(reader, properties)) {
+                            boolean headerRead = false;
+                            for (long lineNum = 0; ; ) {
+                                if (monitor.isCanceled()) {
+                                    break;
+                                }
+                                String[] line = csvReader.readNext();
+                                if (line == null) {
+                                    if (csvReader.getParser().isPending()) {
+                                        throw new IOException("Un-terminated quote sequence was detected");
+                                    }
+                                    break;
+                                }
+                                if (line.length == 0) {
+                                    continue;
+                                }
+                                if (headerPosition != HeaderPosition.none && !headerRead) {
+                                    // First line is a header
+                                    headerRead = true;
+                                    continue;
+                                }
+                                if (maxRows > 0 && lineNum >= maxRows) {
+                                    break;
                                 }
-                            }
-                        }
 
-                        resultSet.setStreamRow(line);
-                        consumer.fetchRow(producerSession, resultSet);
-                        lineNum++;
+                                resultSet.setStreamRow(rowProcessor.apply(line));
+                                consumer.fetchRow(producerSession, resultSet);
+                                lineNum++;
 
-                        if (DBFetchProgress.monitorFetchProgress(lineNum)) {
-                            monitor.subTask(Long.toUnsignedString(lineNum) + " rows processed");
+                                if (DBFetchProgress.monitorFetchProgress(lineNum)) {
+                                    monitor.subTask(Long.toUnsignedString(lineNum) + " rows processed");
+                                }
+                            }
                         }
                     }
                 }
@@ -0,0 +1,175 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.importer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBFetchProgress;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataImporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamDataImporterColumnInfo;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamEntityMapping;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamTransferResultSet;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnVector;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarField;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarReader;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarType;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base importer of columnar binary formats.
+ * Column types are taken from the file schema, files are read directly (not from the input stream)
+ * because columnar formats keep metadata in the file footer.
+ */
+public abstract class StreamImporterColumnar extends StreamImporterAbstract {
+
+    @NotNull
+    protected abstract String getFormatName();
+
+    @NotNull
+    protected abstract ColumnarReader openReader(@NotNull Path file) throws IOException;
+
+    @NotNull
+    @Override
+    public List<StreamDataImporterColumnInfo> readColumnsInfo(StreamEntityMapping entityMapping, @NotNull InputStream inputStream) throws DBException {
+        List<StreamDataImporterColumnInfo> columnsInfo = new ArrayList<>();
+        Map<String, Object> processorProperties = getSite().getProcessorProperties();
+        final int columnSamplesCount = Math.max(CommonUtils.toInt(processorProperties.get(PROP_COLUMN_TYPE_SAMPLES), 100), 0);
+        final int columnMinimalLength = Math.max(CommonUtils.toInt(processorProperties.get(PROP_COLUMN_TYPE_LENGTH), 1), 1);
+
+        try (ColumnarReader reader = openReader(entityMapping.getInputFile())) {
+            List<ColumnarField> fields = reader.getFields();
+            for (int i = 0; i < fields.size(); i++) {
+                ColumnarField field = fields.get(i);
+                StreamDataImporterColumnInfo columnInfo = new StreamDataImporterColumnInfo(
+                    entityMapping,
+                    i,
+                    field.getName(),
+                    STRING_DATA_TYPE,
+                    columnMinimalLength,
+                    DBPDataKind.UNKNOWN);
+                columnInfo.setMappingMetadataPresent(true);
+                switch (field.getType()) {
+                    case BOOLEAN -> columnInfo.updateType(DBPDataKind.BOOLEAN, "BOOLEAN");
+                    case INT32 -> columnInfo.updateType(DBPDataKind.NUMERIC, "INTEGER");
+                    case INT64 -> columnInfo.updateType(DBPDataKind.NUMERIC, "BIGINT");
+                    case FLOAT -> columnInfo.updateType(DBPDataKind.NUMERIC, "REAL");
+                    case DOUBLE -> columnInfo.updateType(DBPDataKind.NUMERIC, "DOUBLE");
+                    case DECIMAL -> {
+                        columnInfo.updateType(DBPDataKind.NUMERIC, "DECIMAL");
+                        columnInfo.setPrecision(field.getPrecision());
+                        columnInfo.setScale(field.getScale());
+                    }
+                    case DATE -> columnInfo.updateType(DBPDataKind.DATETIME, "DATE");
+                    case TIMESTAMP, TIMESTAMP_TZ -> columnInfo.updateType(DBPDataKind.DATETIME, "TIMESTAMP");
+                    case BINARY -> columnInfo.updateType(DBPDataKind.BINARY, "BLOB");
+                    case STRING -> columnInfo.updateType(DBPDataKind.STRING, "VARCHAR");
+                }
+                columnsInfo.add(columnInfo);
+            }
+
+            // Guess string lengths from the first batch
+            ColumnVector[] batch = columnSamplesCount > 0 ? reader.readBatch() : null;
+            if (batch != null) {
+                for (int i = 0; i < batch.length; i++) {
+                    ColumnVector vector = batch[i];
+                    if (vector.getField().getType() != ColumnarType.STRING) {
+                        continue;
+                    }
+                    int maxLength = 0;
+                    for (int row = 0; row < Math.min(vector.getSize(), columnSamplesCount); row++) {
+                        if (!vector.isNull(row)) {
+                            maxLength = Math.max(maxLength, ((String) vector.getObject(row)).length());
+                        }
+                    }
+                    columnsInfo.get(i).updateMaxLength(entityMapping.getDataSource(), maxLength);
+                }
+            }
+        } catch (IOException e) {
+            throw new DBException("IO error reading " + getFormatName(), e);
+        }
+
+        return columnsInfo;
+    }
+
+    @Override
+    public void runImport(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSource streamDataSource, @NotNull InputStream inputStream, @NotNull IDataTransferConsumer consumer) throws DBException {
+        IStreamDataImporterSite site = getSite();
+        StreamEntityMapping entityMapping = site.getSourceObject();
+        Map<String, Object> properties = site.getProcessorProperties();
+
+        DBCExecutionContext context = streamDataSource.getDefaultInstance().getDefaultContext(monitor, false);
+        try (DBCSession producerSession = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Transfer stream data")) {
+            LocalStatement localStatement = new LocalStatement(producerSession, "SELECT * FROM Stream");
+            StreamTransferResultSet resultSet = new StreamTransferResultSet(producerSession, localStatement, entityMapping);
+
+            consumer.fetchStart(producerSession, resultSet, -1, -1);
+
+            applyTransformHints(resultSet, consumer, properties, null, null);
+
+            try (ColumnarReader reader = openReader(entityMapping.getInputFile())) {
+                int maxRows = site.getSettings().getMaxRows();
+                int targetAttrSize = entityMapping.getStreamColumns().size();
+                long rowNum = 0;
+                readLoop:
+                for (ColumnVector[] batch = reader.readBatch(); batch != null; batch = reader.readBatch()) {
+                    int batchSize = batch.length == 0 ? 0 : batch[0].getSize();
+                    for (int row = 0; row < batchSize; row++) {
+                        if (monitor.isCanceled() || (maxRows > 0 && rowNum >= maxRows)) {
+                            break readLoop;
+                        }
+                        Object[] line = new Object[targetAttrSize];
+                        for (int i = 0; i < Math.min(batch.length, targetAttrSize); i++) {
+                            line[i] = batch[i].getValue(row);
+                        }
+
+                        resultSet.setStreamRow(line);
+                        consumer.fetchRow(producerSession, resultSet);
+                        rowNum++;
+
+                        if (DBFetchProgress.monitorFetchProgress(rowNum)) {
+                            monitor.subTask(Long.toUnsignedString(rowNum) + " rows processed");
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new DBException("IO error reading " + getFormatName(), e);
+            } finally {
+                try {
+                    consumer.fetchEnd(producerSession, resultSet);
+                } finally {
+                    consumer.close();
+                }
+            }
+        }
+    }
+
+}
@@ -125,6 +125,7 @@ public class DPIControllerImpl implements DPIController {
                 protected IStatus run(DBRProgressMonitor monitor) {
                     server.stop(1);
                     server = null;
+                    context.close();
                     return Status.OK_STATUS;
                 }
             }.schedule(200);
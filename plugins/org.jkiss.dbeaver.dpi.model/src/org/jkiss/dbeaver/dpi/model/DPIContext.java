@@ -18,12 +18,14 @@ package org.jkiss.dbeaver.dpi.model;
 
 import com.google.gson.Gson;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.dpi.model.adapters.DPISerializer;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.dpi.DPIController;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -42,6 +44,8 @@ public class DPIContext {
     private final Object rootObject;
     private final Gson gson;
     private DPIController dpiController;
+    @Nullable
+    private DPIRowStreamServer rowStreamServer;
 
     public DPIContext(@NotNull DBRProgressMonitor monitor, @NotNull Object rootObject, boolean server) {
         this.monitor = monitor;
@@ -118,4 +122,23 @@ public class DPIContext {
     public DBRProgressMonitor getProgressMonitor() {
         return monitor;
     }
+
+    /**
+     * Returns server of result set streams. Server is started on the first call.
+     * Row fetches are synchronized on the controller, so they don't interleave with method calls.
+     */
+    @NotNull
+    public synchronized DPIRowStreamServer getRowStreamServer() throws IOException {
+        if (rowStreamServer == null) {
+            rowStreamServer = new DPIRowStreamServer(dpiController != null ? dpiController : this);
+        }
+        return rowStreamServer;
+    }
+
+    public synchronized void close() {
+        if (rowStreamServer != null) {
+            rowStreamServer.close();
+            rowStreamServer = null;
+        }
+    }
 }
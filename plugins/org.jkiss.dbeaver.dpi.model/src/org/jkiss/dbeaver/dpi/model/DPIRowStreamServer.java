@@ -0,0 +1,302 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.dpi.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDAttributeBindingMeta;
+import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.impl.data.ValueBinaryCodec;
+import org.jkiss.dbeaver.model.impl.dpi.DPIResultSet;
+import org.jkiss.dbeaver.model.impl.dpi.DPIRowBatch;
+import org.jkiss.dbeaver.utils.ContentUtils;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves result sets of the DPI process as binary row streams.
+ * <p>
+ * Result sets are registered when they are returned to the client. The client connects to the loopback socket,
+ * sends the stream token and then requests batches. Each frame is length-prefixed and contains
+ * a single {@link DPIRowBatch}, the end of stream marker or an error message.
+ * Rows are fetched only when the client requests more batches, so a slow client holds the cursor instead of
+ * buffering the whole result set in memory.
+ * <p>
+ * Result set is closed when its stream is finished or abandoned: streams which were not opened by the client
+ * in {@link #STREAM_OPEN_TIMEOUT} ms and all pending streams of the closed server are closed.
+ * LOB values are read while their row is current and passed as strings or binaries.
+ * Other complex values (structs, arrays) can't be passed and are replaced with value errors.
+ */
+public class DPIRowStreamServer implements AutoCloseable {
+
+    private static final Log log = Log.getLog(DPIRowStreamServer.class);
+
+    public static final byte FRAME_BATCH = 1;
+    public static final byte FRAME_END = 2;
+    public static final byte FRAME_ERROR = 3;
+
+    public static final long STREAM_OPEN_TIMEOUT = 5 * 60 * 1000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @NotNull
+    private final Object fetchLock;
+    @NotNull
+    private final ServerSocket serverSocket;
+    private final Map<String, RowStream> pendingStreams = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param fetchLock lock which serializes fetches with other DPI calls
+     */
+    public DPIRowStreamServer(@NotNull Object fetchLock) throws IOException {
+        this.fetchLock = fetchLock;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptThread = new Thread(this::acceptConnections, "DPI row stream server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Registers result set for streaming and returns the stream token
+     */
+    @NotNull
+    public String openStream(@NotNull DBCResultSet resultSet, int columnCount) {
+        closeAbandonedStreams();
+        String token = UUID.randomUUID().toString();
+        pendingStreams.put(token, new RowStream(resultSet, columnCount));
+        return token;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (String token : pendingStreams.keySet()) {
+            RowStream stream = pendingStreams.remove(token);
+            if (stream != null) {
+                stream.close();
+            }
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Error closing row stream server socket", e);
+        }
+    }
+
+    private void closeAbandonedStreams() {
+        long expireTime = System.currentTimeMillis() - STREAM_OPEN_TIMEOUT;
+        for (Map.Entry<String, RowStream> entry : pendingStreams.entrySet()) {
+            if (entry.getValue().openTime < expireTime && pendingStreams.remove(entry.getKey(), entry.getValue())) {
+                log.debug("Row stream was not opened by the client, close the result set");
+                entry.getValue().close();
+            }
+        }
+    }
+
+    private void acceptConnections() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread thread = new Thread(() -> serveConnection(socket), "DPI row stream");
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                if (!closed) {
+                    log.debug("Error accepting row stream connection", e);
+                }
+            }
+        }
+    }
+
+    private void serveConnection(@NotNull Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+            RowStream stream = pendingStreams.remove(in.readUTF());
+            if (stream == null) {
+                writeError(out, "Result set stream not found");
+            } else {
+                try {
+                    serveStream(stream, in, out);
+                } finally {
+                    stream.close();
+                }
+            }
+            out.flush();
+            // Wait until the client closes the connection, so it reads all frames before the socket is closed
+            while (in.read() >= 0) {
+                // Skip remaining requests
+            }
+        } catch (EOFException | SocketException e) {
+            // Client closed the stream
+        } catch (IOException e) {
+            log.debug("Error serving row stream", e);
+        }
+    }
+
+    private void serveStream(@NotNull RowStream stream, @NotNull DataInputStream in, @NotNull DataOutputStream out) throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(BUFFER_SIZE);
+        for (;;) {
+            // Client requests the number of batches it is ready to receive
+            int batchCount = in.readInt();
+            for (int i = 0; i < batchCount; i++) {
+                List<Object[]> rows;
+                try {
+                    rows = stream.fetchBatch();
+                } catch (Exception e) {
+                    log.debug("Error fetching row stream batch", e);
+                    writeError(out, e.getMessage() == null ? e.getClass().getName() : e.getMessage());
+                    return;
+                }
+                if (!rows.isEmpty()) {
+                    frame.reset();
+                    DataOutputStream frameOut = new DataOutputStream(frame);
+                    frameOut.writeByte(FRAME_BATCH);
+                    DPIRowBatch.write(frameOut, rows, stream.columnCount);
+                    frameOut.flush();
+                    out.writeInt(frame.size());
+                    frame.writeTo(out);
+                }
+                if (rows.size() < DPIRowBatch.DEFAULT_ROW_COUNT) {
+                    out.writeInt(1);
+                    out.writeByte(FRAME_END);
+                    return;
+                }
+            }
+            out.flush();
+        }
+    }
+
+    private static void writeError(@NotNull DataOutputStream out, @NotNull String message) throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        DataOutputStream frameOut = new DataOutputStream(frame);
+        frameOut.writeByte(FRAME_ERROR);
+        frameOut.writeUTF(message);
+        frameOut.flush();
+        out.writeInt(frame.size());
+        frame.writeTo(out);
+    }
+
+    private class RowStream {
+        @NotNull
+        private final DBCResultSet resultSet;
+        private final int columnCount;
+        private final long openTime = System.currentTimeMillis();
+        @Nullable
+        private DBDAttributeBinding[] bindings;
+
+        RowStream(@NotNull DBCResultSet resultSet, int columnCount) {
+            this.resultSet = resultSet;
+            this.columnCount = columnCount;
+        }
+
+        void close() {
+            synchronized (fetchLock) {
+                try {
+                    resultSet.close();
+                } catch (Exception e) {
+                    log.debug("Error closing streamed result set", e);
+                }
+            }
+        }
+
+        @NotNull
+        List<Object[]> fetchBatch() throws DBCException {
+            List<Object[]> rows = new ArrayList<>(DPIRowBatch.DEFAULT_ROW_COUNT);
+            synchronized (fetchLock) {
+                while (rows.size() < DPIRowBatch.DEFAULT_ROW_COUNT && resultSet.nextRow()) {
+                    rows.add(fetchRow());
+                }
+            }
+            return rows;
+        }
+
+        @NotNull
+        private Object[] fetchRow() throws DBCException {
+            Object[] row = new Object[columnCount];
+            if (resultSet instanceof DPIResultSet) {
+                // Values are already fetched
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = toStreamValue(resultSet.getSession(), resultSet.getAttributeValue(i));
+                }
+                return row;
+            }
+            DBCSession session = resultSet.getSession();
+            if (bindings == null) {
+                List<? extends DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+                bindings = new DBDAttributeBinding[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    bindings[i] = new DBDAttributeBindingMeta(null, session, attributes.get(i));
+                }
+            }
+            for (int i = 0; i < columnCount; i++) {
+                DBDAttributeBinding binding = bindings[i];
+                try {
+                    row[i] = toStreamValue(
+                        session,
+                        binding.getValueHandler().fetchValueObject(session, resultSet, binding.getMetaAttribute(), i));
+                } catch (Throwable e) {
+                    row[i] = new DBDValueError(e);
+                }
+            }
+            return row;
+        }
+
+        /**
+         * Converts value to the form supported by {@link DPIRowBatch}
+         */
+        @Nullable
+        private Object toStreamValue(@NotNull DBCSession session, @Nullable Object value) throws DBCException {
+            if (value instanceof DBDValueError || ValueBinaryCodec.isSupported(value)) {
+                return value;
+            }
+            if (value instanceof DBDContent content) {
+                // LOB locators are valid only while the cursor is on their row
+                try {
+                    return ContentUtils.isTextContent(content) ?
+                        ContentUtils.getContentStringValue(session.getProgressMonitor(), content) :
+                        ContentUtils.getContentBinaryValue(session.getProgressMonitor(), content);
+                } finally {
+                    content.release();
+                }
+            }
+            return new DBDValueError(new DBCException("Value of " + value.getClass().getName() + " can't be passed from the DPI process"));
+        }
+    }
+}
@@ -22,21 +22,30 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.jkiss.dbeaver.dpi.model.DPIContext;
+import org.jkiss.dbeaver.dpi.model.DPIRowStreamServer;
+import org.jkiss.dbeaver.dpi.model.client.DPIRowStreamClient;
+import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
+import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.DBCStatement;
 import org.jkiss.dbeaver.model.impl.dpi.DPIResultSet;
 import org.jkiss.dbeaver.model.impl.dpi.DPIResultSetColumn;
-import org.jkiss.dbeaver.model.impl.dpi.DPIServerSmartProxyDataReceiver;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Result set adapter. Only metadata is passed in JSON, rows are read by the client from the binary row stream
+ * of the DPI process (see {@link DPIRowStreamServer}).
+ */
 public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
     private static final String META = "meta";
     private static final String SESSION = "session";
     private static final String STATEMENT = "statement";
-    private static final String ROWS = "rows";
+    private static final String STREAM_PORT = "streamPort";
+    private static final String STREAM_TOKEN = "streamToken";
     private final Gson gson;
 
     public DPIResultSetAdapter(DPIContext context, Gson gson) {
@@ -46,32 +55,36 @@ public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
 
     @Override
     public void write(JsonWriter jsonWriter, DBCResultSet resultSet) throws IOException {
-        DPIResultSet dpiResultSet;
-        if (resultSet instanceof DPIResultSet) {
-            dpiResultSet = (DPIResultSet) resultSet;
+        List<DPIResultSetColumn> meta;
+        if (resultSet instanceof DPIResultSet dpiResultSet) {
+            meta = dpiResultSet.getMetaColumns();
         } else {
-            try (var dataReceiver = new DPIServerSmartProxyDataReceiver()) {
-                DBCSession session = resultSet.getSession();
-                dataReceiver.fetchStart(session, resultSet, 0, 0);
-                while (resultSet.nextRow()) {
-                    dataReceiver.fetchRow(session, resultSet);
+            meta = new ArrayList<>();
+            try {
+                List<? extends DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+                for (int i = 0; i < attributes.size(); i++) {
+                    DBCAttributeMetaData attribute = attributes.get(i);
+                    meta.add(new DPIResultSetColumn(i, attribute.getLabel(), attribute));
                 }
-                dataReceiver.fetchEnd(session, resultSet);
-                dpiResultSet = dataReceiver.getDpiResultSet();
-            } catch (Exception e) {
-                throw new IOException("Failed to fetch data from result set: " + e.getMessage(), e);
+            } catch (DBCException e) {
+                throw new IOException("Failed to read result set metadata: " + e.getMessage(), e);
             }
         }
+        DPIRowStreamServer streamServer = context.getRowStreamServer();
+        String streamToken = streamServer.openStream(resultSet, meta.size());
+
         jsonWriter.beginObject();
 
         jsonWriter.name(META);
-        jsonWriter.value(gson.toJson(dpiResultSet.getMetaColumns()));
+        jsonWriter.value(gson.toJson(meta));
         jsonWriter.name(SESSION);
-        jsonWriter.value(gson.toJson(dpiResultSet.getSession()));
+        jsonWriter.value(gson.toJson(resultSet.getSession()));
         jsonWriter.name(STATEMENT);
-        jsonWriter.value(gson.toJson(dpiResultSet.getSourceStatement()));
-        jsonWriter.name(ROWS);
-        jsonWriter.value(gson.toJson(dpiResultSet.getAllRows()));
+        jsonWriter.value(gson.toJson(resultSet.getSourceStatement()));
+        jsonWriter.name(STREAM_PORT);
+        jsonWriter.value(streamServer.getPort());
+        jsonWriter.name(STREAM_TOKEN);
+        jsonWriter.value(streamToken);
 
         jsonWriter.endObject();
     }
@@ -81,7 +94,8 @@ public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
         DBCSession session = null;
         DBCStatement statement = null;
         List<DPIResultSetColumn> meta = null;
-        List<Object[]> rows = null;
+        int streamPort = 0;
+        String streamToken = null;
         jsonReader.beginObject();
         while (jsonReader.peek() == JsonToken.NAME) {
             String attrName = jsonReader.nextName();
@@ -99,17 +113,22 @@ public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
                 case STATEMENT:
                     statement = gson.fromJson(jsonReader.nextString(), DBCStatement.class);
                     break;
-                case ROWS:
-                    rows = gson.fromJson(
-                        jsonReader.nextString(),
-                        new TypeToken<List<Object[]>>() {
-                        }.getType()
-                    );
+                case STREAM_PORT:
+                    streamPort = jsonReader.nextInt();
+                    break;
+                case STREAM_TOKEN:
+                    streamToken = jsonReader.nextString();
+                    break;
+                default:
+                    jsonReader.skipValue();
                     break;
             }
         }
         jsonReader.endObject();
+        if (streamToken == null) {
+            throw new IOException("Result set stream is not specified");
+        }
 
-        return new DPIResultSet(session, statement, meta, rows);
+        return new DPIResultSet(session, statement, meta, new DPIRowStreamClient(streamPort, streamToken));
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.dpi.model.client;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.dpi.model.DPIRowStreamServer;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.impl.dpi.DPIRowBatch;
+import org.jkiss.dbeaver.model.impl.dpi.DPIRowStream;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads result set rows from {@link DPIRowStreamServer}.
+ * <p>
+ * A fixed number of batches is requested ahead: the DPI process fetches the next batch while the current one is read,
+ * but never runs further ahead than that.
+ */
+public class DPIRowStreamClient implements DPIRowStream {
+
+    private static final Log log = Log.getLog(DPIRowStreamClient.class);
+
+    public static final int PREFETCH_BATCHES = 2;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @NotNull
+    private final Socket socket;
+    @NotNull
+    private final DataInputStream in;
+    @NotNull
+    private final DataOutputStream out;
+    private boolean finished;
+
+    public DPIRowStreamClient(int port, @NotNull String token) throws IOException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        try {
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeUTF(token);
+            out.writeInt(PREFETCH_BATCHES);
+            out.flush();
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    @Nullable
+    @Override
+    public DPIRowBatch nextBatch() throws DBCException {
+        if (finished) {
+            return null;
+        }
+        try {
+            byte[] frame = new byte[in.readInt()];
+            in.readFully(frame);
+            ByteBuffer buffer = ByteBuffer.wrap(frame);
+            switch (buffer.get()) {
+                case DPIRowStreamServer.FRAME_BATCH:
+                    // Request a replacement for the received batch
+                    out.writeInt(1);
+                    out.flush();
+                    return DPIRowBatch.read(buffer);
+                case DPIRowStreamServer.FRAME_END:
+                    close();
+                    return null;
+                case DPIRowStreamServer.FRAME_ERROR:
+                    close();
+                    throw new DBCException(new DataInputStream(new ByteArrayInputStream(frame, 1, frame.length - 1)).readUTF());
+                default:
+                    close();
+                    throw new DBCException("Bad DPI row stream frame");
+            }
+        } catch (IOException e) {
+            close();
+            throw new DBCException("Error reading DPI row stream", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("Error closing DPI row stream", e);
+        }
+    }
+}
@@ -53,6 +53,8 @@ public class SQLServerConstants {
     public static final String PROP_SSL_KEYSTORE_HOSTNAME = "sslKeyStoreHostname";
     public static final String PROP_SSL_TRUST_SERVER_CERTIFICATE = "sslTrustServerCertificate";
     public static final String PROP_DRIVER_TRUST_SERVER_CERTIFICATE = "trustServerCertificate";
+    public static final String PROP_DRIVER_SOCKET_FACTORY_CLASS = "socketFactoryClass";
+    public static final String PROP_DRIVER_SOCKET_FACTORY_CONSTRUCTOR_ARG = "socketFactoryConstructorArg";
 
     public static final boolean USE_GSS = false;
 
@@ -28,6 +28,10 @@ import org.jkiss.dbeaver.model.connection.DBPDriver;
 import org.jkiss.dbeaver.model.connection.DBPDriverConfigurationType;
 import org.jkiss.dbeaver.model.impl.auth.AuthModelDatabaseNative;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCDataSourceProvider;
+import org.jkiss.dbeaver.model.net.DBWChannelTunnel;
+import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
+import org.jkiss.dbeaver.model.net.DBWHandlerConfigurator;
+import org.jkiss.dbeaver.model.net.DBWNetworkHandler;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.CommonUtils;
@@ -35,7 +39,7 @@ import org.jkiss.utils.CommonUtils;
 import java.util.HashMap;
 import java.util.Map;
 
-public class SQLServerDataSourceProvider extends JDBCDataSourceProvider {
+public class SQLServerDataSourceProvider extends JDBCDataSourceProvider implements DBWHandlerConfigurator {
 
     private static Map<String,String> connectionsProps;
 
@@ -137,6 +141,22 @@ public class SQLServerDataSourceProvider extends JDBCDataSourceProvider {
         return new SQLServerDataSource(monitor, container);
     }
 
+    @Override
+    public void activateHandler(
+        @NotNull DBWNetworkHandler handler,
+        @NotNull DBPConnectionConfiguration connectionConfig,
+        @NotNull DBWHandlerConfiguration handlerConfig
+    ) {
+        DBPDriver driver = handlerConfig.getDriver();
+        if (handler instanceof DBWChannelTunnel tunnel && driver != null
+            && SQLServerUtils.isDriverSqlServer(driver) && !SQLServerUtils.isDriverJtds(driver)) {
+            // jTDS has no socket factory, Microsoft driver takes it in properties
+            tunnel.enableChannelSockets(
+                SQLServerConstants.PROP_DRIVER_SOCKET_FACTORY_CLASS,
+                SQLServerConstants.PROP_DRIVER_SOCKET_FACTORY_CONSTRUCTOR_ARG);
+        }
+    }
+
     @Override
     public DBPAuthModelDescriptor detectConnectionAuthModel(DBPDriver driver, DBPConnectionConfiguration connectionInfo) {
         if (driver.getProviderDescriptor().matchesId(SQLServerConstants.PROVIDER_SQL_SERVER) &&
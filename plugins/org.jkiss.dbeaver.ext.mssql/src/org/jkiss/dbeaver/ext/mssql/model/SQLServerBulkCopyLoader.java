@@ -0,0 +1,266 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.mssql.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCExecutionSource;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCTransactionManager;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.utils.CommonUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.*;
+
+/**
+ * Bulk loader based on SQLServerBulkCopy API of Microsoft JDBC driver.
+ * Buffered rows are streamed to the server with TDS bulk load protocol on each flush.
+ * Driver classes are accessed with reflection, rows are exposed to the driver as a dynamic proxy
+ * of ISQLServerBulkData (ISQLServerBulkRecord in older drivers).
+ */
+public class SQLServerBulkCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.BulkLoadManager {
+
+    private static final Log log = Log.getLog(SQLServerBulkCopyLoader.class);
+
+    private static final String BULK_COPY_CLASS = "com.microsoft.sqlserver.jdbc.SQLServerBulkCopy";
+    private static final String BULK_COPY_OPTIONS_CLASS = "com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions";
+    private static final String BULK_DATA_INTERFACE = "ISQLServerBulkData";
+    private static final String BULK_RECORD_INTERFACE = "ISQLServerBulkRecord";
+
+    // Rows are written to the server even if flush wasn't requested
+    private static final int MAX_BUFFERED_ROWS = 100000;
+
+    private DBSDataContainer table;
+    private DBSAttributeBase[] attributes;
+    private int[] valueIndexes;
+    private boolean keepIdentity;
+
+    private final List<Object[]> bufferedRows = new ArrayList<>();
+    private long rowsLoaded;
+
+    @NotNull
+    @Override
+    public BulkLoadManager createBulkLoad(
+        @NotNull DBCSession session,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBSAttributeBase[] attributes,
+        @NotNull DBCExecutionSource source,
+        int batchSize,
+        Map<String, Object> options) throws DBCException
+    {
+        if (!(session instanceof JDBCSession)) {
+            throw new DBCException("Bulk copy requires JDBC session");
+        }
+        this.table = dataContainer;
+
+        List<DBSAttributeBase> usedAttributes = new ArrayList<>();
+        List<Integer> usedIndexes = new ArrayList<>();
+        for (int i = 0; i < attributes.length; i++) {
+            if (!DBUtils.isPseudoAttribute(attributes[i])) {
+                usedAttributes.add(attributes[i]);
+                usedIndexes.add(i);
+                if (attributes[i].isAutoGenerated()) {
+                    keepIdentity = true;
+                }
+            }
+        }
+        this.attributes = usedAttributes.toArray(new DBSAttributeBase[0]);
+        this.valueIndexes = usedIndexes.stream().mapToInt(Integer::intValue).toArray();
+        return this;
+    }
+
+    @Override
+    public void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
+        Object[] row = new Object[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            Object value = attributeValues[valueIndexes[i]];
+            if (value instanceof DBDValue dbdValue) {
+                value = dbdValue.isNull() ? null : dbdValue.getRawValue();
+            }
+            row[i] = value;
+        }
+        bufferedRows.add(row);
+        if (bufferedRows.size() >= MAX_BUFFERED_ROWS) {
+            writeRows(session);
+        }
+    }
+
+    @Override
+    public void flushRows(@NotNull DBCSession session) throws DBCException {
+        writeRows(session);
+
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
+            txnManager.commit(session);
+        }
+    }
+
+    @Override
+    public void finishBulkLoad(@NotNull DBCSession session) throws DBCException {
+        flushRows(session);
+        log.debug(rowsLoaded + " row(s) copied into " + DBUtils.getObjectFullName(table, DBPEvaluationContext.DML));
+    }
+
+    @Override
+    public void close() {
+        bufferedRows.clear();
+    }
+
+    private void writeRows(@NotNull DBCSession session) throws DBCException {
+        if (bufferedRows.isEmpty()) {
+            return;
+        }
+        String tableName = DBUtils.getObjectFullName(table, DBPEvaluationContext.DML);
+        session.getProgressMonitor().subTask("Bulk copy into " + tableName);
+
+        Connection connection = ((JDBCSession) session).getOriginal();
+        ClassLoader driverClassLoader = connection.getClass().getClassLoader();
+        try {
+            Class<?> bulkCopyClass = Class.forName(BULK_COPY_CLASS, true, driverClassLoader);
+            Class<?> bulkCopyOptionsClass = Class.forName(BULK_COPY_OPTIONS_CLASS, true, driverClassLoader);
+
+            Object bulkCopy = bulkCopyClass.getConstructor(Connection.class).newInstance(connection);
+            try {
+                Object bulkCopyOptions = bulkCopyOptionsClass.getConstructor().newInstance();
+                bulkCopyOptionsClass.getMethod("setBatchSize", Integer.TYPE).invoke(bulkCopyOptions, bufferedRows.size());
+                bulkCopyOptionsClass.getMethod("setBulkCopyTimeout", Integer.TYPE).invoke(bulkCopyOptions, 0);
+                bulkCopyOptionsClass.getMethod("setKeepNulls", Boolean.TYPE).invoke(bulkCopyOptions, true);
+                bulkCopyOptionsClass.getMethod("setKeepIdentity", Boolean.TYPE).invoke(bulkCopyOptions, keepIdentity);
+                bulkCopyClass.getMethod("setBulkCopyOptions", bulkCopyOptionsClass).invoke(bulkCopy, bulkCopyOptions);
+                bulkCopyClass.getMethod("setDestinationTableName", String.class).invoke(bulkCopy, tableName);
+
+                Method addColumnMapping = bulkCopyClass.getMethod("addColumnMapping", Integer.TYPE, String.class);
+                for (int i = 0; i < attributes.length; i++) {
+                    addColumnMapping.invoke(bulkCopy, i + 1, attributes[i].getName());
+                }
+
+                Method writeMethod = findWriteMethod(bulkCopyClass);
+                Object bulkData = Proxy.newProxyInstance(
+                    driverClassLoader,
+                    new Class[]{writeMethod.getParameterTypes()[0]},
+                    new BulkDataHandler(bufferedRows));
+                writeMethod.invoke(bulkCopy, bulkData);
+            } finally {
+                bulkCopyClass.getMethod("close").invoke(bulkCopy);
+            }
+            rowsLoaded += bufferedRows.size();
+        } catch (Throwable e) {
+            if (e instanceof InvocationTargetException ite) {
+                e = ite.getTargetException();
+            }
+            throw new DBCException("Error copying rows into " + tableName, e, session.getExecutionContext());
+        } finally {
+            bufferedRows.clear();
+        }
+    }
+
+    @NotNull
+    private static Method findWriteMethod(@NotNull Class<?> bulkCopyClass) throws DBCException {
+        Method recordMethod = null;
+        for (Method method : bulkCopyClass.getMethods()) {
+            if (!method.getName().equals("writeToServer") || method.getParameterCount() != 1) {
+                continue;
+            }
+            String paramType = method.getParameterTypes()[0].getSimpleName();
+            if (paramType.equals(BULK_DATA_INTERFACE)) {
+                return method;
+            } else if (paramType.equals(BULK_RECORD_INTERFACE)) {
+                recordMethod = method;
+            }
+        }
+        if (recordMethod == null) {
+            throw new DBCException("Bulk copy is not supported by driver");
+        }
+        return recordMethod;
+    }
+
+    private class BulkDataHandler implements InvocationHandler {
+        private final Iterator<Object[]> rows;
+        private Object[] currentRow;
+
+        BulkDataHandler(@NotNull List<Object[]> rows) {
+            this.rows = rows.iterator();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getColumnOrdinals": {
+                    Set<Integer> ordinals = new LinkedHashSet<>();
+                    for (int i = 1; i <= attributes.length; i++) {
+                        ordinals.add(i);
+                    }
+                    return ordinals;
+                }
+                case "getColumnName":
+                    return getAttribute(args).getName();
+                case "getColumnType":
+                    return getAttribute(args).getTypeID();
+                case "getPrecision": {
+                    DBSAttributeBase attribute = getAttribute(args);
+                    DBPDataKind dataKind = attribute.getDataKind();
+                    if (dataKind == DBPDataKind.STRING || dataKind == DBPDataKind.BINARY || dataKind == DBPDataKind.CONTENT) {
+                        return (int) Math.min(attribute.getMaxLength(), Integer.MAX_VALUE);
+                    }
+                    return CommonUtils.toInt(attribute.getPrecision());
+                }
+                case "getScale":
+                    return CommonUtils.toInt(getAttribute(args).getScale());
+                case "next":
+                    if (rows.hasNext()) {
+                        currentRow = rows.next();
+                        return true;
+                    }
+                    currentRow = null;
+                    return false;
+                case "getRowData":
+                    return currentRow;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Bulk data for " + table.getName();
+            }
+            // Optional record methods (isAutoIncrement, timestamp formats, etc)
+            Class<?> returnType = method.getReturnType();
+            if (returnType == Boolean.TYPE) {
+                return false;
+            } else if (returnType == Integer.TYPE) {
+                return 0;
+            }
+            return null;
+        }
+
+        private DBSAttributeBase getAttribute(Object[] args) {
+            return attributes[(Integer) args[0] - 1];
+        }
+    }
+}
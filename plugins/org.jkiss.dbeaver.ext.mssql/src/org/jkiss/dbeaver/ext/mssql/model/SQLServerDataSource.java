@@ -474,6 +474,10 @@ public class SQLServerDataSource extends JDBCDataSource implements DBSInstanceCo
             return adapter.cast(new SQLServerSessionManager(this));
         } else if (adapter == DBAUserPasswordManager.class) {
             return adapter.cast(new SQLServerLoginPasswordManager(this));
+        } else if (adapter == DBSDataBulkLoader.class) {
+            if (SQLServerUtils.isDriverSqlServer(getContainer().getDriver()) && !SQLServerUtils.isDriverBabelfish(getContainer().getDriver())) {
+                return adapter.cast(new SQLServerBulkCopyLoader());
+            }
         }
         return super.getAdapter(adapter);
     }
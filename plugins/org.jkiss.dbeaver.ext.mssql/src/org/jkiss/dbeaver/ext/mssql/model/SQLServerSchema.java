@@ -179,10 +179,17 @@ public class SQLServerSchema implements DBSSchema, DBPSaveableObject, DBPQualifi
 
     @Override
     public DBSObject refreshObject(@NotNull DBRProgressMonitor monitor) throws DBException {
-        tableCache.clearCache();
-        indexCache.clearCache();
-        uniqueConstraintCache.clearCache();
-        foreignKeyCache.clearCache();
+        List<SQLServerTableBase> changedTables = tableCache.refreshChangedObjects(monitor, this);
+        if (changedTables == null) {
+            tableCache.clearCache();
+            indexCache.clearCache();
+            uniqueConstraintCache.clearCache();
+            foreignKeyCache.clearCache();
+        } else {
+            indexCache.refreshObjects(monitor, this, changedTables);
+            uniqueConstraintCache.refreshObjects(monitor, this, changedTables);
+            foreignKeyCache.refreshObjects(monitor, this, changedTables);
+        }
         sequenceCache.clearCache();
         synonymCache.clearCache();
         procedureCache.clearCache();
@@ -414,6 +421,15 @@ public class SQLServerSchema implements DBSSchema, DBPSaveableObject, DBPQualifi
             return session.prepareStatement(sql.toString());
         }
 
+        @Nullable
+        @Override
+        protected JDBCStatement prepareChangesStatement(@NotNull JDBCSession session, @NotNull SQLServerSchema owner) throws SQLException {
+            // Modification date also changes when table indexes are altered
+            return session.prepareStatement(
+                "SELECT o.name, o.modify_date FROM " + SQLServerUtils.getSystemTableName(owner.getDatabase(), "all_objects") + " o\n" +
+                    "WHERE o.type IN ('U','S','V','TT') AND o.schema_id = " + owner.getObjectId());
+        }
+
         @Override
         protected SQLServerTableBase fetchObject(@NotNull JDBCSession session, @NotNull SQLServerSchema owner, @NotNull JDBCResultSet dbResult) {
             String name = JDBCUtils.safeGetString(dbResult, "name");
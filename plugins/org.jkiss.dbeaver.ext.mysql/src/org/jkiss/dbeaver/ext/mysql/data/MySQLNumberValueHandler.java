@@ -40,12 +40,9 @@ public class MySQLNumberValueHandler extends JDBCNumberValueHandler {
         super(type, formatSettings);
     }
 
-    /**
-     * NumberFormat is not thread safe thus this method is synchronized.
-     */
     @NotNull
     @Override
-    public synchronized String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format)
+    public String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format)
     {
         if (value instanceof String) {
             if (format == DBDDisplayFormat.UI || format == DBDDisplayFormat.NATIVE) {
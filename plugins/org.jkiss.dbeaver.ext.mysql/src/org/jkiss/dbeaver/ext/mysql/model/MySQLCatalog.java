@@ -34,6 +34,7 @@ import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCCompositeCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectLookupCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructLookupCache;
+import org.jkiss.dbeaver.model.impl.struct.RelationalObjectType;
 import org.jkiss.dbeaver.model.meta.*;
 import org.jkiss.dbeaver.model.preferences.DBPPropertySource;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -514,11 +515,20 @@ public class MySQLCatalog implements
     {
         hasStatistics = false;
         databaseDDL = null;
-        getTableCache().clearCache();
-        indexCache.clearCache();
-        uniqueKeyCache.clearCache();
-        if (getDataSource().supportsCheckConstraints()) {
-            checkConstraintCache.clearCache();
+        List<MySQLTableBase> changedTables = getTableCache().refreshChangedObjects(monitor, this);
+        if (changedTables == null) {
+            getTableCache().clearCache();
+            indexCache.clearCache();
+            uniqueKeyCache.clearCache();
+            if (getDataSource().supportsCheckConstraints()) {
+                checkConstraintCache.clearCache();
+            }
+        } else {
+            indexCache.refreshObjects(monitor, this, changedTables);
+            uniqueKeyCache.refreshObjects(monitor, this, changedTables);
+            if (getDataSource().supportsCheckConstraints()) {
+                checkConstraintCache.refreshObjects(monitor, this, changedTables);
+            }
         }
         getProceduresCache().clearCache();
         triggerCache.clearCache();
@@ -543,6 +553,8 @@ public class MySQLCatalog implements
         public TableCache()
         {
             super(JDBCConstants.TABLE_NAME);
+            // Tables and views, as MySQLStructureAssistant finds them
+            setIndexedObjectTypes(RelationalObjectType.TYPE_TABLE);
         }
 
         @NotNull
@@ -608,6 +620,49 @@ public class MySQLCatalog implements
             return session.prepareStatement(sql.toString());
         }
 
+        @Nullable
+        @Override
+        protected JDBCStatement prepareChangesStatement(@NotNull JDBCSession session, @NotNull MySQLCatalog owner) throws SQLException {
+            MySQLDataSource dataSource = owner.getDataSource();
+            if (!dataSource.isServerVersionAtLeast(5, 0)) {
+                return null;
+            }
+            // Table DDL changes are not tracked by timestamps, so definitions of columns, indexes and constraints
+            // are included in the stamp
+            StringBuilder sql = new StringBuilder(2000);
+            sql.append("SELECT t.TABLE_NAME, CONCAT_WS('/', t.CREATE_TIME, t.TABLE_COMMENT");
+            appendDefinitionChecksum(sql, MySQLConstants.META_TABLE_COLUMNS, "x.TABLE_SCHEMA",
+                "x.ORDINAL_POSITION, x.COLUMN_NAME, x.COLUMN_TYPE, x.IS_NULLABLE, x.COLUMN_DEFAULT, x.COLUMN_KEY, x.EXTRA, x.COLUMN_COMMENT");
+            appendDefinitionChecksum(sql, MySQLConstants.META_TABLE_STATISTICS, "x.TABLE_SCHEMA",
+                "x.INDEX_NAME, x.SEQ_IN_INDEX, x.COLUMN_NAME, x.NON_UNIQUE, x.SUB_PART, x.INDEX_TYPE");
+            // Primary, unique and foreign keys with referenced columns
+            appendDefinitionChecksum(sql, MySQLConstants.META_TABLE_KEY_COLUMN_USAGE, "x.TABLE_SCHEMA",
+                "x.CONSTRAINT_NAME, x.ORDINAL_POSITION, x.COLUMN_NAME, x.REFERENCED_TABLE_SCHEMA, x.REFERENCED_TABLE_NAME, x.REFERENCED_COLUMN_NAME");
+            if (dataSource.isServerVersionAtLeast(5, 1)) {
+                appendDefinitionChecksum(sql, MySQLConstants.INFO_SCHEMA_NAME + ".REFERENTIAL_CONSTRAINTS", "x.CONSTRAINT_SCHEMA",
+                    "x.CONSTRAINT_NAME, x.UPDATE_RULE, x.DELETE_RULE");
+            }
+            if (dataSource.supportsCheckConstraints()) {
+                sql.append(",\n(SELECT CONCAT(COUNT(*), ':', COALESCE(SUM(CRC32(CONCAT_WS(':', cc.CONSTRAINT_NAME, cc.CHECK_CLAUSE))), 0))")
+                    .append(" FROM INFORMATION_SCHEMA.CHECK_CONSTRAINTS cc, ").append(MySQLConstants.META_TABLE_TABLE_CONSTRAINTS).append(" tc")
+                    .append(" WHERE tc.TABLE_SCHEMA=t.TABLE_SCHEMA AND tc.TABLE_NAME=t.TABLE_NAME")
+                    .append(" AND tc.CONSTRAINT_SCHEMA=cc.CONSTRAINT_SCHEMA AND tc.CONSTRAINT_NAME=cc.CONSTRAINT_NAME)");
+            }
+            sql.append(")\nFROM ").append(MySQLConstants.META_TABLE_TABLES).append(" t\nWHERE t.TABLE_SCHEMA=?");
+            JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString());
+            dbStat.setString(1, owner.getName());
+            return dbStat;
+        }
+
+        /**
+         * Appends row count and checksum of the table rows in the metadata table
+         */
+        private static void appendDefinitionChecksum(@NotNull StringBuilder sql, @NotNull String metaTable, @NotNull String schemaColumn, @NotNull String columns) {
+            sql.append(",\n(SELECT CONCAT(COUNT(*), ':', COALESCE(SUM(CRC32(CONCAT_WS(':', ").append(columns).append("))), 0))")
+                .append(" FROM ").append(metaTable).append(" x")
+                .append(" WHERE ").append(schemaColumn).append("=t.TABLE_SCHEMA AND x.TABLE_NAME=t.TABLE_NAME)");
+        }
+
         private static void appendTableNameCondition(@NotNull JDBCSession session, @Nullable MySQLTableBase object, @Nullable String objectName, StringBuilder sql, boolean forceUseLike) {
             if (forceUseLike || objectName != null && SQLUtils.isLikePattern(objectName)) {
                 sql.append(" LIKE ");
@@ -883,6 +938,7 @@ public class MySQLCatalog implements
         public ProceduresCache()
         {
             super(JDBCConstants.PROCEDURE_NAME);
+            setIndexedObjectTypes(RelationalObjectType.TYPE_PROCEDURE);
         }
 
         @Override
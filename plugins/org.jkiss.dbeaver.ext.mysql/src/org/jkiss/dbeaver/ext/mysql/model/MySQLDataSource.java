@@ -54,6 +54,7 @@ import org.jkiss.dbeaver.model.sql.SQLDialect;
 import org.jkiss.dbeaver.model.sql.SQLHelpProvider;
 import org.jkiss.dbeaver.model.sql.SQLState;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
 import org.jkiss.dbeaver.model.struct.DBSDataType;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectFilter;
@@ -755,6 +756,8 @@ public class MySQLDataSource extends JDBCDataSource implements DBPObjectStatisti
             return adapter.cast(helpProvider);
         } else if (adapter == DBAServerSessionManager.class) {
             return adapter.cast(new MySQLSessionManager(this));
+        } else if (adapter == DBSDataBulkLoader.class) {
+            return adapter.cast(new MySQLLoadDataLoader(this));
         } else if (adapter == SpatialDataProvider.class) {
             return adapter.cast(new SpatialDataProvider() {
                 @Override
@@ -0,0 +1,328 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.mysql.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCExecutionSource;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCTransactionManager;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.impl.data.MultiRowInsertBulkLoader;
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBStructUtils;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk loader based on LOAD DATA LOCAL INFILE.
+ * Rows are collected in memory in tab-separated format and streamed to the server
+ * with driver's {@code setLocalInfileInputStream} (supported by MySQL Connector/J and MariaDB drivers),
+ * no temporary files are created. Data is encoded in the connection charset.
+ * <p>
+ * LOAD DATA is used only if local infile is enabled in the driver ({@code allowLoadLocalInfile} for MySQL,
+ * {@code allowLocalInfile} for MariaDB) and on the server ({@code local_infile}) and if the connection charset
+ * is ASCII compatible. Otherwise rows are inserted with batched multi-row INSERT statements.
+ */
+public class MySQLLoadDataLoader implements DBSDataBulkLoader, DBSDataBulkLoader.BulkLoadManager {
+
+    private static final Log log = Log.getLog(MySQLLoadDataLoader.class);
+
+    private static final int MAX_BUFFER_SIZE = 64 * 1024 * 1024;
+    private static final byte[] NULL_VALUE = {'\\', 'N'};
+
+    // Charsets in which escaped special characters can't be a part of multibyte character
+    private static final Map<String, String> ASCII_COMPATIBLE_CHARSETS = Map.ofEntries(
+        Map.entry("utf8mb4", "UTF-8"),
+        Map.entry("utf8mb3", "UTF-8"),
+        Map.entry("utf8", "UTF-8"),
+        Map.entry("ascii", "US-ASCII"),
+        Map.entry("latin1", "windows-1252"),
+        Map.entry("latin2", "ISO-8859-2"),
+        Map.entry("latin5", "ISO-8859-9"),
+        Map.entry("latin7", "ISO-8859-13"),
+        Map.entry("greek", "ISO-8859-7"),
+        Map.entry("hebrew", "ISO-8859-8"),
+        Map.entry("cp1250", "windows-1250"),
+        Map.entry("cp1251", "windows-1251"),
+        Map.entry("cp1256", "windows-1256"),
+        Map.entry("cp1257", "windows-1257"),
+        Map.entry("koi8r", "KOI8-R"),
+        Map.entry("koi8u", "KOI8-U")
+    );
+
+    private final MySQLDataSource dataSource;
+    private DBSDataContainer table;
+    private DBSAttributeBase[] attributes;
+    private int[] valueIndexes;
+    private DBDValueHandler[] valueHandlers;
+    private String loadQuery;
+    private Charset charset;
+
+    private RowBuffer buffer;
+    private int bufferedRows;
+    private long rowsLoaded;
+
+    public MySQLLoadDataLoader(MySQLDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @NotNull
+    @Override
+    public BulkLoadManager createBulkLoad(
+        @NotNull DBCSession session,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBSAttributeBase[] attributes,
+        @NotNull DBCExecutionSource source,
+        int batchSize,
+        Map<String, Object> options) throws DBCException
+    {
+        if (!(session instanceof JDBCSession jdbcSession)) {
+            throw new DBCException("LOAD DATA requires JDBC session");
+        }
+        String charsetName = getLoadDataCharset(jdbcSession);
+        if (charsetName == null) {
+            return new MultiRowInsertBulkLoader().createBulkLoad(session, dataContainer, attributes, source, batchSize, options);
+        }
+        this.table = dataContainer;
+        this.charset = Charset.forName(ASCII_COMPATIBLE_CHARSETS.get(charsetName));
+
+        List<DBSAttributeBase> usedAttributes = new ArrayList<>();
+        List<Integer> usedIndexes = new ArrayList<>();
+        for (int i = 0; i < attributes.length; i++) {
+            if (!DBUtils.isPseudoAttribute(attributes[i])) {
+                usedAttributes.add(attributes[i]);
+                usedIndexes.add(i);
+            }
+        }
+        this.attributes = usedAttributes.toArray(new DBSAttributeBase[0]);
+        this.valueIndexes = usedIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.valueHandlers = new DBDValueHandler[this.attributes.length];
+        for (int i = 0; i < this.attributes.length; i++) {
+            valueHandlers[i] = DBUtils.findValueHandler(session, this.attributes[i]);
+        }
+
+        StringBuilder query = new StringBuilder();
+        query.append("LOAD DATA LOCAL INFILE 'stream' INTO TABLE ")
+            .append(DBUtils.getObjectFullName(dataContainer, DBPEvaluationContext.DML))
+            .append(" CHARACTER SET ").append(charsetName)
+            .append(" FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'")
+            .append(" LINES TERMINATED BY '\\n' (");
+        for (int i = 0; i < this.attributes.length; i++) {
+            if (i > 0) {
+                query.append(",");
+            }
+            query.append(DBStructUtils.getAttributeName(this.attributes[i]));
+        }
+        query.append(")");
+        this.loadQuery = query.toString();
+
+        this.buffer = new RowBuffer();
+        return this;
+    }
+
+    @Override
+    public void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
+        for (int i = 0; i < attributes.length; i++) {
+            if (i > 0) {
+                buffer.write('\t');
+            }
+            Object value = attributeValues[valueIndexes[i]];
+            if (DBUtils.isNullValue(value)) {
+                buffer.writeBytes(NULL_VALUE);
+            } else if (value instanceof byte[] bytes) {
+                writeEscaped(bytes);
+            } else if (value instanceof Boolean bool) {
+                buffer.write(bool ? '1' : '0');
+            } else if (value instanceof BigDecimal decimal) {
+                buffer.writeBytes(decimal.toPlainString().getBytes(StandardCharsets.US_ASCII));
+            } else if (value instanceof Number) {
+                buffer.writeBytes(value.toString().getBytes(StandardCharsets.US_ASCII));
+            } else {
+                String strValue = valueHandlers[i].getValueDisplayString(attributes[i], value, DBDDisplayFormat.NATIVE);
+                writeEscaped(strValue.getBytes(charset));
+            }
+        }
+        buffer.write('\n');
+        bufferedRows++;
+
+        if (buffer.size() >= MAX_BUFFER_SIZE) {
+            loadBuffer(session);
+        }
+    }
+
+    // Special characters are ASCII, so they can be escaped in encoded bytes directly
+    private void writeEscaped(@NotNull byte[] bytes) {
+        for (byte b : bytes) {
+            switch (b) {
+                case '\\' -> writeEscape('\\');
+                case '\t' -> writeEscape('t');
+                case '\n' -> writeEscape('n');
+                case '\r' -> writeEscape('r');
+                case 0 -> writeEscape('0');
+                default -> buffer.write(b);
+            }
+        }
+    }
+
+    private void writeEscape(char escapeChar) {
+        buffer.write('\\');
+        buffer.write(escapeChar);
+    }
+
+    /**
+     * Returns connection charset name if LOAD DATA LOCAL INFILE can be used or null otherwise
+     */
+    @Nullable
+    private String getLoadDataCharset(@NotNull JDBCSession session) {
+        String driverProperty;
+        boolean allowedByDefault;
+        if (dataSource.getContainer().getDriver().getDriverClassName().startsWith("org.mariadb.")) {
+            driverProperty = "allowLocalInfile";
+            allowedByDefault = true;
+        } else {
+            driverProperty = "allowLoadLocalInfile";
+            allowedByDefault = false;
+        }
+        if (!isDriverPropertyEnabled(driverProperty, allowedByDefault)) {
+            log.debug("Driver property '" + driverProperty + "' is disabled. Use INSERT instead of LOAD DATA");
+            return null;
+        }
+        String charsetName;
+        try (JDBCPreparedStatement dbStat = session.prepareStatement("SELECT @@GLOBAL.local_infile, @@character_set_client")) {
+            try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                if (!dbResult.next()) {
+                    return null;
+                }
+                if (JDBCUtils.safeGetInt(dbResult, 1) == 0) {
+                    log.debug("Server variable 'local_infile' is disabled. Use INSERT instead of LOAD DATA");
+                    return null;
+                }
+                charsetName = CommonUtils.notEmpty(JDBCUtils.safeGetString(dbResult, 2)).toLowerCase(Locale.ENGLISH);
+            }
+        } catch (SQLException e) {
+            log.debug("Error reading local infile settings. Use INSERT instead of LOAD DATA", e);
+            return null;
+        }
+        String javaCharset = ASCII_COMPATIBLE_CHARSETS.get(charsetName);
+        if (javaCharset == null || !Charset.isSupported(javaCharset)) {
+            log.debug("Connection charset '" + charsetName + "' is not supported by LOAD DATA loader. Use INSERT instead of LOAD DATA");
+            return null;
+        }
+        try (Statement statement = session.getOriginal().createStatement()) {
+            statement.getClass().getMethod("setLocalInfileInputStream", InputStream.class);
+        } catch (NoSuchMethodException e) {
+            log.debug("Driver " + dataSource.getContainer().getDriver().getName() + " doesn't support LOAD DATA from stream. Use INSERT instead");
+            return null;
+        } catch (SQLException e) {
+            log.debug("Error checking driver LOAD DATA support", e);
+            return null;
+        }
+        return charsetName;
+    }
+
+    private boolean isDriverPropertyEnabled(@NotNull String name, boolean defaultValue) {
+        if (DBWorkbench.getPlatform().getApplication().isMultiuser()) {
+            // Local infile is always disabled in multi-user environment (see MySQLDataSource)
+            return false;
+        }
+        Object value = dataSource.getContainer().getActualConnectionConfiguration().getProperty(name);
+        if (value == null) {
+            value = dataSource.getContainer().getDriver().getConnectionProperties().get(name);
+        }
+        return value == null ? defaultValue : CommonUtils.toBoolean(value);
+    }
+
+    @Override
+    public void flushRows(@NotNull DBCSession session) throws DBCException {
+        loadBuffer(session);
+
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
+            txnManager.commit(session);
+        }
+    }
+
+    @Override
+    public void finishBulkLoad(@NotNull DBCSession session) throws DBCException {
+        flushRows(session);
+        log.debug(rowsLoaded + " row(s) loaded into " + DBUtils.getObjectFullName(table, DBPEvaluationContext.DML));
+    }
+
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+    private void loadBuffer(@NotNull DBCSession session) throws DBCException {
+        if (bufferedRows == 0) {
+            return;
+        }
+        session.getProgressMonitor().subTask("Load data into " + DBUtils.getObjectFullName(table, DBPEvaluationContext.UI));
+        Connection connection = ((JDBCSession) session).getOriginal();
+        try (Statement statement = connection.createStatement()) {
+            Method setStreamMethod = statement.getClass().getMethod("setLocalInfileInputStream", InputStream.class);
+            setStreamMethod.invoke(statement, buffer.toInputStream());
+            rowsLoaded += statement.executeUpdate(loadQuery);
+        } catch (SQLException e) {
+            throw new DBCException("Error loading data", e, session.getExecutionContext());
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+            throw new DBCException("Can't set data stream for LOAD DATA", e);
+        } finally {
+            buffer.reset();
+            bufferedRows = 0;
+        }
+    }
+
+    private static class RowBuffer extends ByteArrayOutputStream {
+        RowBuffer() {
+            super(1024 * 1024);
+        }
+
+        // Reads buffer contents without copying
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.oracle.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.data.MultiRowInsertBulkLoader;
+
+import java.util.Map;
+
+/**
+ * Bulk loader based on direct-path array inserts.
+ * Each row is bound to the single-row {@code INSERT} statement with {@code APPEND_VALUES} hint
+ * and rows are sent to the server with statement batches (array binding).
+ * Data is written above the table high water mark, bypassing the buffer cache.
+ * <p>
+ * Oracle doesn't allow to access a table modified by direct-path insert until commit (ORA-12838),
+ * so each flush commits the transaction.
+ */
+public class OracleDirectPathLoader extends MultiRowInsertBulkLoader {
+
+    private final OracleDataSource dataSource;
+
+    public OracleDirectPathLoader(OracleDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    protected int getRowsPerStatement(@NotNull DBCSession session, @Nullable Map<String, Object> options) {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    protected String getInsertClause() {
+        // APPEND_VALUES hint appeared in 11.2
+        if (dataSource.isServerVersionAtLeast(11, 2)) {
+            return "INSERT /*+ APPEND_VALUES */ INTO";
+        }
+        return super.getInsertClause();
+    }
+}
@@ -438,14 +438,22 @@ public class OracleSchema extends OracleGlobalObject implements
         throws DBException
     {
         hasStatistics = false;
-        tableCache.clearCache();
-        foreignKeyCache.clearCache();
-        constraintCache.clearCache();
-        indexCache.clearCache();
+        List<OracleTableBase> changedTables = tableCache.refreshChangedObjects(monitor, this);
+        if (changedTables == null) {
+            tableCache.clearCache();
+            foreignKeyCache.clearCache();
+            constraintCache.clearCache();
+            indexCache.clearCache();
+            tableTriggerCache.clearCache();
+        } else {
+            constraintCache.refreshObjects(monitor, this, changedTables);
+            foreignKeyCache.refreshObjects(monitor, this, changedTables);
+            indexCache.refreshObjects(monitor, this, changedTables);
+            tableTriggerCache.refreshObjects(monitor, this, changedTables);
+        }
         packageCache.clearCache();
         proceduresCache.clearCache();
         triggerCache.clearCache();
-        tableTriggerCache.clearCache();
         dataTypeCache.clearCache();
         sequenceCache.clearCache();
         synonymCache.clearCache();
@@ -657,6 +665,18 @@ public class OracleSchema extends OracleGlobalObject implements
             }
         }
 
+        @Nullable
+        @Override
+        protected JDBCStatement prepareChangesStatement(@NotNull JDBCSession session, @NotNull OracleSchema owner) throws SQLException {
+            JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT " + OracleUtils.getSysCatalogHint(owner.getDataSource()) + " OBJECT_NAME, MAX(LAST_DDL_TIME)\n" +
+                    "FROM " + OracleUtils.getAdminAllViewPrefix(session.getProgressMonitor(), getDataSource(), "OBJECTS") + "\n" +
+                    "WHERE OWNER=? AND OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')\n" +
+                    "GROUP BY OBJECT_NAME");
+            dbStat.setString(1, owner.getName());
+            return dbStat;
+        }
+
         @Override
         protected OracleTableBase fetchObject(@NotNull JDBCSession session, @NotNull OracleSchema owner, @NotNull JDBCResultSet dbResult)
             throws SQLException, DBException
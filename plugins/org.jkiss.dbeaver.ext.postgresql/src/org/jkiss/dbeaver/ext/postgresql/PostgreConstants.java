@@ -41,6 +41,7 @@ public class PostgreConstants {
     public static final String DEFAULT_DATABASE = "postgres";
     public static final String DEFAULT_DATA_TYPE = "varchar";
     public static final String DEFAULT_USER = "postgres";
+    public static final String DRIVER_CLASS_NAME = "org.postgresql.Driver";
     public static final String USER_VARIABLE = "$user";
 
     public static final String PROP_CHOSEN_ROLE = DBConstants.INTERNAL_PROP_PREFIX + "chosen-role@";
@@ -71,6 +72,10 @@ public class PostgreConstants {
     public static final String PROP_SSL_PROXY = "sslProxyServer";
     public static final String PROP_SERVER_TYPE = "serverType";
 
+    // Driver properties which take custom socket factory
+    public static final String PROP_DRIVER_SOCKET_FACTORY = "socketFactory";
+    public static final String PROP_DRIVER_SOCKET_FACTORY_ARG = "socketFactoryArg";
+
     public static final DBSObjectState STATE_UNAVAILABLE = new DBSObjectState("Unavailable", DBIcon.OVER_EXTERNAL);
     public static final DBSEntityConstraintType CONSTRAINT_TRIGGER = new DBSEntityConstraintType("trigger", "TRIGGER", "Trigger constraint", false, false, false, false); //$NON-NLS-1$
     public static final DBSEntityConstraintType CONSTRAINT_EXCLUSIVE = new DBSEntityConstraintType("exclusive", "EXCLUSIVE", "Exclusive constraint", false, false, false, false); //$NON-NLS-1$
@@ -28,6 +28,10 @@ import org.jkiss.dbeaver.model.DatabaseURL;
 import org.jkiss.dbeaver.model.access.DBAAuthModel;
 import org.jkiss.dbeaver.model.connection.*;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCDataSourceProvider;
+import org.jkiss.dbeaver.model.net.DBWChannelTunnel;
+import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
+import org.jkiss.dbeaver.model.net.DBWHandlerConfigurator;
+import org.jkiss.dbeaver.model.net.DBWNetworkHandler;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.registry.LocalSystemRegistry;
@@ -42,7 +46,7 @@ import java.io.File;
 import java.io.InputStreamReader;
 import java.util.*;
 
-public class PostgreDataSourceProvider extends JDBCDataSourceProvider implements DBPNativeClientLocationManager {
+public class PostgreDataSourceProvider extends JDBCDataSourceProvider implements DBPNativeClientLocationManager, DBWHandlerConfigurator {
     private static Map<String, String> connectionsProps;
     @Nullable
     private static Collection<DBPNativeClientLocation> localClients;
@@ -115,6 +119,19 @@ public class PostgreDataSourceProvider extends JDBCDataSourceProvider implements
         return new PostgreDataSource(monitor, container);
     }
 
+    @Override
+    public void activateHandler(
+        @NotNull DBWNetworkHandler handler,
+        @NotNull DBPConnectionConfiguration connectionConfig,
+        @NotNull DBWHandlerConfiguration handlerConfig
+    ) {
+        DBPDriver driver = handlerConfig.getDriver();
+        if (handler instanceof DBWChannelTunnel tunnel && driver != null && PostgreConstants.DRIVER_CLASS_NAME.equals(driver.getDriverClassName())) {
+            // PgJDBC connects with the socket factory class given in properties
+            tunnel.enableChannelSockets(PostgreConstants.PROP_DRIVER_SOCKET_FACTORY, PostgreConstants.PROP_DRIVER_SOCKET_FACTORY_ARG);
+        }
+    }
+
     /**
      * We disable provider bundle as classes source because is contains JNA dependency
      * which conflicts with Waffle (which contains JNA 4.5).
@@ -0,0 +1,502 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.postgresql.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.struct.DBSTypedObject;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Binary COPY format codec.
+ * Encodes and decodes values of scalar types in PostgreSQL binary send/recv representation,
+ * so no text formatting or escaping is needed.
+ * <p>
+ * Stream layout: signature, flags and header extension, then rows (field count, then length and bytes of each field),
+ * terminated by -1 field count.
+ */
+public class PostgreBinaryCopyCodec {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private static final LocalDateTime POSTGRES_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDate POSTGRES_EPOCH_DATE = POSTGRES_EPOCH.toLocalDate();
+    private static final Instant POSTGRES_EPOCH_INSTANT = POSTGRES_EPOCH.toInstant(ZoneOffset.UTC);
+    // The same infinity values as PgJDBC uses
+    private static final long DATE_POSITIVE_INFINITY = 9223372036825200000L;
+    private static final long DATE_NEGATIVE_INFINITY = -9223372036832400000L;
+
+    private static final int NUMERIC_POS = 0x0000;
+    private static final int NUMERIC_NEG = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_PINF = 0xD000;
+    private static final int NUMERIC_NINF = 0xF000;
+    private static final BigInteger NUMERIC_BASE = BigInteger.valueOf(10000);
+
+    enum ValueType {
+        BOOL,
+        INT2,
+        INT4,
+        INT8,
+        FLOAT4,
+        FLOAT8,
+        NUMERIC,
+        TEXT,
+        BYTEA,
+        DATE,
+        TIMESTAMP,
+        TIMESTAMPTZ,
+        UUID
+    }
+
+    /**
+     * Returns binary value type for specified attribute or null if attribute type is not supported
+     */
+    @Nullable
+    static ValueType getValueType(@NotNull DBSTypedObject attribute) {
+        return switch (attribute.getTypeName().toLowerCase(Locale.ENGLISH)) {
+            case "bool", "boolean" -> ValueType.BOOL;
+            case "int2", "smallint", "smallserial" -> ValueType.INT2;
+            case "int4", "integer", "serial" -> ValueType.INT4;
+            case "int8", "bigint", "bigserial" -> ValueType.INT8;
+            case "float4", "real" -> ValueType.FLOAT4;
+            case "float8", "double precision" -> ValueType.FLOAT8;
+            case "numeric", "decimal" -> ValueType.NUMERIC;
+            case "text", "varchar", "bpchar", "name", "character varying", "character" -> ValueType.TEXT;
+            case "bytea" -> ValueType.BYTEA;
+            case "date" -> ValueType.DATE;
+            case "timestamp", "timestamp without time zone" -> ValueType.TIMESTAMP;
+            case "timestamptz", "timestamp with time zone" -> ValueType.TIMESTAMPTZ;
+            case "uuid" -> ValueType.UUID;
+            default -> null;
+        };
+    }
+
+    static void writeHeader(@NotNull OutputStream out) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SIGNATURE.length + 8);
+        header.put(SIGNATURE).putInt(0).putInt(0);
+        out.write(header.array());
+    }
+
+    static void writeTrailer(@NotNull OutputStream out) throws IOException {
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xFF});
+    }
+
+    static void readHeader(@NotNull DataInputStream in) throws IOException {
+        byte[] signature = new byte[SIGNATURE.length];
+        in.readFully(signature);
+        for (int i = 0; i < SIGNATURE.length; i++) {
+            if (signature[i] != SIGNATURE[i]) {
+                throw new IOException("Bad binary COPY signature");
+            }
+        }
+        in.readInt();
+        int extensionLength = in.readInt();
+        in.skipNBytes(extensionLength);
+    }
+
+    /**
+     * Row encoder. Each row is encoded into the reusable byte buffer which is then written to the output at once.
+     */
+    static class RowEncoder {
+        private final ValueType[] types;
+        private ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+        RowEncoder(@NotNull ValueType[] types) {
+            this.types = types;
+        }
+
+        void writeRow(@NotNull OutputStream out, @NotNull Object[] values) throws IOException {
+            buffer.clear();
+            ensureCapacity(2);
+            buffer.putShort((short) values.length);
+            for (int i = 0; i < values.length; i++) {
+                writeValue(types[i], values[i]);
+            }
+            out.write(buffer.array(), 0, buffer.position());
+        }
+
+        private void ensureCapacity(int length) {
+            if (buffer.remaining() < length) {
+                ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+                buffer.flip();
+                newBuffer.put(buffer);
+                buffer = newBuffer;
+            }
+        }
+
+        private void writeValue(@NotNull ValueType type, @Nullable Object value) throws IOException {
+            if (value instanceof DBDValue dbdValue) {
+                value = dbdValue.isNull() ? null : dbdValue.getRawValue();
+            }
+            if (value == null) {
+                ensureCapacity(4);
+                buffer.putInt(-1);
+                return;
+            }
+            switch (type) {
+                case BOOL -> {
+                    ensureCapacity(5);
+                    buffer.putInt(1).put((byte) (toBoolean(value) ? 1 : 0));
+                }
+                case INT2 -> {
+                    ensureCapacity(6);
+                    buffer.putInt(2).putShort((short) toInteger(value, Short.MIN_VALUE, Short.MAX_VALUE, "smallint"));
+                }
+                case INT4 -> {
+                    ensureCapacity(8);
+                    buffer.putInt(4).putInt((int) toInteger(value, Integer.MIN_VALUE, Integer.MAX_VALUE, "integer"));
+                }
+                case INT8 -> {
+                    ensureCapacity(12);
+                    buffer.putInt(8).putLong(toInteger(value, Long.MIN_VALUE, Long.MAX_VALUE, "bigint"));
+                }
+                case FLOAT4 -> {
+                    ensureCapacity(8);
+                    buffer.putInt(4).putFloat(toNumber(value).floatValue());
+                }
+                case FLOAT8 -> {
+                    ensureCapacity(12);
+                    buffer.putInt(8).putDouble(toNumber(value).doubleValue());
+                }
+                case NUMERIC -> writeNumeric(value);
+                case TEXT -> writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+                case BYTEA -> {
+                    if (!(value instanceof byte[] bytes)) {
+                        throw new IOException("Binary value expected but " + value.getClass().getName() + " found");
+                    }
+                    writeBytes(bytes);
+                }
+                case DATE -> {
+                    ensureCapacity(8);
+                    buffer.putInt(4).putInt(toDays(value));
+                }
+                case TIMESTAMP -> {
+                    ensureCapacity(12);
+                    buffer.putInt(8).putLong(toMicros(value, false));
+                }
+                case TIMESTAMPTZ -> {
+                    ensureCapacity(12);
+                    buffer.putInt(8).putLong(toMicros(value, true));
+                }
+                case UUID -> {
+                    UUID uuid = value instanceof UUID u ? u : java.util.UUID.fromString(value.toString());
+                    ensureCapacity(20);
+                    buffer.putInt(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+                }
+            }
+        }
+
+        private void writeBytes(@NotNull byte[] bytes) {
+            ensureCapacity(4 + bytes.length);
+            buffer.putInt(bytes.length).put(bytes);
+        }
+
+        private void writeNumeric(@NotNull Object value) {
+            if (value instanceof Double || value instanceof Float) {
+                double doubleValue = ((Number) value).doubleValue();
+                if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                    int sign = Double.isNaN(doubleValue) ? NUMERIC_NAN : doubleValue > 0 ? NUMERIC_PINF : NUMERIC_NINF;
+                    ensureCapacity(12);
+                    buffer.putInt(8).putShort((short) 0).putShort((short) 0).putShort((short) sign).putShort((short) 0);
+                    return;
+                }
+            }
+            BigDecimal decimal = value instanceof BigDecimal bd ? bd : new BigDecimal(value.toString());
+            int sign = decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS;
+            int dscale = Math.max(decimal.scale(), 0);
+
+            // Split into base-10000 digits aligned by the decimal point
+            String plain = decimal.abs().toPlainString();
+            int pointPos = plain.indexOf('.');
+            String intPart = pointPos < 0 ? plain : plain.substring(0, pointPos);
+            String fracPart = pointPos < 0 ? "" : plain.substring(pointPos + 1);
+            intPart = intPart.replaceFirst("^0+", "");
+            int intGroups = (intPart.length() + 3) / 4;
+            int fracGroups = (fracPart.length() + 3) / 4;
+            String digitsText = "0".repeat(intGroups * 4 - intPart.length()) + intPart +
+                fracPart + "0".repeat(fracGroups * 4 - fracPart.length());
+
+            List<Short> digits = new ArrayList<>(intGroups + fracGroups);
+            for (int i = 0; i < digitsText.length(); i += 4) {
+                digits.add(Short.parseShort(digitsText.substring(i, i + 4)));
+            }
+            int weight = intGroups - 1;
+            while (!digits.isEmpty() && digits.get(0) == 0) {
+                digits.remove(0);
+                weight--;
+            }
+            while (!digits.isEmpty() && digits.get(digits.size() - 1) == 0) {
+                digits.remove(digits.size() - 1);
+            }
+            if (digits.isEmpty()) {
+                weight = 0;
+                sign = NUMERIC_POS;
+            }
+
+            ensureCapacity(12 + digits.size() * 2);
+            buffer.putInt(8 + digits.size() * 2)
+                .putShort((short) digits.size())
+                .putShort((short) weight)
+                .putShort((short) sign)
+                .putShort((short) dscale);
+            for (Short digit : digits) {
+                buffer.putShort(digit);
+            }
+        }
+    }
+
+    /**
+     * Reads value of specified type. Returns null for NULL values.
+     */
+    @Nullable
+    static Object readValue(@NotNull DataInputStream in, @NotNull ValueType type) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return switch (type) {
+            case BOOL -> in.readByte() != 0;
+            case INT2 -> in.readShort();
+            case INT4 -> in.readInt();
+            case INT8 -> in.readLong();
+            case FLOAT4 -> in.readFloat();
+            case FLOAT8 -> in.readDouble();
+            case NUMERIC -> readNumeric(in);
+            case TEXT -> new String(in.readNBytes(length), StandardCharsets.UTF_8);
+            case BYTEA -> in.readNBytes(length);
+            case DATE -> {
+                int days = in.readInt();
+                if (days == Integer.MAX_VALUE || days == Integer.MIN_VALUE) {
+                    yield new java.sql.Date(days > 0 ? DATE_POSITIVE_INFINITY : DATE_NEGATIVE_INFINITY);
+                }
+                yield java.sql.Date.valueOf(POSTGRES_EPOCH_DATE.plusDays(days));
+            }
+            case TIMESTAMP -> {
+                long micros = in.readLong();
+                if (micros == Long.MAX_VALUE || micros == Long.MIN_VALUE) {
+                    yield new Timestamp(micros > 0 ? DATE_POSITIVE_INFINITY : DATE_NEGATIVE_INFINITY);
+                }
+                yield Timestamp.valueOf(POSTGRES_EPOCH.plus(micros, ChronoUnit.MICROS));
+            }
+            case TIMESTAMPTZ -> {
+                long micros = in.readLong();
+                if (micros == Long.MAX_VALUE || micros == Long.MIN_VALUE) {
+                    yield new Timestamp(micros > 0 ? DATE_POSITIVE_INFINITY : DATE_NEGATIVE_INFINITY);
+                }
+                yield Timestamp.from(POSTGRES_EPOCH_INSTANT.plus(micros, ChronoUnit.MICROS));
+            }
+            case UUID -> new UUID(in.readLong(), in.readLong());
+        };
+    }
+
+    @NotNull
+    private static Object readNumeric(@NotNull DataInputStream in) throws IOException {
+        int ndigits = in.readUnsignedShort();
+        int weight = in.readShort();
+        int sign = in.readUnsignedShort();
+        int dscale = in.readUnsignedShort();
+        switch (sign) {
+            case NUMERIC_NAN -> {
+                return Double.NaN;
+            }
+            case NUMERIC_PINF -> {
+                return Double.POSITIVE_INFINITY;
+            }
+            case NUMERIC_NINF -> {
+                return Double.NEGATIVE_INFINITY;
+            }
+        }
+        BigInteger unscaled = BigInteger.ZERO;
+        for (int i = 0; i < ndigits; i++) {
+            unscaled = unscaled.multiply(NUMERIC_BASE).add(BigInteger.valueOf(in.readShort()));
+        }
+        BigDecimal value = new BigDecimal(unscaled, (ndigits - weight - 1) * 4).setScale(dscale, RoundingMode.HALF_UP);
+        return sign == NUMERIC_NEG ? value.negate() : value;
+    }
+
+    private static boolean toBoolean(@NotNull Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        } else if (value instanceof Number number) {
+            return number.intValue() != 0;
+        }
+        return Boolean.parseBoolean(value.toString());
+    }
+
+    @NotNull
+    private static Number toNumber(@NotNull Object value) {
+        if (value instanceof Number number) {
+            return number;
+        } else if (value instanceof Boolean bool) {
+            return bool ? 1 : 0;
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    /**
+     * Converts value to integer of the target type range.
+     * Out of range and fractional values can't be stored, so they are rejected instead of being silently narrowed.
+     */
+    private static long toInteger(@NotNull Object value, long minValue, long maxValue, @NotNull String typeName) throws IOException {
+        Number number = toNumber(value);
+        long longValue;
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            longValue = number.longValue();
+        } else {
+            try {
+                BigDecimal decimal = number instanceof BigDecimal bd ? bd : new BigDecimal(number.toString());
+                longValue = decimal.longValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IOException("Value " + value + " can't be stored as " + typeName);
+            }
+        }
+        if (longValue < minValue || longValue > maxValue) {
+            throw new IOException("Value " + value + " is out of " + typeName + " range");
+        }
+        return longValue;
+    }
+
+    /**
+     * Returns 1 for positive infinity, -1 for negative infinity and 0 for regular date/time values.
+     * Infinite values are read as {@link #DATE_POSITIVE_INFINITY} and {@link #DATE_NEGATIVE_INFINITY} dates
+     * (the same way the JDBC driver reads them), java.time values use MIN/MAX constants.
+     */
+    private static int getInfinity(@NotNull Object value) {
+        if (value instanceof java.util.Date date) {
+            long time = date.getTime();
+            return time == DATE_POSITIVE_INFINITY ? 1 : time == DATE_NEGATIVE_INFINITY ? -1 : 0;
+        } else if (value instanceof LocalDate localDate) {
+            return localDate.equals(LocalDate.MAX) ? 1 : localDate.equals(LocalDate.MIN) ? -1 : 0;
+        } else if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.equals(LocalDateTime.MAX) ? 1 : localDateTime.equals(LocalDateTime.MIN) ? -1 : 0;
+        } else if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.equals(OffsetDateTime.MAX) ? 1 : offsetDateTime.equals(OffsetDateTime.MIN) ? -1 : 0;
+        } else if (value instanceof Instant instant) {
+            return instant.equals(Instant.MAX) ? 1 : instant.equals(Instant.MIN) ? -1 : 0;
+        } else if (value instanceof String str) {
+            str = str.trim();
+            return str.equalsIgnoreCase("infinity") ? 1 : str.equalsIgnoreCase("-infinity") ? -1 : 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Converts date to days since the Postgres epoch. Out of range values are rejected instead of being truncated.
+     */
+    private static int toDays(@NotNull Object value) throws IOException {
+        int infinity = getInfinity(value);
+        if (infinity != 0) {
+            return infinity > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        }
+        try {
+            long days = ChronoUnit.DAYS.between(POSTGRES_EPOCH_DATE, toLocalDate(value));
+            // Min and max values mean infinity
+            if (days > Integer.MIN_VALUE && days < Integer.MAX_VALUE) {
+                return Math.toIntExact(days);
+            }
+        } catch (ArithmeticException | DateTimeException e) {
+            // Out of range
+        }
+        throw new IOException("Value " + value + " is out of date range");
+    }
+
+    /**
+     * Converts timestamp to microseconds since the Postgres epoch. Out of range values are rejected.
+     */
+    private static long toMicros(@NotNull Object value, boolean withTimeZone) throws IOException {
+        int infinity = getInfinity(value);
+        if (infinity != 0) {
+            return infinity > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        try {
+            long micros = withTimeZone ?
+                ChronoUnit.MICROS.between(POSTGRES_EPOCH_INSTANT, toInstant(value)) :
+                ChronoUnit.MICROS.between(POSTGRES_EPOCH, toLocalDateTime(value));
+            // Min and max values mean infinity
+            if (micros > Long.MIN_VALUE && micros < Long.MAX_VALUE) {
+                return micros;
+            }
+        } catch (ArithmeticException | DateTimeException e) {
+            // Out of range
+        }
+        throw new IOException("Value " + value + " is out of " + (withTimeZone ? "timestamptz" : "timestamp") + " range");
+    }
+
+    @NotNull
+    private static LocalDate toLocalDate(@NotNull Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        } else if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        return toLocalDateTime(value).toLocalDate();
+    }
+
+    @NotNull
+    private static LocalDateTime toLocalDateTime(@NotNull Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        } else if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().atStartOfDay();
+        } else if (value instanceof java.util.Date date) {
+            return new Timestamp(date.getTime()).toLocalDateTime();
+        } else if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        } else if (value instanceof LocalDate localDate) {
+            return localDate.atStartOfDay();
+        } else if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } else if (value instanceof ZonedDateTime zonedDateTime) {
+            return zonedDateTime.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } else if (value instanceof Instant instant) {
+            return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        }
+        String strValue = value.toString().trim();
+        return strValue.length() <= 10 ? LocalDate.parse(strValue).atStartOfDay() : Timestamp.valueOf(strValue).toLocalDateTime();
+    }
+
+    @NotNull
+    private static Instant toInstant(@NotNull Object value) {
+        if (value instanceof java.util.Date date && !(value instanceof java.sql.Date)) {
+            return date.toInstant();
+        } else if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        } else if (value instanceof ZonedDateTime zonedDateTime) {
+            return zonedDateTime.toInstant();
+        } else if (value instanceof Instant instant) {
+            return instant;
+        }
+        return toLocalDateTime(value).atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -34,21 +34,21 @@ import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
+import java.io.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Bulk loader based on CopyManager
+ * Bulk loader based on CopyManager.
+ * Uses binary COPY format if all loaded columns have types supported by {@link PostgreBinaryCopyCodec},
+ * otherwise uses CSV format.
  *
  * //        new CopyManager((BaseConnection) conn)
  * //            .copyIn(
@@ -64,9 +64,16 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
     private PostgreTableReal table;
     private Object copyManager;
     private Method copyInMethod;
+    private Method copyInStreamMethod;
     private Writer csvWriter;
     private Path csvFile;
 
+    private boolean binaryFormat;
+    private OutputStream binaryStream;
+    private PostgreBinaryCopyCodec.RowEncoder rowEncoder;
+    private AttrMapping[] binaryMappings;
+    private Object[] binaryRow;
+
     private AttrMapping[] mappings;
 
     private int copyBufferSize = 100 * 1024;
@@ -108,22 +115,11 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
 
             // Get method copyIn(final String sql, Reader from, int bufferSize)
             copyInMethod = copyManagerClass.getMethod("copyIn", String.class, Reader.class, Integer.TYPE);
+            // Get method copyIn(final String sql, InputStream from, int bufferSize)
+            copyInStreamMethod = copyManagerClass.getMethod("copyIn", String.class, InputStream.class, Integer.TYPE);
 
             copyManager = copyManagerClass.getConstructor(baseConnectionClass).newInstance(pgConnection);
 
-            Path tempFolder = DBWorkbench.getPlatform().getTempFolder(session.getProgressMonitor(), "postgesql-copy-datasets");
-            csvFile = tempFolder.resolve(CommonUtils.escapeFileName(table.getFullyQualifiedName(DBPEvaluationContext.DML)) + "-" + System.currentTimeMillis() + ".csv");  //$NON-NLS-1$ //$NON-NLS-2$
-            try {
-                Files.createFile(csvFile);
-            } catch (IOException ex) {
-                throw new IOException("Can't create CSV file " + csvFile);
-            }
-
-            csvWriter = new BufferedWriter(
-                Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8),
-                copyBufferSize
-                );
-
             List<? extends PostgreTableColumn> tableAttrs = CommonUtils.safeList(table.getAttributes(session.getProgressMonitor()));
             tableAttrs.removeIf(a -> a.getOrdinalPosition() < 0);
             mappings = new AttrMapping[tableAttrs.size()];
@@ -138,6 +134,47 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
                 );
                 mappings[i] = mapping;
             }
+
+            List<AttrMapping> loadedMappings = new ArrayList<>();
+            List<PostgreBinaryCopyCodec.ValueType> valueTypes = new ArrayList<>();
+            binaryFormat = true;
+            for (AttrMapping mapping : mappings) {
+                if (mapping.srcPos < 0) {
+                    continue;
+                }
+                PostgreBinaryCopyCodec.ValueType valueType = PostgreBinaryCopyCodec.getValueType(mapping.tableAttr);
+                if (valueType == null) {
+                    binaryFormat = false;
+                    break;
+                }
+                loadedMappings.add(mapping);
+                valueTypes.add(valueType);
+            }
+            if (binaryFormat && !loadedMappings.isEmpty()) {
+                binaryMappings = loadedMappings.toArray(new AttrMapping[0]);
+                binaryRow = new Object[binaryMappings.length];
+                rowEncoder = new PostgreBinaryCopyCodec.RowEncoder(valueTypes.toArray(new PostgreBinaryCopyCodec.ValueType[0]));
+            } else {
+                binaryFormat = false;
+            }
+
+            Path tempFolder = DBWorkbench.getPlatform().getTempFolder(session.getProgressMonitor(), "postgesql-copy-datasets");
+            csvFile = tempFolder.resolve(CommonUtils.escapeFileName(table.getFullyQualifiedName(DBPEvaluationContext.DML)) + "-" + System.currentTimeMillis() + (binaryFormat ? ".bin" : ".csv"));  //$NON-NLS-1$ //$NON-NLS-2$
+            try {
+                Files.createFile(csvFile);
+            } catch (IOException ex) {
+                throw new IOException("Can't create data file " + csvFile);
+            }
+
+            if (binaryFormat) {
+                binaryStream = new BufferedOutputStream(Files.newOutputStream(csvFile), copyBufferSize);
+                PostgreBinaryCopyCodec.writeHeader(binaryStream);
+            } else {
+                csvWriter = new BufferedWriter(
+                    Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8),
+                    copyBufferSize
+                    );
+            }
         } catch (Exception e) {
             throw new DBCException("Can't instantiate CopyManager", e);
         }
@@ -146,6 +183,17 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
 
     @Override
     public void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
+        if (binaryFormat) {
+            for (int i = 0; i < binaryMappings.length; i++) {
+                binaryRow[i] = attributeValues[binaryMappings[i].srcPos];
+            }
+            try {
+                rowEncoder.writeRow(binaryStream, binaryRow);
+            } catch (Exception e) {
+                throw new DBCException("Error writing binary COPY row", e);
+            }
+            return;
+        }
         StringBuilder line = new StringBuilder();
         boolean hasCell = false;
         for (AttrMapping mapping : mappings) {
@@ -184,6 +232,10 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
     @Override
     public void flushRows(@NotNull DBCSession session) throws DBCException {
         try {
+            if (binaryFormat) {
+                binaryStream.flush();
+                return;
+            }
             csvWriter.flush();
         } catch (IOException e) {
             throw new DBCException("Error saving CSV data", e);
@@ -193,23 +245,43 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
     @Override
     public void finishBulkLoad(@NotNull DBCSession session) throws DBCException {
         try {
-            csvWriter.flush();
-            csvWriter.close();
+            if (binaryFormat) {
+                PostgreBinaryCopyCodec.writeTrailer(binaryStream);
+                binaryStream.close();
+            } else {
+                csvWriter.flush();
+                csvWriter.close();
+            }
         } catch (IOException e) {
             log.debug(e);
         }
         csvWriter = null;
+        binaryStream = null;
 
         String tableFQN = table.getFullyQualifiedName(DBPEvaluationContext.DML);
 
         session.getProgressMonitor().subTask("Copy into " + tableFQN);
 
-        String queryText = "COPY " + tableFQN + " FROM STDIN (FORMAT CSV, ESCAPE '\\')";
-
         try {
             Object rowCount;
-            try (Reader csvReader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
-                rowCount = copyInMethod.invoke(copyManager, queryText, csvReader, copyBufferSize);
+            if (binaryFormat) {
+                StringBuilder queryText = new StringBuilder();
+                queryText.append("COPY ").append(tableFQN).append(" (");
+                for (int i = 0; i < binaryMappings.length; i++) {
+                    if (i > 0) {
+                        queryText.append(",");
+                    }
+                    queryText.append(DBUtils.getQuotedIdentifier(binaryMappings[i].tableAttr));
+                }
+                queryText.append(") FROM STDIN (FORMAT BINARY)");
+                try (InputStream binaryInput = Files.newInputStream(csvFile)) {
+                    rowCount = copyInStreamMethod.invoke(copyManager, queryText.toString(), binaryInput, copyBufferSize);
+                }
+            } else {
+                String queryText = "COPY " + tableFQN + " FROM STDIN (FORMAT CSV, ESCAPE '\\')";
+                try (Reader csvReader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+                    rowCount = copyInMethod.invoke(copyManager, queryText, csvReader, copyBufferSize);
+                }
             }
 
             // Commit changes
@@ -0,0 +1,364 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.postgresql.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBFetchProgress;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkReader;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk reader based on CopyManager.
+ * Table data is read with {@code COPY (SELECT ...) TO STDOUT (FORMAT BINARY)} and decoded with {@link PostgreBinaryCopyCodec}.
+ * Supported only for tables which columns have types supported by binary codec.
+ */
+public class PostgreCopyReader implements DBSDataBulkReader {
+
+    private static final Log log = Log.getLog(PostgreCopyReader.class);
+
+    private static final int COPY_BUFFER_SIZE = 100 * 1024;
+
+    private final PostgreDataSource dataSource;
+
+    public PostgreCopyReader(PostgreDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public boolean isBulkReadSupported(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable DBDDataFilter dataFilter)
+    {
+        if (!(dataContainer instanceof PostgreTableBase table) || table.getDataSource() != dataSource) {
+            return false;
+        }
+        try {
+            List<PostgreTableColumn> attributes = getTableAttributes(monitor, table);
+            if (attributes.isEmpty()) {
+                return false;
+            }
+            for (PostgreTableColumn attribute : attributes) {
+                if (PostgreBinaryCopyCodec.getValueType(attribute) == null) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (DBException e) {
+            log.debug("Can't read table '" + table.getName() + "' attributes", e);
+            return false;
+        }
+    }
+
+    @NotNull
+    @Override
+    public DBCStatistics readBulkData(
+        @NotNull DBCExecutionSource source,
+        @NotNull DBCSession session,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBDDataReceiver dataReceiver,
+        @Nullable DBDDataFilter dataFilter) throws DBCException
+    {
+        DBCStatistics statistics = new DBCStatistics();
+        DBRProgressMonitor monitor = session.getProgressMonitor();
+        PostgreTableBase table = (PostgreTableBase) dataContainer;
+        try {
+            List<PostgreTableColumn> attributes;
+            try {
+                attributes = getTableAttributes(monitor, table);
+            } catch (DBException e) {
+                throw new DBCException("Can't read table attributes", e, session.getExecutionContext());
+            }
+            PostgreBinaryCopyCodec.ValueType[] valueTypes = new PostgreBinaryCopyCodec.ValueType[attributes.size()];
+
+            StringBuilder query = new StringBuilder(100);
+            query.append("SELECT ");
+            for (int i = 0; i < attributes.size(); i++) {
+                if (i > 0) {
+                    query.append(",");
+                }
+                query.append(DBUtils.getQuotedIdentifier(attributes.get(i)));
+                valueTypes[i] = PostgreBinaryCopyCodec.getValueType(attributes.get(i));
+            }
+            query.append(" FROM ").append(table.getFullyQualifiedName(DBPEvaluationContext.DML));
+            try {
+                SQLUtils.appendQueryConditions(dataSource, query, null, dataFilter);
+            } catch (DBException e) {
+                throw new DBCException("Can't generate query conditions", e, session.getExecutionContext());
+            }
+            SQLUtils.appendQueryOrder(dataSource, query, null, dataFilter);
+
+            String copyQuery = "COPY (" + query + ") TO STDOUT (FORMAT BINARY)";
+            statistics.setQueryText(copyQuery);
+
+            monitor.subTask("Copy from " + table.getFullyQualifiedName(DBPEvaluationContext.UI));
+
+            long startTime = System.currentTimeMillis();
+            CopyOutStream copyStream = openCopyOut(session, copyQuery);
+            statistics.setExecuteTime(System.currentTimeMillis() - startTime);
+
+            LocalStatement statement = new LocalStatement(session, copyQuery);
+            statement.setStatementSource(source);
+            CopyResultSet dbResult = new CopyResultSet(session, statement, copyStream, valueTypes);
+            for (PostgreTableColumn attribute : attributes) {
+                dbResult.addColumn(attribute.getName(), attribute);
+            }
+            try {
+                dbResult.readHeader();
+
+                dataReceiver.fetchStart(session, dbResult, 0, -1);
+
+                DBFetchProgress fetchProgress = new DBFetchProgress(monitor);
+                while (dbResult.readRow()) {
+                    if (fetchProgress.isCanceled()) {
+                        break;
+                    }
+                    dataReceiver.fetchRow(session, dbResult);
+                    fetchProgress.monitorRowFetch();
+                }
+                fetchProgress.dumpStatistics(statistics);
+            } finally {
+                // First - close copy stream (cancels copy if it wasn't read till the end)
+                try {
+                    dbResult.close();
+                } catch (Throwable e) {
+                    log.error("Error closing copy stream", e); //$NON-NLS-1$
+                }
+                // Then - signal that fetch was ended
+                try {
+                    dataReceiver.fetchEnd(session, dbResult);
+                } catch (Throwable e) {
+                    log.error("Error while finishing result set fetch", e); //$NON-NLS-1$
+                }
+            }
+            return statistics;
+        } finally {
+            dataReceiver.close();
+        }
+    }
+
+    @NotNull
+    private static List<PostgreTableColumn> getTableAttributes(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull PostgreTableBase table) throws DBException
+    {
+        List<PostgreTableColumn> attributes = new ArrayList<>();
+        for (PostgreTableColumn attribute : CommonUtils.safeCollection(table.getAttributes(monitor))) {
+            if (attribute.getOrdinalPosition() >= 0) {
+                attributes.add(attribute);
+            }
+        }
+        return attributes;
+    }
+
+    @NotNull
+    private static CopyOutStream openCopyOut(@NotNull DBCSession session, @NotNull String copyQuery) throws DBCException {
+        try {
+            // Use reflection to create copy manager
+            Connection pgConnection = ((JDBCSession) session).getOriginal();
+            ClassLoader driverClassLoader = pgConnection.getClass().getClassLoader();
+
+            Class<?> baseConnectionClass = Class.forName("org.postgresql.core.BaseConnection", true, driverClassLoader);
+            Class<?> copyManagerClass = Class.forName("org.postgresql.copy.CopyManager", true, driverClassLoader);
+            Class<?> copyOutClass = Class.forName("org.postgresql.copy.CopyOut", true, driverClassLoader);
+
+            Object copyManager = copyManagerClass.getConstructor(baseConnectionClass).newInstance(pgConnection);
+            Object copyOut = copyManagerClass.getMethod("copyOut", String.class).invoke(copyManager, copyQuery);
+            return new CopyOutStream(
+                copyOut,
+                copyOutClass.getMethod("readFromCopy"),
+                copyOutClass.getMethod("isActive"),
+                copyOutClass.getMethod("cancelCopy"));
+        } catch (Throwable e) {
+            if (e instanceof InvocationTargetException ite) {
+                e = ite.getTargetException();
+            }
+            throw new DBCException("Error starting COPY on remote server", e, session.getExecutionContext());
+        }
+    }
+
+    /**
+     * Exposes driver's CopyOut data chunks as input stream
+     */
+    private static class CopyOutStream extends InputStream {
+        private final Object copyOut;
+        private final Method readMethod;
+        private final Method isActiveMethod;
+        private final Method cancelMethod;
+        private byte[] chunk;
+        private int chunkPos;
+        private boolean eof;
+
+        CopyOutStream(Object copyOut, Method readMethod, Method isActiveMethod, Method cancelMethod) {
+            this.copyOut = copyOut;
+            this.readMethod = readMethod;
+            this.isActiveMethod = isActiveMethod;
+            this.cancelMethod = cancelMethod;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            return chunk[chunkPos++] & 0xFF;
+        }
+
+        @Override
+        public int read(@NotNull byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+            int count = Math.min(len, chunk.length - chunkPos);
+            System.arraycopy(chunk, chunkPos, b, off, count);
+            chunkPos += count;
+            return count;
+        }
+
+        private boolean nextChunk() throws IOException {
+            while (!eof && (chunk == null || chunkPos >= chunk.length)) {
+                chunk = (byte[]) invoke(readMethod);
+                chunkPos = 0;
+                if (chunk == null) {
+                    eof = true;
+                }
+            }
+            return !eof;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!eof && (Boolean) invoke(isActiveMethod)) {
+                invoke(cancelMethod);
+            }
+            eof = true;
+            chunk = null;
+        }
+
+        private Object invoke(Method method) throws IOException {
+            try {
+                return method.invoke(copyOut);
+            } catch (InvocationTargetException e) {
+                throw new IOException(e.getTargetException().getMessage(), e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Result set which decodes rows from binary COPY stream on demand.
+     * Only current row is kept in memory.
+     */
+    private static class CopyResultSet extends LocalResultSet<LocalStatement> {
+        private final CopyOutStream copyStream;
+        private final DataInputStream input;
+        private final PostgreBinaryCopyCodec.ValueType[] valueTypes;
+        private boolean finished;
+
+        CopyResultSet(
+            @NotNull DBCSession session,
+            @NotNull LocalStatement statement,
+            @NotNull CopyOutStream copyStream,
+            @NotNull PostgreBinaryCopyCodec.ValueType[] valueTypes)
+        {
+            super(session, statement);
+            this.copyStream = copyStream;
+            this.input = new DataInputStream(new BufferedInputStream(copyStream, COPY_BUFFER_SIZE));
+            this.valueTypes = valueTypes;
+        }
+
+        void readHeader() throws DBCException {
+            try {
+                PostgreBinaryCopyCodec.readHeader(input);
+            } catch (IOException e) {
+                throw new DBCException("Error reading binary COPY header", e);
+            }
+        }
+
+        /**
+         * Decodes next row from the stream and makes it current
+         */
+        boolean readRow() throws DBCException {
+            if (finished) {
+                return false;
+            }
+            try {
+                short fieldCount = input.readShort();
+                if (fieldCount < 0) {
+                    finished = true;
+                    // Read the rest of stream, so copy operation completes normally
+                    while (input.read() >= 0) {
+                        // skip
+                    }
+                    return false;
+                }
+                if (fieldCount != valueTypes.length) {
+                    throw new IOException("Unexpected field count " + fieldCount + " (" + valueTypes.length + " expected)");
+                }
+                Object[] row = new Object[valueTypes.length];
+                for (int i = 0; i < valueTypes.length; i++) {
+                    row[i] = PostgreBinaryCopyCodec.readValue(input, valueTypes[i]);
+                }
+                rows.clear();
+                rows.add(row);
+                curPosition = 0;
+                return true;
+            } catch (IOException e) {
+                throw new DBCException("Error reading binary COPY data", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            finished = true;
+            try {
+                copyStream.close();
+            } catch (IOException e) {
+                log.debug("Error closing COPY stream", e);
+            }
+            super.close();
+        }
+    }
+}
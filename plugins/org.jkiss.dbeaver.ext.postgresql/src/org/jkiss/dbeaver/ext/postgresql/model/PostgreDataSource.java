@@ -615,6 +615,10 @@ public class PostgreDataSource extends JDBCDataSource implements DBSInstanceCont
             if (getServerType().supportsCopyFromStdIn()) {
                 return adapter.cast(new PostgreCopyLoader(this));
             }
+        } else if (adapter == DBSDataBulkReader.class) {
+            if (getServerType().supportsCopyFromStdIn()) {
+                return adapter.cast(new PostgreCopyReader(this));
+            }
         } else if (adapter == DBAUserPasswordManager.class) {
             if (getServerType().supportsAlterUserChangePassword()) {
                 return adapter.cast(new PostgresUserPasswordManager(this));
@@ -505,20 +505,51 @@ public class PostgreSchema implements
     public synchronized DBSObject refreshObject(@NotNull DBRProgressMonitor monitor)
         throws DBException {
         extensionCache.clearCache();
+        proceduresCache.clearCache();
+        defaultPrivileges = null;
+        hasStatistics = false;
+
+        List<PostgreTableBase> changedTables = tableCache.refreshChangedObjects(monitor, this);
+        // Schema reload resets all nested caches, so on incremental refresh only schema properties are read
+        if (changedTables != null && reloadInfo(monitor)) {
+            constraintCache.refreshObjects(monitor, this, changedTables);
+            if (indexCache != null) {
+                indexCache.refreshObjects(monitor, this, changedTables);
+            }
+            database.cacheDataTypes(monitor, true);
+            return this;
+        }
         tableCache.clearCache();
         constraintCache.clearCache();
-        proceduresCache.clearCache();
         if (indexCache != null) {
             indexCache.clearCache();
         }
-        defaultPrivileges = null;
-        hasStatistics = false;
 
         PostgreSchema schema = database.schemaCache.refreshObject(monitor, database, this);
         database.cacheDataTypes(monitor, true);
         return schema;
     }
 
+    private boolean reloadInfo(@NotNull DBRProgressMonitor monitor) throws DBException {
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, this, "Reload schema info")) {
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT n.oid,n.*,d.description FROM pg_catalog.pg_namespace n\n" +
+                    "LEFT OUTER JOIN pg_catalog.pg_description d ON d.objoid=n.oid AND d.objsubid=0 AND d.classoid='pg_namespace'::regclass\n" +
+                    "WHERE n.oid=?")) {
+                dbStat.setLong(1, getObjectId());
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    if (!dbResult.next()) {
+                        return false;
+                    }
+                    loadInfo(dbResult);
+                    return true;
+                }
+            } catch (SQLException e) {
+                throw new DBCException(e, session.getExecutionContext());
+            }
+        }
+    }
+
     @DPIElement(cache = true)
     @Override
     public boolean isSystem() {
@@ -882,6 +913,23 @@ public class PostgreSchema implements
             return container.getDataSource().getServerType().createRelationOfClass(PostgreSchema.this, kind, dbResult);
         }
 
+        @Nullable
+        @Override
+        protected JDBCStatement prepareChangesStatement(@NotNull JDBCSession session, @NotNull PostgreTableContainer container) throws SQLException {
+            // Catalog rows get new transaction id (xmin) on each change. Row counts reveal dropped rows.
+            JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT c.relname, c.xmin::text" +
+                    "\n|| ':' || (SELECT count(*) || '/' || coalesce(max(a.xmin::text::bigint), 0) FROM pg_catalog.pg_attribute a WHERE a.attrelid=c.oid)" +
+                    "\n|| ':' || (SELECT count(*) || '/' || coalesce(max(ad.xmin::text::bigint), 0) FROM pg_catalog.pg_attrdef ad WHERE ad.adrelid=c.oid)" +
+                    "\n|| ':' || (SELECT count(*) || '/' || coalesce(max(x.xmin::text::bigint), 0) FROM pg_catalog.pg_constraint x WHERE x.conrelid=c.oid)" +
+                    "\n|| ':' || (SELECT count(*) || '/' || coalesce(max(i.xmin::text::bigint), 0) FROM pg_catalog.pg_index i WHERE i.indrelid=c.oid)" +
+                    "\n|| ':' || (SELECT count(*) || '/' || coalesce(max(d.xmin::text::bigint), 0) FROM pg_catalog.pg_description d WHERE d.objoid=c.oid)" +
+                    "\nFROM pg_catalog.pg_class c" +
+                    "\nWHERE c.relnamespace=? AND c.relkind not in ('i','I','c')");
+            dbStat.setLong(1, getObjectId());
+            return dbStat;
+        }
+
         protected boolean isPartitionTableRow(@NotNull JDBCResultSet dbResult) {
             return JDBCUtils.safeGetBoolean(dbResult, "relispartition");
         }
@@ -37,6 +37,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCFactory;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.AbstractDataSource;
+import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCMetadataSnapshot;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCConnectionImpl;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCFactoryDefault;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
@@ -92,6 +93,8 @@ public abstract class JDBCDataSource extends AbstractDataSource
 
     private final transient List<Connection> closingConnections = new ArrayList<>();
     protected List<Path> tempFiles;
+    @Nullable
+    private volatile JDBCMetadataSnapshot metadataSnapshot;
 
 
     protected JDBCDataSource(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSourceContainer container, @NotNull SQLDialect dialect)
@@ -498,6 +501,10 @@ public abstract class JDBCDataSource extends AbstractDataSource
 
     @Override
     public void shutdown(@NotNull DBRProgressMonitor monitor) {
+        if (metadataSnapshot != null) {
+            metadataSnapshot.close();
+            metadataSnapshot = null;
+        }
         for (JDBCRemoteInstance instance : getAvailableInstances()) {
             Object exclusiveLock = instance.getExclusiveLock().acquireExclusiveLock();
             try {
@@ -559,6 +566,17 @@ public abstract class JDBCDataSource extends AbstractDataSource
                 dataSourceInfo = new JDBCDataSourceInfo(container);
             }
         }
+        if (getContainer().getPreferenceStore().getBoolean(ModelPreferences.META_SNAPSHOT_ENABLED)) {
+            metadataSnapshot = JDBCMetadataSnapshot.open(this);
+        }
+    }
+
+    /**
+     * Returns metadata snapshot or null if snapshots are disabled
+     */
+    @Nullable
+    public JDBCMetadataSnapshot getMetadataSnapshot() {
+        return metadataSnapshot;
     }
 
     protected void readDatabaseServerVersion(DatabaseMetaData metaData) {
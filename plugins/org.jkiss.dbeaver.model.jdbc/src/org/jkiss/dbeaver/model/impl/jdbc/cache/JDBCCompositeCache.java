@@ -232,6 +232,34 @@ public abstract class JDBCCompositeCache<
         }
     }
 
+    /**
+     * Reloads objects of the specified parents. Objects of other parents are kept.
+     * Parents which are not in the parent cache anymore are just removed from the cache.
+     */
+    public void refreshObjects(@NotNull DBRProgressMonitor monitor, @NotNull OWNER owner, @NotNull Collection<? extends DBSObject> parents)
+        throws DBException
+    {
+        List<PARENT> reloadParents = new ArrayList<>();
+        for (DBSObject object : parents) {
+            if (!parentType.isInstance(object)) {
+                continue;
+            }
+            PARENT parent = parentType.cast(object);
+            synchronized (objectCache) {
+                clearObjectCache(parent);
+            }
+            if (parentCache.getCachedObject(parent.getName()) == parent) {
+                reloadParents.add(parent);
+            }
+        }
+        if (isFullyCached()) {
+            // Otherwise objects will be read on demand
+            for (PARENT parent : reloadParents) {
+                loadObjects(monitor, owner, parent);
+            }
+        }
+    }
+
     public void setObjectCache(PARENT forParent, List<OBJECT> objects)
     {
     }
@@ -307,8 +335,18 @@ public abstract class JDBCCompositeCache<
             JDBCStatement dbStat = prepareObjectsStatement(session, owner, forParent);
             dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
             try {
-                dbStat.executeStatement();
-                JDBCResultSet dbResult = dbStat.getResultSet();
+                JDBCResultSet dbResult = JDBCMetadataSnapshot.executeStatement(
+                    session,
+                    dbStat,
+                    JDBCMetadataSnapshot.makeCacheKey(
+                        this,
+                        JDBCMetadataSnapshot.KIND_OBJECTS,
+                        owner,
+                        forParent,
+                        dbStat,
+                        JDBCMetadataSnapshot.getCacheTypeArgument(this, JDBCCompositeCache.class.getTypeParameters()[2])),
+                    owner,
+                    new ObjectsSnapshotSource(owner, forParent));
                 if (dbResult != null) try {
                     while (dbResult.next()) {
                         if (monitor.isCanceled()) {
@@ -486,4 +524,32 @@ public abstract class JDBCCompositeCache<
         return parentName == null ? DEFAULT_OBJECT_NAME : parentName.toUpperCase() + "_" + DEFAULT_OBJECT_NAME;
     }
 
+    private class ObjectsSnapshotSource implements JDBCMetadataSnapshot.Source {
+        private final OWNER owner;
+        private final PARENT forParent;
+
+        ObjectsSnapshotSource(OWNER owner, PARENT forParent) {
+            this.owner = owner;
+            this.forParent = forParent;
+        }
+
+        @NotNull
+        @Override
+        public JDBCStatement prepareStatement(@NotNull JDBCSession session) throws SQLException {
+            return prepareObjectsStatement(session, owner, forParent);
+        }
+
+        @Override
+        public void invalidate() {
+            if (forParent == null) {
+                clearCache();
+            } else {
+                synchronized (objectCache) {
+                    clearObjectCache(forParent);
+                }
+            }
+            DBUtils.fireObjectRefresh(forParent != null ? forParent : owner);
+        }
+    }
+
 }
@@ -0,0 +1,475 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBConstants;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.connection.DBPConnectionConfiguration;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCDataSource;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectFilter;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Metadata snapshot of a data source.
+ * <p>
+ * Results of metadata cache queries are stored in the project metadata folder when the data source is disconnected.
+ * After the next connect each cache query is answered from the snapshot once, so caches are filled without
+ * round trips to the database. Replayed queries are then executed in background, and caches whose results
+ * have changed are cleared and refreshed.
+ * <p>
+ * Snapshot file is memory-mapped, entries are decoded only when the corresponding cache is loaded.
+ */
+public class JDBCMetadataSnapshot {
+
+    private static final Log log = Log.getLog(JDBCMetadataSnapshot.class);
+
+    public static final String SNAPSHOT_FOLDER = "metadata-snapshots"; //$NON-NLS-1$
+
+    public static final String KIND_OBJECTS = "objects"; //$NON-NLS-1$
+    public static final String KIND_CHILDREN = "children"; //$NON-NLS-1$
+
+    private static final String SNAPSHOT_FILE_EXT = ".snapshot"; //$NON-NLS-1$
+    private static final String SNAPSHOT_NEW_FILE_EXT = ".new"; //$NON-NLS-1$
+
+    private static final int SNAPSHOT_MAGIC = 0x44424D53;
+    private static final int FORMAT_VERSION = 2;
+
+    private static final long VALIDATE_DELAY = 2000;
+
+    /**
+     * Source of the cache query
+     */
+    public interface Source {
+
+        /**
+         * Prepares the same query to validate the snapshot entry
+         */
+        @NotNull
+        JDBCStatement prepareStatement(@NotNull JDBCSession session) throws SQLException;
+
+        /**
+         * Called when the snapshot entry turned out to be stale. Clears and refreshes the cache.
+         */
+        void invalidate();
+    }
+
+    private record StoredEntry(int offset, int length) {
+    }
+
+    private record PendingValidation(@NotNull String key, @NotNull DBSObject owner, @NotNull JDBCMetadataSnapshotEntry entry, @NotNull Source source) {
+    }
+
+    @NotNull
+    private final Path file;
+    @NotNull
+    private final String signature;
+    @Nullable
+    private ByteBuffer buffer;
+    private final Map<String, StoredEntry> storedEntries = new LinkedHashMap<>();
+    private final Map<String, JDBCMetadataSnapshotEntry> recordedEntries = new LinkedHashMap<>();
+    private final Set<String> replayedKeys = new HashSet<>();
+    private final List<PendingValidation> pendingValidations = new ArrayList<>();
+    private final ValidateJob validateJob = new ValidateJob();
+    private boolean modified;
+    private boolean closed;
+
+    private JDBCMetadataSnapshot(@NotNull Path file, @NotNull String signature) {
+        this.file = file;
+        this.signature = signature;
+    }
+
+    /**
+     * Opens snapshot of the data source. Snapshot of a different driver, database or server version is ignored.
+     */
+    @NotNull
+    public static JDBCMetadataSnapshot open(@NotNull JDBCDataSource dataSource) {
+        DBPDataSourceContainer container = dataSource.getContainer();
+        DBPConnectionConfiguration configuration = container.getConnectionConfiguration();
+        String signature = String.join("|",
+            container.getDriver().getId(),
+            CommonUtils.notEmpty(configuration.getUrl()),
+            CommonUtils.notEmpty(configuration.getHostName()),
+            CommonUtils.notEmpty(configuration.getHostPort()),
+            CommonUtils.notEmpty(configuration.getDatabaseName()),
+            CommonUtils.notEmpty(dataSource.getInfo().getDatabaseProductVersion()));
+        Path folder = container.getProject().getMetadataFolder(false).resolve(SNAPSHOT_FOLDER);
+        String fileName = container.getId().replaceAll("[^\\w.\\-]", "_") + SNAPSHOT_FILE_EXT;
+        JDBCMetadataSnapshot snapshot = new JDBCMetadataSnapshot(folder.resolve(fileName), signature);
+        try {
+            snapshot.load();
+        } catch (IOException e) {
+            log.debug("Error loading metadata snapshot of '" + container.getName() + "'", e);
+            snapshot.buffer = null;
+            snapshot.storedEntries.clear();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Makes a key of the cache query.
+     * Key contains the query text and the active object filter of cached objects, so results of a different query
+     * or of a query with different filter parameters are never replayed.
+     *
+     * @param objectType type of cached objects, it is used to find the object filter
+     */
+    @NotNull
+    public static String makeCacheKey(
+        @NotNull Object cache,
+        @NotNull String kind,
+        @NotNull DBSObject owner,
+        @Nullable DBSObject forObject,
+        @NotNull JDBCStatement dbStat,
+        @Nullable Class<?> objectType
+    ) {
+        StringBuilder key = new StringBuilder();
+        key.append(cache.getClass().getName()).append(':').append(kind).append(':').append(DBUtils.getObjectFullId(owner));
+        if (forObject != null) {
+            key.append(':').append(forObject.getName());
+        }
+        key.append(':').append(CommonUtils.notEmpty(dbStat.getQueryString()));
+        DBPDataSource dataSource = owner.getDataSource();
+        DBSObjectFilter filter = objectType == null || dataSource == null ?
+            null : dataSource.getContainer().getObjectFilter(objectType, owner, false);
+        if (filter != null && filter.isEnabled() && !filter.isNotApplicable()) {
+            key.append(":filter:").append(filter.isCaseSensitive())
+                .append(':').append(CommonUtils.safeCollection(filter.getInclude()))
+                .append(':').append(CommonUtils.safeCollection(filter.getExclude()));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the class bound to the type parameter of a generic cache class by the cache implementation
+     * or null if it can't be resolved.
+     */
+    @Nullable
+    public static Class<?> getCacheTypeArgument(@NotNull Object cache, @NotNull TypeVariable<?> typeParameter) {
+        Map<TypeVariable<?>, Type> typeArguments = new HashMap<>();
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> type = cache.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            hierarchy.add(type);
+        }
+        // Resolve from the generic base class down to the implementation
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            if (hierarchy.get(i).getGenericSuperclass() instanceof ParameterizedType superType &&
+                superType.getRawType() instanceof Class<?> superClass)
+            {
+                TypeVariable<?>[] parameters = superClass.getTypeParameters();
+                Type[] arguments = superType.getActualTypeArguments();
+                for (int k = 0; k < parameters.length && k < arguments.length; k++) {
+                    typeArguments.put(parameters[k], arguments[k]);
+                }
+            }
+        }
+        Type type = typeArguments.get(typeParameter);
+        while (type instanceof TypeVariable<?> && typeArguments.containsKey(type)) {
+            type = typeArguments.get(type);
+        }
+        if (type instanceof ParameterizedType parameterizedType) {
+            type = parameterizedType.getRawType();
+        }
+        return type instanceof Class<?> typeClass ? typeClass : null;
+    }
+
+    /**
+     * Executes cache query. If the data source has a snapshot then the result is replayed from it or recorded into it.
+     */
+    @Nullable
+    public static JDBCResultSet executeStatement(
+        @NotNull JDBCSession session,
+        @NotNull JDBCStatement dbStat,
+        @NotNull String cacheKey,
+        @NotNull DBSObject owner,
+        @NotNull Source source
+    ) throws SQLException, DBCException {
+        DBPDataSource dataSource = session.getDataSource();
+        JDBCMetadataSnapshot snapshot = dataSource instanceof JDBCDataSource jdbcDataSource ?
+            jdbcDataSource.getMetadataSnapshot() : null;
+        if (snapshot == null) {
+            dbStat.executeStatement();
+            return dbStat.getResultSet();
+        }
+        return snapshot.openResultSet(session, dbStat, cacheKey, owner, source);
+    }
+
+    @Nullable
+    private JDBCResultSet openResultSet(
+        @NotNull JDBCSession session,
+        @NotNull JDBCStatement dbStat,
+        @NotNull String cacheKey,
+        @NotNull DBSObject owner,
+        @NotNull Source source
+    ) throws SQLException, DBCException {
+        JDBCMetadataSnapshotEntry entry = takeEntry(cacheKey);
+        if (entry != null) {
+            scheduleValidation(new PendingValidation(cacheKey, owner, entry, source));
+            return JDBCMetadataSnapshotResultSet.replay(session, dbStat, entry);
+        }
+        dbStat.executeStatement();
+        JDBCResultSet resultSet = dbStat.getResultSet();
+        if (resultSet == null) {
+            return null;
+        }
+        return JDBCMetadataSnapshotResultSet.recording(resultSet, recorded -> putEntry(cacheKey, recorded));
+    }
+
+    /**
+     * Returns stored entry if it wasn't replayed yet
+     */
+    @Nullable
+    private synchronized JDBCMetadataSnapshotEntry takeEntry(@NotNull String key) {
+        if (closed || !replayedKeys.add(key)) {
+            return null;
+        }
+        StoredEntry stored = storedEntries.get(key);
+        if (stored == null || buffer == null) {
+            return null;
+        }
+        try {
+            return JDBCMetadataSnapshotEntry.read(getEntryBuffer(stored));
+        } catch (IOException e) {
+            log.debug("Error reading metadata snapshot entry '" + key + "'", e);
+            removeEntry(key);
+            return null;
+        }
+    }
+
+    private synchronized void putEntry(@NotNull String key, @NotNull JDBCMetadataSnapshotEntry entry) {
+        if (closed) {
+            return;
+        }
+        replayedKeys.add(key);
+        storedEntries.remove(key);
+        recordedEntries.put(key, entry);
+        modified = true;
+    }
+
+    private synchronized void removeEntry(@NotNull String key) {
+        if (storedEntries.remove(key) != null || recordedEntries.remove(key) != null) {
+            modified = true;
+        }
+    }
+
+    private void scheduleValidation(@NotNull PendingValidation validation) {
+        synchronized (pendingValidations) {
+            pendingValidations.add(validation);
+        }
+        validateJob.schedule(VALIDATE_DELAY);
+    }
+
+    /**
+     * Saves recorded entries and releases the snapshot
+     */
+    public void close() {
+        validateJob.cancel();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (modified) {
+                try {
+                    save();
+                } catch (IOException e) {
+                    log.debug("Error saving metadata snapshot", e);
+                }
+            }
+            buffer = null;
+            storedEntries.clear();
+            recordedEntries.clear();
+        }
+        synchronized (pendingValidations) {
+            pendingValidations.clear();
+        }
+    }
+
+    private void load() throws IOException {
+        Path newFile = getNewFile();
+        if (Files.exists(newFile)) {
+            // Previous save couldn't replace the mapped file
+            try {
+                Files.move(newFile, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.debug("Error replacing metadata snapshot", e);
+            }
+        }
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Metadata snapshot is too big");
+            }
+            MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (mappedBuffer.getInt() != SNAPSHOT_MAGIC || mappedBuffer.getInt() != FORMAT_VERSION ||
+                    !signature.equals(JDBCMetadataSnapshotEntry.readString(mappedBuffer)))
+                {
+                    // Snapshot of other format or server
+                    return;
+                }
+                while (mappedBuffer.hasRemaining()) {
+                    String key = JDBCMetadataSnapshotEntry.readString(mappedBuffer);
+                    int length = mappedBuffer.getInt();
+                    int offset = mappedBuffer.position();
+                    if (length < 0 || length > mappedBuffer.remaining()) {
+                        throw new IOException("Corrupted metadata snapshot");
+                    }
+                    storedEntries.put(key, new StoredEntry(offset, length));
+                    mappedBuffer.position(offset + length);
+                }
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+                throw new IOException("Corrupted metadata snapshot", e);
+            }
+            buffer = mappedBuffer;
+        }
+    }
+
+    private void save() throws IOException {
+        Files.createDirectories(file.getParent());
+        Path newFile = getNewFile();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(newFile)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            JDBCMetadataSnapshotEntry.writeString(out, signature);
+            if (buffer != null) {
+                for (Map.Entry<String, StoredEntry> stored : storedEntries.entrySet()) {
+                    ByteBuffer entryBuffer = getEntryBuffer(stored.getValue());
+                    byte[] data = new byte[entryBuffer.remaining()];
+                    entryBuffer.get(data);
+                    writeEntry(out, stored.getKey(), data);
+                }
+            }
+            ByteArrayOutputStream entryData = new ByteArrayOutputStream();
+            for (Map.Entry<String, JDBCMetadataSnapshotEntry> recorded : recordedEntries.entrySet()) {
+                entryData.reset();
+                try (DataOutputStream entryOut = new DataOutputStream(entryData)) {
+                    recorded.getValue().write(entryOut);
+                }
+                writeEntry(out, recorded.getKey(), entryData.toByteArray());
+            }
+        }
+        // Release mapped file before replacing it
+        buffer = null;
+        try {
+            Files.move(newFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // File may be still mapped. It will be replaced on the next load.
+            log.debug("Error replacing metadata snapshot", e);
+        }
+    }
+
+    private static void writeEntry(@NotNull DataOutputStream out, @NotNull String key, @NotNull byte[] data) throws IOException {
+        JDBCMetadataSnapshotEntry.writeString(out, key);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    @NotNull
+    private ByteBuffer getEntryBuffer(@NotNull StoredEntry stored) {
+        assert buffer != null;
+        ByteBuffer entryBuffer = buffer.duplicate();
+        entryBuffer.position(stored.offset());
+        entryBuffer.limit(stored.offset() + stored.length());
+        return entryBuffer.slice();
+    }
+
+    @NotNull
+    private Path getNewFile() {
+        return file.resolveSibling(file.getFileName() + SNAPSHOT_NEW_FILE_EXT);
+    }
+
+    private boolean validate(@NotNull DBRProgressMonitor monitor, @NotNull PendingValidation validation) {
+        synchronized (this) {
+            if (closed || recordedEntries.containsKey(validation.key())) {
+                // Already reloaded
+                return true;
+            }
+        }
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, validation.owner(), "Validate metadata snapshot")) {
+            try (JDBCStatement dbStat = validation.source().prepareStatement(session)) {
+                dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
+                dbStat.executeStatement();
+                try (JDBCResultSet dbResult = dbStat.getResultSet()) {
+                    return dbResult != null && validation.entry().matches(dbResult);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Error validating metadata snapshot entry '" + validation.key() + "'", e);
+            return false;
+        }
+    }
+
+    private class ValidateJob extends AbstractJob {
+
+        ValidateJob() {
+            super("Validate metadata snapshot");
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            for (;;) {
+                PendingValidation validation;
+                synchronized (pendingValidations) {
+                    if (pendingValidations.isEmpty()) {
+                        break;
+                    }
+                    validation = pendingValidations.remove(0);
+                }
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                if (!validate(monitor, validation) && !monitor.isCanceled()) {
+                    log.debug("Metadata snapshot entry '" + validation.key() + "' is out of date");
+                    removeEntry(validation.key());
+                    validation.source().invalidate();
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+}
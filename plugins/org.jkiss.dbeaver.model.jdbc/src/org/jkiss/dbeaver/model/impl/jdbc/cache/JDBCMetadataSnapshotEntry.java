@@ -0,0 +1,456 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Result set of a single metadata cache query stored in {@link JDBCMetadataSnapshot}.
+ * <p>
+ * Only values which were actually read by the cache are kept: each row holds the results of value getter calls
+ * (like {@code getString("TABLE_NAME")}) so the same cache code may be replayed on them.
+ */
+final class JDBCMetadataSnapshotEntry {
+
+    private static final String[] GETTER_NAMES = {
+        "getString", "getNString", "getBoolean", "getByte", "getShort", "getInt", "getLong", "getFloat", "getDouble",
+        "getBigDecimal", "getBytes", "getDate", "getTime", "getTimestamp", "getObject"
+    };
+    private static final Class<?>[][] GETTER_PARAMS = {
+        {int.class}, {String.class}, {int.class, Class.class}, {String.class, Class.class}
+    };
+
+    private static final List<Method> GETTERS = new ArrayList<>();
+    private static final Map<Method, Integer> GETTER_INDEX = new HashMap<>();
+
+    static {
+        for (String name : GETTER_NAMES) {
+            for (Class<?>[] params : GETTER_PARAMS) {
+                try {
+                    Method getter = ResultSet.class.getMethod(name, params);
+                    GETTER_INDEX.put(getter, GETTERS.size());
+                    GETTERS.add(getter);
+                } catch (NoSuchMethodException e) {
+                    // Not all getters have all variants
+                }
+            }
+        }
+    }
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_SHORT = 4;
+    private static final byte TAG_BYTE = 5;
+    private static final byte TAG_BOOLEAN = 6;
+    private static final byte TAG_FLOAT = 7;
+    private static final byte TAG_DOUBLE = 8;
+    private static final byte TAG_DECIMAL = 9;
+    private static final byte TAG_BYTES = 10;
+    private static final byte TAG_DATE = 11;
+    private static final byte TAG_TIME = 12;
+    private static final byte TAG_TIMESTAMP = 13;
+    private static final byte TAG_ERROR = 14;
+
+    /**
+     * Stored value of a getter which returned SQL NULL
+     */
+    static final Object NULL_VALUE = new Object();
+    /**
+     * Value which can't be stored in snapshot
+     */
+    static final Object UNSUPPORTED_VALUE = new Object();
+
+    /**
+     * Stored value of a getter which failed
+     */
+    record ErrorValue(@NotNull String message, @Nullable String sqlState) {
+        @NotNull
+        SQLException toException() {
+            return new SQLException(message, sqlState);
+        }
+    }
+
+    /**
+     * Value getter call: getter method, column index or label and an optional value type
+     */
+    record Call(int getter, @NotNull Object column, @Nullable Class<?> type) {
+        @NotNull
+        Method getMethod() {
+            return GETTERS.get(getter);
+        }
+
+        @NotNull
+        Object[] getArguments() {
+            return type == null ? new Object[]{column} : new Object[]{column, type};
+        }
+    }
+
+    private final List<Call> calls = new ArrayList<>();
+    private final Map<Call, Integer> callIndex = new HashMap<>();
+    private final List<Object[]> rows = new ArrayList<>();
+
+    /**
+     * Returns getter call or null if this method can't be stored in snapshot
+     */
+    @Nullable
+    static Call makeCall(@NotNull Method method, @Nullable Object[] args) {
+        Integer getter = GETTER_INDEX.get(method);
+        if (getter == null || args == null) {
+            return null;
+        }
+        Class<?> type = null;
+        if (args.length > 1) {
+            if (!(args[1] instanceof Class<?> valueType) || !valueType.getName().startsWith("java.")) {
+                return null;
+            }
+            type = valueType;
+        }
+        return new Call(getter, args[0], type);
+    }
+
+    /**
+     * Converts value returned by getter into the stored value
+     */
+    @NotNull
+    static Object toStoredValue(@NotNull Method method, @Nullable Object value, boolean wasNull) {
+        if (value == null || (wasNull && method.getReturnType().isPrimitive())) {
+            return NULL_VALUE;
+        }
+        if (value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short ||
+            value instanceof Byte || value instanceof Boolean || value instanceof Float || value instanceof Double ||
+            value instanceof BigDecimal || value instanceof byte[] ||
+            value instanceof Date || value instanceof Time || value instanceof Timestamp)
+        {
+            return value;
+        }
+        return UNSUPPORTED_VALUE;
+    }
+
+    /**
+     * Returns the getter result for stored value
+     */
+    @Nullable
+    static Object fromStoredValue(@NotNull Method method, @NotNull Object value) throws SQLException {
+        if (value instanceof ErrorValue error) {
+            throw error.toException();
+        }
+        if (value != NULL_VALUE) {
+            return value;
+        }
+        Class<?> type = method.getReturnType();
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type == boolean.class) {
+            return Boolean.FALSE;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else {
+            return 0d;
+        }
+    }
+
+    void startRow() {
+        rows.add(new Object[calls.size()]);
+    }
+
+    void setValue(@NotNull Call call, @NotNull Object value) {
+        Integer index = callIndex.get(call);
+        if (index == null) {
+            index = calls.size();
+            calls.add(call);
+            callIndex.put(call, index);
+        }
+        int rowIndex = rows.size() - 1;
+        Object[] row = rows.get(rowIndex);
+        if (index >= row.length) {
+            row = Arrays.copyOf(row, calls.size());
+            rows.set(rowIndex, row);
+        }
+        row[index] = value;
+    }
+
+    int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Returns stored value or null if this call wasn't made on the specified row
+     */
+    @Nullable
+    Object getValue(int rowIndex, @NotNull Call call) {
+        Integer index = callIndex.get(call);
+        if (index == null || rowIndex < 0 || rowIndex >= rows.size()) {
+            return null;
+        }
+        Object[] row = rows.get(rowIndex);
+        return index < row.length ? row[index] : null;
+    }
+
+    /**
+     * Repeats stored calls on the live result set and checks that it returns the same values
+     */
+    boolean matches(@NotNull ResultSet resultSet) throws SQLException {
+        for (Object[] row : rows) {
+            if (!resultSet.next()) {
+                return false;
+            }
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] != null && !valuesEqual(row[i], readValue(resultSet, calls.get(i)))) {
+                    return false;
+                }
+            }
+        }
+        return !resultSet.next();
+    }
+
+    @NotNull
+    private static Object readValue(@NotNull ResultSet resultSet, @NotNull Call call) throws SQLException {
+        Method method = call.getMethod();
+        try {
+            Object value = method.invoke(resultSet, call.getArguments());
+            return toStoredValue(method, value, method.getReturnType().isPrimitive() && resultSet.wasNull());
+        } catch (InvocationTargetException e) {
+            if (e.getTargetException() instanceof SQLException error) {
+                return new ErrorValue(String.valueOf(error.getMessage()), error.getSQLState());
+            }
+            throw new SQLException("Error reading metadata value", e.getTargetException());
+        } catch (IllegalAccessException e) {
+            throw new SQLException("Error reading metadata value", e);
+        }
+    }
+
+    private static boolean valuesEqual(@NotNull Object stored, @NotNull Object actual) {
+        if (stored instanceof byte[] bytes) {
+            return actual instanceof byte[] actualBytes && Arrays.equals(bytes, actualBytes);
+        }
+        if (stored instanceof ErrorValue error) {
+            // Error messages may contain volatile details
+            return actual instanceof ErrorValue actualError && Objects.equals(error.sqlState(), actualError.sqlState());
+        }
+        return stored.equals(actual);
+    }
+
+    void write(@NotNull DataOutputStream out) throws IOException {
+        out.writeInt(calls.size());
+        for (Call call : calls) {
+            out.writeShort(call.getter());
+            if (call.column() instanceof Integer index) {
+                out.writeByte(0);
+                out.writeInt(index);
+            } else {
+                out.writeByte(1);
+                writeString(out, call.column().toString());
+            }
+            writeString(out, call.type() == null ? "" : call.type().getName());
+        }
+        out.writeInt(rows.size());
+        for (Object[] row : rows) {
+            int valueCount = 0;
+            for (Object value : row) {
+                if (value != null) {
+                    valueCount++;
+                }
+            }
+            out.writeShort(valueCount);
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] != null) {
+                    out.writeShort(i);
+                    writeValue(out, row[i]);
+                }
+            }
+        }
+    }
+
+    @NotNull
+    static JDBCMetadataSnapshotEntry read(@NotNull ByteBuffer buffer) throws IOException {
+        try {
+            JDBCMetadataSnapshotEntry entry = new JDBCMetadataSnapshotEntry();
+            int callCount = buffer.getInt();
+            for (int i = 0; i < callCount; i++) {
+                int getter = buffer.getShort() & 0xFFFF;
+                if (getter >= GETTERS.size()) {
+                    throw new IOException("Bad metadata snapshot getter " + getter);
+                }
+                Object column = buffer.get() == 0 ? (Object) buffer.getInt() : readString(buffer);
+                String typeName = readString(buffer);
+                Class<?> type = null;
+                if (!typeName.isEmpty()) {
+                    try {
+                        type = Class.forName(typeName, false, ResultSet.class.getClassLoader());
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException("Metadata snapshot value type not found", e);
+                    }
+                }
+                Call call = new Call(getter, column, type);
+                entry.callIndex.put(call, entry.calls.size());
+                entry.calls.add(call);
+            }
+            int rowCount = buffer.getInt();
+            for (int i = 0; i < rowCount; i++) {
+                Object[] row = new Object[callCount];
+                int valueCount = buffer.getShort() & 0xFFFF;
+                for (int k = 0; k < valueCount; k++) {
+                    row[buffer.getShort() & 0xFFFF] = readValue(buffer);
+                }
+                entry.rows.add(row);
+            }
+            return entry;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted metadata snapshot entry", e);
+        }
+    }
+
+    private static void writeValue(@NotNull DataOutputStream out, @NotNull Object value) throws IOException {
+        if (value == NULL_VALUE) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String str) {
+            out.writeByte(TAG_STRING);
+            writeString(out, str);
+        } else if (value instanceof Integer num) {
+            out.writeByte(TAG_INT);
+            out.writeInt(num);
+        } else if (value instanceof Long num) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(num);
+        } else if (value instanceof Short num) {
+            out.writeByte(TAG_SHORT);
+            out.writeShort(num);
+        } else if (value instanceof Byte num) {
+            out.writeByte(TAG_BYTE);
+            out.writeByte(num);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof Float num) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat(num);
+        } else if (value instanceof Double num) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(num);
+        } else if (value instanceof BigDecimal num) {
+            out.writeByte(TAG_DECIMAL);
+            writeString(out, num.toString());
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(TAG_BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Timestamp timestamp) {
+            out.writeByte(TAG_TIMESTAMP);
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        } else if (value instanceof Date date) {
+            out.writeByte(TAG_DATE);
+            out.writeLong(date.getTime());
+        } else if (value instanceof Time time) {
+            out.writeByte(TAG_TIME);
+            out.writeLong(time.getTime());
+        } else if (value instanceof ErrorValue error) {
+            out.writeByte(TAG_ERROR);
+            writeString(out, error.message());
+            writeString(out, error.sqlState() == null ? "" : error.sqlState());
+        } else {
+            throw new IOException("Unsupported metadata snapshot value: " + value.getClass().getName());
+        }
+    }
+
+    @NotNull
+    private static Object readValue(@NotNull ByteBuffer buffer) throws IOException {
+        byte tag = buffer.get();
+        switch (tag) {
+            case TAG_NULL:
+                return NULL_VALUE;
+            case TAG_STRING:
+                return readString(buffer);
+            case TAG_INT:
+                return buffer.getInt();
+            case TAG_LONG:
+                return buffer.getLong();
+            case TAG_SHORT:
+                return buffer.getShort();
+            case TAG_BYTE:
+                return buffer.get();
+            case TAG_BOOLEAN:
+                return buffer.get() != 0;
+            case TAG_FLOAT:
+                return buffer.getFloat();
+            case TAG_DOUBLE:
+                return buffer.getDouble();
+            case TAG_DECIMAL:
+                return new BigDecimal(readString(buffer));
+            case TAG_BYTES: {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                return bytes;
+            }
+            case TAG_DATE:
+                return new Date(buffer.getLong());
+            case TAG_TIME:
+                return new Time(buffer.getLong());
+            case TAG_TIMESTAMP: {
+                Timestamp timestamp = new Timestamp(buffer.getLong());
+                timestamp.setNanos(buffer.getInt());
+                return timestamp;
+            }
+            case TAG_ERROR: {
+                String message = readString(buffer);
+                String sqlState = readString(buffer);
+                return new ErrorValue(message, sqlState.isEmpty() ? null : sqlState);
+            }
+            default:
+                throw new IOException("Bad metadata snapshot value tag " + tag);
+        }
+    }
+
+    static void writeString(@NotNull DataOutputStream out, @NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @NotNull
+    static String readString(@NotNull ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Result sets which record metadata query results into {@link JDBCMetadataSnapshotEntry} and replay them.
+ */
+final class JDBCMetadataSnapshotResultSet {
+
+    private JDBCMetadataSnapshotResultSet() {
+    }
+
+    /**
+     * Wraps result set and collects values read from it.
+     * The entry is passed to the consumer when the result set is closed after all rows were read.
+     */
+    @NotNull
+    static JDBCResultSet recording(@NotNull JDBCResultSet resultSet, @NotNull Consumer<JDBCMetadataSnapshotEntry> onComplete) {
+        return createProxy(new Recorder(resultSet, onComplete));
+    }
+
+    /**
+     * Creates result set which returns values from the entry.
+     * If cache code reads something which wasn't recorded then the statement is executed
+     * and the rest is read from the database.
+     */
+    @NotNull
+    static JDBCResultSet replay(
+        @NotNull JDBCSession session,
+        @NotNull JDBCStatement statement,
+        @NotNull JDBCMetadataSnapshotEntry entry
+    ) {
+        return createProxy(new Replayer(session, statement, entry));
+    }
+
+    @NotNull
+    private static JDBCResultSet createProxy(@NotNull InvocationHandler handler) {
+        return (JDBCResultSet) Proxy.newProxyInstance(
+            JDBCMetadataSnapshotResultSet.class.getClassLoader(),
+            new Class[]{JDBCResultSet.class},
+            handler);
+    }
+
+    @Nullable
+    private static Object invoke(@NotNull Object target, @NotNull Method method, @Nullable Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @Nullable
+    private static Object invokeObjectMethod(@NotNull Object proxy, @NotNull Method method, @Nullable Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> args != null && proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "Metadata snapshot result set";
+        };
+    }
+
+    private static class Recorder implements InvocationHandler {
+        @NotNull
+        private final JDBCResultSet resultSet;
+        @NotNull
+        private final Consumer<JDBCMetadataSnapshotEntry> onComplete;
+        @Nullable
+        private JDBCMetadataSnapshotEntry entry = new JDBCMetadataSnapshotEntry();
+        private boolean complete;
+
+        Recorder(@NotNull JDBCResultSet resultSet, @NotNull Consumer<JDBCMetadataSnapshotEntry> onComplete) {
+            this.resultSet = resultSet;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            JDBCMetadataSnapshotEntry.Call call = JDBCMetadataSnapshotEntry.makeCall(method, args);
+            if (call != null) {
+                return readValue(method, args, call);
+            }
+            switch (method.getName()) {
+                case "next": {
+                    boolean hasRow = resultSet.next();
+                    if (entry != null) {
+                        if (hasRow) {
+                            entry.startRow();
+                        } else {
+                            complete = true;
+                        }
+                    }
+                    return hasRow;
+                }
+                case "close":
+                    resultSet.close();
+                    if (complete && entry != null) {
+                        onComplete.accept(entry);
+                    }
+                    entry = null;
+                    return null;
+                case "wasNull":
+                case "isClosed":
+                case "getSession":
+                case "getSourceStatement":
+                case "getStatement":
+                    break;
+                default:
+                    // Result can't be replayed
+                    entry = null;
+                    break;
+            }
+            return JDBCMetadataSnapshotResultSet.invoke(resultSet, method, args);
+        }
+
+        @Nullable
+        private Object readValue(@NotNull Method method, @NotNull Object[] args, @NotNull JDBCMetadataSnapshotEntry.Call call)
+            throws Throwable
+        {
+            Object value;
+            try {
+                value = JDBCMetadataSnapshotResultSet.invoke(resultSet, method, args);
+            } catch (SQLException e) {
+                if (entry != null) {
+                    entry.setValue(call, new JDBCMetadataSnapshotEntry.ErrorValue(String.valueOf(e.getMessage()), e.getSQLState()));
+                }
+                throw e;
+            }
+            if (entry != null) {
+                Object storedValue = JDBCMetadataSnapshotEntry.toStoredValue(
+                    method,
+                    value,
+                    method.getReturnType().isPrimitive() && resultSet.wasNull());
+                if (storedValue == JDBCMetadataSnapshotEntry.UNSUPPORTED_VALUE) {
+                    entry = null;
+                } else {
+                    entry.setValue(call, storedValue);
+                }
+            }
+            return value;
+        }
+    }
+
+    private static class Replayer implements InvocationHandler {
+        @NotNull
+        private final JDBCSession session;
+        @NotNull
+        private final JDBCStatement statement;
+        @NotNull
+        private final JDBCMetadataSnapshotEntry entry;
+        private int rowIndex = -1;
+        private boolean wasNull;
+        private boolean closed;
+        @Nullable
+        private JDBCResultSet liveResultSet;
+
+        Replayer(@NotNull JDBCSession session, @NotNull JDBCStatement statement, @NotNull JDBCMetadataSnapshotEntry entry) {
+            this.session = session;
+            this.statement = statement;
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            switch (method.getName()) {
+                case "getSession":
+                    return session;
+                case "getSourceStatement":
+                case "getStatement":
+                    return statement;
+                case "isClosed":
+                    return closed;
+                case "close":
+                    closed = true;
+                    if (liveResultSet != null) {
+                        liveResultSet.close();
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            if (liveResultSet != null) {
+                return JDBCMetadataSnapshotResultSet.invoke(liveResultSet, method, args);
+            }
+            switch (method.getName()) {
+                case "next":
+                    if (rowIndex < entry.getRowCount()) {
+                        rowIndex++;
+                    }
+                    return rowIndex < entry.getRowCount();
+                case "wasNull":
+                    return wasNull;
+                default:
+                    break;
+            }
+            JDBCMetadataSnapshotEntry.Call call = JDBCMetadataSnapshotEntry.makeCall(method, args);
+            Object value = call == null ? null : entry.getValue(rowIndex, call);
+            if (value == null) {
+                // Cache reads something what wasn't recorded
+                return JDBCMetadataSnapshotResultSet.invoke(openLiveResultSet(), method, args);
+            }
+            wasNull = value == JDBCMetadataSnapshotEntry.NULL_VALUE;
+            return JDBCMetadataSnapshotEntry.fromStoredValue(method, value);
+        }
+
+        @NotNull
+        private JDBCResultSet openLiveResultSet() throws SQLException {
+            JDBCResultSet resultSet;
+            try {
+                statement.executeStatement();
+                resultSet = statement.getResultSet();
+            } catch (DBCException e) {
+                throw new SQLException("Error reading metadata", e);
+            }
+            if (resultSet == null) {
+                throw new SQLException("Metadata query returned no results");
+            }
+            // Move to the same row
+            for (int i = 0; i <= rowIndex && i < entry.getRowCount(); i++) {
+                if (!resultSet.next()) {
+                    break;
+                }
+            }
+            liveResultSet = resultSet;
+            return resultSet;
+        }
+    }
+}
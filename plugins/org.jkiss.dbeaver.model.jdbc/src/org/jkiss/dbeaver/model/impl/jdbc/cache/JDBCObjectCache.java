@@ -113,8 +113,18 @@ public abstract class JDBCObjectCache<OWNER extends DBSObject, OBJECT extends DB
                     try (JDBCStatement dbStat = prepareObjectsStatement(session, owner)) {
                         monitor.subTask("Load " + getCacheName());
                         dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
-                        dbStat.executeStatement();
-                        JDBCResultSet dbResult = dbStat.getResultSet();
+                        JDBCResultSet dbResult = JDBCMetadataSnapshot.executeStatement(
+                            session,
+                            dbStat,
+                            JDBCMetadataSnapshot.makeCacheKey(
+                                this,
+                                JDBCMetadataSnapshot.KIND_OBJECTS,
+                                owner,
+                                null,
+                                dbStat,
+                                JDBCMetadataSnapshot.getCacheTypeArgument(this, JDBCObjectCache.class.getTypeParameters()[1])),
+                            owner,
+                            new ObjectsSnapshotSource(owner));
                         if (dbResult != null) {
                             try {
                                 while (dbResult.next()) {
@@ -185,4 +195,24 @@ public abstract class JDBCObjectCache<OWNER extends DBSObject, OBJECT extends DB
         return false;
     }
 
+    private class ObjectsSnapshotSource implements JDBCMetadataSnapshot.Source {
+        private final OWNER owner;
+
+        ObjectsSnapshotSource(OWNER owner) {
+            this.owner = owner;
+        }
+
+        @NotNull
+        @Override
+        public JDBCStatement prepareStatement(@NotNull JDBCSession session) throws SQLException {
+            return prepareObjectsStatement(session, owner);
+        }
+
+        @Override
+        public void invalidate() {
+            clearCache();
+            DBUtils.fireObjectRefresh(owner);
+        }
+    }
+
 }
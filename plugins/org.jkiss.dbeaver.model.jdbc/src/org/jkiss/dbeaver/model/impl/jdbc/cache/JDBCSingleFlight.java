@@ -0,0 +1,123 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Makes sure that only one thread loads cache data for the same key.
+ * Other threads wait until the load is finished and then check the cache again.
+ * Loads of different keys run in parallel.
+ */
+final class JDBCSingleFlight<KEY> {
+
+    private static final long WAIT_INTERVAL_MS = 100;
+
+    interface Loader {
+        void load() throws DBException;
+    }
+
+    private final Map<KEY, Flight> flights = new IdentityHashMap<>();
+
+    /**
+     * Runs loader unless the data is already loaded.
+     * If the same key is being loaded by another thread then waits for it and checks loaded state again.
+     */
+    void run(
+        @NotNull DBRProgressMonitor monitor,
+        @Nullable KEY key,
+        @NotNull BooleanSupplier isLoaded,
+        @NotNull Loader loader
+    ) throws DBException {
+        while (!isLoaded.getAsBoolean() && !monitor.isCanceled()) {
+            Flight flight;
+            boolean leader = false;
+            synchronized (flights) {
+                flight = flights.get(key);
+                if (flight == null) {
+                    flight = new Flight();
+                    flights.put(key, flight);
+                    leader = true;
+                }
+            }
+            if (!leader) {
+                if (flight.thread == Thread.currentThread()) {
+                    // Nested load of the same key
+                    loader.load();
+                    return;
+                }
+                if (!flight.await(monitor)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                loader.load();
+            } finally {
+                synchronized (flights) {
+                    flights.remove(key);
+                }
+                flight.done.countDown();
+            }
+            return;
+        }
+    }
+
+    /**
+     * Waits until another thread finishes loading of the key
+     */
+    void await(@NotNull DBRProgressMonitor monitor, @Nullable KEY key) {
+        Flight flight;
+        synchronized (flights) {
+            flight = flights.get(key);
+        }
+        if (flight != null && flight.thread != Thread.currentThread()) {
+            flight.await(monitor);
+        }
+    }
+
+    private static class Flight {
+        private final Thread thread = Thread.currentThread();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        /**
+         * Returns false if waiting was canceled
+         */
+        boolean await(@NotNull DBRProgressMonitor monitor) {
+            try {
+                while (!done.await(WAIT_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    if (monitor.isCanceled()) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
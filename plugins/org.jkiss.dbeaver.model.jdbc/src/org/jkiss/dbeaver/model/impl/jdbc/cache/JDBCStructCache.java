@@ -50,6 +50,7 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
     private final Object objectNameColumn;
     private volatile boolean childrenCached = false;
     private final Map<OBJECT, SimpleObjectCache<OBJECT, CHILD>> childrenCache = new IdentityHashMap<>();
+    private final JDBCSingleFlight<OBJECT> childrenLoads = new JDBCSingleFlight<>();
 
     abstract protected JDBCStatement prepareChildrenStatement(@NotNull JDBCSession session, @NotNull OWNER owner, @Nullable OBJECT forObject)
         throws SQLException;
@@ -62,7 +63,8 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
     }
 
     /**
-     * Reads children objects from database
+     * Reads children objects from database.
+     * Children of different objects may be read in parallel, concurrent reads of the same object wait for each other.
      *
      * @param monitor
      *            monitor
@@ -71,17 +73,30 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
      * @throws org.jkiss.dbeaver.DBException
      *             on error
      */
-    public synchronized void loadChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException {
+    public void loadChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException {
         if (monitor.isForceCacheUsage() || monitor.isCanceled() ||
             (forObject == null && this.childrenCached) ||
             (forObject != null && (!forObject.isPersisted() || isChildrenCached(forObject)))) {
             return;
         }
+        if (forObject != null) {
+            // Children of all objects are being read - they will include this object.
+            // Both loads still may run at once, cacheChildren keeps children read first.
+            childrenLoads.await(monitor, null);
+        }
+        childrenLoads.run(
+            monitor,
+            forObject,
+            () -> forObject == null ? this.childrenCached : isChildrenCached(forObject),
+            () -> readChildren(monitor, owner, forObject));
+    }
+
+    private void readChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException {
         if (forObject == null) {
             // If we have some child objects read before that - do not clear them.
             // We have to reuse them because there could be some references in cached model
             //clearChildrenCache(null);
-            super.loadObjects(monitor, owner);
+            loadObjects(monitor, owner);
         }
 
         DBPDataSource dataSource = owner.getDataSource();
@@ -94,8 +109,18 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
             // Load columns
             try (JDBCStatement dbStat = prepareChildrenStatement(session, owner, forObject)) {
                 dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
-                dbStat.executeStatement();
-                JDBCResultSet dbResult = dbStat.getResultSet();
+                JDBCResultSet dbResult = JDBCMetadataSnapshot.executeStatement(
+                    session,
+                    dbStat,
+                    JDBCMetadataSnapshot.makeCacheKey(
+                        this,
+                        JDBCMetadataSnapshot.KIND_CHILDREN,
+                        owner,
+                        forObject,
+                        dbStat,
+                        JDBCMetadataSnapshot.getCacheTypeArgument(this, JDBCStructCache.class.getTypeParameters()[2])),
+                    owner,
+                    new ChildrenSnapshotSource(owner, forObject));
                 if (dbResult != null) {
                     try {
                         while (dbResult.next()) {
@@ -141,11 +166,8 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
 
                         // All children are read. Now assign them to parents
                         for (Map.Entry<OBJECT, List<CHILD>> colEntry : objectMap.entrySet()) {
-                            if (!isChildrenCached(colEntry.getKey())) {
-                                // isChildrenCached may return true if the same cache was read in other thread
-                                // just skip
-                                cacheChildren(colEntry.getKey(), colEntry.getValue());
-                            }
+                            // Children may be already read in other thread, they are kept then
+                            cacheChildren(colEntry.getKey(), colEntry.getValue());
                         }
                         if (forObject == null) {
                             if (objectMap.isEmpty()) {
@@ -211,10 +233,11 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
         if (!monitor.isForceCacheUsage()) {
             loadChildren(monitor, owner, forObject);
         }
+        SimpleObjectCache<OBJECT, CHILD> nestedCache;
         synchronized (childrenCache) {
-            SimpleObjectCache<OBJECT, CHILD> nestedCache = childrenCache.get(forObject);
-            return nestedCache == null ? null : nestedCache.getAllObjects(monitor, null);
+            nestedCache = childrenCache.get(forObject);
         }
+        return nestedCache == null ? null : nestedCache.getAllObjects(monitor, null);
     }
 
     @Nullable
@@ -222,10 +245,11 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
         if (monitor != null) {
             loadChildren(monitor, owner, forObject);
         }
+        SimpleObjectCache<OBJECT, CHILD> nestedCache;
         synchronized (childrenCache) {
-            SimpleObjectCache<OBJECT, CHILD> nestedCache = childrenCache.get(forObject);
-            return nestedCache == null ? null : nestedCache.getObject(monitor, forObject, objectName);
+            nestedCache = childrenCache.get(forObject);
         }
+        return nestedCache == null ? null : nestedCache.getObject(monitor, forObject, objectName);
     }
 
     public void clearChildrenCache(OBJECT forParent) {
@@ -247,14 +271,18 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
         }
     }
 
+    /**
+     * Caches children of the parent unless they are already cached.
+     * Children of the same parent may be read concurrently by the load of all objects and by the load of this parent.
+     * The first result is kept, because other objects may already reference its children.
+     */
     protected void cacheChildren(OBJECT parent, List<CHILD> children) {
         synchronized (childrenCache) {
-            SimpleObjectCache<OBJECT, CHILD> nestedCache = childrenCache.get(parent);
-            if (nestedCache == null) {
-                nestedCache = this.createNestedCache();
+            if (!childrenCache.containsKey(parent)) {
+                SimpleObjectCache<OBJECT, CHILD> nestedCache = this.createNestedCache();
+                nestedCache.setCache(children);
                 childrenCache.put(parent, nestedCache);
             }
-            nestedCache.setCache(children);
         }
     }
 
@@ -265,4 +293,26 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
         return nestedCache;
     }
 
+    private class ChildrenSnapshotSource implements JDBCMetadataSnapshot.Source {
+        private final OWNER owner;
+        private final OBJECT forObject;
+
+        ChildrenSnapshotSource(OWNER owner, OBJECT forObject) {
+            this.owner = owner;
+            this.forObject = forObject;
+        }
+
+        @NotNull
+        @Override
+        public JDBCStatement prepareStatement(@NotNull JDBCSession session) throws SQLException {
+            return prepareChildrenStatement(session, owner, forObject);
+        }
+
+        @Override
+        public void invalidate() {
+            clearChildrenCache(forObject);
+            DBUtils.fireObjectRefresh(forObject != null ? forObject : owner);
+        }
+    }
+
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBDatabaseException;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPNamedObject2;
 import org.jkiss.dbeaver.model.DBUtils;
@@ -31,9 +33,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 
 import java.sql.SQLException;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Struct cache with ability to load/search single object by name.
@@ -42,7 +42,14 @@ public abstract class JDBCStructLookupCache<OWNER extends DBSObject, OBJECT exte
     extends JDBCStructCache<OWNER, OBJECT, CHILD>
     implements JDBCObjectLookup<OWNER, OBJECT>
 {
+    private static final Log log = Log.getLog(JDBCStructLookupCache.class);
+
+    // Maximum number of changed objects which are reloaded one by one. If there are more changes then cache is reloaded.
+    private static final int MAX_INCREMENTAL_CHANGES = 100;
+
     private final Set<String> missingNames = new HashSet<>();
+    // Change stamps read during the previous refresh or before the first load
+    private Map<String, Object> objectStamps;
 
     public JDBCStructLookupCache(Object objectNameColumn) {
         super(objectNameColumn);
@@ -147,6 +154,120 @@ public abstract class JDBCStructLookupCache<OWNER extends DBSObject, OBJECT exte
         }
     }
 
+    @Override
+    protected synchronized void loadObjects(DBRProgressMonitor monitor, OWNER owner)
+        throws DBException
+    {
+        if (objectStamps == null && !isFullyCached() && !monitor.isForceCacheUsage() && owner.isPersisted()) {
+            // Stamps are read before objects, so changes made during the load are detected by the next refresh
+            objectStamps = readObjectStamps(monitor, owner);
+        }
+        super.loadObjects(monitor, owner);
+    }
+
+    /**
+     * Prepares statement which reads change stamps of all owner objects.
+     * Result set must contain object name in the first column and change stamp in the second one.
+     * Stamp must change when object or its children are altered.
+     *
+     * @return statement or null if change detection is not supported
+     */
+    @Nullable
+    protected JDBCStatement prepareChangesStatement(@NotNull JDBCSession session, @NotNull OWNER owner)
+        throws SQLException
+    {
+        return null;
+    }
+
+    /**
+     * Reloads objects which were changed since the previous refresh and removes dropped objects.
+     * Other cached objects and their children are kept.
+     *
+     * @return changed and removed objects or null if changes can't be detected. In this case cache must be cleared.
+     */
+    @Nullable
+    public synchronized List<OBJECT> refreshChangedObjects(@NotNull DBRProgressMonitor monitor, @NotNull OWNER owner)
+        throws DBException
+    {
+        Map<String, Object> prevStamps = objectStamps;
+        objectStamps = readObjectStamps(monitor, owner);
+        if (prevStamps == null || objectStamps == null || !isFullyCached()) {
+            return null;
+        }
+        List<OBJECT> removedObjects = new ArrayList<>();
+        for (OBJECT object : getCachedObjects()) {
+            if (!objectStamps.containsKey(object.getName())) {
+                removedObjects.add(object);
+            }
+        }
+        List<String> changedNames = new ArrayList<>();
+        for (Map.Entry<String, Object> stamp : objectStamps.entrySet()) {
+            String name = stamp.getKey();
+            if (!prevStamps.containsKey(name) ||
+                (!Objects.equals(prevStamps.get(name), stamp.getValue()) && getCachedObject(name) != null))
+            {
+                changedNames.add(name);
+            }
+        }
+        if (removedObjects.size() + changedNames.size() > MAX_INCREMENTAL_CHANGES) {
+            return null;
+        }
+
+        List<OBJECT> changedObjects = new ArrayList<>(removedObjects);
+        for (OBJECT object : removedObjects) {
+            removeObject(object, false);
+        }
+        for (String name : changedNames) {
+            if (monitor.isCanceled()) {
+                // Changes of the rest objects must be detected next time
+                objectStamps = null;
+                return null;
+            }
+            OBJECT cachedObject = getCachedObject(name);
+            if (cachedObject != null) {
+                refreshObject(monitor, owner, cachedObject);
+                changedObjects.add(cachedObject);
+            } else {
+                missingNames.remove(name);
+                OBJECT newObject = reloadObject(monitor, owner, null, name);
+                if (newObject != null) {
+                    cacheObject(newObject);
+                    changedObjects.add(newObject);
+                }
+            }
+        }
+        return changedObjects;
+    }
+
+    @Nullable
+    private Map<String, Object> readObjectStamps(@NotNull DBRProgressMonitor monitor, @NotNull OWNER owner) {
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, owner, "Read changes of " + owner.getName())) {
+            try (JDBCStatement dbStat = prepareChangesStatement(session, owner)) {
+                if (dbStat == null) {
+                    return null;
+                }
+                dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
+                dbStat.executeStatement();
+                try (JDBCResultSet dbResult = dbStat.getResultSet()) {
+                    if (dbResult == null) {
+                        return null;
+                    }
+                    Map<String, Object> stamps = new HashMap<>();
+                    while (dbResult.next()) {
+                        String name = dbResult.getString(1);
+                        if (name != null) {
+                            stamps.put(name, dbResult.getObject(2));
+                        }
+                    }
+                    return stamps;
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Error reading metadata changes of " + owner.getName(), e);
+            return null;
+        }
+    }
+
     @NotNull
     @Override
     protected JDBCStatement prepareObjectsStatement(@NotNull JDBCSession session, @NotNull OWNER owner)
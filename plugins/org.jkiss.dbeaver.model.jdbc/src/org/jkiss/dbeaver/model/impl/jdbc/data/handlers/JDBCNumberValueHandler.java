@@ -48,8 +48,8 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler implements
     private static final Log log = Log.getLog(JDBCNumberValueHandler.class);
 
     private final DBDFormatSettings formatSettings;
-    private int useScientificNotation = -1;
-    private DBDDataFormatter formatter;
+    private volatile int useScientificNotation = -1;
+    private volatile DBDDataFormatter formatter;
 
     public JDBCNumberValueHandler(DBSTypedObject type, DBDFormatSettings formatSettings) {
         this.formatSettings = formatSettings;
@@ -62,11 +62,11 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler implements
     }
 
     /**
-     * NumberFormat is not thread safe thus this method is synchronized.
+     * Number formatters are thread-safe, so values of the same handler may be formatted in parallel.
      */
     @NotNull
     @Override
-    public synchronized String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format) {
+    public String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format) {
         if (value == null) {
             return DBValueFormatting.getDefaultValueDisplayString(null, format);
         }
@@ -86,6 +86,7 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler implements
     }
 
     private DBDDataFormatter getFormatter(@NotNull DBSTypedObject column) {
+        DBDDataFormatter formatter = this.formatter;
         if (formatter == null) {
             try {
                 formatter = formatSettings.getDataFormatterProfile().createFormatter(DBDDataFormatter.TYPE_NAME_NUMBER, column);
@@ -93,6 +94,7 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler implements
                 log.error("Can't create formatter for number value handler", e); //$NON-NLS-1$
                 formatter = DefaultDataFormatter.INSTANCE;
             }
+            this.formatter = formatter;
         }
         return formatter;
     }
@@ -109,9 +109,9 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     public String[] getSupportedFeatures()
     {
         if (isTruncateSupported()) {
-            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE, FEATURE_DATA_TRUNCATE};
+            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_FILTER_PARAMETERS, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE, FEATURE_DATA_TRUNCATE};
         } else {
-            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE};
+            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_FILTER_PARAMETERS, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE};
         }
     }
 
@@ -182,10 +182,11 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
 
         monitor.subTask(ModelMessages.model_jdbc_fetch_table_data);
 
+        List<DBDAttributeValue> whereParameters = dataFilter == null ? List.of() : dataFilter.getWhereParameters();
         try (DBCStatement dbStat = DBUtils.makeStatement(
             source,
             session,
-            DBCStatementType.SCRIPT,
+            whereParameters.isEmpty() ? DBCStatementType.SCRIPT : DBCStatementType.QUERY,
             sqlQuery,
             firstRow,
             maxRows))
@@ -193,6 +194,11 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             if (monitor.isCanceled()) {
                 return statistics;
             }
+            int paramIndex = 0;
+            for (DBDAttributeValue parameter : whereParameters) {
+                DBUtils.findValueHandler(session, parameter.getAttribute())
+                    .bindValueObject(session, dbStat, parameter.getAttribute(), paramIndex++, parameter.getValue());
+            }
             if (dbStat instanceof JDBCStatement && (fetchSize > 0 || maxRows > 0)) {
                 DBExecUtils.setStatementFetchSize(dbStat, firstRow, maxRows, fetchSize);
             }
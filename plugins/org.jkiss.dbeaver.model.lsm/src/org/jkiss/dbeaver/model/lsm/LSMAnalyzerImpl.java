@@ -16,10 +16,9 @@
  */
 package org.jkiss.dbeaver.model.lsm;
 
-import org.antlr.v4.runtime.ConsoleErrorListener;
-import org.antlr.v4.runtime.Lexer;
-import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
@@ -30,6 +29,8 @@ import org.jkiss.dbeaver.model.stm.STMSource;
 import org.jkiss.dbeaver.model.stm.STMTreeRuleNode;
 import org.jkiss.utils.Pair;
 
+import java.util.List;
+
 public abstract class LSMAnalyzerImpl<TLexer extends Lexer, TParser extends STMParserOverrides> implements LSMAnalyzer {
 
     private static final Log log = Log.getLog(LSMAnalyzerImpl.class);
@@ -64,12 +65,36 @@ public abstract class LSMAnalyzerImpl<TLexer extends Lexer, TParser extends STMP
         return parser;
     }
 
+    /**
+     * Parses the query in two stages.
+     * The first stage uses fast SLL prediction and stops at the first syntax error.
+     * Queries which are not valid for SLL (syntax errors or ambiguities which SLL can't resolve)
+     * are parsed again with full LL prediction and error recovery.
+     * DFA cache of the generated parser is static, so it is shared by all parser instances.
+     */
     @Nullable
     @Override
     public STMTreeRuleNode parseSqlQueryTree(@NotNull STMSource source, @Nullable STMErrorListener errorListener) {
         try {
             TParser parser = prepareParser(source, errorListener);
-            STMTreeRuleNode result = parseSqlQueryImpl(parser);
+            STMTreeRuleNode result;
+            List<? extends ANTLRErrorListener> errorListeners = List.copyOf(parser.getErrorListeners());
+            ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+            parser.removeErrorListeners();
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            try {
+                result = parseSqlQueryImpl(parser);
+            } catch (ParseCancellationException e) {
+                // Tokens are buffered in the token stream, so the source is not lexed again
+                parser.reset();
+                for (ANTLRErrorListener listener : errorListeners) {
+                    parser.addErrorListener(listener);
+                }
+                parser.setErrorHandler(errorHandler);
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                result = parseSqlQueryImpl(parser);
+            }
             result.fixup(parser);
             return result;
         } catch (RecognitionException e) {
@@ -48,6 +48,7 @@ import org.jkiss.dbeaver.model.sql.completion.hippie.HippieProposalProcessor;
 import org.jkiss.dbeaver.model.sql.parser.SQLParserPartitions;
 import org.jkiss.dbeaver.model.sql.parser.SQLWordPartDetector;
 import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.struct.cache.ObjectNameIndex;
 import org.jkiss.dbeaver.model.struct.rdb.*;
 import org.jkiss.dbeaver.model.text.TextUtils;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
@@ -898,7 +899,7 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
                             );
                             params.setCaseSensitive(request.getWordDetector().isQuoted(token));
                             params.setMaxResults(2);
-                            Collection<DBSObjectReference> references = structureAssistant.findObjectsByMask(monitor, executionContext, params);
+                            Collection<DBSObjectReference> references = ObjectNameIndex.findObjectsByMask(monitor, structureAssistant, executionContext, params);
                             if (!references.isEmpty()) {
                                 childObject = references.iterator().next().resolveObject(monitor);
                             }
@@ -1174,7 +1175,8 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
         assistantParams.setCaseSensitive(request.getWordDetector().isQuoted(objectName));
         assistantParams.setGlobalSearch(request.getContext().isSearchGlobally());
         assistantParams.setMaxResults(MAX_STRUCT_PROPOSALS);
-        Collection<DBSObjectReference> references = assistant.findObjectsByMask(monitor, request.getContext().getExecutionContext(), assistantParams);
+        Collection<DBSObjectReference> references = ObjectNameIndex.findObjectsByMask(
+            monitor, assistant, request.getContext().getExecutionContext(), assistantParams);
         for (DBSObjectReference reference : references) {
             proposals.add(
                 makeProposalsFromObject(
@@ -18,7 +18,9 @@ package org.jkiss.dbeaver.model.sql.semantics;
 
 import org.jkiss.code.Nullable;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -944,16 +946,24 @@ public class OffsetKeyedTreeMap<T> {
     
     */
 
+    /**
+     * Shift all the keys starting from the given position by delta.
+     * When delta is negative, the keys in range [position, position - delta) are removed first, like the text in this range.
+     */
     public void applyOffset(int position, int delta) {
         if (delta == 0) {
             return;
         }
-        if (delta < 0) {
-            throw new UnsupportedOperationException("Negative delta not supported at the moment");
-        }
         if (this.size == 0) {
             return;
         }
+        if (delta < 0) {
+            this.removeRange(position, position - delta);
+            if (this.size == 0) {
+                return;
+            }
+            position -= delta;
+        }
 
         NodeAndParentAtOffset<T> location = this.findImpl(position);
         if (location.node.isSentinel() && location.isLeft) {
@@ -981,6 +991,46 @@ public class OffsetKeyedTreeMap<T> {
         }
     }
 
+    private void removeRange(int from, int to) {
+        List<Integer> keysToRemove = new ArrayList<>();
+        NodesIterator<T> it = this.nodesIteratorAt(from);
+        if (it.getCurrValue() != null) {
+            keysToRemove.add(it.getCurrOffset());
+        }
+        while (it.next() && it.getCurrOffset() < to) {
+            if (it.getCurrValue() != null) {
+                keysToRemove.add(it.getCurrOffset());
+            }
+        }
+        for (Integer key : keysToRemove) {
+            this.removeAt(key);
+        }
+        if (this.tombstonesCount > 0 && this.findCeilingKey(from) < to) {
+            // tombstones keep their keys, so they should not appear between the shifted ones
+            this.dropTombstones();
+        }
+    }
+
+    /**
+     * Returns the smallest key not less than the given position including the tombstones, or Integer.MAX_VALUE
+     */
+    private int findCeilingKey(int pos) {
+        int result = Integer.MAX_VALUE;
+        int base = 0;
+        Node<T> node = this.root;
+        while (node.isNotSentinel()) {
+            int key = base + node.offset;
+            if (key >= pos) {
+                result = key;
+                node = node.left;
+            } else {
+                base = key;
+                node = node.right;
+            }
+        }
+        return result;
+    }
+
     public void forEach(BiConsumer<Integer, T> action) {
         if (root.isNotSentinel()) {
             int currOffset = 0;
@@ -1065,6 +1115,19 @@ public class OffsetKeyedTreeMap<T> {
         }
     }
 
+    private void dropTombstones() {
+        var t = new OffsetKeyedTreeMap<T>();
+        NodesIterator<T> it = this.nodesIteratorAt(Integer.MAX_VALUE);
+        while (it.prev()) {
+            if (it.getCurrValue() != null) {
+                t.put(it.getCurrOffset(), it.getCurrValue());
+            }
+        }
+        this.root = t.root;
+        this.size = t.size;
+        this.tombstonesCount = 0;
+    }
+
     private void deleteNode(Node<T> z) {
         // A node to be deleted will be: 
         //    1. a leaf with no children
@@ -1088,14 +1151,7 @@ public class OffsetKeyedTreeMap<T> {
                 z.content = null;
                 this.tombstonesCount++;
                 if (this.tombstonesCount > this.size / 2) {
-                    var t = new OffsetKeyedTreeMap<T>();
-                    NodesIterator<T> it = this.nodesIteratorAt(Integer.MAX_VALUE);
-                    while (it.prev()) {
-                        t.put(it.getCurrOffset(), it.getCurrValue());
-                    }
-                    this.root = t.root;
-                    this.size = t.size;
-                    this.tombstonesCount = 0;
+                    this.dropTombstones();
                 }
                 return;
             }
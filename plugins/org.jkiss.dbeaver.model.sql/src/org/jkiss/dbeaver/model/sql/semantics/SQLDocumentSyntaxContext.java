@@ -119,6 +119,22 @@ public class SQLDocumentSyntaxContext {
             new SQLScriptItemAtOffset(this.lastAccessedItemOffset, this.lastAccessedScriptItem);
     }
 
+    /**
+     * Check if the script item at the provided offset was already analyzed for the same text
+     */
+    public boolean hasActualScriptItem(
+        int offset,
+        @NotNull String elementOriginalText,
+        int length,
+        boolean hasContextBoundaryAtLength
+    ) {
+        SQLDocumentScriptItemSyntaxContext scriptItem = this.scriptItems.find(offset);
+        return scriptItem != null && !scriptItem.isDirty() &&
+            scriptItem.length() == length &&
+            scriptItem.hasContextBoundaryAtLength() == hasContextBoundaryAtLength &&
+            scriptItem.getOriginalText().equals(elementOriginalText);
+    }
+
     /**
      * Find token by offset
      */
@@ -201,13 +217,11 @@ public class SQLDocumentSyntaxContext {
         if (oldLength > 0) {
             // TODO:
             //   if oldLength fits in one scriptItem, them remove some part of it using split-join operation
-            //   otherwise, drop all the scriptItems in oldLength range and apply newLength-oldLength as offset for all the tailing
 
             int delta = newLength - oldLength;
 
-            // temporary solution - just explicitly drop what was invalidated starting at the current position
+            // drop all the scriptItems in oldLength range and apply newLength-oldLength as offset for all the tailing
             {
-                // otherwise just drop the whole tail being affected
                 ListNode<Integer> keyOffsetsToRemove = null;
                 NodesIterator<SQLDocumentScriptItemSyntaxContext> it = this.scriptItems.nodesIteratorAt(offset);
                 SQLDocumentScriptItemSyntaxContext currItem = it.getCurrValue();
@@ -228,7 +242,7 @@ public class SQLDocumentSyntaxContext {
                 } else {
                     lastAffectedOffset = offset + oldLength;
                 }
-                while (it.next() && it.getCurrValue() != null && (delta < 0 || lastAffectedOffset <= (offset + oldLength))) {
+                while (it.next() && it.getCurrValue() != null && lastAffectedOffset <= (offset + oldLength)) {
                     currOffset = it.getCurrOffset();
                     SQLDocumentScriptItemSyntaxContext currItem3 = it.getCurrValue();
                     keyOffsetsToRemove = ListNode.push(keyOffsetsToRemove, currOffset);
@@ -240,9 +254,8 @@ public class SQLDocumentSyntaxContext {
                     firstAffectedOffset = kn.data;
                     this.scriptItems.removeAt(kn.data);
                 }
-                if (delta > 0) { // when delta is non-negative, we are dropping only the affected region and applying offset for the rest
-                    this.scriptItems.applyOffset(offset, delta);
-                }
+                // the affected region is dropped, so the rest is just shifted keeping already analyzed items
+                this.scriptItems.applyOffset(offset, delta);
 
                 if (keyOffsetsToRemove != null) {
                     affectedRegion = new Region(firstAffectedOffset, lastAffectedOffset - firstAffectedOffset - oldLength + newLength);
@@ -17,6 +17,7 @@
 
 package org.jkiss.dbeaver.model.data;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
@@ -34,6 +35,7 @@ public class DBDDataFilter {
     private boolean useDisjunctiveNormalForm; // see setUseDisjunctiveNormalForm
     private String order;
     private String where;
+    private final List<DBDAttributeValue> whereParameters = new ArrayList<>();
 
     public DBDDataFilter() {
         this.constraints = new ArrayList<>();
@@ -50,6 +52,7 @@ public class DBDDataFilter {
         }
         this.order = source.order;
         this.where = source.where;
+        this.whereParameters.addAll(source.whereParameters);
         this.anyConstraint = source.anyConstraint;
         this.useDisjunctiveNormalForm = source.useDisjunctiveNormalForm;
     }
@@ -150,6 +153,19 @@ public class DBDDataFilter {
         this.where = where;
     }
 
+    /**
+     * Values of parameter placeholders in the WHERE clause, in order of their appearance.
+     * They are bound only by containers which support {@link org.jkiss.dbeaver.model.struct.DBSDataContainer#FEATURE_DATA_FILTER_PARAMETERS}.
+     */
+    @NotNull
+    public List<DBDAttributeValue> getWhereParameters() {
+        return whereParameters;
+    }
+
+    public void addWhereParameter(@NotNull DBSAttributeBase attribute, @Nullable Object value) {
+        whereParameters.add(new DBDAttributeValue(attribute, value));
+    }
+
     public boolean hasFilters() {
         if (!CommonUtils.isEmpty(this.order) || !CommonUtils.isEmpty(this.where)) {
             return true;
@@ -238,6 +254,7 @@ public class DBDDataFilter {
         }
         this.order = null;
         this.where = null;
+        this.whereParameters.clear();
     }
 
     public void bindAttributes(DBDAttributeBinding[] bindings) {
@@ -0,0 +1,265 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset (seek) pagination.
+ * Reads entity data page by page ordered by unique key. Each next page is restricted by the key values
+ * of the last row of the previous page ({@code WHERE key > last ORDER BY key}) instead of row offset,
+ * so database doesn't need to rescan skipped rows.
+ * <p>
+ * Pagination is possible only for entities with a not-null unique key of scalar columns
+ * and for data filters without explicit ordering.
+ * Key values are passed as bound parameters if data container supports them.
+ * Otherwise they are rendered as SQL literals, which is not possible for date/time keys
+ * (literal formats may lose fractional seconds).
+ */
+public class KeysetPaginator {
+
+    private static final Log log = Log.getLog(KeysetPaginator.class);
+
+    private final DBSEntity entity;
+    private final List<DBSEntityAttribute> keyAttributes;
+    private final boolean bindParameters;
+    @Nullable
+    private Object[] lastKey;
+    private long rowsRead;
+
+    private KeysetPaginator(@NotNull DBSEntity entity, @NotNull List<DBSEntityAttribute> keyAttributes, boolean bindParameters) {
+        this.entity = entity;
+        this.keyAttributes = keyAttributes;
+        this.bindParameters = bindParameters;
+    }
+
+    /**
+     * Creates paginator for specified data container.
+     * Returns null if keyset pagination is not possible and offset pagination must be used.
+     */
+    @Nullable
+    public static KeysetPaginator create(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable DBDDataFilter dataFilter
+    ) {
+        if (!(dataContainer instanceof DBSEntity entity)) {
+            return null;
+        }
+        if (dataFilter != null && dataFilter.hasOrdering()) {
+            // Custom order can't be combined with key order
+            return null;
+        }
+        boolean bindParameters = dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_FILTER_PARAMETERS);
+        List<DBSEntityAttribute> keyAttributes = new ArrayList<>();
+        try {
+            for (DBSEntityAttribute attribute : DBUtils.getBestTableIdentifier(monitor, entity)) {
+                if (!attribute.isRequired() || !isOrderableKind(attribute.getDataKind(), bindParameters)) {
+                    return null;
+                }
+                keyAttributes.add(attribute);
+            }
+        } catch (DBException e) {
+            log.debug("Error reading unique key of " + entity.getName() + ": " + e.getMessage());
+            return null;
+        }
+        if (keyAttributes.isEmpty()) {
+            return null;
+        }
+        return new KeysetPaginator(entity, keyAttributes, bindParameters);
+    }
+
+    private static boolean isOrderableKind(@NotNull DBPDataKind dataKind, boolean bindParameters) {
+        return dataKind == DBPDataKind.NUMERIC || dataKind == DBPDataKind.STRING ||
+            (dataKind == DBPDataKind.DATETIME && bindParameters);
+    }
+
+    @NotNull
+    public DBSEntity getEntity() {
+        return entity;
+    }
+
+    @NotNull
+    public List<DBSEntityAttribute> getKeyAttributes() {
+        return keyAttributes;
+    }
+
+    /**
+     * Key values of the last read row or null if no rows were read yet
+     */
+    @Nullable
+    public Object[] getLastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Number of rows read before the next page
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * Sets position of the next page. Used when previous pages were read by somebody else.
+     */
+    public void setPosition(@Nullable Object[] lastKey, long rowsRead) {
+        if (lastKey != null && lastKey.length != keyAttributes.size()) {
+            throw new IllegalArgumentException("Key values count mismatch");
+        }
+        this.lastKey = lastKey;
+        this.rowsRead = rowsRead;
+    }
+
+    /**
+     * Makes data filter for the next page: base filter conditions, key condition and key order.
+     */
+    @NotNull
+    public DBDDataFilter makePageFilter(@NotNull DBPDataSource dataSource, @Nullable DBDDataFilter baseFilter) {
+        DBDDataFilter filter = baseFilter == null ? new DBDDataFilter() : new DBDDataFilter(baseFilter);
+
+        StringBuilder order = new StringBuilder();
+        for (DBSEntityAttribute attribute : keyAttributes) {
+            if (!order.isEmpty()) {
+                order.append(",");
+            }
+            order.append(DBUtils.getQuotedIdentifier(attribute));
+        }
+        filter.setOrder(order.toString());
+
+        if (lastKey != null) {
+            String keyCondition = makeKeyCondition(dataSource, filter);
+            String where = filter.getWhere();
+            if (CommonUtils.isEmpty(where)) {
+                filter.setWhere(keyCondition);
+            } else {
+                filter.setWhere("(" + where + ") AND (" + keyCondition + ")");
+            }
+        }
+        return filter;
+    }
+
+    // Lexicographic comparison: (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...
+    // Row value constructors (k1, k2) > (v1, v2) would be shorter but are not supported everywhere
+    @NotNull
+    private String makeKeyCondition(@NotNull DBPDataSource dataSource, @NotNull DBDDataFilter filter) {
+        StringBuilder condition = new StringBuilder();
+        for (int i = 0; i < keyAttributes.size(); i++) {
+            if (i > 0) {
+                condition.append(" OR ");
+            }
+            condition.append("(");
+            for (int k = 0; k <= i; k++) {
+                DBSEntityAttribute attribute = keyAttributes.get(k);
+                if (k > 0) {
+                    condition.append(" AND ");
+                }
+                condition.append(DBUtils.getQuotedIdentifier(attribute))
+                    .append(k == i ? " > " : " = ");
+                if (bindParameters) {
+                    condition.append(dataSource.getSQLDialect().getTypeCastClause(attribute, "?", true));
+                    filter.addWhereParameter(attribute, lastKey[k]);
+                } else {
+                    condition.append(SQLUtils.convertValueToSQL(dataSource, attribute, lastKey[k]));
+                }
+            }
+            condition.append(")");
+        }
+        return condition.toString();
+    }
+
+    /**
+     * Wraps data receiver. Wrapper remembers key values of the last fetched row and passes
+     * logical row offset (total number of previously read rows) to the original receiver.
+     */
+    @NotNull
+    public DBDDataReceiver wrapReceiver(@NotNull DBDDataReceiver receiver) {
+        return new KeysetReceiver(receiver);
+    }
+
+    private class KeysetReceiver implements DBDDataReceiver {
+        private final DBDDataReceiver delegate;
+        private int[] keyIndexes;
+        private DBDValueHandler[] keyHandlers;
+
+        KeysetReceiver(@NotNull DBDDataReceiver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+            DBCResultSetMetaData meta = resultSet.getMeta();
+            List<? extends DBCAttributeMetaData> rsAttributes = meta == null ? List.of() : meta.getAttributes();
+            keyIndexes = new int[keyAttributes.size()];
+            keyHandlers = new DBDValueHandler[keyAttributes.size()];
+            for (int i = 0; i < keyAttributes.size(); i++) {
+                DBSEntityAttribute attribute = keyAttributes.get(i);
+                keyIndexes[i] = -1;
+                for (DBCAttributeMetaData rsAttribute : rsAttributes) {
+                    if (attribute.getName().equalsIgnoreCase(rsAttribute.getName())) {
+                        keyIndexes[i] = rsAttribute.getOrdinalPosition();
+                        break;
+                    }
+                }
+                if (keyIndexes[i] < 0) {
+                    throw new DBCException("Key column '" + attribute.getName() + "' not found in result set");
+                }
+                keyHandlers[i] = DBUtils.findValueHandler(session, attribute);
+            }
+            delegate.fetchStart(session, resultSet, rowsRead, maxRows);
+        }
+
+        @Override
+        public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+            Object[] key = new Object[keyIndexes.length];
+            for (int i = 0; i < keyIndexes.length; i++) {
+                key[i] = keyHandlers[i].fetchValueObject(session, resultSet, keyAttributes.get(i), keyIndexes[i]);
+            }
+            delegate.fetchRow(session, resultSet);
+            lastKey = key;
+            rowsRead++;
+        }
+
+        @Override
+        public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+            delegate.fetchEnd(session, resultSet);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+import org.jkiss.dbeaver.model.struct.DBStructUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generic bulk loader.
+ * Inserts rows with multi-row {@code INSERT INTO table (columns) VALUES (...),(...)} statements.
+ * Statement for a full group of rows is prepared once and reused, groups are sent to the server in statement batches.
+ * Databases which do not support multi-row VALUES get one row per statement (plain array binding).
+ * <p>
+ * Changes are committed on each flush.
+ */
+public class MultiRowInsertBulkLoader implements DBSDataBulkLoader, DBSDataBulkLoader.BulkLoadManager {
+
+    private static final Log log = Log.getLog(MultiRowInsertBulkLoader.class);
+
+    // Drivers limit number of statement parameters (e.g. SQL Server allows 2100)
+    private static final int MAX_STATEMENT_PARAMETERS = 2000;
+    private static final int DEFAULT_ROWS_PER_STATEMENT = 100;
+
+    private DBSDataContainer table;
+    private DBCExecutionSource source;
+    private Map<String, Object> options;
+    private DBSAttributeBase[] attributes;
+    private int[] valueIndexes;
+    private DBDValueHandler[] valueHandlers;
+    private int rowsPerStatement;
+
+    private final List<Object[]> pendingRows = new ArrayList<>();
+    private DBCStatement groupStatement;
+    private int batchedGroups;
+    private long rowsInserted;
+
+    @NotNull
+    @Override
+    public BulkLoadManager createBulkLoad(
+        @NotNull DBCSession session,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBSAttributeBase[] attributes,
+        @NotNull DBCExecutionSource source,
+        int batchSize,
+        Map<String, Object> options) throws DBCException
+    {
+        this.table = dataContainer;
+        this.source = source;
+        this.options = options;
+
+        List<DBSAttributeBase> usedAttributes = new ArrayList<>();
+        List<Integer> usedIndexes = new ArrayList<>();
+        for (int i = 0; i < attributes.length; i++) {
+            if (!DBUtils.isPseudoAttribute(attributes[i])) {
+                usedAttributes.add(attributes[i]);
+                usedIndexes.add(i);
+            }
+        }
+        if (usedAttributes.isEmpty()) {
+            throw new DBCException("No attributes to load into " + DBUtils.getObjectFullName(dataContainer, DBPEvaluationContext.DML));
+        }
+        this.attributes = usedAttributes.toArray(new DBSAttributeBase[0]);
+        this.valueIndexes = usedIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.valueHandlers = new DBDValueHandler[this.attributes.length];
+        for (int i = 0; i < this.attributes.length; i++) {
+            valueHandlers[i] = DBUtils.findValueHandler(session, this.attributes[i]);
+        }
+
+        int maxRows = getRowsPerStatement(session, options);
+        this.rowsPerStatement = Math.max(1, Math.min(maxRows, MAX_STATEMENT_PARAMETERS / this.attributes.length));
+        return this;
+    }
+
+    /**
+     * Maximum number of rows inserted by a single statement
+     */
+    protected int getRowsPerStatement(@NotNull DBCSession session, @Nullable Map<String, Object> options) {
+        if (session.getDataSource().getSQLDialect().getDefaultMultiValueInsertMode() != SQLDialect.MultiValueInsertMode.GROUP_ROWS) {
+            return 1;
+        }
+        return options == null ?
+            DEFAULT_ROWS_PER_STATEMENT :
+            CommonUtils.toInt(options.get(DBSDataManipulator.OPTION_MULTI_INSERT_BATCH_SIZE), DEFAULT_ROWS_PER_STATEMENT);
+    }
+
+    /**
+     * Leading clause of the insert statement
+     */
+    @NotNull
+    protected String getInsertClause() {
+        return "INSERT INTO";
+    }
+
+    @Override
+    public void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
+        pendingRows.add(attributeValues);
+        if (pendingRows.size() >= rowsPerStatement) {
+            if (groupStatement == null) {
+                groupStatement = prepareStatement(session, rowsPerStatement);
+            }
+            bindRows(session, groupStatement, pendingRows);
+            groupStatement.addToBatch();
+            pendingRows.clear();
+            batchedGroups++;
+        }
+    }
+
+    @Override
+    public void flushRows(@NotNull DBCSession session) throws DBCException {
+        if (batchedGroups > 0) {
+            groupStatement.executeStatementBatch();
+            rowsInserted += (long) batchedGroups * rowsPerStatement;
+            batchedGroups = 0;
+        }
+        if (!pendingRows.isEmpty()) {
+            // Rest of rows doesn't fill the whole group
+            try (DBCStatement tailStatement = prepareStatement(session, pendingRows.size())) {
+                bindRows(session, tailStatement, pendingRows);
+                tailStatement.executeStatement();
+            }
+            rowsInserted += pendingRows.size();
+            pendingRows.clear();
+        }
+
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
+            txnManager.commit(session);
+        }
+    }
+
+    @Override
+    public void finishBulkLoad(@NotNull DBCSession session) throws DBCException {
+        flushRows(session);
+        log.debug(rowsInserted + " row(s) inserted into " + DBUtils.getObjectFullName(table, DBPEvaluationContext.DML));
+    }
+
+    @Override
+    public void close() {
+        if (groupStatement != null) {
+            groupStatement.close();
+            groupStatement = null;
+        }
+        pendingRows.clear();
+    }
+
+    @NotNull
+    private DBCStatement prepareStatement(@NotNull DBCSession session, int rowCount) throws DBCException {
+        StringBuilder query = new StringBuilder(64 + rowCount * attributes.length * 2);
+        query.append(getInsertClause()).append(" ").append(DBUtils.getEntityScriptName(table, options)).append(" (");
+        for (int i = 0; i < attributes.length; i++) {
+            if (i > 0) {
+                query.append(",");
+            }
+            query.append(DBStructUtils.getAttributeName(attributes[i]));
+        }
+        query.append(") VALUES ");
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                query.append(",");
+            }
+            query.append("(");
+            for (int i = 0; i < attributes.length; i++) {
+                if (i > 0) {
+                    query.append(",");
+                }
+                query.append("?");
+            }
+            query.append(")");
+        }
+        DBCStatement statement = session.prepareStatement(DBCStatementType.QUERY, query.toString(), false, false, false);
+        statement.setStatementSource(source);
+        return statement;
+    }
+
+    private void bindRows(@NotNull DBCSession session, @NotNull DBCStatement statement, @NotNull List<Object[]> rows) throws DBCException {
+        int paramIndex = 0;
+        for (Object[] row : rows) {
+            for (int i = 0; i < attributes.length; i++) {
+                valueHandlers[i].bindValueObject(session, statement, attributes[i], paramIndex++, row[valueIndexes[i]]);
+            }
+        }
+    }
+}
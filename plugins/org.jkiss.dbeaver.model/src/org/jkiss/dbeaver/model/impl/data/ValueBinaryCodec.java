@@ -0,0 +1,253 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.*;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Binary codec of plain Java values (numbers, strings, dates, binaries).
+ * <p>
+ * Each value is written as a tag byte followed by the value data. Only exact classes are supported,
+ * driver-specific subclasses and complex values (LOBs, structs, arrays) can't be written.
+ * Used for compact transfer and temporary storage of fetched values.
+ */
+public final class ValueBinaryCodec {
+
+    public static final int TAG_NULL = 0;
+    /**
+     * Tags greater than this one are not used by the codec and may be used by callers for their own values
+     */
+    public static final int MAX_TAG = 22;
+
+    private ValueBinaryCodec() {
+    }
+
+    /**
+     * Returns tag of the value class or -1 if values of this class are not supported
+     */
+    public static int getValueTag(@NotNull Object value) {
+        Class<?> valueClass = value.getClass();
+        if (valueClass == String.class) {
+            return 1;
+        } else if (valueClass == Long.class) {
+            return 2;
+        } else if (valueClass == Integer.class) {
+            return 3;
+        } else if (valueClass == Short.class) {
+            return 4;
+        } else if (valueClass == Byte.class) {
+            return 5;
+        } else if (valueClass == Double.class) {
+            return 6;
+        } else if (valueClass == Float.class) {
+            return 7;
+        } else if (valueClass == Boolean.class) {
+            return 8;
+        } else if (valueClass == BigDecimal.class) {
+            return 9;
+        } else if (valueClass == BigInteger.class) {
+            return 10;
+        } else if (valueClass == java.sql.Timestamp.class) {
+            return 11;
+        } else if (valueClass == java.sql.Date.class) {
+            return 12;
+        } else if (valueClass == java.sql.Time.class) {
+            return 13;
+        } else if (valueClass == Date.class) {
+            return 14;
+        } else if (valueClass == byte[].class) {
+            return 15;
+        } else if (valueClass == Character.class) {
+            return 16;
+        } else if (valueClass == UUID.class) {
+            return 17;
+        } else if (valueClass == LocalDate.class) {
+            return 18;
+        } else if (valueClass == LocalDateTime.class) {
+            return 19;
+        } else if (valueClass == LocalTime.class) {
+            return 20;
+        } else if (valueClass == OffsetDateTime.class) {
+            return 21;
+        } else if (valueClass == Instant.class) {
+            return 22;
+        }
+        return -1;
+    }
+
+    public static boolean isSupported(@Nullable Object value) {
+        return value == null || getValueTag(value) >= 0;
+    }
+
+    /**
+     * Writes tagged value.
+     *
+     * @throws IOException if values of this class are not supported
+     */
+    public static void writeValue(@NotNull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+        int tag = getValueTag(value);
+        if (tag < 0) {
+            throw new IOException("Value of " + value.getClass().getName() + " can't be written in binary form");
+        }
+        out.writeByte(tag);
+        switch (tag) {
+            case 1 -> writeString(out, (String) value);
+            case 2 -> out.writeLong((Long) value);
+            case 3 -> out.writeInt((Integer) value);
+            case 4 -> out.writeShort((Short) value);
+            case 5 -> out.writeByte((Byte) value);
+            case 6 -> out.writeDouble((Double) value);
+            case 7 -> out.writeFloat((Float) value);
+            case 8 -> out.writeBoolean((Boolean) value);
+            case 9 -> {
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeInt(decimal.scale());
+                writeBytes(out, decimal.unscaledValue().toByteArray());
+            }
+            case 10 -> writeBytes(out, ((BigInteger) value).toByteArray());
+            case 11 -> {
+                java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+                out.writeLong(timestamp.getTime());
+                out.writeInt(timestamp.getNanos());
+            }
+            case 12, 13, 14 -> out.writeLong(((Date) value).getTime());
+            case 15 -> writeBytes(out, (byte[]) value);
+            case 16 -> out.writeChar((Character) value);
+            case 17 -> {
+                out.writeLong(((UUID) value).getMostSignificantBits());
+                out.writeLong(((UUID) value).getLeastSignificantBits());
+            }
+            case 18 -> out.writeLong(((LocalDate) value).toEpochDay());
+            case 19 -> {
+                LocalDateTime dateTime = (LocalDateTime) value;
+                out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(dateTime.getNano());
+            }
+            case 20 -> out.writeLong(((LocalTime) value).toNanoOfDay());
+            case 21 -> {
+                OffsetDateTime dateTime = (OffsetDateTime) value;
+                out.writeLong(dateTime.toEpochSecond());
+                out.writeInt(dateTime.getNano());
+                out.writeInt(dateTime.getOffset().getTotalSeconds());
+            }
+            case 22 -> {
+                out.writeLong(((Instant) value).getEpochSecond());
+                out.writeInt(((Instant) value).getNano());
+            }
+        }
+    }
+
+    /**
+     * Reads tagged value written by {@link #writeValue(DataOutputStream, Object)}
+     */
+    @Nullable
+    public static Object readValue(@NotNull ByteBuffer in) throws IOException {
+        int tag = in.get();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case 1 -> readString(in);
+            case 2 -> in.getLong();
+            case 3 -> in.getInt();
+            case 4 -> in.getShort();
+            case 5 -> in.get();
+            case 6 -> in.getDouble();
+            case 7 -> in.getFloat();
+            case 8 -> in.get() != 0;
+            case 9 -> {
+                int scale = in.getInt();
+                yield new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case 10 -> new BigInteger(readBytes(in));
+            case 11 -> {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.getLong());
+                timestamp.setNanos(in.getInt());
+                yield timestamp;
+            }
+            case 12 -> new java.sql.Date(in.getLong());
+            case 13 -> new java.sql.Time(in.getLong());
+            case 14 -> new Date(in.getLong());
+            case 15 -> readBytes(in);
+            case 16 -> in.getChar();
+            case 17 -> new UUID(in.getLong(), in.getLong());
+            case 18 -> LocalDate.ofEpochDay(in.getLong());
+            case 19 -> LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+            case 20 -> LocalTime.ofNanoOfDay(in.getLong());
+            case 21 -> {
+                long epochSecond = in.getLong();
+                int nano = in.getInt();
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds(in.getInt());
+                yield OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+            }
+            case 22 -> Instant.ofEpochSecond(in.getLong(), in.getInt());
+            default -> throw new IOException("Bad value tag: " + tag);
+        };
+    }
+
+    public static void writeString(@NotNull DataOutputStream out, @NotNull String value) throws IOException {
+        // Chars are written as is, so unpaired surrogates survive
+        out.writeInt(value.length());
+        out.writeChars(value);
+    }
+
+    @NotNull
+    public static String readString(@NotNull ByteBuffer in) {
+        char[] chars = new char[in.getInt()];
+        in.asCharBuffer().get(chars);
+        in.position(in.position() + chars.length * Character.BYTES);
+        return new String(chars);
+    }
+
+    public static void writeBytes(@NotNull DataOutputStream out, @NotNull byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @NotNull
+    public static byte[] readBytes(@NotNull ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+
+    public static void writeLongs(@NotNull DataOutputStream out, @NotNull long[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES);
+        buffer.asLongBuffer().put(values);
+        out.write(buffer.array());
+    }
+
+    @NotNull
+    public static long[] readLongs(@NotNull ByteBuffer in, int count) {
+        long[] values = new long[count];
+        in.asLongBuffer().get(values);
+        in.position(in.position() + count * Long.BYTES);
+        return values;
+    }
+}
@@ -24,31 +24,82 @@ import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.time.ExtendedDateFormat;
 
 import java.text.DateFormat;
+import java.text.DecimalFormat;
 import java.text.FieldPosition;
 import java.text.ParseException;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
+/**
+ * Date/time formatter.
+ * Formatter is shared between threads, so legacy date format is thread-confined and java.time formatter is immutable.
+ */
 public class DateTimeDataFormatter implements DBDDataFormatter {
 
     public static final String PROP_PATTERN = "pattern";
     public static final String PROP_TIMEZONE = "timezone";
 
+    // Fast path is used only for years which look the same in Gregorian and proleptic calendars
+    private static final int MIN_ISO_YEAR = 1583;
+    private static final int MAX_ISO_YEAR = 9999;
+    // Legacy time zones differ from java.time ones for local mean time of old dates
+    private static final long MIN_LEGACY_ISO_MILLIS = -2208988800000L; // 1900-01-01 UTC
+
+    private enum IsoPattern {
+        DATE("yyyy-MM-dd", true, false, false),
+        TIME("HH:mm:ss", false, true, false),
+        DATE_TIME("yyyy-MM-dd HH:mm:ss", true, true, false),
+        TIMESTAMP("yyyy-MM-dd HH:mm:ss.SSS", true, true, true);
+
+        private final String pattern;
+        private final boolean hasDate;
+        private final boolean hasTime;
+        private final boolean hasMillis;
+
+        IsoPattern(String pattern, boolean hasDate, boolean hasTime, boolean hasMillis) {
+            this.pattern = pattern;
+            this.hasDate = hasDate;
+            this.hasTime = hasTime;
+            this.hasMillis = hasMillis;
+        }
+
+        @Nullable
+        static IsoPattern find(@NotNull String pattern) {
+            for (IsoPattern isoPattern : values()) {
+                if (isoPattern.pattern.equals(pattern)) {
+                    return isoPattern;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class FormatState {
+        private final DateFormat dateFormat;
+        private final StringBuffer buffer = new StringBuffer();
+        private final FieldPosition position = new FieldPosition(0);
+
+        FormatState(DateFormat dateFormat) {
+            this.dateFormat = dateFormat;
+        }
+    }
+
     private String pattern;
     private ZoneId zone;
-    private DateFormat dateFormat;
-    private StringBuffer buffer;
-    private FieldPosition position;
+    private ThreadLocal<FormatState> formatState;
     private DateTimeFormatter dateTimeFormatter;
     private boolean hasZone;
+    @Nullable
+    private IsoPattern isoPattern;
+    private boolean isoLegacyDates;
+    private ZoneId legacyDatesZone;
 
     @Override
     public void init(DBSTypedObject type, Locale locale, Map<String, Object> properties)
@@ -57,17 +108,37 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
         final String timezone = CommonUtils.toString(properties.get(PROP_TIMEZONE));
         zone = CommonUtils.isEmptyTrimmed(timezone) ? null : ZoneId.of(timezone);
         String sdfPattern = pattern.replace("n", "f");
-        dateFormat = new ExtendedDateFormat(
-            sdfPattern,
-            locale);
-        // We shouldn't use lenient formatter (#7244)
-        dateFormat.setLenient(false);
-        buffer = new StringBuffer();
-        position = new FieldPosition(0);
+        // All threads use the time zone which was the default one at the moment of initialization
+        DateFormat dateFormat = createDateFormat(sdfPattern, locale);
+        TimeZone timeZone = dateFormat.getTimeZone();
+        formatState = ThreadLocal.withInitial(() -> {
+            DateFormat threadDateFormat = createDateFormat(sdfPattern, locale);
+            threadDateFormat.setTimeZone(timeZone);
+            return new FormatState(threadDateFormat);
+        });
         // DateTimeFormatter pattern for nanoseconds is "n" but old "f" (ExtendedDateFormat)
         String java8DatePattern = pattern.replaceAll("f+", "n");
         dateTimeFormatter = DateTimeFormatter.ofPattern(java8DatePattern);
         hasZone = java8DatePattern.contains("Z");
+
+        isoPattern = IsoPattern.find(pattern);
+        if (isoPattern != null) {
+            // Legacy dates are formatted by hand only if date format prints them the same way
+            isoLegacyDates = dateFormat.getCalendar() instanceof GregorianCalendar &&
+                dateFormat.getNumberFormat() instanceof DecimalFormat decimalFormat &&
+                decimalFormat.getDecimalFormatSymbols().getZeroDigit() == '0';
+            legacyDatesZone = timeZone.toZoneId();
+        }
+    }
+
+    @NotNull
+    private static DateFormat createDateFormat(@NotNull String sdfPattern, @NotNull Locale locale) {
+        DateFormat dateFormat = new ExtendedDateFormat(
+            sdfPattern,
+            locale);
+        // We shouldn't use lenient formatter (#7244)
+        dateFormat.setLenient(false);
+        return dateFormat;
     }
 
     @Nullable
@@ -75,9 +146,12 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
         return zone;
     }
 
+    /**
+     * Returns date format of the current thread
+     */
     @NotNull
     public DateFormat getDateFormat() {
-        return dateFormat;
+        return formatState.get().dateFormat;
     }
 
     @Override
@@ -89,27 +163,94 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
     @Override
     public String formatValue(Object value)
     {
-        if (value instanceof Date && zone != null) {
-            return dateTimeFormatter.format(ZonedDateTime.ofInstant(((Date) value).toInstant(), zone));
+        if (value == null) {
+            return null;
         }
-        if (value instanceof TemporalAccessor) {
+        StringBuilder buffer = new StringBuilder(pattern.length() + 8);
+        formatValueTo(buffer, value);
+        return buffer.toString();
+    }
+
+    private void formatValueTo(@NotNull StringBuilder buffer, @Nullable Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Date date && zone != null) {
+            dateTimeFormatter.formatTo(ZonedDateTime.ofInstant(date.toInstant(), zone), buffer);
+            return;
+        }
+        if (value instanceof TemporalAccessor temporal) {
             if (zone != null) {
-                if (value instanceof LocalDateTime) {
-                    return dateTimeFormatter.format(((LocalDateTime) value).atZone(zone));
+                if (value instanceof LocalDateTime localDateTime) {
+                    dateTimeFormatter.formatTo(localDateTime.atZone(zone), buffer);
+                    return;
                 }
-                if (value instanceof ZonedDateTime) {
-                    return dateTimeFormatter.format(((ZonedDateTime) value).withZoneSameInstant(zone));
+                if (value instanceof ZonedDateTime zonedDateTime) {
+                    dateTimeFormatter.formatTo(zonedDateTime.withZoneSameInstant(zone), buffer);
+                    return;
                 }
-                if (value instanceof OffsetDateTime) {
-                    return dateTimeFormatter.format(((OffsetDateTime) value).atZoneSameInstant(zone));
+                if (value instanceof OffsetDateTime offsetDateTime) {
+                    dateTimeFormatter.formatTo(offsetDateTime.atZoneSameInstant(zone), buffer);
+                    return;
                 }
+            } else if (isoPattern != null && formatIsoTemporal(buffer, temporal)) {
+                return;
             }
-            return dateTimeFormatter.format((TemporalAccessor) value);
+            dateTimeFormatter.formatTo(temporal, buffer);
+            return;
         }
-        synchronized (dateFormat) {
-            buffer.setLength(0);
-            return value == null ? null : dateFormat.format(value, buffer, position).toString();
+        if (value instanceof Date date && isoLegacyDates && date.getTime() >= MIN_LEGACY_ISO_MILLIS &&
+            appendIsoValue(buffer, LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), legacyDatesZone))
+        ) {
+            return;
+        }
+        FormatState state = formatState.get();
+        state.buffer.setLength(0);
+        buffer.append(state.dateFormat.format(value, state.buffer, state.position));
+    }
+
+    private boolean formatIsoTemporal(@NotNull StringBuilder buffer, @NotNull TemporalAccessor value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return appendIsoValue(buffer, localDateTime);
         }
+        if (value instanceof LocalDate localDate && !isoPattern.hasTime) {
+            return appendIsoValue(buffer, localDate.atStartOfDay());
+        }
+        if (value instanceof LocalTime localTime && !isoPattern.hasDate) {
+            return appendIsoValue(buffer, localTime.atDate(LocalDate.EPOCH));
+        }
+        return false;
+    }
+
+    private boolean appendIsoValue(@NotNull StringBuilder buffer, @NotNull LocalDateTime value) {
+        int year = value.getYear();
+        if (isoPattern.hasDate && (year < MIN_ISO_YEAR || year > MAX_ISO_YEAR)) {
+            return false;
+        }
+        if (isoPattern.hasDate) {
+            buffer.append(year).append('-');
+            appendTwoDigits(buffer, value.getMonthValue()).append('-');
+            appendTwoDigits(buffer, value.getDayOfMonth());
+            if (isoPattern.hasTime) {
+                buffer.append(' ');
+            }
+        }
+        if (isoPattern.hasTime) {
+            appendTwoDigits(buffer, value.getHour()).append(':');
+            appendTwoDigits(buffer, value.getMinute()).append(':');
+            appendTwoDigits(buffer, value.getSecond());
+            if (isoPattern.hasMillis) {
+                int millis = value.getNano() / 1_000_000;
+                buffer.append('.').append((char) ('0' + millis / 100));
+                appendTwoDigits(buffer, millis % 100);
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private static StringBuilder appendTwoDigits(@NotNull StringBuilder buffer, int value) {
+        return buffer.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
     }
 
     @Override
@@ -138,7 +279,7 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
                 return LocalDateTime.parse(value, dateTimeFormatter);
             }
         } catch (Exception e) {
-            return dateFormat.parse(value);
+            return getDateFormat().parse(value);
         }
     }
 
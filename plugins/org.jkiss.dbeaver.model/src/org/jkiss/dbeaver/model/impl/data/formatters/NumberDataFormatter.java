@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.model.impl.data.formatters;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.data.DBDDataFormatter;
@@ -26,22 +27,45 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.FieldPosition;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.Map;
 
+/**
+ * Number formatter.
+ * Formatter is shared between threads, so each thread formats numbers with its own copy of the configured format.
+ */
 public class NumberDataFormatter implements DBDDataFormatter {
 
     public static final int MAX_DEFAULT_FRACTIONS_DIGITS = 16;
 
     private static final Log log = Log.getLog(NumberDataFormatter.class);
 
+    private static final int MAX_LONG_DIGITS = 19;
+
+    private static class FormatState {
+        private final DecimalFormat numberFormat;
+        private final StringBuffer buffer = new StringBuffer();
+        private final FieldPosition position = new FieldPosition(0);
+
+        FormatState(DecimalFormat numberFormat) {
+            this.numberFormat = numberFormat;
+        }
+    }
+
+    // Configured format, it is never used directly but copied for each thread
     private DecimalFormat numberFormat;
-    private StringBuffer buffer;
-    private FieldPosition position;
+    private ThreadLocal<FormatState> formatState;
+    private volatile boolean disableUnnecessaryRounding;
     private boolean nativeSpecialValues;
+    // Integers are formatted by hand if the format doesn't do anything special with them
+    private boolean plainIntegers;
+    private int groupingSize;
+    private char groupingSeparator;
+    private String negativePrefix;
 
     public NumberDataFormatter() {
     }
@@ -113,9 +137,24 @@ public class NumberDataFormatter implements DBDDataFormatter {
                 numberFormat.setGroupingUsed(false);
             }
         }
-        buffer = new StringBuffer();
-        position = new FieldPosition(0);
         nativeSpecialValues = CommonUtils.toBoolean(properties.get(NumberFormatSample.PROP_NATIVE_SPECIAL_VALUES));
+
+        DecimalFormatSymbols symbols = numberFormat.getDecimalFormatSymbols();
+        plainIntegers = symbols.getZeroDigit() == '0' &&
+            numberFormat.getMultiplier() == 1 &&
+            numberFormat.getMinimumIntegerDigits() == 1 &&
+            numberFormat.getMaximumIntegerDigits() >= MAX_LONG_DIGITS &&
+            numberFormat.getMinimumFractionDigits() == 0 &&
+            numberFormat.getPositivePrefix().isEmpty() &&
+            numberFormat.getPositiveSuffix().isEmpty() &&
+            numberFormat.getNegativeSuffix().isEmpty() &&
+            numberFormat.toPattern().indexOf('E') < 0;
+        this.groupingSize = numberFormat.isGroupingUsed() ? numberFormat.getGroupingSize() : 0;
+        groupingSeparator = symbols.getGroupingSeparator();
+        negativePrefix = numberFormat.getNegativePrefix();
+
+        DecimalFormat configuredFormat = numberFormat;
+        formatState = ThreadLocal.withInitial(() -> new FormatState((DecimalFormat) configuredFormat.clone()));
     }
 
     @Nullable
@@ -132,71 +171,114 @@ public class NumberDataFormatter implements DBDDataFormatter {
         if (value == null) {
             return null;
         }
+        StringBuilder buffer = new StringBuilder();
+        formatValueTo(buffer, value);
+        return buffer.toString();
+    }
+
+    private void formatValueTo(@NotNull StringBuilder buffer, @Nullable Object value) {
+        if (value == null) {
+            return;
+        }
+        if (plainIntegers && (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            appendInteger(buffer, ((Number) value).longValue());
+            return;
+        }
         if (CommonUtils.isNaN(value) || CommonUtils.isInfinite(value)) {
             if (nativeSpecialValues) {
-                return value.toString();
+                buffer.append(value);
+                return;
             }
         } else if (value instanceof Float || value instanceof Double) {
             // Convert to BigDecimal so we don't have rounding issues with high minimum fraction digits set
             value = new BigDecimal(value.toString());
         } else if (!(value instanceof Number)) {
-            return value.toString();
+            buffer.append(value);
+            return;
         }
+        FormatState state = getFormatState();
         try {
-            synchronized (this) {
-                buffer.setLength(0);
-                try {
-                    return numberFormat.format(value, buffer, position).toString();
-                } catch (ArithmeticException e) {
-                    if (numberFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
-                        // This type can't use UNNECESSARY rounding. Let's set default one
+            state.buffer.setLength(0);
+            try {
+                state.numberFormat.format(value, state.buffer, state.position);
+            } catch (ArithmeticException e) {
+                if (state.numberFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
+                    // This type can't use UNNECESSARY rounding. Let's set default one
+                    if (!disableUnnecessaryRounding) {
                         log.debug("Disabling UNNECESSARY rounding for numbers (" + e.getMessage() + ")");
-                        numberFormat.setRoundingMode(RoundingMode.HALF_EVEN);
+                        disableUnnecessaryRounding = true;
                     }
-                    return numberFormat.format(value, buffer, position).toString();
+                    state.numberFormat.setRoundingMode(RoundingMode.HALF_EVEN);
                 }
+                state.buffer.setLength(0);
+                state.numberFormat.format(value, state.buffer, state.position);
             }
+            buffer.append(state.buffer);
         } catch (Exception e) {
-            return value.toString();
+            buffer.append(value);
+        }
+    }
+
+    private void appendInteger(@NotNull StringBuilder buffer, long value) {
+        if (value < 0) {
+            buffer.append(negativePrefix);
+        }
+        int digitsStart = buffer.length();
+        buffer.append(value);
+        if (value < 0) {
+            buffer.deleteCharAt(digitsStart);
+        }
+        if (groupingSize > 0) {
+            for (int pos = buffer.length() - groupingSize; pos > digitsStart; pos -= groupingSize) {
+                buffer.insert(pos, groupingSeparator);
+            }
+        }
+    }
+
+    @NotNull
+    private FormatState getFormatState() {
+        FormatState state = formatState.get();
+        if (disableUnnecessaryRounding && state.numberFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
+            state.numberFormat.setRoundingMode(RoundingMode.HALF_EVEN);
         }
+        return state;
     }
 
     @Override
     public Object parseValue(String value, @Nullable Class<?> typeHint) throws ParseException
     {
-        synchronized (this) {
-            numberFormat.setParseBigDecimal(typeHint == BigDecimal.class || typeHint == BigInteger.class);
-            Number number = numberFormat.parse(value);
-            if (number != null && typeHint != null) {
-                boolean isFloat = number instanceof Double || number instanceof Float;
-                if (typeHint == Byte.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.byteValue();
-                } else if (typeHint == Short.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.shortValue();
-                } else if (typeHint == Integer.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.intValue();
-                } else if (typeHint == Long.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.longValue();
-                } else if (typeHint == Float.class) {
-                    return number.floatValue();
-                } else if (typeHint == Double.class) {
-                    return number.doubleValue();
+        DecimalFormat numberFormat = getFormatState().numberFormat;
+        numberFormat.setParseBigDecimal(typeHint == BigDecimal.class || typeHint == BigInteger.class);
+        Number number = numberFormat.parse(value);
+        if (number != null && typeHint != null) {
+            boolean isFloat = number instanceof Double || number instanceof Float;
+            if (typeHint == Byte.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.byteValue();
+            } else if (typeHint == Short.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.shortValue();
+            } else if (typeHint == Integer.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.intValue();
+            } else if (typeHint == Long.class) {
+                if (isFloat) {
+                    return number;
                 }
+                return number.longValue();
+            } else if (typeHint == Float.class) {
+                return number.floatValue();
+            } else if (typeHint == Double.class) {
+                return number.doubleValue();
             }
-            return number;
         }
+        return number;
     }
 
 }
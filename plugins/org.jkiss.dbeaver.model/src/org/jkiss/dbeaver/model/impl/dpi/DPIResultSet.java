@@ -17,6 +17,8 @@
 package org.jkiss.dbeaver.model.impl.dpi;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.DBCStatement;
 import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
@@ -25,8 +27,19 @@ import org.jkiss.dbeaver.model.impl.local.LocalResultSetMeta;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Result set passed between DPI process and client.
+ * <p>
+ * Result set either keeps all rows in memory or reads them from a {@link DPIRowStream} batch by batch.
+ * Streamed result set is forward-only.
+ */
 public class DPIResultSet extends LocalResultSet<DBCStatement> {
     private final List<DPIResultSetColumn> meta = new ArrayList<>();
+    @Nullable
+    private DPIRowStream rowStream;
+    @Nullable
+    private DPIRowBatch rowBatch;
+    private int batchPosition = -1;
 
     public DPIResultSet(
         DBCSession session,
@@ -46,6 +59,17 @@ public class DPIResultSet extends LocalResultSet<DBCStatement> {
         this.rows.addAll(rows);
     }
 
+    public DPIResultSet(
+        @NotNull DBCSession session,
+        @NotNull DBCStatement statement,
+        @NotNull List<DPIResultSetColumn> meta,
+        @NotNull DPIRowStream rowStream
+    ) {
+        super(session, statement);
+        this.meta.addAll(meta);
+        this.rowStream = rowStream;
+    }
+
     public void addColumn(@NotNull DPIResultSetColumn column) {
         meta.add(column);
     }
@@ -65,10 +89,55 @@ public class DPIResultSet extends LocalResultSet<DBCStatement> {
         return rows;
     }
 
+    @Override
+    public Object getAttributeValue(int index) throws DBCException {
+        if (rowStream == null) {
+            return super.getAttributeValue(index);
+        }
+        if (rowBatch == null || batchPosition < 0) {
+            throw new DBCException("No current row");
+        }
+        if (index >= rowBatch.getColumnCount()) {
+            throw new DBCException("Attribute index out of range (" + index + "/" + rowBatch.getColumnCount() + ")");
+        }
+        return rowBatch.getValue(batchPosition, index);
+    }
+
+    @Override
+    public boolean nextRow() throws DBCException {
+        if (rowStream == null) {
+            return super.nextRow();
+        }
+        while (rowBatch == null || batchPosition + 1 >= rowBatch.getRowCount()) {
+            rowBatch = rowStream.nextBatch();
+            batchPosition = -1;
+            if (rowBatch == null) {
+                rowStream.close();
+                return false;
+            }
+        }
+        batchPosition++;
+        curPosition++;
+        return true;
+    }
+
+    @Override
+    public boolean moveTo(int position) throws DBCException {
+        if (rowStream == null) {
+            return super.moveTo(position);
+        }
+        throw new DBCException("Streamed DPI result set is forward-only");
+    }
+
     @Override
     public void close() {
         curPosition = -1;
         rows.clear();
         meta.clear();
+        if (rowStream != null) {
+            rowStream.close();
+            rowBatch = null;
+            batchPosition = -1;
+        }
     }
 }
@@ -0,0 +1,317 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.dpi;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.impl.data.ValueBinaryCodec;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Batch of result set rows passed from the DPI process to the client.
+ * <p>
+ * Values are kept in typed column vectors: numbers and booleans in primitive arrays, strings in string arrays,
+ * other values as tagged objects (see {@link ValueBinaryCodec}). Nulls are tracked in a bitmap. Values are boxed on read.
+ * Value errors are passed as {@link DBDValueError} with the error message.
+ * Values of other classes can't be written, they must be converted to plain Java values before the batch is written.
+ */
+public class DPIRowBatch {
+
+    public static final int DEFAULT_ROW_COUNT = 1000;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_DOUBLE = 2;
+    private static final byte TYPE_BOOLEAN = 3;
+    private static final byte TYPE_STRING = 4;
+    private static final byte TYPE_OBJECT = 5;
+
+    private static final Class<?>[] LONG_CLASSES = {Long.class, Integer.class, Short.class, Byte.class};
+    private static final Class<?>[] DOUBLE_CLASSES = {Double.class, Float.class};
+
+    private static final int TAG_ERROR = ValueBinaryCodec.MAX_TAG + 1;
+
+    private final int rowCount;
+    @NotNull
+    private final Column[] columns;
+
+    private DPIRowBatch(int rowCount, @NotNull Column[] columns) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Nullable
+    public Object getValue(int row, int column) {
+        return columns[column].get(row);
+    }
+
+    /**
+     * Writes rows as a single batch
+     */
+    public static void write(@NotNull DataOutputStream out, @NotNull List<Object[]> rows, int columnCount) throws IOException {
+        int rowCount = rows.size();
+        out.writeInt(rowCount);
+        out.writeInt(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            writeColumn(out, rows, column);
+        }
+    }
+
+    @NotNull
+    public static DPIRowBatch read(@NotNull ByteBuffer in) throws DBCException {
+        try {
+            int rowCount = in.getInt();
+            Column[] columns = new Column[in.getInt()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = readColumn(in, rowCount);
+            }
+            return new DPIRowBatch(rowCount, columns);
+        } catch (RuntimeException | IOException e) {
+            throw new DBCException("Corrupted DPI row batch", e);
+        }
+    }
+
+    private static void writeColumn(@NotNull DataOutputStream out, @NotNull List<Object[]> rows, int column) throws IOException {
+        int rowCount = rows.size();
+        byte type = TYPE_NULL;
+        Class<?> valueClass = null;
+        long[] nulls = new long[bitmapSize(rowCount)];
+        for (int i = 0; i < rowCount; i++) {
+            Object value = getRowValue(rows.get(i), column);
+            if (value == null) {
+                nulls[i >> 6] |= 1L << i;
+            } else if (type == TYPE_NULL) {
+                valueClass = value.getClass();
+                type = getVectorType(valueClass);
+            } else if (type != TYPE_OBJECT && value.getClass() != valueClass) {
+                type = TYPE_OBJECT;
+            }
+        }
+        out.writeByte(type);
+        if (type == TYPE_NULL) {
+            return;
+        }
+        ValueBinaryCodec.writeLongs(out, nulls);
+        switch (type) {
+            case TYPE_LONG: {
+                out.writeByte(indexOf(LONG_CLASSES, valueClass));
+                long[] values = new long[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    Object value = getRowValue(rows.get(i), column);
+                    if (value != null) {
+                        values[i] = ((Number) value).longValue();
+                    }
+                }
+                ValueBinaryCodec.writeLongs(out, values);
+                break;
+            }
+            case TYPE_DOUBLE: {
+                out.writeByte(indexOf(DOUBLE_CLASSES, valueClass));
+                ByteBuffer buffer = ByteBuffer.allocate(rowCount * Double.BYTES);
+                for (int i = 0; i < rowCount; i++) {
+                    Object value = getRowValue(rows.get(i), column);
+                    buffer.putDouble(value == null ? 0 : ((Number) value).doubleValue());
+                }
+                out.write(buffer.array());
+                break;
+            }
+            case TYPE_BOOLEAN: {
+                long[] values = new long[bitmapSize(rowCount)];
+                for (int i = 0; i < rowCount; i++) {
+                    if (getRowValue(rows.get(i), column) == Boolean.TRUE) {
+                        values[i >> 6] |= 1L << i;
+                    }
+                }
+                ValueBinaryCodec.writeLongs(out, values);
+                break;
+            }
+            case TYPE_STRING:
+                for (int i = 0; i < rowCount; i++) {
+                    Object value = getRowValue(rows.get(i), column);
+                    if (value != null) {
+                        ValueBinaryCodec.writeString(out, (String) value);
+                    }
+                }
+                break;
+            default:
+                for (int i = 0; i < rowCount; i++) {
+                    Object value = getRowValue(rows.get(i), column);
+                    if (value != null) {
+                        writeObject(out, value);
+                    }
+                }
+                break;
+        }
+    }
+
+    @NotNull
+    private static Column readColumn(@NotNull ByteBuffer in, int rowCount) throws IOException {
+        Column column = new Column(in.get());
+        if (column.type == TYPE_NULL) {
+            return column;
+        }
+        column.nulls = ValueBinaryCodec.readLongs(in, bitmapSize(rowCount));
+        switch (column.type) {
+            case TYPE_LONG:
+                column.valueClass = LONG_CLASSES[in.get()];
+                column.longValues = ValueBinaryCodec.readLongs(in, rowCount);
+                break;
+            case TYPE_DOUBLE:
+                column.valueClass = DOUBLE_CLASSES[in.get()];
+                column.doubleValues = new double[rowCount];
+                in.asDoubleBuffer().get(column.doubleValues);
+                in.position(in.position() + rowCount * Double.BYTES);
+                break;
+            case TYPE_BOOLEAN:
+                column.booleanValues = ValueBinaryCodec.readLongs(in, bitmapSize(rowCount));
+                break;
+            case TYPE_STRING:
+                column.objectValues = new String[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    if (!column.isNull(i)) {
+                        column.objectValues[i] = ValueBinaryCodec.readString(in);
+                    }
+                }
+                break;
+            case TYPE_OBJECT:
+                column.objectValues = new Object[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    if (!column.isNull(i)) {
+                        column.objectValues[i] = readObject(in);
+                    }
+                }
+                break;
+            default:
+                throw new IOException("Bad column vector type: " + column.type);
+        }
+        return column;
+    }
+
+    private static class Column {
+        private final byte type;
+        @Nullable
+        private Class<?> valueClass;
+        private long[] nulls;
+        private long[] longValues;
+        private double[] doubleValues;
+        private long[] booleanValues;
+        private Object[] objectValues;
+
+        Column(byte type) {
+            this.type = type;
+        }
+
+        boolean isNull(int row) {
+            return type == TYPE_NULL || (nulls[row >> 6] & (1L << row)) != 0;
+        }
+
+        @Nullable
+        Object get(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            switch (type) {
+                case TYPE_LONG: {
+                    long value = longValues[row];
+                    if (valueClass == Integer.class) {
+                        return (int) value;
+                    } else if (valueClass == Short.class) {
+                        return (short) value;
+                    } else if (valueClass == Byte.class) {
+                        return (byte) value;
+                    }
+                    return value;
+                }
+                case TYPE_DOUBLE: {
+                    double value = doubleValues[row];
+                    if (valueClass == Float.class) {
+                        return (float) value;
+                    }
+                    return value;
+                }
+                case TYPE_BOOLEAN:
+                    return (booleanValues[row >> 6] & (1L << row)) != 0;
+                default:
+                    return objectValues[row];
+            }
+        }
+    }
+
+    private static byte getVectorType(@NotNull Class<?> valueClass) {
+        if (indexOf(LONG_CLASSES, valueClass) >= 0) {
+            return TYPE_LONG;
+        } else if (indexOf(DOUBLE_CLASSES, valueClass) >= 0) {
+            return TYPE_DOUBLE;
+        } else if (valueClass == Boolean.class) {
+            return TYPE_BOOLEAN;
+        } else if (valueClass == String.class) {
+            return TYPE_STRING;
+        }
+        return TYPE_OBJECT;
+    }
+
+    private static int indexOf(@NotNull Class<?>[] classes, @Nullable Class<?> valueClass) {
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] == valueClass) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    private static Object getRowValue(@NotNull Object[] row, int column) {
+        return column < row.length ? row[column] : null;
+    }
+
+    private static int bitmapSize(int rowCount) {
+        return Math.max((rowCount + 63) >> 6, 1);
+    }
+
+    private static void writeObject(@NotNull DataOutputStream out, @NotNull Object value) throws IOException {
+        if (value instanceof DBDValueError) {
+            out.writeByte(TAG_ERROR);
+            ValueBinaryCodec.writeString(out, ((DBDValueError) value).getErrorTitle());
+        } else {
+            // Complex values must be converted by the server, unsupported values fail the batch
+            ValueBinaryCodec.writeValue(out, value);
+        }
+    }
+
+    @Nullable
+    private static Object readObject(@NotNull ByteBuffer in) throws IOException {
+        if (in.get(in.position()) == TAG_ERROR) {
+            in.get();
+            return new DBDValueError(new DBCException(ValueBinaryCodec.readString(in)));
+        }
+        return ValueBinaryCodec.readValue(in);
+    }
+}
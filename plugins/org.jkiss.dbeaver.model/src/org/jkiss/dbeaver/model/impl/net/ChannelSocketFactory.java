@@ -0,0 +1,485 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.net;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.net.DBWChannel;
+import org.jkiss.dbeaver.model.net.DBWChannelTunnel;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.*;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Socket factory which connects sockets through channels of the registered tunnel.
+ * Drivers instantiate it by class name, constructor argument is the tunnel id returned by {@link #registerTunnel}.
+ * <p>
+ * Channel sockets have no TCP options. Socket timeout is applied to reads, so reads can time out like on a regular
+ * socket. Other options are stored but not applied.
+ */
+public class ChannelSocketFactory extends SocketFactory {
+
+    private static final Map<String, DBWChannelTunnel> tunnels = new ConcurrentHashMap<>();
+    private static final AtomicLong tunnelCounter = new AtomicLong();
+
+    @NotNull
+    private final DBWChannelTunnel tunnel;
+
+    public ChannelSocketFactory(@NotNull String tunnelId) throws SocketException {
+        DBWChannelTunnel tunnel = tunnels.get(tunnelId);
+        if (tunnel == null) {
+            throw new SocketException("Tunnel '" + tunnelId + "' is not active");
+        }
+        this.tunnel = tunnel;
+    }
+
+    /**
+     * Registers tunnel and returns its id which is then passed to the factory constructor
+     */
+    @NotNull
+    public static String registerTunnel(@NotNull DBWChannelTunnel tunnel) {
+        String tunnelId = "tunnel-" + tunnelCounter.incrementAndGet();
+        tunnels.put(tunnelId, tunnel);
+        return tunnelId;
+    }
+
+    public static void unregisterTunnel(@NotNull String tunnelId) {
+        tunnels.remove(tunnelId);
+    }
+
+    @Override
+    public Socket createSocket() {
+        return new ChannelSocket(tunnel);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(InetSocketAddress.createUnresolved(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        return createSocket(host, port);
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(new InetSocketAddress(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        return createSocket(address, port);
+    }
+
+    private static class ChannelSocket extends Socket {
+        private final DBWChannelTunnel tunnel;
+        private volatile DBWChannel channel;
+        @Nullable
+        private ChannelInputStream inputStream;
+        private volatile InetSocketAddress remoteAddress;
+        private volatile boolean closed;
+        private volatile boolean inputShutdown;
+        private volatile boolean outputShutdown;
+        private volatile int soTimeout;
+        private volatile boolean tcpNoDelay;
+        private volatile boolean keepAlive;
+
+        ChannelSocket(@NotNull DBWChannelTunnel tunnel) {
+            this.tunnel = tunnel;
+        }
+
+        @Override
+        public void connect(SocketAddress endpoint) throws IOException {
+            connect(endpoint, 0);
+        }
+
+        @Override
+        public synchronized void connect(SocketAddress endpoint, int timeout) throws IOException {
+            if (!(endpoint instanceof InetSocketAddress address)) {
+                throw new IllegalArgumentException("Unsupported address type: " + endpoint);
+            }
+            if (closed) {
+                throw new SocketException("Socket is closed");
+            }
+            if (channel != null) {
+                throw new SocketException("Already connected");
+            }
+            // Host name is resolved on the tunnel side
+            channel = tunnel.openChannel(address.getHostString(), address.getPort(), timeout);
+            remoteAddress = address;
+        }
+
+        @Override
+        public void bind(SocketAddress bindpoint) {
+            // Channel has no local endpoint
+        }
+
+        @Override
+        public synchronized InputStream getInputStream() throws IOException {
+            if (inputShutdown) {
+                throw new SocketException("Socket input is shutdown");
+            }
+            DBWChannel channel = getConnectedChannel();
+            if (inputStream == null) {
+                inputStream = new ChannelInputStream(this, channel.getInputStream());
+            }
+            return inputStream;
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            if (outputShutdown) {
+                throw new SocketException("Socket output is shutdown");
+            }
+            return getConnectedChannel().getOutputStream();
+        }
+
+        @NotNull
+        private DBWChannel getConnectedChannel() throws SocketException {
+            DBWChannel channel = this.channel;
+            if (closed) {
+                throw new SocketException("Socket is closed");
+            }
+            if (channel == null) {
+                throw new SocketException("Socket is not connected");
+            }
+            return channel;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (inputStream != null) {
+                inputStream.close();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        }
+
+        @Override
+        public void shutdownInput() throws IOException {
+            getConnectedChannel();
+            inputShutdown = true;
+        }
+
+        @Override
+        public void shutdownOutput() throws IOException {
+            getConnectedChannel().getOutputStream().close();
+            outputShutdown = true;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return channel != null;
+        }
+
+        @Override
+        public boolean isBound() {
+            return channel != null;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public boolean isInputShutdown() {
+            return inputShutdown;
+        }
+
+        @Override
+        public boolean isOutputShutdown() {
+            return outputShutdown;
+        }
+
+        @Nullable
+        @Override
+        public InetAddress getInetAddress() {
+            InetSocketAddress address = remoteAddress;
+            return address == null ? null : address.getAddress();
+        }
+
+        @Override
+        public int getPort() {
+            InetSocketAddress address = remoteAddress;
+            return address == null ? 0 : address.getPort();
+        }
+
+        @Nullable
+        @Override
+        public SocketAddress getRemoteSocketAddress() {
+            return remoteAddress;
+        }
+
+        @Override
+        public InetAddress getLocalAddress() {
+            return InetAddress.getLoopbackAddress();
+        }
+
+        @Override
+        public int getLocalPort() {
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        public SocketAddress getLocalSocketAddress() {
+            return null;
+        }
+
+        @Override
+        public void setSoTimeout(int timeout) {
+            soTimeout = timeout;
+        }
+
+        @Override
+        public int getSoTimeout() {
+            return soTimeout;
+        }
+
+        @Override
+        public void setTcpNoDelay(boolean on) {
+            tcpNoDelay = on;
+        }
+
+        @Override
+        public boolean getTcpNoDelay() {
+            return tcpNoDelay;
+        }
+
+        @Override
+        public void setKeepAlive(boolean on) {
+            keepAlive = on;
+        }
+
+        @Override
+        public boolean getKeepAlive() {
+            return keepAlive;
+        }
+
+        @Override
+        public void setSoLinger(boolean on, int linger) {
+            // Not applicable
+        }
+
+        @Override
+        public int getSoLinger() {
+            return -1;
+        }
+
+        @Override
+        public void setSendBufferSize(int size) {
+            // Not applicable
+        }
+
+        @Override
+        public int getSendBufferSize() {
+            return 0;
+        }
+
+        @Override
+        public void setReceiveBufferSize(int size) {
+            // Not applicable
+        }
+
+        @Override
+        public int getReceiveBufferSize() {
+            return 0;
+        }
+
+        @Override
+        public void setTrafficClass(int tc) {
+            // Not applicable
+        }
+
+        @Override
+        public int getTrafficClass() {
+            return 0;
+        }
+
+        @Override
+        public void setReuseAddress(boolean on) {
+            // Not applicable
+        }
+
+        @Override
+        public boolean getReuseAddress() {
+            return false;
+        }
+
+        @Override
+        public void setOOBInline(boolean on) {
+            // Not applicable
+        }
+
+        @Override
+        public boolean getOOBInline() {
+            return false;
+        }
+
+        @Override
+        public void sendUrgentData(int data) throws IOException {
+            throw new SocketException("Urgent data is not supported by channel socket");
+        }
+
+        @Override
+        public <T> Socket setOption(SocketOption<T> name, T value) {
+            throw new UnsupportedOperationException("Socket option " + name + " is not supported by channel socket");
+        }
+
+        @Override
+        public <T> T getOption(SocketOption<T> name) {
+            throw new UnsupportedOperationException("Socket option " + name + " is not supported by channel socket");
+        }
+
+        @Override
+        public Set<SocketOption<?>> supportedOptions() {
+            return Set.of();
+        }
+
+        @Override
+        public String toString() {
+            return "ChannelSocket[" + (remoteAddress == null ? "unconnected" : remoteAddress) + "]";
+        }
+    }
+
+    /**
+     * Channel input with socket read timeout.
+     * Without timeout reads go directly to the channel stream. Channel streams have no read timeouts, so a timed read
+     * waits for the first byte read by a pooled thread and then reads the rest of the available data directly.
+     */
+    private static class ChannelInputStream extends InputStream {
+        private static final ExecutorService readExecutor = Executors.newCachedThreadPool();
+
+        private final ChannelSocket socket;
+        private final InputStream source;
+        private final byte[] singleByte = new byte[1];
+        private volatile boolean closed;
+        // First byte read which waits for the channel data. Survives read timeouts
+        @Nullable
+        private volatile Future<Integer> pendingRead;
+
+        ChannelInputStream(@NotNull ChannelSocket socket, @NotNull InputStream source) {
+            this.socket = socket;
+            this.source = source;
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            int length = read(singleByte, 0, 1);
+            return length < 0 ? -1 : singleByte[0] & 0xff;
+        }
+
+        @Override
+        public synchronized int read(@NotNull byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new SocketException("Socket is closed");
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int timeout = socket.soTimeout;
+            Future<Integer> read = pendingRead;
+            if (read == null) {
+                if (timeout <= 0 || source.available() > 0) {
+                    return source.read(b, off, len);
+                }
+                read = readExecutor.submit(this::readFirstByte);
+                pendingRead = read;
+            }
+            int first;
+            try {
+                first = timeout <= 0 ? read.get() : read.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new SocketTimeoutException("Read timed out");
+            } catch (CancellationException e) {
+                throw new SocketException("Socket is closed");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Channel read interrupted");
+            } catch (ExecutionException e) {
+                pendingRead = null;
+                if (e.getCause() instanceof IOException ioe) {
+                    throw ioe;
+                }
+                throw new IOException("Channel read error", e.getCause());
+            }
+            pendingRead = null;
+            if (first < 0) {
+                return -1;
+            }
+            b[off] = (byte) first;
+            int available = len > 1 ? source.available() : 0;
+            if (available <= 0) {
+                return 1;
+            }
+            int length = source.read(b, off + 1, Math.min(len - 1, available));
+            return length < 0 ? 1 : length + 1;
+        }
+
+        @Override
+        public int available() throws IOException {
+            if (closed) {
+                throw new SocketException("Socket is closed");
+            }
+            return (pendingRead != null && pendingRead.isDone() ? 1 : 0) + source.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Future<Integer> read = pendingRead;
+            if (read != null) {
+                read.cancel(true);
+            }
+            source.close();
+        }
+
+        private int readFirstByte() throws IOException {
+            Thread thread = Thread.currentThread();
+            String oldThreadName = thread.getName();
+            RuntimeUtils.setThreadName("Channel socket read (" + socket.remoteAddress + ")");
+            try {
+                return source.read();
+            } finally {
+                thread.setName(oldThreadName);
+            }
+        }
+    }
+}
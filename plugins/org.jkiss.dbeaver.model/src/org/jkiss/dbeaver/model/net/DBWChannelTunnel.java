@@ -0,0 +1,45 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.net;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Tunnel which can open channels to the remote host in-process.
+ * Drivers which accept custom socket factory connect through such channels
+ * using {@link org.jkiss.dbeaver.model.impl.net.ChannelSocketFactory} instead of a local port forward.
+ */
+public interface DBWChannelTunnel extends DBWTunnel {
+
+    /**
+     * Allows tunnel to pass channel sockets to the driver.
+     * Called by data source provider (see {@link DBWHandlerConfigurator}) before tunnel initialization.
+     *
+     * @param factoryClassProperty driver property which takes socket factory class name
+     * @param factoryArgProperty   driver property which takes socket factory constructor argument
+     */
+    void enableChannelSockets(@NotNull String factoryClassProperty, @NotNull String factoryArgProperty);
+
+    /**
+     * Opens channel to the host and port as seen from the tunnel endpoint.
+     */
+    @NotNull
+    DBWChannel openChannel(@NotNull String host, int port, int timeout) throws IOException;
+
+}
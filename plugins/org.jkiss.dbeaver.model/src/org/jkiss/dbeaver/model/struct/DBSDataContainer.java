@@ -43,6 +43,8 @@ public interface DBSDataContainer extends DBSObject {
     String FEATURE_DATA_SEARCH = "data.search";
     String FEATURE_KEY_VALUE = "data.key.value";
     String FEATURE_DATA_MODIFIED_ON_REFRESH = "data.modifying";
+    // Container binds data filter WHERE parameters (see DBDDataFilter#getWhereParameters)
+    String FEATURE_DATA_FILTER_PARAMETERS = "data.filter.parameters";
 
     long FLAG_NONE                  = 0;
     long FLAG_READ_PSEUDO           = 1 << 1;
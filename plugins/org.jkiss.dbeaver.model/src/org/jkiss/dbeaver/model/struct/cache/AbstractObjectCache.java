@@ -24,6 +24,7 @@ import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.meta.PropertyGroup;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectType;
 import org.jkiss.utils.BeanUtils;
 import org.jkiss.utils.CommonUtils;
 
@@ -31,6 +32,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Various objects cache
@@ -39,14 +41,20 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     implements DBSObjectCache<OWNER, OBJECT> {
     private static final Log log = Log.getLog(AbstractObjectCache.class);
 
-    private List<OBJECT> objectList;
-    private Map<String, OBJECT> objectMap;
+    // Immutable snapshot of cached objects. Readers use it without locking, writers replace it under cacheSync.
+    private volatile ObjectList<OBJECT> objectList;
+    // Lazily built name index. Modified only under cacheSync.
+    private volatile Map<Object, OBJECT> objectMap;
     protected volatile boolean fullCache = false;
     protected volatile boolean caseSensitive = true;
 
     private Comparator<OBJECT> listOrderComparator;
     // Use this monitor to void entire cache object locking
     private final Object cacheSync = new Object();
+    // Object types searchable in the name index. Caches without declared types are not indexed.
+    @Nullable
+    private volatile DBSObjectType[] indexedObjectTypes;
+    private volatile boolean nameIndexed;
 
     protected AbstractObjectCache() {
     }
@@ -56,7 +64,12 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     }
 
     public void setCaseSensitive(boolean caseSensitive) {
-        this.caseSensitive = caseSensitive;
+        synchronized (cacheSync) {
+            if (this.caseSensitive != caseSensitive) {
+                this.caseSensitive = caseSensitive;
+                this.objectMap = null;
+            }
+        }
     }
 
     public Comparator<OBJECT> getListOrderComparator() {
@@ -67,12 +80,27 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
         this.listOrderComparator = listOrderComparator;
     }
 
+    @Nullable
+    public DBSObjectType[] getIndexedObjectTypes() {
+        return indexedObjectTypes;
+    }
+
+    /**
+     * Makes cached objects searchable in {@link ObjectNameIndex} as objects of the specified types.
+     * Fully read cache must contain all objects of these types in its owner which structure assistant would find.
+     */
+    public void setIndexedObjectTypes(@NotNull DBSObjectType... indexedObjectTypes) {
+        this.indexedObjectTypes = indexedObjectTypes;
+    }
+
+    /**
+     * Returns snapshot of cached objects. The list is not modified by subsequent cache changes.
+     */
     @NotNull
     @Override
     public List<OBJECT> getCachedObjects() {
-        synchronized (cacheSync) {
-            return objectList == null ? Collections.emptyList() : objectList;
-        }
+        List<OBJECT> objects = objectList;
+        return objects == null ? Collections.emptyList() : objects;
     }
 
     public <SUB_TYPE> List<SUB_TYPE> getTypedObjects(@NotNull DBRProgressMonitor monitor, OWNER owner, Class<SUB_TYPE> type)
@@ -89,32 +117,34 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     @Nullable
     @Override
     public OBJECT getCachedObject(@Nullable String name) {
-        synchronized (cacheSync) {
-            return objectList == null || name == null ? null : getObjectMap().get(caseSensitive ? name : name.toUpperCase());
+        if (name == null || objectList == null) {
+            return null;
+        }
+        Map<Object, OBJECT> map = objectMap;
+        if (map == null) {
+            map = getObjectMap();
+            if (map == null) {
+                return null;
+            }
         }
+        return map.get(makeNameKey(name));
     }
 
     public int getCacheSize() {
-        synchronized (cacheSync) {
-            return objectList == null ? 0 : objectList.size();
-        }
+        ObjectList<OBJECT> objects = objectList;
+        return objects == null ? 0 : objects.size();
     }
 
     @Override
     public void cacheObject(@NotNull OBJECT object) {
         synchronized (cacheSync) {
-            if (this.objectList == null) {
-                this.objectList = new ArrayList<>();
-            }
             detectCaseSensitivity(object);
-            this.objectList.add(object);
+            this.objectList = this.objectList == null ? ObjectList.of(List.of(object)) : this.objectList.with(object);
             if (this.objectMap != null) {
-                String name = getObjectName(object);
-                if (checkDuplicateName(name, object)) {
-                    this.objectMap.put(name, object);
-                }
+                putObjectName(this.objectMap, object);
             }
         }
+        registerNameIndex(object);
     }
 
     @Override
@@ -122,10 +152,7 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
         synchronized (cacheSync) {
             if (this.objectList != null) {
                 detectCaseSensitivity(object);
-                this.objectList.remove(object);
-                if (this.objectMap != null) {
-                    this.objectMap.remove(getObjectName(object));
-                }
+                removeCachedObject(object);
             }
             if (resetFullCache) {
                 fullCache = false;
@@ -137,14 +164,15 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     public void renameObject(@NotNull OBJECT object, @NotNull String oldName, @NotNull String newName) {
         synchronized (cacheSync) {
             if (this.objectMap != null) {
-                if (!caseSensitive) {
-                    oldName = oldName.toUpperCase(Locale.ENGLISH);
-                    newName = newName.toUpperCase(Locale.ENGLISH);
-                }
-                if (this.objectMap.remove(oldName) == object) {
-                    this.objectMap.put(newName, object);
+                if (this.objectMap.get(makeNameKey(oldName)) == object) {
+                    this.objectMap.remove(makeNameKey(oldName));
+                    this.objectMap.put(makeNameKey(newName), object);
                 }
             }
+            if (this.objectList != null) {
+                // New snapshot makes name index segment stale
+                this.objectList = ObjectList.of(this.objectList);
+            }
         }
     }
 
@@ -178,10 +206,23 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
 
     public void setCache(@NotNull List<OBJECT> objects) {
         synchronized (cacheSync) {
-            this.objectList = objects;
+            this.objectList = ObjectList.of(objects);
             this.objectMap = null;
             this.fullCache = true;
         }
+        if (!objects.isEmpty()) {
+            registerNameIndex(objects.get(0));
+        }
+    }
+
+    private void registerNameIndex(@NotNull OBJECT object) {
+        if (!nameIndexed && indexedObjectTypes != null) {
+            DBPDataSource dataSource = object.getDataSource();
+            if (dataSource != null) {
+                nameIndexed = true;
+                ObjectNameIndex.register(this, dataSource);
+            }
+        }
     }
 
     /**
@@ -208,17 +249,15 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
         synchronized (cacheSync) {
             if (this.objectList != null) {
                 // Merge lists
+                Map<String, OBJECT> oldObjects = new HashMap<>();
+                for (OBJECT oldObject : this.objectList) {
+                    oldObjects.putIfAbsent(oldObject.getName(), oldObject);
+                }
                 objects = new ArrayList<>(objects);
                 for (int i = 0; i < objects.size(); i++) {
-                    OBJECT newObject = objects.get(i);
-                    String newObjectName = newObject.getName();
-                    for (int k = 0; k < objectList.size(); k++) {
-                        OBJECT oldObject = objectList.get(k);
-                        String oldObjectName = oldObject.getName();
-                        if (newObjectName.equals(oldObjectName)) {
-                            objects.set(i, oldObject);
-                            break;
-                        }
+                    OBJECT oldObject = oldObjects.get(objects.get(i).getName());
+                    if (oldObject != null) {
+                        objects.set(i, oldObject);
                     }
                 }
             }
@@ -226,31 +265,55 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
         setCache(objects);
     }
 
-    private Map<String, OBJECT> getObjectMap() {
+    @Nullable
+    private Map<Object, OBJECT> getObjectMap() {
         synchronized (cacheSync) {
             if (this.objectMap == null) {
-                this.objectMap = new HashMap<>();
-                if (objectList.size() > 0) {
-                    detectCaseSensitivity(objectList.get(0));
+                List<OBJECT> objects = this.objectList;
+                if (objects == null) {
+                    return null;
                 }
-
-                for (OBJECT object : objectList) {
-                    String name = getObjectName(object);
-                    if (checkDuplicateName(name, object)) {
-                        this.objectMap.put(name, object);
-                    }
+                if (!objects.isEmpty()) {
+                    detectCaseSensitivity(objects.get(0));
+                }
+                Map<Object, OBJECT> map = new ConcurrentHashMap<>(Math.max(16, objects.size() * 4 / 3 + 1));
+                for (OBJECT object : objects) {
+                    putObjectName(map, object);
                 }
+                this.objectMap = map;
             }
             return this.objectMap;
         }
     }
 
-    private boolean checkDuplicateName(String name, OBJECT object) {
-        if (this.objectMap.containsKey(name)) {
+    private void putObjectName(@NotNull Map<Object, OBJECT> map, @NotNull OBJECT object) {
+        String name = getObjectName(object);
+        if (name == null) {
+            return;
+        }
+        Object key = makeNameKey(name);
+        if (map.containsKey(key)) {
             log.debug("Duplicate object name '" + name + "' in cache " + this.getClass().getSimpleName() + ". Last value: " + DBUtils.getObjectFullName(object, DBPEvaluationContext.DDL));
-            return isValidDuplicateObject(object);
+            if (!isValidDuplicateObject(object)) {
+                return;
+            }
+        }
+        map.put(key, object);
+    }
+
+    private void removeCachedObject(@NotNull OBJECT object) {
+        this.objectList = this.objectList.without(object);
+        if (this.objectMap != null) {
+            String name = getObjectName(object);
+            if (name != null) {
+                this.objectMap.remove(makeNameKey(name));
+            }
         }
-        return true;
+    }
+
+    @NotNull
+    private Object makeNameKey(@NotNull String name) {
+        return caseSensitive ? name : new IgnoreCaseName(name);
     }
 
     protected boolean isValidDuplicateObject(OBJECT object) {
@@ -262,7 +325,7 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
             DBPDataSource dataSource = object.getDataSource();
             if (dataSource != null &&
                 dataSource.getSQLDialect().storesUnquotedCase() == DBPIdentifierCase.MIXED) {
-                this.caseSensitive = false;
+                setCaseSensitive(false);
             }
         }
     }
@@ -280,36 +343,26 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
             if (objectList == null) {
                 return;
             }
-            for (int i = 0; i < objectList.size(); ) {
-                OBJECT object = objectList.get(i);
+            for (OBJECT object : objectList) {
                 if (object.getParentObject() == parent) {
-                    this.objectList.remove(object);
-                    if (this.objectMap != null) {
-                        this.objectMap.remove(getObjectName(object));
-                    }
+                    removeCachedObject(object);
                     fullCache = false;
-                } else {
-                    i++;
                 }
             }
         }
     }
 
-    @NotNull
+    /**
+     * Returns name under which object is stored in the cache.
+     * Case-insensitive caches compare names ignoring case.
+     */
+    @Nullable
     protected String getObjectName(@NotNull OBJECT object) {
-        String name;
         if (object instanceof DBPUniqueObject) {
-            name = ((DBPUniqueObject) object).getUniqueName();
+            return ((DBPUniqueObject) object).getUniqueName();
         } else {
-            name = object.getName();
-        }
-        if (name == null) {
-            return null;
-        }
-        if (!caseSensitive) {
-            return name.toUpperCase();
+            return object.getName();
         }
-        return name;
     }
 
     /**
@@ -363,7 +416,7 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     }
 
     protected class CacheIterator implements Iterator<OBJECT> {
-        private final Iterator<OBJECT> listIterator = objectList.iterator();
+        private final Iterator<OBJECT> listIterator = getCachedObjects().iterator();
         private OBJECT curObject;
 
         public CacheIterator() {
@@ -381,10 +434,100 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
 
         @Override
         public void remove() {
-            listIterator.remove();
-            if (objectMap != null) {
-                objectMap.remove(getObjectName(curObject));
+            if (curObject == null) {
+                throw new IllegalStateException();
             }
+            synchronized (cacheSync) {
+                if (objectList != null) {
+                    removeCachedObject(curObject);
+                }
+            }
+            curObject = null;
+        }
+    }
+
+    /**
+     * Immutable list of cached objects.
+     * Objects may be appended to the shared array because older snapshots never read elements after their size.
+     */
+    private static final class ObjectList<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        private ObjectList(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        static <T> ObjectList<T> of(@NotNull Collection<? extends T> objects) {
+            Object[] elements = objects.toArray();
+            return new ObjectList<>(elements, elements.length);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        // Must be called for the most recent snapshot only
+        ObjectList<T> with(T object) {
+            Object[] newElements = elements;
+            if (size == newElements.length) {
+                newElements = Arrays.copyOf(elements, size + (size >> 1) + 8);
+            }
+            newElements[size] = object;
+            return new ObjectList<>(newElements, size + 1);
+        }
+
+        ObjectList<T> without(Object object) {
+            int index = indexOf(object);
+            if (index < 0) {
+                return this;
+            }
+            Object[] newElements = new Object[size - 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            System.arraycopy(elements, index + 1, newElements, index, size - index - 1);
+            return new ObjectList<>(newElements, newElements.length);
+        }
+    }
+
+    /**
+     * Name key of case-insensitive caches. Compares names like {@link String#equalsIgnoreCase(String)}
+     * so lookups do not need to convert the name.
+     */
+    private static final class IgnoreCaseName {
+        private final String name;
+        private final int hash;
+
+        IgnoreCaseName(String name) {
+            this.name = name;
+            int h = 0;
+            for (int i = 0; i < name.length(); i++) {
+                h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IgnoreCaseName other && hash == other.hash && name.equalsIgnoreCase(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return name;
         }
     }
 
@@ -0,0 +1,411 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct.cache;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.impl.struct.DirectObjectReference;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectReference;
+import org.jkiss.dbeaver.model.struct.DBSObjectType;
+import org.jkiss.dbeaver.model.struct.DBSStructureAssistant;
+import org.jkiss.utils.ArrayUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * In-memory index of cached object names.
+ * <p>
+ * Answers name mask (LIKE pattern) lookups using objects which are already cached, so structure assistant
+ * doesn't need to query system catalogs. Each data source has its own index.
+ * Object caches which declare indexed object types ({@link AbstractObjectCache#setIndexedObjectTypes})
+ * register themselves when they get objects. Index segment of a cache is rebuilt on the next lookup
+ * after cache contents were changed.
+ * <p>
+ * Lookups are answered only when the parent object is specified and each requested object type is declared
+ * by a fully cached cache of this parent, otherwise the index returns {@code null} and caller must use the structure assistant.
+ * Searches without a parent object depend on assistant specific scope (search path, all schemas, etc.)
+ * and are always passed to the structure assistant.
+ * <p>
+ * Segments don't keep strong references to cached objects, as objects usually refer to the cache owner
+ * (and thus to the cache itself), which would prevent weakly referenced caches from being collected.
+ */
+public final class ObjectNameIndex {
+
+    private static final String INDEX_ATTRIBUTE = ObjectNameIndex.class.getName();
+
+    private final Map<AbstractObjectCache<?, ?>, Segment> segments = new WeakHashMap<>();
+
+    private ObjectNameIndex() {
+    }
+
+    /**
+     * Searches objects in the name index and uses structure assistant if the index doesn't contain requested objects.
+     */
+    @NotNull
+    public static <CONTEXT extends DBCExecutionContext> List<DBSObjectReference> findObjectsByMask(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSStructureAssistant<CONTEXT> assistant,
+        @NotNull CONTEXT executionContext,
+        @NotNull DBSStructureAssistant.ObjectsSearchParams params
+    ) throws DBException {
+        ObjectNameIndex index = getIndex(executionContext.getDataSource());
+        if (index != null && params.getParentObject() != null) {
+            List<DBSObjectReference> result = index.findObjects(params.getParentObject(), params);
+            if (result != null) {
+                return result;
+            }
+        }
+        return assistant.findObjectsByMask(monitor, executionContext, params);
+    }
+
+    @Nullable
+    public static ObjectNameIndex getIndex(@Nullable DBPDataSource dataSource) {
+        return dataSource == null ? null : dataSource.getContextAttribute(INDEX_ATTRIBUTE);
+    }
+
+    static void register(@NotNull AbstractObjectCache<?, ?> cache, @NotNull DBPDataSource dataSource) {
+        ObjectNameIndex index;
+        synchronized (ObjectNameIndex.class) {
+            index = dataSource.getContextAttribute(INDEX_ATTRIBUTE);
+            if (index == null) {
+                index = new ObjectNameIndex();
+                dataSource.setContextAttribute(INDEX_ATTRIBUTE, index);
+            }
+        }
+        synchronized (index.segments) {
+            index.segments.putIfAbsent(cache, new Segment());
+        }
+    }
+
+    /**
+     * Finds objects in the specified container.
+     *
+     * @return found objects or null if requested objects are not cached
+     */
+    @Nullable
+    public List<DBSObjectReference> findObjects(@Nullable DBSObject scope, @NotNull DBSStructureAssistant.ObjectsSearchParams params) {
+        if (scope == null || params.isGlobalSearch() || params.isSearchInDefinitions() || params.getObjectTypes().length == 0) {
+            return null;
+        }
+        DBSObjectType[] objectTypes = params.getObjectTypes();
+        List<Segment> scopeSegments = new ArrayList<>();
+        List<List<?>> scopeObjects = new ArrayList<>();
+        List<DBSObjectType[]> scopeTypes = new ArrayList<>();
+        Set<DBSObjectType> coveredTypes = new HashSet<>();
+        synchronized (segments) {
+            for (Map.Entry<AbstractObjectCache<?, ?>, Segment> entry : segments.entrySet()) {
+                AbstractObjectCache<?, ?> cache = entry.getKey();
+                if (cache == null || !cache.isFullyCached()) {
+                    continue;
+                }
+                DBSObjectType[] cacheTypes = getRequestedTypes(cache.getIndexedObjectTypes(), objectTypes);
+                if (cacheTypes.length == 0) {
+                    continue;
+                }
+                Segment segment = entry.getValue();
+                List<?> objects = cache.getCachedObjects();
+                if (segment.update(objects) == scope) {
+                    scopeSegments.add(segment);
+                    scopeObjects.add(objects);
+                    scopeTypes.add(cacheTypes);
+                    coveredTypes.addAll(Arrays.asList(cacheTypes));
+                }
+            }
+        }
+        if (coveredTypes.size() < new HashSet<>(Arrays.asList(objectTypes)).size()) {
+            // Some requested type has no fully cached cache in this parent
+            return null;
+        }
+
+        String mask = params.isCaseSensitive() ? params.getMask() : toLowerCase(params.getMask());
+        List<DBSObjectReference> result = new ArrayList<>();
+        for (int i = 0; i < scopeSegments.size(); i++) {
+            if (!scopeSegments.get(i).search(scopeObjects.get(i), scope, scopeTypes.get(i), mask, params, result)) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns requested object types declared by the cache
+     */
+    @NotNull
+    private static DBSObjectType[] getRequestedTypes(@Nullable DBSObjectType[] cacheTypes, @NotNull DBSObjectType[] requestedTypes) {
+        if (cacheTypes == null) {
+            return new DBSObjectType[0];
+        }
+        List<DBSObjectType> result = new ArrayList<>();
+        for (DBSObjectType requestedType : requestedTypes) {
+            if (ArrayUtils.contains(cacheTypes, requestedType) && !result.contains(requestedType)) {
+                result.add(requestedType);
+            }
+        }
+        return result.toArray(new DBSObjectType[0]);
+    }
+
+    /**
+     * Checks whether the string matches LIKE mask.
+     * Both {@code %} and {@code *} match any substring, {@code _} and {@code ?} match any character.
+     */
+    static boolean matchesMask(@NotNull String string, @NotNull String mask) {
+        int si = 0, mi = 0, starS = -1, starM = -1;
+        while (si < string.length()) {
+            if (mi < mask.length()) {
+                char mc = mask.charAt(mi);
+                if (isAnyString(mc)) {
+                    starM = mi++;
+                    starS = si;
+                    continue;
+                }
+                if (isAnyChar(mc)) {
+                    si++;
+                    mi++;
+                    continue;
+                }
+                int length = 1;
+                if (mc == '\\' && mi + 1 < mask.length()) {
+                    mc = mask.charAt(mi + 1);
+                    length = 2;
+                }
+                if (string.charAt(si) == mc) {
+                    si++;
+                    mi += length;
+                    continue;
+                }
+            }
+            if (starM < 0) {
+                return false;
+            }
+            mi = starM + 1;
+            si = ++starS;
+        }
+        while (mi < mask.length() && isAnyString(mask.charAt(mi))) {
+            mi++;
+        }
+        return mi == mask.length();
+    }
+
+    /**
+     * Returns trigrams of all literal mask parts
+     */
+    @NotNull
+    static Set<Long> getMaskTrigrams(@NotNull String mask) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        StringBuilder part = new StringBuilder();
+        for (int i = 0; i <= mask.length(); i++) {
+            char c = i < mask.length() ? mask.charAt(i) : '%';
+            if (c == '\\' && i + 1 < mask.length()) {
+                part.append(mask.charAt(++i));
+            } else if (isAnyString(c) || isAnyChar(c)) {
+                for (int k = 0; k + 3 <= part.length(); k++) {
+                    trigrams.add(makeTrigram(part, k));
+                }
+                part.setLength(0);
+            } else {
+                part.append(toLowerCase(c));
+            }
+        }
+        return trigrams;
+    }
+
+    private static boolean isAnyString(char c) {
+        return c == '%' || c == '*';
+    }
+
+    private static boolean isAnyChar(char c) {
+        return c == '_' || c == '?';
+    }
+
+    private static long makeTrigram(@NotNull CharSequence str, int offset) {
+        return ((long) str.charAt(offset) << 32) | ((long) str.charAt(offset + 1) << 16) | str.charAt(offset + 2);
+    }
+
+    private static char toLowerCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    @NotNull
+    private static String toLowerCase(@NotNull String str) {
+        char[] chars = new char[str.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = toLowerCase(str.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Index of objects of a single cache
+     */
+    private static class Segment {
+        private static final int[] NO_IDS = new int[0];
+
+        // Indexed object list. Cache replaces the list when its contents change.
+        // Objects are not referenced directly: search gets them from the same list.
+        private WeakReference<List<?>> objectList = new WeakReference<>(null);
+        private String[] names = new String[0];
+        private Map<Long, int[]> trigrams = Map.of();
+        // Common parent of all objects
+        private WeakReference<DBSObject> parent = new WeakReference<>(null);
+
+        /**
+         * Rebuilds the segment if object list was changed. Returns common parent of all objects.
+         */
+        @Nullable
+        synchronized DBSObject update(@NotNull List<?> newObjectList) {
+            if (objectList.get() == newObjectList) {
+                return parent.get();
+            }
+            int objectCount = newObjectList.size();
+            String[] newNames = new String[objectCount];
+            Map<Long, int[]> newTrigrams = new HashMap<>();
+            Map<Long, Integer> sizes = new HashMap<>();
+            DBSObject newParent = null;
+            for (int i = 0; i < objectCount; i++) {
+                DBSObject object = (DBSObject) newObjectList.get(i);
+                if (i == 0) {
+                    newParent = object.getParentObject();
+                } else if (newParent != object.getParentObject()) {
+                    newParent = null;
+                }
+                String name = object.getName();
+                newNames[i] = name == null ? "" : toLowerCase(name);
+                for (int k = 0; k + 3 <= newNames[i].length(); k++) {
+                    Long trigram = makeTrigram(newNames[i], k);
+                    int[] ids = newTrigrams.getOrDefault(trigram, NO_IDS);
+                    int size = sizes.getOrDefault(trigram, 0);
+                    if (size > 0 && ids[size - 1] == i) {
+                        // The same trigram appears in the name twice
+                        continue;
+                    }
+                    if (size == ids.length) {
+                        ids = Arrays.copyOf(ids, Math.max(4, size * 2));
+                        newTrigrams.put(trigram, ids);
+                    }
+                    ids[size] = i;
+                    sizes.put(trigram, size + 1);
+                }
+            }
+            for (Map.Entry<Long, int[]> entry : newTrigrams.entrySet()) {
+                entry.setValue(Arrays.copyOf(entry.getValue(), sizes.get(entry.getKey())));
+            }
+            this.objectList = new WeakReference<>(newObjectList);
+            this.names = newNames;
+            this.trigrams = newTrigrams;
+            this.parent = new WeakReference<>(newParent);
+            return newParent;
+        }
+
+        /**
+         * Adds matching objects of the specified types to the result. Returns false if result reached maximum size.
+         */
+        synchronized boolean search(
+            @NotNull List<?> objects,
+            @NotNull DBSObject scope,
+            @NotNull DBSObjectType[] objectTypes,
+            @NotNull String mask,
+            @NotNull DBSStructureAssistant.ObjectsSearchParams params,
+            @NotNull List<DBSObjectReference> result
+        ) {
+            // Segment may be rebuilt for another list by concurrent lookup
+            update(objects);
+            int[] candidates = params.isSearchInComments() ? null : getCandidates(mask);
+            int count = candidates == null ? names.length : candidates.length;
+            for (int i = 0; i < count; i++) {
+                int id = candidates == null ? i : candidates[i];
+                DBSObject object = (DBSObject) objects.get(id);
+                DBSObjectType objectType = getObjectType(objectTypes, object);
+                if (objectType == null || !matches(object, names[id], mask, params)) {
+                    continue;
+                }
+                result.add(new DirectObjectReference(scope, objectType, object));
+                if (result.size() >= params.getMaxResults()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Nullable
+        private int[] getCandidates(@NotNull String mask) {
+            int[] candidates = null;
+            for (Long trigram : getMaskTrigrams(mask)) {
+                int[] ids = trigrams.getOrDefault(trigram, NO_IDS);
+                candidates = candidates == null ? ids : intersect(candidates, ids);
+                if (candidates.length == 0) {
+                    break;
+                }
+            }
+            return candidates;
+        }
+
+        private static boolean matches(
+            @NotNull DBSObject object,
+            @NotNull String lowerName,
+            @NotNull String mask,
+            @NotNull DBSStructureAssistant.ObjectsSearchParams params
+        ) {
+            if (params.isCaseSensitive() ? matchesMask(String.valueOf(object.getName()), mask) : matchesMask(lowerName, mask)) {
+                return true;
+            }
+            if (params.isSearchInComments()) {
+                String description = object.getDescription();
+                if (description != null) {
+                    return matchesMask(params.isCaseSensitive() ? description : toLowerCase(description), mask);
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        private static DBSObjectType getObjectType(@NotNull DBSObjectType[] objectTypes, @NotNull DBSObject object) {
+            // Use the most specific type (e.g. view rather than table)
+            DBSObjectType result = null;
+            for (DBSObjectType objectType : objectTypes) {
+                if (objectType.getTypeClass().isInstance(object) &&
+                    (result == null || result.getTypeClass().isAssignableFrom(objectType.getTypeClass()))) {
+                    result = objectType;
+                }
+            }
+            return result;
+        }
+
+        @NotNull
+        private static int[] intersect(@NotNull int[] ids1, @NotNull int[] ids2) {
+            int[] result = new int[Math.min(ids1.length, ids2.length)];
+            int size = 0;
+            for (int i = 0, k = 0; i < ids1.length && k < ids2.length; ) {
+                if (ids1[i] < ids2[k]) {
+                    i++;
+                } else if (ids1[i] > ids2[k]) {
+                    k++;
+                } else {
+                    result[size++] = ids1[i];
+                    i++;
+                    k++;
+                }
+            }
+            return size == result.length ? result : Arrays.copyOf(result, size);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.runtime.jobs;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.JobGroup;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.connection.DBPDriver;
+import org.jkiss.dbeaver.model.connection.DBPDriverLoader;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connects (or reconnects) a group of data sources in parallel.
+ * <p>
+ * The number of simultaneous connects is limited by {@link ModelPreferences#CONNECT_PARALLEL_THREADS}.
+ * Driver libraries are loaded once per driver before connecting, so parallel connects reuse the same driver class loader.
+ * Connections sharing an SSH tunnel share its session (see session controller), reconnect of such connections
+ * is performed only once thanks to exclusive invalidation locks.
+ */
+public class ConnectGroupJob extends AbstractJob {
+
+    private static final Log log = Log.getLog(ConnectGroupJob.class);
+
+    private static final int MAX_THREADS = 32;
+
+    @NotNull
+    private final List<DBPDataSourceContainer> containers;
+    private final boolean reconnect;
+    private final Map<DBPDataSourceContainer, Throwable> errors = new ConcurrentHashMap<>();
+
+    /**
+     * @param reconnect if {@code true} then connected data sources are invalidated, otherwise disconnected are connected
+     */
+    public ConnectGroupJob(@NotNull String name, @NotNull Collection<? extends DBPDataSourceContainer> containers, boolean reconnect) {
+        super(name);
+        setUser(true);
+        this.containers = new ArrayList<>(containers);
+        this.reconnect = reconnect;
+    }
+
+    /**
+     * Returns data sources which failed to connect along with connection errors
+     */
+    @NotNull
+    public Map<DBPDataSourceContainer, Throwable> getErrors() {
+        return errors;
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor) {
+        List<DBPDataSourceContainer> targets = new ArrayList<>();
+        for (DBPDataSourceContainer container : containers) {
+            if (container.isConnected() == reconnect && !targets.contains(container)) {
+                targets.add(container);
+            }
+        }
+        if (targets.isEmpty()) {
+            return Status.OK_STATUS;
+        }
+        if (!reconnect) {
+            loadDrivers(monitor, targets);
+        }
+        if (monitor.isCanceled()) {
+            return Status.CANCEL_STATUS;
+        }
+
+        int threads = Math.max(1, Math.min(
+            DBWorkbench.getPlatform().getPreferenceStore().getInt(ModelPreferences.CONNECT_PARALLEL_THREADS),
+            Math.min(MAX_THREADS, targets.size())));
+        log.debug((reconnect ? "Reconnect " : "Connect ") + targets.size() + " data source(s) using " + threads + " thread(s)");
+
+        JobGroup group = new JobGroup(getName(), threads, targets.size());
+        Set<DBPDataSource> invalidated = ConcurrentHashMap.newKeySet();
+        for (DBPDataSourceContainer container : targets) {
+            AbstractJob job = reconnect ? new GroupInvalidateJob(container, invalidated) : new GroupConnectJob(container);
+            job.setJobGroup(group);
+            job.schedule();
+        }
+        try {
+            group.join(0, new ProxyProgressMonitor(monitor));
+        } catch (InterruptedException | OperationCanceledException e) {
+            group.cancel();
+            return Status.CANCEL_STATUS;
+        }
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Loads each driver only once. Otherwise parallel connects of the same driver
+     * would wait for the same libraries resolution.
+     */
+    private void loadDrivers(@NotNull DBRProgressMonitor monitor, @NotNull List<DBPDataSourceContainer> targets) {
+        Map<DBPDriverLoader, DBPDriver> loaders = new LinkedHashMap<>();
+        for (DBPDataSourceContainer container : targets) {
+            DBPDriver driver = container.getDriver();
+            if (!driver.isNotAvailable() && !driver.isCustomDriverLoader() && !CommonUtils.isEmpty(driver.getDriverClassName())) {
+                loaders.putIfAbsent(driver.getDriverLoader(container), driver);
+            }
+        }
+        monitor.beginTask("Load drivers", loaders.size());
+        for (Map.Entry<DBPDriverLoader, DBPDriver> entry : loaders.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            monitor.subTask("Load driver '" + entry.getValue().getFullName() + "'");
+            try {
+                entry.getKey().loadDriver(monitor);
+            } catch (DBException e) {
+                // Error will be reported by connect
+                log.debug("Error loading driver '" + entry.getValue().getFullName() + "': " + e.getMessage());
+            }
+            monitor.worked(1);
+        }
+        monitor.done();
+    }
+
+    private class GroupConnectJob extends ConnectJob {
+        GroupConnectJob(@NotNull DBPDataSourceContainer container) {
+            super(container);
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            IStatus status = super.run(monitor);
+            if (connectError != null) {
+                log.debug("Error connecting to '" + container.getName() + "': " + connectError.getMessage());
+                errors.put(container, connectError);
+            }
+            return status;
+        }
+    }
+
+    private class GroupInvalidateJob extends AbstractJob {
+        @NotNull
+        private final DBPDataSourceContainer container;
+        @NotNull
+        private final Set<DBPDataSource> invalidated;
+
+        GroupInvalidateJob(@NotNull DBPDataSourceContainer container, @NotNull Set<DBPDataSource> invalidated) {
+            super("Reconnect '" + container.getName() + "'");
+            setUser(false);
+            setSystem(true);
+            this.container = container;
+            this.invalidated = invalidated;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBPDataSource dataSource = container.getDataSource();
+            if (dataSource == null || invalidated.contains(dataSource)) {
+                return Status.OK_STATUS;
+            }
+            log.debug("Invalidate connection '" + container.getName() + "'");
+            List<InvalidateJob.ContextInvalidateResult> results = InvalidateJob.invalidateDataSource(
+                monitor,
+                dataSource,
+                true,
+                true,
+                null);
+            for (InvalidateJob.ContextInvalidateResult result : results) {
+                invalidated.add(result.getDataSource());
+                if (!result.isSuccess()) {
+                    errors.put(result.getDataSource().getContainer(), result.getException());
+                }
+            }
+            return Status.OK_STATUS;
+        }
+
+        @Override
+        public boolean belongsTo(Object family) {
+            return container == family;
+        }
+    }
+}
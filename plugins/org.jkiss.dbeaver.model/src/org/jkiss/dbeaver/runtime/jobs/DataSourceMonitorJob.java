@@ -133,33 +133,20 @@ public class DataSourceMonitorJob extends AbstractJob {
     private void invalidateSleptConnections(DBRProgressMonitor monitor) {
         log.debug("System awake detected. Reinitialize all remote connections.");
 
-        Set<DBPDataSource> invalidated = new HashSet<>();
-
+        List<DBPDataSourceContainer> containers = new ArrayList<>();
         final DBPWorkspace workspace = platform.getWorkspace();
         for (DBPProject project : new ArrayList<>(workspace.getProjects())) {
             if (project.isOpen() && project.isRegistryLoaded()) {
-                DBPDataSourceRegistry dataSourceRegistry = project.getDataSourceRegistry();
-                List<DBPDataSourceContainer> dataSources = new ArrayList<>(dataSourceRegistry.getDataSources());
-                for (DBPDataSourceContainer ds : dataSources) {
+                for (DBPDataSourceContainer ds : project.getDataSourceRegistry().getDataSources()) {
                     if (ds.isConnected() && !ds.getDriver().isEmbedded()) {
-                        DBPDataSource dataSource = ds.getDataSource();
-                        if (dataSource != null && !invalidated.contains(dataSource)) {
-                            log.debug("Invalidate connection '" + ds.getName() + "'");
-                            List<InvalidateJob.ContextInvalidateResult> results = InvalidateJob.invalidateDataSource(
-                                monitor,
-                                dataSource,
-                                true,
-                                true,
-                                null);
-                            for (InvalidateJob.ContextInvalidateResult result : results) {
-                                invalidated.add(result.getDataSource());
-                            }
-                        }
+                        containers.add(ds);
                     }
                 }
             }
         }
-
+        if (!containers.isEmpty()) {
+            new ConnectGroupJob("Reconnect data sources", containers, true).runDirectly(monitor);
+        }
     }
 
     protected void doJob() {
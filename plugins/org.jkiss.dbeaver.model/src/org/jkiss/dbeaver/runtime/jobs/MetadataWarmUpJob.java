@@ -0,0 +1,232 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.runtime.jobs;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.core.runtime.jobs.JobGroup;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceAcquirer;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads metadata of selected schemas in background after connect.
+ * Schemas are read in parallel using their bulk structure read ({@link DBSObjectContainer#cacheStructure}),
+ * so the first navigator expansion or completion request doesn't wait for metadata queries.
+ */
+public class MetadataWarmUpJob extends AbstractJob implements DBPDataSourceAcquirer {
+
+    private static final Log log = Log.getLog(MetadataWarmUpJob.class);
+
+    private static final int MAX_THREADS = 16;
+
+    // Private family: warm-up must not be mistaken for a user task of the data source (e.g. on disconnect)
+    private static final Object WARM_UP_FAMILY = new Object();
+
+    @NotNull
+    private final DBPDataSourceContainer container;
+    @Nullable
+    private volatile JobGroup readGroup;
+
+    public MetadataWarmUpJob(@NotNull DBPDataSourceContainer container) {
+        super("Read metadata of '" + container.getName() + "'");
+        setUser(false);
+        setSystem(true);
+        this.container = container;
+
+        addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void scheduled(IJobChangeEvent event) {
+                container.acquire(MetadataWarmUpJob.this);
+            }
+
+            @Override
+            public void done(IJobChangeEvent event) {
+                container.release(MetadataWarmUpJob.this);
+            }
+        });
+    }
+
+    /**
+     * Schedules warm-up if it is enabled in connection preferences
+     */
+    public static void scheduleIfEnabled(@NotNull DBPDataSourceContainer container) {
+        if (container.getPreferenceStore().getBoolean(ModelPreferences.META_WARM_UP_ENABLED)) {
+            new MetadataWarmUpJob(container).schedule();
+        }
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor) {
+        DBPDataSource dataSource = container.getDataSource();
+        if (dataSource == null || !container.isConnected()) {
+            return Status.CANCEL_STATUS;
+        }
+        List<DBSObjectContainer> objectContainers;
+        try {
+            objectContainers = getWarmUpContainers(monitor, dataSource);
+        } catch (DBException e) {
+            log.debug("Can't find containers for metadata warm-up: " + e.getMessage());
+            return Status.OK_STATUS;
+        }
+        if (objectContainers.isEmpty() || monitor.isCanceled()) {
+            return Status.OK_STATUS;
+        }
+        int threads = Math.max(1, Math.min(
+            container.getPreferenceStore().getInt(ModelPreferences.META_WARM_UP_THREADS),
+            Math.min(MAX_THREADS, objectContainers.size())));
+        JobGroup group = new JobGroup(getName(), threads, objectContainers.size());
+        readGroup = group;
+        if (monitor.isCanceled()) {
+            return Status.CANCEL_STATUS;
+        }
+        for (DBSObjectContainer objectContainer : objectContainers) {
+            ContainerReadJob job = new ContainerReadJob(objectContainer);
+            job.setJobGroup(group);
+            job.schedule();
+        }
+        try {
+            group.join(0, new ProxyProgressMonitor(monitor));
+        } catch (InterruptedException | OperationCanceledException e) {
+            group.cancel();
+        } finally {
+            readGroup = null;
+        }
+        return Status.OK_STATUS;
+    }
+
+    @NotNull
+    private List<DBSObjectContainer> getWarmUpContainers(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBPDataSource dataSource
+    ) throws DBException {
+        List<DBSObjectContainer> result = new ArrayList<>();
+        DBCExecutionContext context = DBUtils.getDefaultContext(dataSource, true);
+        if (context == null) {
+            return result;
+        }
+        List<String> names = CommonUtils.splitString(
+            container.getPreferenceStore().getString(ModelPreferences.META_WARM_UP_SCHEMAS), ',');
+        if (names.isEmpty()) {
+            // Default catalog or schema
+            if (DBUtils.getSelectedObject(context) instanceof DBSObjectContainer objectContainer) {
+                result.add(objectContainer);
+            }
+            return result;
+        }
+        DBSObjectContainer rootContainer = DBUtils.getAdapter(DBSObjectContainer.class, dataSource);
+        if (rootContainer == null) {
+            return result;
+        }
+        for (String name : names) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            // Name may be qualified with catalog
+            int divPos = name.indexOf('.');
+            DBSObject object = divPos == -1 ?
+                DBUtils.getObjectByPath(monitor, context, rootContainer, null, name, null) :
+                DBUtils.getObjectByPath(monitor, context, rootContainer, name.substring(0, divPos), name.substring(divPos + 1), null);
+            if (object instanceof DBSObjectContainer objectContainer && object != rootContainer && !result.contains(objectContainer)) {
+                result.add(objectContainer);
+            } else {
+                log.debug("Metadata warm-up container '" + name + "' not found in " + container.getName());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected void canceling() {
+        JobGroup group = readGroup;
+        if (group != null) {
+            group.cancel();
+        }
+        super.canceling();
+    }
+
+    @Override
+    public boolean belongsTo(Object family) {
+        return family == WARM_UP_FAMILY;
+    }
+
+    @Override
+    public boolean isActiveTask() {
+        return getState() == RUNNING;
+    }
+
+    @Override
+    public void beforeConnect() {
+        // nothing to do
+    }
+
+    @Override
+    public void beforeDisconnect() {
+        cancel();
+    }
+
+    private static class ContainerReadJob extends AbstractJob {
+        @NotNull
+        private final DBSObjectContainer objectContainer;
+
+        ContainerReadJob(@NotNull DBSObjectContainer objectContainer) {
+            super("Read metadata of '" + objectContainer.getName() + "'");
+            setUser(false);
+            setSystem(true);
+            this.objectContainer = objectContainer;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBPDataSource dataSource = objectContainer.getDataSource();
+            if (dataSource == null || !dataSource.getContainer().isConnected()) {
+                return Status.CANCEL_STATUS;
+            }
+            long startTime = System.currentTimeMillis();
+            try {
+                objectContainer.cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+                log.debug("Metadata of '" + DBUtils.getObjectFullName(objectContainer, DBPEvaluationContext.UI) + "' read in " +
+                    (System.currentTimeMillis() - startTime) + "ms");
+            } catch (Throwable e) {
+                log.debug("Error reading metadata of '" + objectContainer.getName() + "': " + e.getMessage());
+            }
+            return Status.OK_STATUS;
+        }
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.runtime.qm;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.qm.QMConstants;
+import org.jkiss.dbeaver.model.qm.QMEventAction;
+import org.jkiss.dbeaver.model.qm.QMMetaEvent;
+import org.jkiss.dbeaver.model.qm.QMObjectType;
+import org.jkiss.dbeaver.model.qm.filters.QMEventCriteria;
+import org.jkiss.dbeaver.model.qm.filters.QMEventStatus;
+import org.jkiss.dbeaver.model.qm.meta.*;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Query manager event stored in the history.
+ * Keeps a copy of event object properties because QM objects change after the event was fired.
+ * <p>
+ * Query results are fetched after the execution end event, so the fetch end is stored as a separate
+ * update record of the same execute object and merged with the end record on read.
+ */
+final class QMHistoryRecord {
+
+    final long id;
+    // Id of the QM object, used to merge update records
+    final long objectId;
+    final int eventType;
+    @NotNull
+    final QMEventAction action;
+    @Nullable
+    final String sessionId;
+    final long openTime;
+    final long closeTime;
+
+    // Connection
+    final long connectionOpenTime;
+    final long connectionCloseTime;
+    @Nullable
+    final String projectId;
+    @Nullable
+    final String projectName;
+    @Nullable
+    final String containerId;
+    @Nullable
+    final String containerName;
+    @Nullable
+    final String driverId;
+    @Nullable
+    final String instanceId;
+    @Nullable
+    final String contextName;
+    @Nullable
+    final String connectionUserName;
+    @Nullable
+    final String connectionUrl;
+    final boolean connectionTransactional;
+
+    // Statement execution
+    @Nullable
+    final DBCExecutionPurpose purpose;
+    @Nullable
+    final String queryString;
+    final long rowCount;
+    final int errorCode;
+    @Nullable
+    final String errorMessage;
+    final long fetchBeginTime;
+    final long fetchEndTime;
+    final boolean transactional;
+    @Nullable
+    final String schema;
+    @Nullable
+    final String catalog;
+
+    // Transaction
+    final boolean committed;
+
+    private QMHistoryRecord(long id, @NotNull QMMetaEvent event, int eventType) {
+        QMMObject object = event.getObject();
+        QMMConnectionInfo connection = object.getConnection();
+        QMMProjectInfo projectInfo = connection.getProjectInfo();
+        this.id = id;
+        this.objectId = object.getObjectId();
+        this.eventType = eventType;
+        this.action = event.getAction();
+        this.sessionId = event.getSessionId();
+        this.openTime = object.getOpenTime();
+        this.closeTime = object.getCloseTime();
+        this.connectionOpenTime = connection.getOpenTime();
+        this.connectionCloseTime = connection.getCloseTime();
+        this.projectId = projectInfo == null ? null : projectInfo.getId();
+        this.projectName = projectInfo == null ? null : projectInfo.getName();
+        this.containerId = connection.getContainerId();
+        this.containerName = connection.getContainerName();
+        this.driverId = connection.getDriverId();
+        this.instanceId = connection.getInstanceId();
+        this.contextName = connection.getContextName();
+        this.connectionUserName = connection.getConnectionUserName();
+        this.connectionUrl = connection.getConnectionUrl();
+        this.connectionTransactional = connection.isTransactional();
+        if (object instanceof QMMStatementExecuteInfo execute) {
+            this.purpose = execute.getStatement().getPurpose();
+            this.queryString = execute.getQueryString();
+            this.rowCount = execute.getUpdateRowCount() >= 0 ? execute.getUpdateRowCount() : execute.getFetchRowCount();
+            this.errorCode = execute.getErrorCode();
+            this.errorMessage = execute.getErrorMessage();
+            this.fetchBeginTime = execute.getFetchBeginTime();
+            this.fetchEndTime = execute.getFetchEndTime();
+            this.transactional = execute.isTransactional();
+            this.schema = execute.getSchema();
+            this.catalog = execute.getCatalog();
+        } else {
+            this.purpose = null;
+            this.queryString = null;
+            this.rowCount = 0;
+            this.errorCode = 0;
+            this.errorMessage = null;
+            this.fetchBeginTime = 0;
+            this.fetchEndTime = 0;
+            this.transactional = false;
+            this.schema = null;
+            this.catalog = null;
+        }
+        this.committed = object instanceof QMMTransactionInfo transaction && transaction.isCommitted();
+    }
+
+    QMHistoryRecord(@NotNull DataInput in) throws IOException {
+        this.id = in.readLong();
+        this.objectId = in.readLong();
+        this.eventType = in.readByte();
+        this.action = QMEventAction.values()[in.readByte()];
+        this.sessionId = readString(in);
+        this.openTime = in.readLong();
+        this.closeTime = in.readLong();
+        this.connectionOpenTime = in.readLong();
+        this.connectionCloseTime = in.readLong();
+        this.projectId = readString(in);
+        this.projectName = readString(in);
+        this.containerId = readString(in);
+        this.containerName = readString(in);
+        this.driverId = readString(in);
+        this.instanceId = readString(in);
+        this.contextName = readString(in);
+        this.connectionUserName = readString(in);
+        this.connectionUrl = readString(in);
+        this.connectionTransactional = in.readBoolean();
+        if (eventType == QMConstants.EVENT_TYPE_EXECUTE) {
+            this.purpose = CommonUtils.valueOf(DBCExecutionPurpose.class, readString(in), DBCExecutionPurpose.USER);
+            this.queryString = readString(in);
+            this.rowCount = in.readLong();
+            this.errorCode = in.readInt();
+            this.errorMessage = readString(in);
+            this.fetchBeginTime = in.readLong();
+            this.fetchEndTime = in.readLong();
+            this.transactional = in.readBoolean();
+            this.schema = readString(in);
+            this.catalog = readString(in);
+        } else {
+            this.purpose = null;
+            this.queryString = null;
+            this.rowCount = 0;
+            this.errorCode = 0;
+            this.errorMessage = null;
+            this.fetchBeginTime = 0;
+            this.fetchEndTime = 0;
+            this.transactional = false;
+            this.schema = null;
+            this.catalog = null;
+        }
+        this.committed = eventType == QMConstants.EVENT_TYPE_TXN && in.readBoolean();
+    }
+
+    private QMHistoryRecord(@NotNull QMHistoryRecord record, @NotNull QMHistoryRecord fetchUpdate) {
+        this.id = record.id;
+        this.objectId = record.objectId;
+        this.eventType = record.eventType;
+        this.action = record.action;
+        this.sessionId = record.sessionId;
+        this.openTime = record.openTime;
+        this.closeTime = Math.max(record.closeTime, fetchUpdate.closeTime);
+        this.connectionOpenTime = record.connectionOpenTime;
+        this.connectionCloseTime = record.connectionCloseTime;
+        this.projectId = record.projectId;
+        this.projectName = record.projectName;
+        this.containerId = record.containerId;
+        this.containerName = record.containerName;
+        this.driverId = record.driverId;
+        this.instanceId = record.instanceId;
+        this.contextName = record.contextName;
+        this.connectionUserName = record.connectionUserName;
+        this.connectionUrl = record.connectionUrl;
+        this.connectionTransactional = record.connectionTransactional;
+        this.purpose = record.purpose;
+        this.queryString = record.queryString;
+        this.rowCount = fetchUpdate.rowCount;
+        this.errorCode = record.errorCode;
+        this.errorMessage = record.errorMessage;
+        this.fetchBeginTime = fetchUpdate.fetchBeginTime;
+        this.fetchEndTime = fetchUpdate.fetchEndTime;
+        this.transactional = record.transactional;
+        this.schema = record.schema;
+        this.catalog = record.catalog;
+        this.committed = record.committed;
+    }
+
+    /**
+     * Creates history record. Returns null for events which are not stored in the history.
+     */
+    @Nullable
+    static QMHistoryRecord create(long id, @NotNull QMMetaEvent event) {
+        QMMObject object = event.getObject();
+        if (object instanceof QMMStatementExecuteInfo execute) {
+            if (event.getAction() == QMEventAction.END ||
+                (event.getAction() == QMEventAction.UPDATE && execute.getFetchEndTime() > 0)) {
+                return new QMHistoryRecord(id, event, QMConstants.EVENT_TYPE_EXECUTE);
+            }
+            return null;
+        } else if (object instanceof QMMTransactionInfo) {
+            return event.getAction() == QMEventAction.END ? new QMHistoryRecord(id, event, QMConstants.EVENT_TYPE_TXN) : null;
+        } else if (object instanceof QMMConnectionInfo) {
+            return event.getAction() != QMEventAction.UPDATE ? new QMHistoryRecord(id, event, QMConstants.EVENT_TYPE_SESSION) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether this is a fetch end update of a query execution
+     */
+    boolean isFetchUpdate() {
+        return eventType == QMConstants.EVENT_TYPE_EXECUTE && action == QMEventAction.UPDATE;
+    }
+
+    /**
+     * Checks whether this record is the update of the specified execution record
+     */
+    boolean isUpdateOf(@NotNull QMHistoryRecord record) {
+        return isFetchUpdate() && !record.isFetchUpdate() && objectId == record.objectId && openTime == record.openTime &&
+            CommonUtils.equalObjects(sessionId, record.sessionId);
+    }
+
+    /**
+     * Returns a copy of the execution record with fetch results of the update record
+     */
+    @NotNull
+    QMHistoryRecord mergeFetchUpdate(@NotNull QMHistoryRecord fetchUpdate) {
+        return new QMHistoryRecord(this, fetchUpdate);
+    }
+
+    void write(@NotNull DataOutput out) throws IOException {
+        out.writeLong(id);
+        out.writeLong(objectId);
+        out.writeByte(eventType);
+        out.writeByte(action.ordinal());
+        writeString(out, sessionId);
+        out.writeLong(openTime);
+        out.writeLong(closeTime);
+        out.writeLong(connectionOpenTime);
+        out.writeLong(connectionCloseTime);
+        writeString(out, projectId);
+        writeString(out, projectName);
+        writeString(out, containerId);
+        writeString(out, containerName);
+        writeString(out, driverId);
+        writeString(out, instanceId);
+        writeString(out, contextName);
+        writeString(out, connectionUserName);
+        writeString(out, connectionUrl);
+        out.writeBoolean(connectionTransactional);
+        if (eventType == QMConstants.EVENT_TYPE_EXECUTE) {
+            writeString(out, purpose == null ? null : purpose.name());
+            writeString(out, queryString);
+            out.writeLong(rowCount);
+            out.writeInt(errorCode);
+            writeString(out, errorMessage);
+            out.writeLong(fetchBeginTime);
+            out.writeLong(fetchEndTime);
+            out.writeBoolean(transactional);
+            writeString(out, schema);
+            writeString(out, catalog);
+        } else if (eventType == QMConstants.EVENT_TYPE_TXN) {
+            out.writeBoolean(committed);
+        }
+    }
+
+    /**
+     * Text used for full text search
+     */
+    @NotNull
+    String getText() {
+        if (queryString != null) {
+            return queryString;
+        }
+        return containerName + " - " + contextName;
+    }
+
+    boolean matches(@NotNull QMEventCriteria criteria, @Nullable String searchString) {
+        if (criteria.hasObjectTypes()) {
+            QMObjectType objectType = switch (eventType) {
+                case QMConstants.EVENT_TYPE_SESSION -> QMObjectType.session;
+                case QMConstants.EVENT_TYPE_TXN -> QMObjectType.txn;
+                default -> QMObjectType.query;
+            };
+            if (!criteria.hasObjectType(objectType)) {
+                return false;
+            }
+        }
+        if (eventType == QMConstants.EVENT_TYPE_EXECUTE) {
+            if (criteria.hasQueryTypes() && !criteria.hasQueryType(purpose)) {
+                return false;
+            }
+            if (criteria.isSkipEmptyQueries() && CommonUtils.isEmptyTrimmed(queryString)) {
+                return false;
+            }
+            if (criteria.hasEventStatuses() &&
+                !criteria.getEventStatuses().contains(errorMessage == null ? QMEventStatus.SUCCESS : QMEventStatus.FAILED)) {
+                return false;
+            }
+            if (!criteria.getSchemas().isEmpty() && !criteria.getSchemas().contains(schema)) {
+                return false;
+            }
+            if (!criteria.getCatalogs().isEmpty() && !criteria.getCatalogs().contains(catalog)) {
+                return false;
+            }
+        }
+        if (criteria.getContainerId() != null && !criteria.getContainerId().equals(containerId)) {
+            return false;
+        }
+        if (!criteria.getDataSourceIds().isEmpty() && !criteria.getDataSourceIds().contains(containerId)) {
+            return false;
+        }
+        if (criteria.hasProjectIds() && !criteria.getProjectIds().contains(projectId)) {
+            return false;
+        }
+        if (criteria.hasDriverIds() && !criteria.getDriverIds().contains(driverId)) {
+            return false;
+        }
+        if (criteria.hasLastEventId() && id >= criteria.getLastEventId()) {
+            return false;
+        }
+        if (criteria.getDateRange() != null) {
+            LocalDateTime from = criteria.getDateRange().getFrom();
+            LocalDateTime to = criteria.getDateRange().getTo();
+            if ((from != null && openTime < from.toInstant(ZoneOffset.UTC).toEpochMilli()) ||
+                (to != null && openTime > to.toInstant(ZoneOffset.UTC).toEpochMilli())) {
+                return false;
+            }
+        }
+        return searchString == null || getText().toLowerCase().contains(searchString);
+    }
+
+    @NotNull
+    QMMetaEvent toEvent() {
+        QMMConnectionInfo connection = QMMConnectionInfo.builder()
+            .setProjectInfo(projectId == null ? null : QMMProjectInfo.builder().setId(projectId).setName(projectName).build())
+            .setContainerId(containerId)
+            .setContainerName(containerName)
+            .setDriverId(driverId)
+            .setInstanceId(instanceId)
+            .setContextName(contextName)
+            .setConnectionUserName(connectionUserName)
+            .setConnectionUrl(connectionUrl)
+            .setTransactional(connectionTransactional)
+            .setOpenTime(connectionOpenTime)
+            .setCloseTime(connectionCloseTime)
+            .build();
+        QMMObject object = switch (eventType) {
+            case QMConstants.EVENT_TYPE_EXECUTE -> new QMMStatementExecuteInfo(
+                openTime,
+                closeTime,
+                new QMMStatementInfo(openTime, closeTime, connection, purpose),
+                queryString,
+                rowCount,
+                errorCode,
+                errorMessage,
+                fetchBeginTime,
+                fetchEndTime,
+                transactional,
+                schema,
+                catalog);
+            case QMConstants.EVENT_TYPE_TXN -> new QMMTransactionInfo(connection, openTime, closeTime, committed);
+            default -> connection;
+        };
+        return new QMMetaEvent(object, action, sessionId);
+    }
+
+    @Nullable
+    private static String readString(@NotNull DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(@NotNull DataOutput out, @Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+}
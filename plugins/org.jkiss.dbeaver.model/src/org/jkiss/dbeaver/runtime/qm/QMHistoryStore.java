@@ -0,0 +1,533 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.runtime.qm;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceListener;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.qm.*;
+import org.jkiss.dbeaver.model.qm.filters.QMCursorFilter;
+import org.jkiss.dbeaver.model.qm.filters.QMEventCriteria;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Query manager history store.
+ * <p>
+ * Events are appended to compressed segment files by a background thread. Each written batch is a separate
+ * gzip member, so a segment can be read while it is being written. Segments are rotated by size and date
+ * and removed after {@link QMConstants#PROP_HISTORY_DAYS} days.
+ * <p>
+ * Each segment has an index with its time range, connection ids and a bloom filter of query text trigrams.
+ * History queries read only segments which may contain matching events.
+ * Fetch updates of query executions are stored as separate records and merged with execution records on read.
+ */
+public class QMHistoryStore implements QMMetaListener, QMEventBrowser, DBPPreferenceListener {
+
+    private static final Log log = Log.getLog(QMHistoryStore.class);
+
+    private static final String HISTORY_FOLDER = "qm-history";
+    private static final String SEGMENT_PREFIX = "history_";
+    private static final String SEGMENT_EXT = ".qmh";
+    private static final String INDEX_EXT = ".qmi";
+    private static final int INDEX_VERSION = 1;
+    private static final long MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int MAX_PENDING_BATCHES = 1000;
+
+    private static final List<QMHistoryRecord> STOP_BATCH = new ArrayList<>();
+
+    @NotNull
+    private final Path historyFolder;
+    private final BlockingQueue<List<QMHistoryRecord>> writeQueue = new LinkedBlockingQueue<>(MAX_PENDING_BATCHES);
+    // Segments ordered by creation time. Guarded by itself.
+    private final List<Segment> segments = new ArrayList<>();
+    private final QMEventFilter eventFilter = new DefaultEventFilter();
+    @Nullable
+    private Thread writerThread;
+    private volatile boolean enabled;
+    private volatile int historyDays;
+    private long lastEventId;
+
+    public QMHistoryStore() {
+        this.historyFolder = GeneralUtils.getMetadataFolder().resolve(HISTORY_FOLDER);
+        DBWorkbench.getPlatform().getPreferenceStore().addPropertyChangeListener(this);
+        loadSettings();
+    }
+
+    public synchronized void dispose() {
+        DBWorkbench.getPlatform().getPreferenceStore().removePropertyChangeListener(this);
+        stopWriter();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private synchronized void loadSettings() {
+        final DBPPreferenceStore preferences = DBWorkbench.getPlatform().getPreferenceStore();
+        historyDays = Math.max(1, preferences.getInt(QMConstants.PROP_HISTORY_DAYS));
+        boolean enable = preferences.getBoolean(QMConstants.PROP_STORE_HISTORY);
+        if (enable && writerThread == null) {
+            try {
+                Files.createDirectories(historyFolder);
+                loadSegments();
+            } catch (IOException e) {
+                log.error("Can't open query history store '" + historyFolder + "'", e);
+                return;
+            }
+            writerThread = new Thread(this::writeEvents, "QM history writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        } else if (!enable) {
+            stopWriter();
+        }
+        enabled = enable;
+    }
+
+    private void stopWriter() {
+        enabled = false;
+        if (writerThread != null) {
+            try {
+                writeQueue.put(STOP_BATCH);
+                writerThread.join(Duration.ofSeconds(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+
+    @Override
+    public void preferenceChange(PreferenceChangeEvent event) {
+        if (event.getProperty().startsWith(QMConstants.PROP_PREFIX)) {
+            loadSettings();
+        }
+    }
+
+    @Override
+    public void metaInfoChanged(@NotNull DBRProgressMonitor monitor, @NotNull List<QMMetaEvent> events) {
+        if (!enabled) {
+            return;
+        }
+        List<QMHistoryRecord> records = new ArrayList<>();
+        synchronized (segments) {
+            for (QMMetaEvent event : events) {
+                if (eventFilter.accept(event)) {
+                    QMHistoryRecord record = QMHistoryRecord.create(lastEventId + 1, event);
+                    if (record != null) {
+                        lastEventId++;
+                        records.add(record);
+                    }
+                }
+            }
+        }
+        if (!records.isEmpty() && !writeQueue.offer(records)) {
+            log.debug("Query history writer is too slow, " + records.size() + " event(s) skipped");
+        }
+    }
+
+    @NotNull
+    @Override
+    public QMEventCursor getQueryHistoryCursor(@NotNull QMCursorFilter cursorFilter) throws DBException {
+        QMEventCriteria criteria = cursorFilter.getCriteria();
+        String searchString = CommonUtils.isEmpty(criteria.getSearchString()) ? null : criteria.getSearchString().toLowerCase();
+        int maxEvents = criteria.getFetchingSize() > 0 ? criteria.getFetchingSize() : Integer.MAX_VALUE;
+
+        List<Segment> segmentList;
+        synchronized (segments) {
+            segmentList = new ArrayList<>(segments);
+        }
+        List<QMMetaEventEntity> result = new ArrayList<>();
+        // Fetch updates by execute object id. Updates are newer than executions, so they are read first.
+        Map<Long, QMHistoryRecord> fetchUpdates = new HashMap<>();
+        // Newest events first
+        for (int i = segmentList.size() - 1; i >= 0 && result.size() < maxEvents; i--) {
+            Segment segment = segmentList.get(i);
+            if (!segment.mayContain(criteria, searchString)) {
+                continue;
+            }
+            List<QMHistoryRecord> records;
+            try {
+                records = readSegment(segment.file);
+            } catch (IOException e) {
+                throw new DBException("Error reading query history", e);
+            }
+            for (int k = records.size() - 1; k >= 0 && result.size() < maxEvents; k--) {
+                QMHistoryRecord record = records.get(k);
+                if (record.isFetchUpdate()) {
+                    fetchUpdates.putIfAbsent(record.objectId, record);
+                    continue;
+                }
+                QMHistoryRecord fetchUpdate = fetchUpdates.get(record.objectId);
+                if (fetchUpdate != null && fetchUpdate.isUpdateOf(record)) {
+                    fetchUpdates.remove(record.objectId);
+                    record = record.mergeFetchUpdate(fetchUpdate);
+                }
+                if (!record.matches(criteria, searchString)) {
+                    continue;
+                }
+                QMMetaEvent event = record.toEvent();
+                if (cursorFilter.getFilter() == null || cursorFilter.getFilter().accept(event)) {
+                    result.add(new QMMetaEventEntity(event.getObject(), event.getAction(), record.id, record.sessionId, null));
+                }
+            }
+        }
+        return new HistoryCursor(result);
+    }
+
+    private void writeEvents() {
+        Segment segment = null;
+        try {
+            while (true) {
+                List<QMHistoryRecord> batch = writeQueue.take();
+                if (batch == STOP_BATCH) {
+                    break;
+                }
+                List<QMHistoryRecord> records = new ArrayList<>(batch);
+                boolean stop = false;
+                for (List<QMHistoryRecord> next = writeQueue.poll(); next != null; next = writeQueue.poll()) {
+                    if (next == STOP_BATCH) {
+                        stop = true;
+                        break;
+                    }
+                    records.addAll(next);
+                }
+                try {
+                    segment = writeRecords(segment, records);
+                } catch (IOException e) {
+                    log.warn("Error writing query history", e);
+                    segment = null;
+                }
+                if (stop) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stop writing
+        }
+        if (segment != null) {
+            closeSegment(segment);
+        }
+    }
+
+    @NotNull
+    private Segment writeRecords(@Nullable Segment segment, @NotNull List<QMHistoryRecord> records) throws IOException {
+        long now = System.currentTimeMillis();
+        if (segment == null || segment.size >= MAX_SEGMENT_SIZE || !toDate(getSegmentTime(segment.file)).equals(toDate(now))) {
+            if (segment != null) {
+                closeSegment(segment);
+            }
+            segment = new Segment(historyFolder.resolve(SEGMENT_PREFIX + now + SEGMENT_EXT));
+            synchronized (segments) {
+                segments.add(segment);
+            }
+            purgeOldSegments();
+        }
+        // Each batch is a complete gzip member. GZIPInputStream reads concatenated members.
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int size;
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(buffer))) {
+            for (QMHistoryRecord record : records) {
+                record.write(out);
+            }
+            size = out.size();
+        }
+        try (OutputStream out = new FileOutputStream(segment.file.toFile(), true)) {
+            buffer.writeTo(out);
+        }
+        synchronized (segments) {
+            segment.size += size;
+            for (QMHistoryRecord record : records) {
+                segment.addRecord(record);
+            }
+        }
+        return segment;
+    }
+
+    private void closeSegment(@NotNull Segment segment) {
+        try {
+            synchronized (segments) {
+                segment.writeIndex();
+            }
+        } catch (IOException e) {
+            log.debug("Error saving query history index: " + e.getMessage());
+        }
+    }
+
+    private void loadSegments() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(historyFolder)) {
+            files = list
+                .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX) && file.getFileName().toString().endsWith(SEGMENT_EXT))
+                .sorted(Comparator.comparingLong(QMHistoryStore::getSegmentTime))
+                .toList();
+        }
+        List<Segment> loaded = new ArrayList<>();
+        for (Path file : files) {
+            Segment segment = new Segment(file);
+            try {
+                if (!segment.readIndex()) {
+                    // Last segment of the previous session. Index it and start a new one.
+                    for (QMHistoryRecord record : readSegment(file)) {
+                        segment.addRecord(record);
+                    }
+                    segment.size = Files.size(file);
+                    segment.writeIndex();
+                }
+                loaded.add(segment);
+            } catch (IOException e) {
+                log.debug("Skip broken query history segment '" + file + "': " + e.getMessage());
+            }
+        }
+        synchronized (segments) {
+            segments.clear();
+            segments.addAll(loaded);
+            for (Segment segment : loaded) {
+                lastEventId = Math.max(lastEventId, segment.maxId);
+            }
+        }
+        purgeOldSegments();
+    }
+
+    private void purgeOldSegments() {
+        long minTime = System.currentTimeMillis() - Duration.ofDays(historyDays).toMillis();
+        List<Segment> oldSegments = new ArrayList<>();
+        synchronized (segments) {
+            // Never remove the segment which is being written
+            for (int i = 0; i < segments.size() - 1; i++) {
+                Segment segment = segments.get(i);
+                if (segment.maxTime < minTime) {
+                    oldSegments.add(segment);
+                }
+            }
+            segments.removeAll(oldSegments);
+        }
+        for (Segment segment : oldSegments) {
+            try {
+                Files.deleteIfExists(segment.file);
+                Files.deleteIfExists(segment.getIndexFile());
+            } catch (IOException e) {
+                log.debug("Unable to purge the old query history segment '" + segment.file + "': " + e.getMessage());
+            }
+        }
+    }
+
+    @NotNull
+    private static List<QMHistoryRecord> readSegment(@NotNull Path file) throws IOException {
+        List<QMHistoryRecord> records = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+            while (true) {
+                records.add(new QMHistoryRecord(in));
+            }
+        } catch (EOFException e) {
+            // End of segment or incomplete batch which is being written
+        } catch (ZipException e) {
+            log.debug("Query history segment '" + file + "' is truncated: " + e.getMessage());
+        }
+        return records;
+    }
+
+    private static long getSegmentTime(@NotNull Path file) {
+        String name = file.getFileName().toString();
+        return CommonUtils.toLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_EXT.length()));
+    }
+
+    @NotNull
+    private static LocalDate toDate(long time) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+    }
+
+    /**
+     * Index of a segment file
+     */
+    private static class Segment {
+        private static final int BLOOM_SIZE = 1 << 16;
+
+        @NotNull
+        private final Path file;
+        private long size;
+        private long minId = Long.MAX_VALUE;
+        private long maxId;
+        private long minTime;
+        private long maxTime;
+        private final Set<String> containerIds = new HashSet<>();
+        private final BitSet textBloom = new BitSet(BLOOM_SIZE);
+
+        Segment(@NotNull Path file) {
+            this.file = file;
+            this.minTime = getSegmentTime(file);
+            this.maxTime = minTime;
+        }
+
+        @NotNull
+        Path getIndexFile() {
+            String name = file.getFileName().toString();
+            return file.resolveSibling(name.substring(0, name.length() - SEGMENT_EXT.length()) + INDEX_EXT);
+        }
+
+        void addRecord(@NotNull QMHistoryRecord record) {
+            minId = Math.min(minId, record.id);
+            maxId = Math.max(maxId, record.id);
+            minTime = Math.min(minTime, record.openTime);
+            maxTime = Math.max(maxTime, Math.max(record.openTime, record.closeTime));
+            if (record.containerId != null) {
+                containerIds.add(record.containerId);
+            }
+            String text = record.getText().toLowerCase();
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                textBloom.set(getTrigramHash(text, i));
+            }
+        }
+
+        boolean mayContain(@NotNull QMEventCriteria criteria, @Nullable String searchString) {
+            if (criteria.getContainerId() != null && !containerIds.contains(criteria.getContainerId())) {
+                return false;
+            }
+            if (!criteria.getDataSourceIds().isEmpty() && Collections.disjoint(criteria.getDataSourceIds(), containerIds)) {
+                return false;
+            }
+            if (criteria.hasLastEventId() && minId >= criteria.getLastEventId()) {
+                return false;
+            }
+            if (criteria.getDateRange() != null) {
+                var from = criteria.getDateRange().getFrom();
+                var to = criteria.getDateRange().getTo();
+                if ((from != null && maxTime < from.toInstant(ZoneOffset.UTC).toEpochMilli()) ||
+                    (to != null && minTime > to.toInstant(ZoneOffset.UTC).toEpochMilli())) {
+                    return false;
+                }
+            }
+            if (searchString != null) {
+                for (int i = 0; i + 3 <= searchString.length(); i++) {
+                    if (!textBloom.get(getTrigramHash(searchString, i))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        boolean readIndex() throws IOException {
+            Path indexFile = getIndexFile();
+            if (!Files.exists(indexFile)) {
+                return false;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                if (in.readInt() != INDEX_VERSION) {
+                    return false;
+                }
+                size = in.readLong();
+                minId = in.readLong();
+                maxId = in.readLong();
+                minTime = in.readLong();
+                maxTime = in.readLong();
+                for (int i = in.readInt(); i > 0; i--) {
+                    containerIds.add(in.readUTF());
+                }
+                long[] words = new long[in.readInt()];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = in.readLong();
+                }
+                textBloom.or(BitSet.valueOf(words));
+            }
+            return true;
+        }
+
+        void writeIndex() throws IOException {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(getIndexFile())))) {
+                out.writeInt(INDEX_VERSION);
+                out.writeLong(size);
+                out.writeLong(minId);
+                out.writeLong(maxId);
+                out.writeLong(minTime);
+                out.writeLong(maxTime);
+                out.writeInt(containerIds.size());
+                for (String containerId : containerIds) {
+                    out.writeUTF(containerId);
+                }
+                long[] words = textBloom.toLongArray();
+                out.writeInt(words.length);
+                for (long word : words) {
+                    out.writeLong(word);
+                }
+            }
+        }
+
+        private static int getTrigramHash(@NotNull String text, int offset) {
+            int hash = (text.charAt(offset) * 31 + text.charAt(offset + 1)) * 31 + text.charAt(offset + 2);
+            return (hash ^ (hash >>> 16)) & (BLOOM_SIZE - 1);
+        }
+    }
+
+    private static class HistoryCursor implements QMEventCursor {
+        @NotNull
+        private final List<QMMetaEventEntity> events;
+        private int position;
+
+        HistoryCursor(@NotNull List<QMMetaEventEntity> events) {
+            this.events = events;
+        }
+
+        @Override
+        public long getTotalSize() {
+            return events.size();
+        }
+
+        @Override
+        public void scroll(int position, DBRProgressMonitor monitor) throws DBException {
+            if (position < 0 || position >= events.size()) {
+                throw new DBException("Position is out of range (" + getTotalSize() + ")");
+            }
+            this.position = position;
+        }
+
+        @Override
+        public boolean hasNextEvent(DBRProgressMonitor monitor) {
+            return position < events.size();
+        }
+
+        @Override
+        public QMMetaEventEntity nextEvent(DBRProgressMonitor monitor) {
+            return events.get(position++);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
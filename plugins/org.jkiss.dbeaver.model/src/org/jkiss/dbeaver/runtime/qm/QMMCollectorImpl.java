@@ -30,14 +30,18 @@ import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.CommonUtils;
-import org.jkiss.utils.LongKeyMap;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Query manager execution handler implementation
+ * Query manager execution handler implementation.
+ * <p>
+ * Handlers don't use a global lock: connection infos are kept in a concurrent map and each connection info
+ * is modified under its own monitor. Events are added to a lock-free queue and dispatched to listeners
+ * in batches by a background job.
  */
 public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMCollector {
 
@@ -46,19 +50,21 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
     private static final int MAX_HISTORY_EVENTS = 10000;
 
     // Session map
-    private LongKeyMap<QMMConnectionInfo> connectionMap = new LongKeyMap<>();
-    private List<Long> closedConnections = new ArrayList<>();
+    private final Map<Long, QMMConnectionInfo> connectionMap = new ConcurrentHashMap<>();
+    private final Queue<Long> closedConnections = new ConcurrentLinkedQueue<>();
 
     // External listeners
-    private final List<QMMetaListener> listeners = new ArrayList<>();
+    private final List<QMMetaListener> listeners = new CopyOnWriteArrayList<>();
 
     // Temporary event pool
-    private List<QMMetaEvent> eventPool = new ArrayList<>();
+    private final Queue<QMMetaEvent> eventPool = new ConcurrentLinkedQueue<>();
+    // Events which were obtained but can't be dispatched yet. Accessed by the dispatcher job only.
+    private List<QMMetaEvent> pendingEvents = new ArrayList<>();
     // Sync object
     private final Object historySync = new Object();
-    // History (may be purged when limit reached)
-    private List<QMMetaEvent> pastEvents = new ArrayList<>();
-    private boolean running = true;
+    // History (oldest events are removed when limit reached)
+    private final Deque<QMMetaEvent> pastEvents = new ArrayDeque<>();
+    private volatile boolean running = true;
     private long eventDispatchPeriod = 250;
 
     public QMMCollectorImpl() {
@@ -70,7 +76,7 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
         new EventDispatcher().schedule(eventDispatchPeriod);
     }
 
-    public synchronized void dispose() {
+    public void dispose() {
         if (!connectionMap.isEmpty()) {
             List<QMMConnectionInfo> openSessions = new ArrayList<>();
             for (QMMConnectionInfo connection : connectionMap.values()) {
@@ -82,11 +88,9 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
                 log.warn("Some sessions are still open: " + openSessions);
             }
         }
-        synchronized (listeners) {
-            if (!listeners.isEmpty()) {
-                log.warn("Some QM meta collector listeners are still open: " + listeners);
-                listeners.clear();
-            }
+        if (!listeners.isEmpty()) {
+            log.warn("Some QM meta collector listeners are still open: " + listeners);
+            listeners.clear();
         }
         running = false;
     }
@@ -102,28 +106,12 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
     }
 
     public void addListener(QMMetaListener listener) {
-        synchronized (listeners) {
-            listeners.add(listener);
-        }
+        listeners.add(listener);
     }
 
     public void removeListener(QMMetaListener listener) {
-        synchronized (listeners) {
-            if (!listeners.remove(listener)) {
-                log.warn("Listener '" + listener + "' is not registered in QM meta collector");
-            }
-        }
-    }
-
-    private List<QMMetaListener> getListeners() {
-        synchronized (listeners) {
-            if (listeners.isEmpty()) {
-                return Collections.emptyList();
-            }
-            if (listeners.size() == 1) {
-                return Collections.singletonList(listeners.get(0));
-            }
-            return new ArrayList<>(listeners);
+        if (!listeners.remove(listener)) {
+            log.warn("Listener '" + listener + "' is not registered in QM meta collector");
         }
     }
 
@@ -135,7 +123,7 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
         tryFireMetaEvent(object, action, context.getDataSource());
     }
 
-    private synchronized void tryFireMetaEvent(
+    private void tryFireMetaEvent(
         final @NotNull QMMObject object,
         final @NotNull QMEventAction action,
         final @NotNull DBPDataSource dataSource
@@ -149,13 +137,16 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
         }
     }
 
-    private synchronized List<QMMetaEvent> obtainEvents() {
-        if (eventPool.isEmpty()) {
+    private List<QMMetaEvent> obtainEvents() {
+        for (QMMetaEvent event = eventPool.poll(); event != null; event = eventPool.poll()) {
+            pendingEvents.add(event);
+        }
+        if (pendingEvents.isEmpty()) {
             return Collections.emptyList();
         }
         // qm session id might be null if database migration is in progress for single user product
         if (DBWorkbench.getPlatform().getApplication() instanceof QMSessionProvider qmSessionProvider) {
-            for (QMMetaEvent event : eventPool) {
+            for (QMMetaEvent event : pendingEvents) {
                 if (event.getSessionId() != null) {
                     continue;
                 }
@@ -170,12 +161,12 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
                 event.setSessionId(sessionId);
             }
         }
-        List<QMMetaEvent> events = eventPool;
-        eventPool = new ArrayList<>();
+        List<QMMetaEvent> events = pendingEvents;
+        pendingEvents = new ArrayList<>();
         return events;
     }
 
-    public synchronized QMMConnectionInfo getConnectionInfo(DBCExecutionContext context) {
+    public QMMConnectionInfo getConnectionInfo(DBCExecutionContext context) {
         QMMConnectionInfo connectionInfo = connectionMap.get(context.getContextId());
         if (connectionInfo == null) {
             log.debug("Can't find connectionInfo meta information: " + context.getContextId() + " (" + context.getContextName() + ")");
@@ -190,139 +181,156 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
     }
 
     @Override
-    public synchronized void handleContextOpen(@NotNull DBCExecutionContext context, boolean transactional) {
-        final long contextId = context.getContextId();
-        QMMConnectionInfo connection = connectionMap.get(contextId);
-        if (connection == null) {
-            connection = new QMMConnectionInfo(
-                context,
-                transactional);
-            connectionMap.put(contextId, connection);
-        } else {
+    public void handleContextOpen(@NotNull DBCExecutionContext context, boolean transactional) {
+        // Closed sessions are removed by the dispatcher only if they are still closed,
+        // so a re-opened connection keeps its info
+        QMMConnectionInfo connection = connectionMap.compute(context.getContextId(), (contextId, info) -> {
+            if (info == null) {
+                return new QMMConnectionInfo(context, transactional);
+            }
             // This session may already be in cache in case of reconnect/invalidate
             // (when context closed and reopened without new context object creation)
-            connection.reopen(context);
-        }
-
-        // Remove from closed sessions (in case of re-opened connection)
-        closedConnections.remove(contextId);
+            synchronized (info) {
+                info.reopen(context);
+            }
+            return info;
+        });
         tryFireMetaEvent(connection, QMEventAction.BEGIN, context);
-        // Notify
     }
 
     @Override
-    public synchronized void handleContextClose(@NotNull DBCExecutionContext context) {
+    public void handleContextClose(@NotNull DBCExecutionContext context) {
         QMMConnectionInfo session = getConnectionInfo(context);
         if (session != null) {
-            session.close();
-            tryFireMetaEvent(session, QMEventAction.END, context);
+            synchronized (session) {
+                session.close();
+                tryFireMetaEvent(session, QMEventAction.END, context);
+            }
         }
         closedConnections.add(context.getContextId());
     }
 
     @Override
-    public synchronized void handleTransactionAutocommit(@NotNull DBCExecutionContext context, boolean autoCommit) {
+    public void handleTransactionAutocommit(@NotNull DBCExecutionContext context, boolean autoCommit) {
         QMMConnectionInfo sessionInfo = getConnectionInfo(context);
         if (sessionInfo != null) {
-            QMMTransactionInfo oldTxn = sessionInfo.changeTransactional(!autoCommit);
-            if (oldTxn != null) {
-                tryFireMetaEvent(oldTxn, QMEventAction.END, context);
+            synchronized (sessionInfo) {
+                QMMTransactionInfo oldTxn = sessionInfo.changeTransactional(!autoCommit);
+                if (oldTxn != null) {
+                    tryFireMetaEvent(oldTxn, QMEventAction.END, context);
+                }
+                tryFireMetaEvent(sessionInfo, QMEventAction.UPDATE, context);
             }
-            tryFireMetaEvent(sessionInfo, QMEventAction.UPDATE, context);
         }
     }
 
     @Override
-    public synchronized void handleTransactionCommit(@NotNull DBCExecutionContext context) {
+    public void handleTransactionCommit(@NotNull DBCExecutionContext context) {
         QMMConnectionInfo sessionInfo = getConnectionInfo(context);
         if (sessionInfo != null) {
-            QMMTransactionInfo oldTxn = sessionInfo.commit();
-            if (oldTxn != null) {
-                tryFireMetaEvent(oldTxn, QMEventAction.END, context);
+            synchronized (sessionInfo) {
+                QMMTransactionInfo oldTxn = sessionInfo.commit();
+                if (oldTxn != null) {
+                    tryFireMetaEvent(oldTxn, QMEventAction.END, context);
+                }
             }
         }
     }
 
     @Override
-    public synchronized void handleTransactionRollback(@NotNull DBCExecutionContext context, DBCSavepoint savepoint) {
+    public void handleTransactionRollback(@NotNull DBCExecutionContext context, DBCSavepoint savepoint) {
         QMMConnectionInfo sessionInfo = getConnectionInfo(context);
         if (sessionInfo != null) {
-            QMMObject oldTxn = sessionInfo.rollback(savepoint);
-            if (oldTxn != null) {
-                tryFireMetaEvent(oldTxn, QMEventAction.END, context);
+            synchronized (sessionInfo) {
+                QMMObject oldTxn = sessionInfo.rollback(savepoint);
+                if (oldTxn != null) {
+                    tryFireMetaEvent(oldTxn, QMEventAction.END, context);
+                }
             }
         }
     }
 
     @Override
-    public synchronized void handleStatementOpen(@NotNull DBCStatement statement) {
+    public void handleStatementOpen(@NotNull DBCStatement statement) {
         QMMConnectionInfo session = getConnectionInfo(statement.getSession().getExecutionContext());
         if (session != null) {
-            QMMStatementInfo stat = session.openStatement(statement);
-            tryFireMetaEvent(stat, QMEventAction.BEGIN, statement.getSession().getExecutionContext());
+            synchronized (session) {
+                QMMStatementInfo stat = session.openStatement(statement);
+                tryFireMetaEvent(stat, QMEventAction.BEGIN, statement.getSession().getExecutionContext());
+            }
         }
     }
 
     @Override
-    public synchronized void handleStatementClose(@NotNull DBCStatement statement, long rows) {
+    public void handleStatementClose(@NotNull DBCStatement statement, long rows) {
         QMMConnectionInfo session = getConnectionInfo(statement.getSession().getExecutionContext());
         if (session != null) {
-            QMMStatementInfo stat = session.closeStatement(statement, rows);
-            if (stat == null) {
-                log.warn("Can't properly handle statement close");
-            } else {
-                tryFireMetaEvent(stat, QMEventAction.END, statement.getSession().getExecutionContext());
+            synchronized (session) {
+                QMMStatementInfo stat = session.closeStatement(statement, rows);
+                if (stat == null) {
+                    log.warn("Can't properly handle statement close");
+                } else {
+                    tryFireMetaEvent(stat, QMEventAction.END, statement.getSession().getExecutionContext());
+                }
             }
         }
     }
 
     @Override
-    public synchronized void handleStatementExecuteBegin(@NotNull DBCStatement statement) {
+    public void handleStatementExecuteBegin(@NotNull DBCStatement statement) {
         QMMConnectionInfo session = getConnectionInfo(statement.getSession().getExecutionContext());
         if (session != null) {
-            QMMStatementExecuteInfo exec = session.beginExecution(statement);
-            if (exec != null) {
-                tryFireMetaEvent(exec, QMEventAction.BEGIN, statement.getSession().getExecutionContext());
+            synchronized (session) {
+                QMMStatementExecuteInfo exec = session.beginExecution(statement);
+                if (exec != null) {
+                    tryFireMetaEvent(exec, QMEventAction.BEGIN, statement.getSession().getExecutionContext());
+                }
             }
         }
     }
 
     @Override
-    public synchronized void handleStatementExecuteEnd(@NotNull DBCStatement statement, long rows, Throwable error) {
+    public void handleStatementExecuteEnd(@NotNull DBCStatement statement, long rows, Throwable error) {
         QMMConnectionInfo session = getConnectionInfo(statement.getSession().getExecutionContext());
         if (session != null) {
-            QMMStatementExecuteInfo exec = session.endExecution(statement, rows, error);
-            if (exec != null) {
-                tryFireMetaEvent(exec, QMEventAction.END, statement.getSession().getExecutionContext());
+            synchronized (session) {
+                QMMStatementExecuteInfo exec = session.endExecution(statement, rows, error);
+                if (exec != null) {
+                    tryFireMetaEvent(exec, QMEventAction.END, statement.getSession().getExecutionContext());
+                }
             }
         }
     }
 
     @Override
-    public synchronized void handleResultSetOpen(@NotNull DBCResultSet resultSet) {
+    public void handleResultSetOpen(@NotNull DBCResultSet resultSet) {
         QMMConnectionInfo session = getConnectionInfo(resultSet.getSession().getExecutionContext());
         if (session != null) {
-            QMMStatementExecuteInfo exec = session.beginFetch(resultSet);
-            if (exec != null) {
-                tryFireMetaEvent(exec, QMEventAction.UPDATE, resultSet.getSession().getExecutionContext());
+            synchronized (session) {
+                QMMStatementExecuteInfo exec = session.beginFetch(resultSet);
+                if (exec != null) {
+                    tryFireMetaEvent(exec, QMEventAction.UPDATE, resultSet.getSession().getExecutionContext());
+                }
             }
         }
     }
 
     @Override
-    public synchronized void handleResultSetClose(@NotNull DBCResultSet resultSet, long rowCount) {
+    public void handleResultSetClose(@NotNull DBCResultSet resultSet, long rowCount) {
         QMMConnectionInfo session = getConnectionInfo(resultSet.getSession().getExecutionContext());
         if (session != null) {
-            QMMStatementExecuteInfo exec = session.endFetch(resultSet, rowCount);
-            if (exec != null) {
-                tryFireMetaEvent(exec, QMEventAction.UPDATE, resultSet.getSession().getExecutionContext());
+            synchronized (session) {
+                QMMStatementExecuteInfo exec = session.endFetch(resultSet, rowCount);
+                if (exec != null) {
+                    tryFireMetaEvent(exec, QMEventAction.UPDATE, resultSet.getSession().getExecutionContext());
+                }
             }
         }
     }
 
 
     @Override
-    public synchronized void handleConnectError(@NotNull DBPDataSource dataSource, @NotNull Throwable error) {
+    public void handleConnectError(@NotNull DBPDataSource dataSource, @NotNull Throwable error) {
         QMMDataSourceConnectErrorInfo connectErrorInfo = new QMMDataSourceConnectErrorInfo(
             dataSource.getContainer(),
             DBExecUtils.discoverErrorType(dataSource, error).name(),
@@ -341,16 +349,9 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
 
         @Override
         protected IStatus run(DBRProgressMonitor monitor) {
-            final List<QMMetaEvent> events;
-            List<Long> sessionsToClose;
-            synchronized (QMMCollectorImpl.this) {
-                events = obtainEvents();
-                sessionsToClose = closedConnections;
-                closedConnections.clear();
-            }
+            final List<QMMetaEvent> events = obtainEvents();
             if (!events.isEmpty()) {
-                final List<QMMetaListener> listeners = getListeners();
-                if (!listeners.isEmpty() && !events.isEmpty()) {
+                if (!listeners.isEmpty()) {
                     // Dispatch all events
                     for (QMMetaListener listener : listeners) {
                         try {
@@ -362,24 +363,16 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
                 }
                 synchronized (historySync) {
                     pastEvents.addAll(events);
-                    int size = pastEvents.size();
-                    if (size > MAX_HISTORY_EVENTS) {
-                        pastEvents = new ArrayList<>(pastEvents.subList(
-                            size - MAX_HISTORY_EVENTS,
-                            size));
+                    while (pastEvents.size() > MAX_HISTORY_EVENTS) {
+                        pastEvents.removeFirst();
                     }
                 }
             }
             // Cleanup closed sessions
-            synchronized (QMMCollectorImpl.this) {
-                for (Long sessionId : sessionsToClose) {
-                    final QMMConnectionInfo session = connectionMap.get(sessionId);
-                    if (session != null && !session.isClosed()) {
-                        // It is possible (rarely) that session was reopened before event dispatcher run
-                        // In that case just ignore it
-                        connectionMap.remove(sessionId);
-                    }
-                }
+            for (Long sessionId = closedConnections.poll(); sessionId != null; sessionId = closedConnections.poll()) {
+                // It is possible (rarely) that session was reopened before event dispatcher run
+                // In that case just ignore it
+                connectionMap.computeIfPresent(sessionId, (id, session) -> session.isClosed() ? null : session);
             }
             if (isRunning()) {
                 this.schedule(eventDispatchPeriod);
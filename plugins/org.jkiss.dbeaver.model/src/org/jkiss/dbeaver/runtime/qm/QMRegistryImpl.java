@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.runtime.qm;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.qm.*;
@@ -47,6 +48,8 @@ public class QMRegistryImpl implements QMRegistry {
     private final List<QMExecutionHandler> handlers = new ArrayList<>();
     private QMEventBrowser eventBrowser;
     private DefaultEventBrowser defaultEventBrowser = new DefaultEventBrowser();
+    @Nullable
+    private volatile QMHistoryStore historyStore;
 
     public QMRegistryImpl() {
         defaultHandler = (QMExecutionHandler) Proxy.newProxyInstance(
@@ -98,10 +101,21 @@ public class QMRegistryImpl implements QMRegistry {
                 this.eventBrowser = defaultEventBrowser;
             }
         }
+        QMHistoryStore store = historyStore;
+        if (eventBrowser == defaultEventBrowser && store != null && store.isEnabled()) {
+            return store;
+        }
 
         return eventBrowser;
     }
 
+    /**
+     * Sets store which is used to browse query history of all sessions
+     */
+    public void setHistoryStore(@Nullable QMHistoryStore historyStore) {
+        this.historyStore = historyStore;
+    }
+
     @Override
     public void registerHandler(QMExecutionHandler handler) {
         synchronized (handlers) {
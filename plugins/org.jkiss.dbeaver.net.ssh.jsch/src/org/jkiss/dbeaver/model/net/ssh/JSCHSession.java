@@ -20,6 +20,7 @@ import com.jcraft.jsch.*;
 import org.eclipse.osgi.util.NLS;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.net.DBWChannel;
 import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHHostConfiguration;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHPortForwardConfiguration;
@@ -126,6 +127,21 @@ public class JSCHSession extends AbstractSession {
         }
     }
 
+    @NotNull
+    @Override
+    public DBWChannel openChannel(@NotNull String host, int port, int timeout) throws IOException {
+        try {
+            final ChannelDirectTCPIP channel = (ChannelDirectTCPIP) session.getStreamForwarder(host, port);
+            // Streams must be obtained before connect
+            final InputStream inputStream = channel.getInputStream();
+            final OutputStream outputStream = channel.getOutputStream();
+            channel.connect(timeout);
+            return new DirectChannel(channel, inputStream, outputStream);
+        } catch (JSchException e) {
+            throw new IOException("Error opening direct channel to " + host + ":" + port, e);
+        }
+    }
+
     @NotNull
     @Override
     public String getClientVersion() {
@@ -152,6 +168,29 @@ public class JSCHSession extends AbstractSession {
         return channel;
     }
 
+    private record DirectChannel(
+        @NotNull ChannelDirectTCPIP channel,
+        @NotNull InputStream inputStream,
+        @NotNull OutputStream outputStream
+    ) implements DBWChannel {
+        @NotNull
+        @Override
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        @NotNull
+        @Override
+        public OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public void close() {
+            channel.disconnect();
+        }
+    }
+
     private record SftpProgressMonitorAdapter(@NotNull DBRProgressMonitor delegate) implements SftpProgressMonitor {
         @Override
         public void init(int op, String src, String dst, long max) {
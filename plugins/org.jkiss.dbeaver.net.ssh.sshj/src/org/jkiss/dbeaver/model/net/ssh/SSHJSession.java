@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.model.net.ssh;
 
 import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.connection.channel.direct.DirectConnection;
 import net.schmizz.sshj.connection.channel.direct.LocalPortForwarder;
 import net.schmizz.sshj.connection.channel.direct.Parameters;
 import net.schmizz.sshj.sftp.SFTPClient;
@@ -25,6 +26,7 @@ import net.schmizz.sshj.xfer.InMemorySourceFile;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.net.DBWChannel;
 import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHHostConfiguration;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHPortForwardConfiguration;
@@ -154,6 +156,13 @@ public class SSHJSession extends AbstractSession {
         }
     }
 
+    @NotNull
+    @Override
+    public DBWChannel openChannel(@NotNull String host, int port, int timeout) throws IOException {
+        // sshj uses connection timeout for channel open. Channel window is set for the whole connection in SSHJSessionController
+        return new DirectChannel(client.newDirectConnection(host, port));
+    }
+
     @NotNull
     @Override
     public String getClientVersion() {
@@ -173,6 +182,25 @@ public class SSHJSession extends AbstractSession {
         return sftpClient;
     }
 
+    private record DirectChannel(@NotNull DirectConnection connection) implements DBWChannel {
+        @NotNull
+        @Override
+        public InputStream getInputStream() {
+            return connection.getInputStream();
+        }
+
+        @NotNull
+        @Override
+        public OutputStream getOutputStream() {
+            return connection.getOutputStream();
+        }
+
+        @Override
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+
     private static class LocalPortListener extends Thread {
         private final SSHClient client;
         private final SSHPortForwardConfiguration config;
@@ -59,12 +59,17 @@ public class SSHJSessionController extends AbstractSessionController<SSHJSession
             SSHConstants.PROP_CONNECT_TIMEOUT,
             SSHConstants.DEFAULT_CONNECT_TIMEOUT);
         final int keepAliveInterval = configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL) / 1000; // sshj uses seconds for keep-alive interval
+        final int channelWindowSize = configuration.getIntProperty(SSHConstants.PROP_CHANNEL_WINDOW_SIZE); // in kilobytes
 
         final SSHAuthConfiguration auth = host.auth();
         final SSHClient client = new SSHClient();
 
         client.setConnectTimeout(connectTimeout);
         client.getConnection().getKeepAlive().setKeepAliveInterval(keepAliveInterval);
+        if (channelWindowSize > 0) {
+            // Initial local window of all channels: larger window means less window adjust round-trips on bulk reads
+            client.getConnection().setWindowSize(channelWindowSize * 1024L);
+        }
         client.getTransport().getConfig().setLoggerFactory(new FilterLoggerFactory());
 
         try {
@@ -86,6 +86,8 @@ public class SSHTunnelDefaultConfiguratorUI implements IObjectPropertyConfigurat
     private Combo tunnelImplCombo;
     private Button fingerprintVerificationCheck;
     private Button enableTunnelSharingCheck;
+    private Button channelSocketsCheck;
+    private Text channelWindowSizeText;
     private Text localHostText;
     private Text localPortSpinner;
     private Text remoteHostText;
@@ -279,6 +281,21 @@ public class SSHTunnelDefaultConfiguratorUI implements IObjectPropertyConfigurat
             // Hide tunnel sharing option if it's disabled
             UIUtils.setControlVisible(enableTunnelSharingCheck, !SSHUtils.DISABLE_SESSION_SHARING);
 
+            channelSocketsCheck = UIUtils.createCheckbox(
+                generalGroup,
+                SSHUIMessages.model_ssh_configurator_label_channel_sockets,
+                SSHUIMessages.model_ssh_configurator_label_channel_sockets_description,
+                false,
+                2
+            );
+            channelWindowSizeText = UIUtils.createLabelText(
+                generalGroup,
+                SSHUIMessages.model_ssh_configurator_label_channel_window_size,
+                String.valueOf(0)
+            );
+            channelWindowSizeText.setToolTipText(SSHUIMessages.model_ssh_configurator_label_channel_window_size_description);
+            setNumberEditStyles(channelWindowSizeText);
+
             final Group timeoutsGroup = UIUtils.createControlGroup(
                 client,
                 SSHUIMessages.model_ssh_configurator_group_timeouts_text,
@@ -524,6 +541,11 @@ public class SSHTunnelDefaultConfiguratorUI implements IObjectPropertyConfigurat
 
         fingerprintVerificationCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION));
         enableTunnelSharingCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_SHARE_TUNNELS, true));
+        channelSocketsCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_CHANNEL_SOCKETS));
+        int windowSize = configuration.getIntProperty(SSHConstants.PROP_CHANNEL_WINDOW_SIZE);
+        if (windowSize != 0) {
+            channelWindowSizeText.setText(String.valueOf(windowSize));
+        }
 
         localHostText.setText(CommonUtils.notEmpty(configuration.getStringProperty(SSHConstants.PROP_LOCAL_HOST)));
         int lpValue = configuration.getIntProperty(SSHConstants.PROP_LOCAL_PORT);
@@ -585,6 +607,17 @@ public class SSHTunnelDefaultConfiguratorUI implements IObjectPropertyConfigurat
         }
 
         configuration.setProperty(SSHConstants.PROP_SHARE_TUNNELS, enableTunnelSharingCheck.getSelection());
+        if (channelSocketsCheck.getSelection()) {
+            configuration.setProperty(SSHConstants.PROP_CHANNEL_SOCKETS, true);
+        } else {
+            configuration.setProperty(SSHConstants.PROP_CHANNEL_SOCKETS, null);
+        }
+        int windowSize = CommonUtils.toInt(channelWindowSizeText.getText());
+        if (windowSize <= 0) {
+            configuration.setProperty(SSHConstants.PROP_CHANNEL_WINDOW_SIZE, null);
+        } else {
+            configuration.setProperty(SSHConstants.PROP_CHANNEL_WINDOW_SIZE, windowSize);
+        }
 
         configuration.setProperty(SSHConstants.PROP_LOCAL_HOST, localHostText.getText().trim());
         int localPort = CommonUtils.toInt(localPortSpinner.getText());
@@ -25,6 +25,7 @@ import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.exec.DBCInvalidatePhase;
 import org.jkiss.dbeaver.model.meta.Property;
+import org.jkiss.dbeaver.model.net.DBWChannel;
 import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHHostConfiguration;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHPortForwardConfiguration;
@@ -72,9 +73,12 @@ public abstract class AbstractSessionController<T extends AbstractSession> imple
         @NotNull SSHHostConfiguration destination,
         @Nullable SSHPortForwardConfiguration portForward
     ) {
-        ShareableSession<T> session = getSharedSession(configuration, destination);
-        if (session == null) {
-            // Session will be registered during connect
+        final ShareableSession<T> session;
+        if (canShareSessionForConfiguration(configuration)) {
+            // Register session before connect so connections opened in parallel
+            // wait for the same session instead of creating their own
+            session = sessions.computeIfAbsent(destination, key -> new ShareableSession<>(this, key));
+        } else {
             session = new ShareableSession<>(this, destination);
         }
         return new DirectSession<>(session, portForward);
@@ -175,25 +179,13 @@ public abstract class AbstractSessionController<T extends AbstractSession> imple
 
     protected void registerSession(@NotNull ShareableSession<T> session, @NotNull DBWHandlerConfiguration configuration) {
         if (canShareSessionForConfiguration(configuration)) {
-            sessions.put(session.destination, session);
+            sessions.putIfAbsent(session.destination, session);
         }
     }
 
     protected void unregisterSession(@NotNull ShareableSession<T> session, @NotNull DBWHandlerConfiguration configuration) {
         if (canShareSessionForConfiguration(configuration)) {
-            sessions.remove(session.destination);
-        }
-    }
-
-    @Nullable
-    private ShareableSession<T> getSharedSession(
-        @NotNull DBWHandlerConfiguration configuration,
-        @NotNull SSHHostConfiguration destination
-    ) {
-        if (canShareSessionForConfiguration(configuration)) {
-            return sessions.get(destination);
-        } else {
-            return null;
+            sessions.remove(session.destination, session);
         }
     }
 
@@ -422,7 +414,13 @@ public abstract class AbstractSessionController<T extends AbstractSession> imple
         ) throws DBException {
             if (dataSources.isEmpty()) {
                 log.debug("SSHSessionController: Creating new session to " + destination);
-                super.connect(monitor, destination, configuration);
+                try {
+                    super.connect(monitor, destination, configuration);
+                } catch (Throwable e) {
+                    // Don't let other connections reuse a session which failed to connect
+                    controller.unregisterSession(this, configuration);
+                    throw e;
+                }
                 controller.registerSession(this, configuration);
             }
             final DBPDataSourceContainer container = configuration.getDataSource();
@@ -550,6 +548,12 @@ public abstract class AbstractSessionController<T extends AbstractSession> imple
             getSession().putFile(src, dst, monitor);
         }
 
+        @NotNull
+        @Override
+        public DBWChannel openChannel(@NotNull String host, int port, int timeout) throws IOException {
+            return getSession().openChannel(host, port, timeout);
+        }
+
         @NotNull
         @Override
         public String getClientVersion() {
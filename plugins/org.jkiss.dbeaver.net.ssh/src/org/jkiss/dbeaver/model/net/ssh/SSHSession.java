@@ -18,6 +18,7 @@ package org.jkiss.dbeaver.model.net.ssh;
 
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.net.DBWChannel;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 
 import java.io.IOException;
@@ -51,6 +52,17 @@ public interface SSHSession {
         @NotNull DBRProgressMonitor monitor
     ) throws DBException, IOException;
 
+    /**
+     * Opens a direct-tcpip channel to the specified host.
+     * The host is resolved by the SSH server, channel doesn't need a local port forward.
+     *
+     * @param host    remote host name
+     * @param port    remote port
+     * @param timeout channel open timeout in milliseconds, 0 means default timeout
+     */
+    @NotNull
+    DBWChannel openChannel(@NotNull String host, int port, int timeout) throws IOException;
+
     @NotNull
     String getClientVersion();
 
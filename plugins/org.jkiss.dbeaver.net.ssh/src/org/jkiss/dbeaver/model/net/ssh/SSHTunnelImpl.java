@@ -25,8 +25,10 @@ import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.connection.DBPConnectionConfiguration;
 import org.jkiss.dbeaver.model.exec.DBCInvalidatePhase;
+import org.jkiss.dbeaver.model.impl.net.ChannelSocketFactory;
+import org.jkiss.dbeaver.model.net.DBWChannel;
+import org.jkiss.dbeaver.model.net.DBWChannelTunnel;
 import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
-import org.jkiss.dbeaver.model.net.DBWTunnel;
 import org.jkiss.dbeaver.model.net.DBWUtils;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHAuthConfiguration;
 import org.jkiss.dbeaver.model.net.ssh.config.SSHHostConfiguration;
@@ -44,7 +46,7 @@ import java.util.List;
 /**
  * SSH tunnel
  */
-public class SSHTunnelImpl implements DBWTunnel {
+public class SSHTunnelImpl implements DBWChannelTunnel {
 
     private static final Log log = Log.getLog(SSHTunnelImpl.class);
     private static final String DEF_IMPLEMENTATION = "sshj";
@@ -53,6 +55,9 @@ public class SSHTunnelImpl implements DBWTunnel {
     private SSHSessionController controller;
     private SSHSession session;
     private final List<Runnable> listeners = new ArrayList<>();
+    private String channelFactoryClassProperty;
+    private String channelFactoryArgProperty;
+    private String channelTunnelId;
 
     @Nullable
     @Override
@@ -97,6 +102,22 @@ public class SSHTunnelImpl implements DBWTunnel {
         return initTunnel(monitor, configuration, connectionInfo, controller);
     }
 
+    @Override
+    public void enableChannelSockets(@NotNull String factoryClassProperty, @NotNull String factoryArgProperty) {
+        this.channelFactoryClassProperty = factoryClassProperty;
+        this.channelFactoryArgProperty = factoryArgProperty;
+    }
+
+    @NotNull
+    @Override
+    public DBWChannel openChannel(@NotNull String host, int port, int timeout) throws IOException {
+        final SSHSession session = this.session;
+        if (session == null) {
+            throw new IOException("SSH tunnel is not initialized");
+        }
+        return session.openChannel(host, port, timeout);
+    }
+
     @Override
     public boolean matchesParameters(@NotNull String host, int port) {
         if (host.equals(configuration.getStringProperty(DBWHandlerConfiguration.PROP_HOST))) {
@@ -163,6 +184,10 @@ public class SSHTunnelImpl implements DBWTunnel {
 
     @Override
     public void closeTunnel(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (channelTunnelId != null) {
+            ChannelSocketFactory.unregisterTunnel(channelTunnelId);
+            channelTunnelId = null;
+        }
         if (session != null) {
             final DBPDataSourceContainer container = configuration.getDataSource();
             final int timeout = container != null
@@ -192,6 +217,9 @@ public class SSHTunnelImpl implements DBWTunnel {
         final SSHHostConfiguration[] hosts = SSHUtils.loadHostConfigurations(configuration, true);
         final SSHPortForwardConfiguration portForward = loadPortForwardConfiguration(configuration, connectionInfo);
         final SSHSession[] sessions = new SSHSession[hosts.length];
+        // Driver connects through session channels, no need to listen on a local port
+        final boolean useChannelSockets = channelFactoryClassProperty != null
+            && configuration.getBooleanProperty(SSHConstants.PROP_CHANNEL_SOCKETS);
 
         for (int index = 0; index < hosts.length; index++) {
             // NOTE: If acquireSession fails, all previously acquired sessions will not be released. Not sure if it's a problem.
@@ -200,14 +228,22 @@ public class SSHTunnelImpl implements DBWTunnel {
                 configuration,
                 hosts[index],
                 index != 0 ? sessions[index - 1] : null,
-                index == hosts.length - 1 ? portForward : null
+                index == hosts.length - 1 && !useChannelSockets ? portForward : null
             );
         }
 
         session = sessions[sessions.length - 1];
 
         connectionInfo = new DBPConnectionConfiguration(connectionInfo);
-        DBWUtils.updateConfigWithTunnelInfo(configuration, connectionInfo, portForward.localHost(), portForward.localPort());
+        if (useChannelSockets) {
+            log.debug("SSH tunnel: using channel sockets for " + portForward.remoteHost() + ":" + portForward.remotePort());
+            channelTunnelId = ChannelSocketFactory.registerTunnel(this);
+            connectionInfo.setProperty(channelFactoryClassProperty, ChannelSocketFactory.class.getName());
+            connectionInfo.setProperty(channelFactoryArgProperty, channelTunnelId);
+            DBWUtils.updateConfigWithTunnelInfo(configuration, connectionInfo, portForward.remoteHost(), portForward.remotePort());
+        } else {
+            DBWUtils.updateConfigWithTunnelInfo(configuration, connectionInfo, portForward.localHost(), portForward.localPort());
+        }
         return connectionInfo;
     }
 
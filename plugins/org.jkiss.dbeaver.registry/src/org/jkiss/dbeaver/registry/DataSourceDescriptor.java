@@ -62,6 +62,7 @@ import org.jkiss.dbeaver.registry.formatter.DataFormatterProfile;
 import org.jkiss.dbeaver.registry.internal.RegistryMessages;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.runtime.IVariableResolver;
+import org.jkiss.dbeaver.runtime.jobs.MetadataWarmUpJob;
 import org.jkiss.dbeaver.runtime.properties.ObjectPropertyDescriptor;
 import org.jkiss.dbeaver.runtime.properties.PropertyCollector;
 import org.jkiss.dbeaver.utils.GeneralUtils;
@@ -1283,6 +1284,10 @@ public class DataSourceDescriptor
 
             processEvents(monitor, DBPConnectionEventType.AFTER_CONNECT);
 
+            if (initialize) {
+                MetadataWarmUpJob.scheduleIfEnabled(this);
+            }
+
             return true;
         } catch (Throwable e) {
             terminateChildProcesses();
@@ -22,21 +22,18 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableWithProgress;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class DriverClassFindJob implements DBRRunnableWithProgress {
 
@@ -44,6 +41,9 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
 
     public static final String OBJECT_CLASS_NAME = "java/lang/Object";
     public static final String CLASS_FILE_EXT = ".class";
+
+    private static final int MAX_INDEX_THREADS = 4;
+
     private List<String> driverClassNames = new ArrayList<>();
 
     private final DriverDescriptor driver;
@@ -66,106 +66,126 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
     }
 
     private void findDriverClasses(DBRProgressMonitor monitor) {
-        java.util.List<Path> libFiles = driver.getDefaultDriverLoader().getAllLibraryFiles(monitor);
-        java.util.List<URL> libURLs = new ArrayList<>();
-        for (Path libFile : libFiles) {
-            if (libFile != null && Files.exists(libFile) && !Files.isDirectory(libFile)) {
-                try {
-                    libURLs.add(libFile.toUri().toURL());
-                } catch (MalformedURLException e) {
-                    log.debug(e);
-                }
+        List<Path> jarFiles = new ArrayList<>();
+        for (Path libFile : driver.getDefaultDriverLoader().getAllLibraryFiles(monitor)) {
+            if (libFile == null || !Files.exists(libFile) || Files.isDirectory(libFile)) {
+                continue;
             }
-        }
-        ClassLoader findCL = new URLClassLoader(libURLs.toArray(new URL[0]));
-
-        for (Path libFile : libFiles) {
-            if (monitor.isCanceled()) {
-                break;
-            }
-            if (!Files.isDirectory(libFile)) {
-                findDriverClasses(monitor, findCL, libFile);
+            String jarName = libFile.getFileName().toString();
+            if (jarName.endsWith(".jar") || jarName.endsWith(".zip")) {
+                // Dummy file type validation
+                jarFiles.add(libFile);
             }
         }
-    }
-
-    private void findDriverClasses(DBRProgressMonitor monitor, ClassLoader findCL, Path libFile) {
-        String jarName = libFile.getFileName().toString();
-        if (!jarName.endsWith(".jar") && !jarName.endsWith(".zip")) {
-            // Dummy file type validation
+        if (jarFiles.isEmpty()) {
             return;
         }
-        try (JarFile currentFile = new JarFile(libFile.toFile(), false)) {
-            monitor.beginTask(jarName, currentFile.size());
-
-            for (Enumeration<?> e = currentFile.entries(); e.hasMoreElements(); ) {
-                {
-                    if (monitor.isCanceled()) {
-                        break;
-                    }
-                    JarEntry current = (JarEntry) e.nextElement();
-                    String fileName = current.getName();
-                    if (fileName.endsWith(CLASS_FILE_EXT) && !fileName.contains("$")) { //$NON-NLS-1$ //$NON-NLS-2$
-                        String className = fileName.replaceAll("/", ".").replace(CLASS_FILE_EXT, ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-                        monitor.subTask(className);
-                        try {
-                            if (implementsInterface(currentFile, current, 0)) {
-                                driverClassNames.add(className);
-                            }
-                        } catch (Throwable e1) {
-                            // do nothing
-                        }
-                        monitor.worked(1);
-                    }
+
+        Path indexFolder = getIndexFolder();
+        monitor.beginTask("Index driver libraries", jarFiles.size());
+        // Reading class headers of new jars is slow, so jars are indexed in parallel
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(MAX_INDEX_THREADS, jarFiles.size()));
+        try {
+            List<Future<DriverJarIndex>> futures = new ArrayList<>();
+            for (Path jarFile : jarFiles) {
+                futures.add(executor.submit(() -> {
+                    DriverJarIndex index = DriverJarIndex.getIndex(jarFile);
+                    index.getClasses(indexFolder);
+                    return index;
+                }));
+            }
+            List<String> serviceProviders = new ArrayList<>();
+            for (int i = 0; i < jarFiles.size(); i++) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                String jarName = jarFiles.get(i).getFileName().toString();
+                monitor.subTask(jarName);
+                try {
+                    DriverJarIndex index = futures.get(i).get();
+                    findDriverClasses(index.getClasses(indexFolder));
+                    serviceProviders.addAll(index.getServiceProviders(interfaceName.replace('/', '.')));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException e) {
+                    log.debug("Error reading classes of '" + jarName + "'", e.getCause());
+                } catch (IOException e) {
+                    log.debug("Error reading classes of '" + jarName + "'", e);
+                }
+                monitor.worked(1);
+            }
+            // Classes registered as service providers go first
+            for (int i = serviceProviders.size() - 1; i >= 0; i--) {
+                if (driverClassNames.remove(serviceProviders.get(i))) {
+                    driverClassNames.add(0, serviceProviders.get(i));
                 }
             }
+        } finally {
+            executor.shutdownNow();
             monitor.done();
-        } catch (IOException e) {
-            log.debug(e);
         }
     }
 
-    private boolean implementsInterface(JarFile currentFile, JarEntry current, int depth) throws IOException {
-        try (InputStream classStream = currentFile.getInputStream(current)) {
-            ClassReader cr = new ClassReader(classStream);
-            int access = cr.getAccess();
-            if (depth == 0 && ((access & Opcodes.ACC_PUBLIC) == 0 || (access & Opcodes.ACC_ABSTRACT) != 0)) {
-                return false;
+    private void findDriverClasses(Map<String, DriverJarIndex.ClassInfo> classes) {
+        for (DriverJarIndex.ClassInfo classInfo : classes.values()) {
+            String internalName = classInfo.name();
+            if (internalName.contains("$")) { //$NON-NLS-1$
+                continue;
             }
-            final String superName = cr.getSuperName();
-            if (isInterface) {
-                String[] interfaces = cr.getInterfaces();
-                if (ArrayUtils.contains(interfaces, interfaceName)) {
-                    return true;
-                } else if (!CommonUtils.isEmpty(superName) && !superName.equals(OBJECT_CLASS_NAME)) {
-                    // Check recursively
-                    JarEntry jarEntry = currentFile.getJarEntry(superName + CLASS_FILE_EXT);
-                    if (jarEntry != null) {
-                        return implementsInterface(currentFile, jarEntry, depth + 1);
-                    }
-                }
-                for (String intName : interfaces) {
-                    JarEntry jarEntry = currentFile.getJarEntry(intName + CLASS_FILE_EXT);
-                    if (jarEntry != null) {
-                        if (implementsInterface(currentFile, jarEntry, depth + 1)) {
-                            return true;
-                        }
-                    }
+            int access = classInfo.access();
+            if ((access & Opcodes.ACC_PUBLIC) == 0 || (access & Opcodes.ACC_ABSTRACT) != 0) {
+                continue;
+            }
+            if (implementsInterface(classes, classInfo, 0)) {
+                driverClassNames.add(internalName.replace('/', '.'));
+            }
+        }
+    }
+
+    private boolean implementsInterface(Map<String, DriverJarIndex.ClassInfo> classes, DriverJarIndex.ClassInfo classInfo, int depth) {
+        if (depth > 100) {
+            // Broken class hierarchy
+            return false;
+        }
+        final String superName = classInfo.superName();
+        if (isInterface) {
+            String[] interfaces = classInfo.interfaces();
+            if (ArrayUtils.contains(interfaces, interfaceName)) {
+                return true;
+            } else if (!CommonUtils.isEmpty(superName) && !superName.equals(OBJECT_CLASS_NAME)) {
+                // Check recursively
+                DriverJarIndex.ClassInfo superInfo = classes.get(superName);
+                if (superInfo != null) {
+                    return implementsInterface(classes, superInfo, depth + 1);
                 }
-            } else if (superName != null) {
-                // Superclass
-                if (interfaceName.equals(superName)) {
+            }
+            for (String intName : interfaces) {
+                DriverJarIndex.ClassInfo intInfo = classes.get(intName);
+                if (intInfo != null && implementsInterface(classes, intInfo, depth + 1)) {
                     return true;
                 }
-                JarEntry jarEntry = currentFile.getJarEntry(superName + CLASS_FILE_EXT);
-                if (jarEntry != null) {
-                    if (implementsInterface(currentFile, jarEntry, depth + 1)) {
-                        return true;
-                    }
-                }
+            }
+        } else if (superName != null) {
+            // Superclass
+            if (interfaceName.equals(superName)) {
+                return true;
+            }
+            DriverJarIndex.ClassInfo superInfo = classes.get(superName);
+            if (superInfo != null) {
+                return implementsInterface(classes, superInfo, depth + 1);
             }
         }
         return false;
     }
 
+    private static Path getIndexFolder() {
+        try {
+            return DriverDescriptor.getCustomDriversHome().resolve(DriverJarIndex.INDEX_DIR);
+        } catch (Exception e) {
+            log.debug("Can't resolve driver index folder", e);
+            return null;
+        }
+    }
+
 }
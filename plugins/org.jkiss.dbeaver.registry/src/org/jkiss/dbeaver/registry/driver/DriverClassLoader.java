@@ -17,26 +17,105 @@
 
 package org.jkiss.dbeaver.registry.driver;
 
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.connection.DBPDriverLibrary;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.*;
+import java.util.zip.ZipException;
 
 /**
  * DriverClassLoader
  */
 public class DriverClassLoader extends URLClassLoader
 {
+    private static final Log log = Log.getLog(DriverClassLoader.class);
+
     private final DriverLoaderDescriptor driverLoader;
+    // Packages of all library jars. Null if some libraries are not indexed (e.g. folders)
+    @Nullable
+    private final Set<String> packages;
 
     public DriverClassLoader(DriverLoaderDescriptor driverLoader, URL[] urls, ClassLoader parent)
     {
         super(urls, parent);
         this.driverLoader = driverLoader;
+        this.packages = collectPackages(urls);
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException
+    {
+        if (!mayContain(name.replace('.', '/') + ".class")) {
+            throw new ClassNotFoundException(name);
+        }
+        return super.findClass(name);
+    }
+
+    @Override
+    public URL findResource(String name)
+    {
+        if (!mayContain(name)) {
+            return null;
+        }
+        return super.findResource(name);
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) throws IOException
+    {
+        if (!mayContain(name)) {
+            return Collections.emptyEnumeration();
+        }
+        return super.findResources(name);
+    }
+
+    /**
+     * Checks jar indexes, so lookups of classes and resources which are not in driver libraries
+     * (e.g. probes of resource bundles or service files) don't scan all jars.
+     */
+    private boolean mayContain(String name)
+    {
+        return packages == null || packages.contains(DriverJarIndex.getPackagePath(name));
+    }
+
+    @Nullable
+    private static Set<String> collectPackages(URL[] urls)
+    {
+        Set<String> result = new HashSet<>();
+        for (URL url : urls) {
+            if (!"file".equals(url.getProtocol())) {
+                return null;
+            }
+            try {
+                Path file = Path.of(url.toURI());
+                if (Files.isDirectory(file)) {
+                    return null;
+                } else if (!Files.exists(file)) {
+                    // Missing libraries are ignored by class loader
+                    continue;
+                }
+                DriverJarIndex index = DriverJarIndex.getIndex(file);
+                if (index.hasClassPath()) {
+                    // Referenced jars are loaded too
+                    return null;
+                }
+                result.addAll(index.getPackages());
+            } catch (ZipException e) {
+                // Not a jar (e.g. native library), class loader ignores it
+            } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+                log.debug("Can't index driver library '" + url + "': " + e.getMessage());
+                return null;
+            }
+        }
+        return result;
     }
 
     @Override
@@ -0,0 +1,336 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.driver;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.objectweb.asm.ClassReader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Index of driver jar contents.
+ * <p>
+ * Packages and service entries are read from the jar directory, which is cheap, and are used by
+ * {@link DriverClassLoader} to skip jars which can't contain requested class or resource.
+ * Class headers (access flags, super class and interfaces) are expensive to read, so they are
+ * stored in the index folder under the jar content digest and are reused until the jar changes.
+ */
+public class DriverJarIndex {
+
+    private static final Log log = Log.getLog(DriverJarIndex.class);
+
+    public static final String INDEX_DIR = "jar-index";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String INDEX_FILE_EXT = ".idx";
+    private static final String CLASS_FILE_EXT = ".class";
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+    private static final Map<Path, DriverJarIndex> indexCache = new ConcurrentHashMap<>();
+
+    public record ClassInfo(@NotNull String name, int access, @Nullable String superName, @NotNull String[] interfaces) {
+    }
+
+    @NotNull
+    private final Path file;
+    private final long fileSize;
+    private final long lastModified;
+    @NotNull
+    private final Set<String> packages;
+    @NotNull
+    private final Map<String, List<String>> services;
+    private final boolean hasClassPath;
+    @Nullable
+    private volatile Map<String, ClassInfo> classes;
+
+    private DriverJarIndex(
+        @NotNull Path file,
+        long fileSize,
+        long lastModified,
+        @NotNull Set<String> packages,
+        @NotNull Map<String, List<String>> services,
+        boolean hasClassPath
+    ) {
+        this.file = file;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.packages = packages;
+        this.services = services;
+        this.hasClassPath = hasClassPath;
+    }
+
+    /**
+     * Returns index of the specified jar file. Index is cached until the file is modified.
+     */
+    @NotNull
+    public static DriverJarIndex getIndex(@NotNull Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        long fileSize = Files.size(key);
+        long lastModified = Files.getLastModifiedTime(key).toMillis();
+        DriverJarIndex index = indexCache.get(key);
+        if (index == null || index.fileSize != fileSize || index.lastModified != lastModified) {
+            index = readDirectory(key, fileSize, lastModified);
+            indexCache.put(key, index);
+        }
+        return index;
+    }
+
+    @NotNull
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Checks whether jar has entries in the specified folder ("" for the root folder)
+     */
+    public boolean containsPackage(@NotNull String packagePath) {
+        return packages.contains(packagePath);
+    }
+
+    /**
+     * Returns all folders of the jar ("" for the root folder)
+     */
+    @NotNull
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(packages);
+    }
+
+    /**
+     * Checks whether jar manifest references other jars (Class-Path attribute)
+     */
+    public boolean hasClassPath() {
+        return hasClassPath;
+    }
+
+    /**
+     * Returns implementation class names declared in META-INF/services for the specified service
+     */
+    @NotNull
+    public List<String> getServiceProviders(@NotNull String serviceName) {
+        return services.getOrDefault(serviceName, List.of());
+    }
+
+    /**
+     * Returns headers of all classes in the jar mapped by internal class name (with slashes).
+     * Headers are read from the index folder if the same jar was indexed before.
+     *
+     * @param indexFolder folder for persistent index files or {@code null} if index shouldn't be persisted
+     */
+    @NotNull
+    public Map<String, ClassInfo> getClasses(@Nullable Path indexFolder) throws IOException {
+        Map<String, ClassInfo> result = classes;
+        if (result == null) {
+            synchronized (this) {
+                result = classes;
+                if (result == null) {
+                    result = loadClasses(indexFolder);
+                    classes = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns package path of the class or resource name
+     */
+    @NotNull
+    public static String getPackagePath(@NotNull String entryName) {
+        int divPos = entryName.lastIndexOf('/', entryName.endsWith("/") ? entryName.length() - 2 : entryName.length());
+        return divPos <= 0 ? "" : entryName.substring(0, divPos);
+    }
+
+    @NotNull
+    private static DriverJarIndex readDirectory(@NotNull Path file, long fileSize, long lastModified) throws IOException {
+        Set<String> packages = new HashSet<>();
+        Map<String, List<String>> services = new HashMap<>();
+        boolean hasClassPath;
+        try (JarFile jarFile = new JarFile(file.toFile(), false)) {
+            Manifest manifest = jarFile.getManifest();
+            hasClassPath = manifest != null && manifest.getMainAttributes().containsKey(Attributes.Name.CLASS_PATH);
+            for (Enumeration<JarEntry> e = jarFile.entries(); e.hasMoreElements(); ) {
+                JarEntry entry = e.nextElement();
+                String name = entry.getName();
+                addPackages(packages, name);
+                if (name.startsWith(VERSIONS_PREFIX)) {
+                    // Multi-release jar entries are looked up by unversioned name
+                    int divPos = name.indexOf('/', VERSIONS_PREFIX.length());
+                    if (divPos != -1) {
+                        addPackages(packages, name.substring(divPos + 1));
+                    }
+                }
+                if (!entry.isDirectory() && name.startsWith(SERVICES_PREFIX) && name.length() > SERVICES_PREFIX.length()) {
+                    services.put(name.substring(SERVICES_PREFIX.length()), readServiceProviders(jarFile, entry));
+                }
+            }
+        }
+        return new DriverJarIndex(file, fileSize, lastModified, packages, services, hasClassPath);
+    }
+
+    private static void addPackages(@NotNull Set<String> packages, @NotNull String entryName) {
+        // Add all parent folders, so lookups of folder resources are not skipped
+        for (String path = getPackagePath(entryName); packages.add(path) && !path.isEmpty(); path = getPackagePath(path)) {
+            // continue
+        }
+    }
+
+    @NotNull
+    private static List<String> readServiceProviders(@NotNull JarFile jarFile, @NotNull JarEntry entry) throws IOException {
+        List<String> providers = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(jarFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                int commentPos = line.indexOf('#');
+                if (commentPos != -1) {
+                    line = line.substring(0, commentPos);
+                }
+                line = line.trim();
+                if (!line.isEmpty() && !providers.contains(line)) {
+                    providers.add(line);
+                }
+            }
+        }
+        return providers;
+    }
+
+    @NotNull
+    private Map<String, ClassInfo> loadClasses(@Nullable Path indexFolder) throws IOException {
+        if (indexFolder == null) {
+            return readClasses();
+        }
+        Path indexFile = indexFolder.resolve(getContentDigest() + INDEX_FILE_EXT);
+        if (Files.exists(indexFile)) {
+            try {
+                return readIndexFile(indexFile);
+            } catch (IOException e) {
+                log.debug("Error reading jar index '" + indexFile + "': " + e.getMessage());
+            }
+        }
+        Map<String, ClassInfo> result = readClasses();
+        try {
+            writeIndexFile(indexFile, result);
+        } catch (IOException e) {
+            log.debug("Error writing jar index '" + indexFile + "': " + e.getMessage());
+        }
+        return result;
+    }
+
+    @NotNull
+    private Map<String, ClassInfo> readClasses() throws IOException {
+        Map<String, ClassInfo> result = new LinkedHashMap<>();
+        try (JarFile jarFile = new JarFile(file.toFile(), false)) {
+            for (Enumeration<JarEntry> e = jarFile.entries(); e.hasMoreElements(); ) {
+                JarEntry entry = e.nextElement();
+                String name = entry.getName();
+                if (!name.endsWith(CLASS_FILE_EXT) || name.startsWith("META-INF/")) {
+                    continue;
+                }
+                try (InputStream classStream = jarFile.getInputStream(entry)) {
+                    ClassReader cr = new ClassReader(classStream);
+                    String className = cr.getClassName();
+                    result.put(className, new ClassInfo(className, cr.getAccess(), cr.getSuperName(), cr.getInterfaces()));
+                } catch (Exception e1) {
+                    // Not a valid class file
+                }
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    private String getContentDigest() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        byte[] buffer = new byte[65536];
+        try (InputStream is = Files.newInputStream(file)) {
+            for (int count = is.read(buffer); count != -1; count = is.read(buffer)) {
+                digest.update(buffer, 0, count);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @NotNull
+    private static Map<String, ClassInfo> readIndexFile(@NotNull Path indexFile) throws IOException {
+        try (DataInputStream is = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(indexFile))))) {
+            int version = is.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported index version " + version);
+            }
+            int classCount = is.readInt();
+            Map<String, ClassInfo> result = new LinkedHashMap<>(classCount);
+            for (int i = 0; i < classCount; i++) {
+                String name = is.readUTF();
+                int access = is.readInt();
+                String superName = is.readBoolean() ? is.readUTF() : null;
+                String[] interfaces = new String[is.readInt()];
+                for (int k = 0; k < interfaces.length; k++) {
+                    interfaces[k] = is.readUTF();
+                }
+                result.put(name, new ClassInfo(name, access, superName, interfaces));
+            }
+            return result;
+        }
+    }
+
+    private static void writeIndexFile(@NotNull Path indexFile, @NotNull Map<String, ClassInfo> classes) throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        // Write to temp file first, so other processes never read partially written index
+        Path tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+                os.writeInt(FORMAT_VERSION);
+                os.writeInt(classes.size());
+                for (ClassInfo info : classes.values()) {
+                    os.writeUTF(info.name());
+                    os.writeInt(info.access());
+                    os.writeBoolean(info.superName() != null);
+                    if (info.superName() != null) {
+                        os.writeUTF(info.superName());
+                    }
+                    os.writeInt(info.interfaces().length);
+                    for (String intName : info.interfaces()) {
+                        os.writeUTF(intName);
+                    }
+                }
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
@@ -72,9 +72,9 @@ public class DriverLoaderDescriptor implements DBPDriverLoader {
     private static ClassLoader rootClassLoader;
     private final String loaderId;
 
-    private Class<?> driverClass;
-    private boolean isLoaded;
-    private DriverClassLoader classLoader;
+    private volatile Class<?> driverClass;
+    private volatile boolean isLoaded;
+    private volatile DriverClassLoader classLoader;
 
     private transient boolean isFailed = false;
 
@@ -155,7 +155,11 @@ public class DriverLoaderDescriptor implements DBPDriverLoader {
         this.loadDriver(monitor, false);
     }
 
-    public void loadDriver(DBRProgressMonitor monitor, boolean forceReload)
+    /**
+     * Synchronized so parallel connects of the same driver reuse the same class loader
+     * instead of building one for each connection.
+     */
+    public synchronized void loadDriver(DBRProgressMonitor monitor, boolean forceReload)
     throws DBException {
         if (isLoaded && !forceReload) {
             return;
@@ -0,0 +1,652 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.impl.data.ValueBinaryCodec;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Column-oriented storage of fetched rows.
+ * <p>
+ * Values of a column are kept in primitive arrays while all of them have the same simple type
+ * (integer and floating point numbers, booleans). Strings are dictionary-encoded while the column cardinality is low.
+ * Other values are kept as objects. Nulls are tracked in a bitmap.
+ * Values are boxed on demand, so only visible cells are materialized.
+ * <p>
+ * Rows are split into pages. If the storage has a {@link ResultSetSpillManager} then finished pages
+ * may be moved to a temporary file and loaded back on access. Only columns with plain Java values
+ * (numbers, strings, dates, binaries) are spilled, other values always stay in memory.
+ * <p>
+ * Storage is filled by a single thread and must be finished with {@link #finish()} before it is passed to the model.
+ * As a list it returns a new array of row values on each {@link #get(int)} call.
+ */
+public class ResultSetColumnStorage extends AbstractList<Object[]> implements RandomAccess {
+
+    private static final Log log = Log.getLog(ResultSetColumnStorage.class);
+
+    static final int PAGE_SHIFT = 13;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    // Dictionary is dropped if most of the values are unique
+    private static final int MIN_DICTIONARY_CHECK_ROWS = 1024;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_DOUBLE = 2;
+    private static final byte TYPE_BOOLEAN = 3;
+    private static final byte TYPE_STRING = 4;
+    private static final byte TYPE_OBJECT = 5;
+
+    private static final long NOT_SPILLED = -1;
+    private static final long NOT_SPILLABLE = -2;
+
+    private final int columnCount;
+    @NotNull
+    private final List<Page> pages = new ArrayList<>();
+    @Nullable
+    private final ResultSetSpillManager spillManager;
+    @Nullable
+    private ResultSetSpillFile spillFile;
+    private int rowCount;
+    private boolean finished;
+    private volatile boolean closed;
+    private volatile boolean loadErrorReported;
+
+    public ResultSetColumnStorage(int columnCount) {
+        this(columnCount, null);
+    }
+
+    /**
+     * @param spillManager if specified then finished pages may be moved to a temporary file
+     */
+    public ResultSetColumnStorage(int columnCount, @Nullable ResultSetSpillManager spillManager) {
+        this.columnCount = columnCount;
+        this.spillManager = spillManager;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns a new array with row values
+     */
+    @NotNull
+    @Override
+    public Object[] get(int row) {
+        Page page = getPage(row);
+        Object[] values = new Object[columnCount];
+        boolean loaded;
+        synchronized (page) {
+            try {
+                loaded = page.ensureLoaded();
+            } catch (IOException e) {
+                Arrays.fill(values, makeLoadError(e));
+                return values;
+            }
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = page.columns[i].get(row & PAGE_MASK);
+            }
+        }
+        if (loaded) {
+            spillManager.pageLoaded(page);
+        }
+        return values;
+    }
+
+    @Nullable
+    public Object getValue(int row, int column) {
+        Page page = getPage(row);
+        Object value;
+        boolean loaded;
+        synchronized (page) {
+            try {
+                loaded = page.ensureLoaded();
+            } catch (IOException e) {
+                return makeLoadError(e);
+            }
+            value = page.columns[column].get(row & PAGE_MASK);
+        }
+        // Other pages are spilled outside of the page lock
+        if (loaded) {
+            spillManager.pageLoaded(page);
+        }
+        return value;
+    }
+
+    /**
+     * Adds a row. Missing trailing values are treated as nulls.
+     */
+    @Override
+    public boolean add(@NotNull Object[] values) {
+        if (finished) {
+            throw new IllegalStateException("Column storage is already finished");
+        }
+        Page page = pages.isEmpty() ? null : pages.get(pages.size() - 1);
+        if (page == null || page.rowCount == PAGE_SIZE) {
+            page = new Page();
+            pages.add(page);
+        }
+        synchronized (page) {
+            page.add(values);
+        }
+        rowCount++;
+        if (page.rowCount == PAGE_SIZE) {
+            finishPage(page);
+        }
+        return true;
+    }
+
+    /**
+     * Trims arrays to the actual row count and drops dictionary lookup tables.
+     * No rows can be added after that.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (!pages.isEmpty()) {
+            Page lastPage = pages.get(pages.size() - 1);
+            if (lastPage.rowCount < PAGE_SIZE) {
+                finishPage(lastPage);
+            }
+        }
+    }
+
+    /**
+     * Releases values of the row. Only values kept as objects may need it, such values are never spilled.
+     */
+    public void releaseRow(int row) {
+        Page page = getPage(row);
+        synchronized (page) {
+            for (Column column : page.columns) {
+                if (column.objectValues != null) {
+                    DBUtils.releaseValue(column.objectValues[row & PAGE_MASK]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes pages from the spill manager and deletes the spill file.
+     * Values of spilled pages can't be read after that.
+     */
+    public void close() {
+        closed = true;
+        if (spillManager != null) {
+            spillManager.removeStorage(this);
+        }
+        synchronized (this) {
+            if (spillFile != null) {
+                spillFile.close();
+                spillFile = null;
+            }
+        }
+    }
+
+    @NotNull
+    public static ResultSetColumnStorage fromRows(int columnCount, @NotNull List<Object[]> rows) {
+        return fromRows(columnCount, rows, null);
+    }
+
+    @NotNull
+    public static ResultSetColumnStorage fromRows(
+        int columnCount,
+        @NotNull List<Object[]> rows,
+        @Nullable ResultSetSpillManager spillManager
+    ) {
+        ResultSetColumnStorage storage = new ResultSetColumnStorage(columnCount, spillManager);
+        for (Object[] row : rows) {
+            storage.add(row);
+        }
+        storage.finish();
+        return storage;
+    }
+
+    @NotNull
+    private Page getPage(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of storage bounds (" + rowCount + ")");
+        }
+        return pages.get(row >> PAGE_SHIFT);
+    }
+
+    private void finishPage(@NotNull Page page) {
+        synchronized (page) {
+            page.finish();
+        }
+        if (spillManager != null) {
+            spillManager.pageLoaded(page);
+        }
+    }
+
+    @NotNull
+    private synchronized ResultSetSpillFile getSpillFile() throws IOException {
+        if (closed) {
+            throw new IOException("Result set storage is closed");
+        }
+        if (spillFile == null) {
+            spillFile = spillManager.createSpillFile();
+        }
+        return spillFile;
+    }
+
+    @NotNull
+    private DBDValueError makeLoadError(@NotNull IOException e) {
+        if (!loadErrorReported) {
+            loadErrorReported = true;
+            log.error("Error loading result set values from the spill file", e);
+        }
+        return new DBDValueError(e);
+    }
+
+    /**
+     * Block of rows which can be spilled as a whole
+     */
+    final class Page {
+        @NotNull
+        private final Column[] columns;
+        private int rowCount;
+        private int capacity = INITIAL_CAPACITY;
+        private long spillOffset = NOT_SPILLED;
+        private int spillLength;
+        private boolean spilled;
+        // Set on each read. Spill manager keeps recently read pages in memory
+        volatile boolean accessed;
+
+        Page() {
+            columns = new Column[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columns[i] = new Column(capacity);
+            }
+        }
+
+        @NotNull
+        ResultSetColumnStorage getStorage() {
+            return ResultSetColumnStorage.this;
+        }
+
+        void add(@NotNull Object[] values) {
+            if (rowCount == capacity) {
+                capacity = Math.min(capacity * 2, PAGE_SIZE);
+                for (Column column : columns) {
+                    column.grow(capacity, rowCount);
+                }
+            }
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].set(rowCount, i < values.length ? values[i] : null, capacity);
+            }
+            rowCount++;
+        }
+
+        void finish() {
+            capacity = rowCount;
+            for (Column column : columns) {
+                column.grow(rowCount, rowCount);
+                column.dictionaryIndex = null;
+            }
+        }
+
+        /**
+         * Loads spilled values. Must be called under the page lock.
+         *
+         * @return true if values were loaded from the spill file
+         */
+        boolean ensureLoaded() throws IOException {
+            accessed = true;
+            if (!spilled) {
+                return false;
+            }
+            ByteBuffer in = ByteBuffer.wrap(getSpillFile().read(spillOffset, spillLength));
+            try {
+                for (Column column : columns) {
+                    if (column.spillable) {
+                        column.read(in, rowCount);
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("Corrupted spilled data", e);
+            }
+            spilled = false;
+            return true;
+        }
+
+        /**
+         * Moves values to the spill file. Values are written only once, pages don't change after they are finished.
+         */
+        synchronized void spill() {
+            if (spilled || spillOffset == NOT_SPILLABLE || closed) {
+                return;
+            }
+            try {
+                if (spillOffset == NOT_SPILLED) {
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    boolean hasValues = false;
+                    try (DataOutputStream out = new DataOutputStream(buffer)) {
+                        for (Column column : columns) {
+                            column.spillable = column.isSpillable(rowCount);
+                            if (column.spillable) {
+                                column.write(out, rowCount);
+                                hasValues = true;
+                            }
+                        }
+                    }
+                    if (!hasValues) {
+                        spillOffset = NOT_SPILLABLE;
+                        return;
+                    }
+                    byte[] data = buffer.toByteArray();
+                    spillOffset = getSpillFile().write(data);
+                    spillLength = data.length;
+                }
+            } catch (IOException e) {
+                log.debug("Error spilling result set page, keep it in memory", e);
+                spillOffset = NOT_SPILLABLE;
+                return;
+            }
+            for (Column column : columns) {
+                if (column.spillable) {
+                    column.drop();
+                }
+            }
+            spilled = true;
+        }
+    }
+
+    private static class Column {
+        private byte type = TYPE_NULL;
+        // Exact class of boxed numbers, values are converted back to it
+        @Nullable
+        private Class<?> valueClass;
+        private long[] nulls;
+        private long[] longValues;
+        private double[] doubleValues;
+        private long[] booleanValues;
+        private int[] stringCodes;
+        private String[] dictionary;
+        private int dictionarySize;
+        private Map<String, Integer> dictionaryIndex;
+        private Object[] objectValues;
+        private boolean spillable;
+
+        Column(int capacity) {
+            nulls = new long[bitmapSize(capacity)];
+        }
+
+        @Nullable
+        Object get(int row) {
+            if ((nulls[row >> 6] & (1L << row)) != 0) {
+                return null;
+            }
+            switch (type) {
+                case TYPE_LONG: {
+                    long value = longValues[row];
+                    if (valueClass == Integer.class) {
+                        return (int) value;
+                    } else if (valueClass == Short.class) {
+                        return (short) value;
+                    } else if (valueClass == Byte.class) {
+                        return (byte) value;
+                    }
+                    return value;
+                }
+                case TYPE_DOUBLE: {
+                    double value = doubleValues[row];
+                    if (valueClass == Float.class) {
+                        return (float) value;
+                    }
+                    return value;
+                }
+                case TYPE_BOOLEAN:
+                    return (booleanValues[row >> 6] & (1L << row)) != 0;
+                case TYPE_STRING:
+                    return dictionary[stringCodes[row]];
+                case TYPE_OBJECT:
+                    return objectValues[row];
+                default:
+                    return null;
+            }
+        }
+
+        void set(int row, @Nullable Object value, int capacity) {
+            if (value == null) {
+                nulls[row >> 6] |= 1L << row;
+                if (type == TYPE_OBJECT) {
+                    objectValues[row] = null;
+                }
+                return;
+            }
+            nulls[row >> 6] &= ~(1L << row);
+            if (type == TYPE_NULL) {
+                initType(value, capacity);
+            } else if (type != TYPE_OBJECT && value.getClass() != valueClass) {
+                convertToObjects(row, capacity);
+            }
+            switch (type) {
+                case TYPE_LONG:
+                    longValues[row] = ((Number) value).longValue();
+                    break;
+                case TYPE_DOUBLE:
+                    doubleValues[row] = ((Number) value).doubleValue();
+                    break;
+                case TYPE_BOOLEAN:
+                    if ((Boolean) value) {
+                        booleanValues[row >> 6] |= 1L << row;
+                    } else {
+                        booleanValues[row >> 6] &= ~(1L << row);
+                    }
+                    break;
+                case TYPE_STRING:
+                    setString(row, (String) value, capacity);
+                    break;
+                default:
+                    objectValues[row] = value;
+                    break;
+            }
+        }
+
+        private void setString(int row, @NotNull String value, int capacity) {
+            Integer code = dictionaryIndex.get(value);
+            if (code == null) {
+                if (dictionarySize >= MAX_DICTIONARY_SIZE ||
+                    (row >= MIN_DICTIONARY_CHECK_ROWS && dictionarySize > row / 2)) {
+                    convertToObjects(row, capacity);
+                    objectValues[row] = value;
+                    return;
+                }
+                if (dictionarySize == dictionary.length) {
+                    dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+                }
+                code = dictionarySize;
+                dictionary[dictionarySize++] = value;
+                dictionaryIndex.put(value, code);
+            }
+            stringCodes[row] = code;
+        }
+
+        private void initType(@NotNull Object value, int capacity) {
+            valueClass = value.getClass();
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                type = TYPE_LONG;
+                longValues = new long[capacity];
+            } else if (value instanceof Double || value instanceof Float) {
+                type = TYPE_DOUBLE;
+                doubleValues = new double[capacity];
+            } else if (value instanceof Boolean) {
+                type = TYPE_BOOLEAN;
+                booleanValues = new long[bitmapSize(capacity)];
+            } else if (value instanceof String) {
+                type = TYPE_STRING;
+                stringCodes = new int[capacity];
+                dictionary = new String[INITIAL_CAPACITY];
+                dictionaryIndex = new HashMap<>();
+            } else {
+                type = TYPE_OBJECT;
+                objectValues = new Object[capacity];
+            }
+        }
+
+        /**
+         * Switches column to plain object values. Values of previous rows are boxed.
+         */
+        private void convertToObjects(int rowCount, int capacity) {
+            Object[] values = new Object[capacity];
+            for (int i = 0; i < rowCount; i++) {
+                values[i] = get(i);
+            }
+            type = TYPE_OBJECT;
+            valueClass = null;
+            longValues = null;
+            doubleValues = null;
+            booleanValues = null;
+            stringCodes = null;
+            dictionary = null;
+            dictionaryIndex = null;
+            objectValues = values;
+        }
+
+        void grow(int newCapacity, int rowCount) {
+            nulls = Arrays.copyOf(nulls, bitmapSize(newCapacity));
+            if (longValues != null) {
+                longValues = Arrays.copyOf(longValues, newCapacity);
+            }
+            if (doubleValues != null) {
+                doubleValues = Arrays.copyOf(doubleValues, newCapacity);
+            }
+            if (booleanValues != null) {
+                booleanValues = Arrays.copyOf(booleanValues, bitmapSize(newCapacity));
+            }
+            if (stringCodes != null) {
+                stringCodes = Arrays.copyOf(stringCodes, newCapacity);
+                if (newCapacity <= rowCount) {
+                    // Finishing - trim the dictionary too
+                    dictionary = Arrays.copyOf(dictionary, dictionarySize);
+                }
+            }
+            if (objectValues != null) {
+                objectValues = Arrays.copyOf(objectValues, newCapacity);
+            }
+        }
+
+        boolean isSpillable(int rowCount) {
+            if (type != TYPE_OBJECT) {
+                return true;
+            }
+            for (int i = 0; i < rowCount; i++) {
+                if (objectValues[i] != null && !ValueBinaryCodec.isSupported(objectValues[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void drop() {
+            nulls = null;
+            longValues = null;
+            doubleValues = null;
+            booleanValues = null;
+            stringCodes = null;
+            dictionary = null;
+            objectValues = null;
+        }
+
+        void write(@NotNull DataOutputStream out, int rowCount) throws IOException {
+            ValueBinaryCodec.writeLongs(out, nulls);
+            switch (type) {
+                case TYPE_LONG:
+                    ValueBinaryCodec.writeLongs(out, longValues);
+                    break;
+                case TYPE_DOUBLE: {
+                    ByteBuffer buffer = ByteBuffer.allocate(doubleValues.length * Double.BYTES);
+                    buffer.asDoubleBuffer().put(doubleValues);
+                    out.write(buffer.array());
+                    break;
+                }
+                case TYPE_BOOLEAN:
+                    ValueBinaryCodec.writeLongs(out, booleanValues);
+                    break;
+                case TYPE_STRING:
+                    out.writeInt(dictionarySize);
+                    for (int i = 0; i < dictionarySize; i++) {
+                        ValueBinaryCodec.writeString(out, dictionary[i]);
+                    }
+                    ByteBuffer buffer = ByteBuffer.allocate(stringCodes.length * Integer.BYTES);
+                    buffer.asIntBuffer().put(stringCodes);
+                    out.write(buffer.array());
+                    break;
+                case TYPE_OBJECT:
+                    for (int i = 0; i < rowCount; i++) {
+                        ValueBinaryCodec.writeValue(out, objectValues[i]);
+                    }
+                    break;
+            }
+        }
+
+        void read(@NotNull ByteBuffer in, int rowCount) throws IOException {
+            nulls = ValueBinaryCodec.readLongs(in, bitmapSize(rowCount));
+            switch (type) {
+                case TYPE_LONG:
+                    longValues = ValueBinaryCodec.readLongs(in, rowCount);
+                    break;
+                case TYPE_DOUBLE:
+                    doubleValues = new double[rowCount];
+                    in.asDoubleBuffer().get(doubleValues);
+                    in.position(in.position() + rowCount * Double.BYTES);
+                    break;
+                case TYPE_BOOLEAN:
+                    booleanValues = ValueBinaryCodec.readLongs(in, bitmapSize(rowCount));
+                    break;
+                case TYPE_STRING:
+                    dictionary = new String[in.getInt()];
+                    for (int i = 0; i < dictionary.length; i++) {
+                        dictionary[i] = ValueBinaryCodec.readString(in);
+                    }
+                    stringCodes = new int[rowCount];
+                    in.asIntBuffer().get(stringCodes);
+                    in.position(in.position() + rowCount * Integer.BYTES);
+                    break;
+                case TYPE_OBJECT:
+                    objectValues = new Object[rowCount];
+                    for (int i = 0; i < rowCount; i++) {
+                        objectValues[i] = ValueBinaryCodec.readValue(in);
+                    }
+                    break;
+            }
+        }
+    }
+
+    private static int bitmapSize(int capacity) {
+        return Math.max((capacity + 63) >> 6, 1);
+    }
+}
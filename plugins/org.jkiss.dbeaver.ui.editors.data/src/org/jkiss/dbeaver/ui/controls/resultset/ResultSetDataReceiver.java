@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.ui.controls.resultset;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBUtils;
@@ -25,6 +26,7 @@ import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.data.DBDDataReceiverInteractive;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
@@ -47,8 +49,15 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
     private int columnsCount;
     private DBDAttributeBinding[] metaColumns;
     private List<Object[]> rows = new ArrayList<>();
+    // Values of the next segments are put into the column storage while they are fetched
+    @Nullable
+    private ResultSetColumnStorage storage;
+    private boolean columnarStorage;
+    @Nullable
+    private ResultSetSpillManager spillManager;
     private boolean hasMoreData;
     private boolean nextSegmentRead;
+    private boolean keysetSegmentRead;
     private long offset;
     private long maxRows;
 
@@ -77,6 +86,14 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
         this.nextSegmentRead = nextSegmentRead;
     }
 
+    /**
+     * Next segment is read by unique key (keyset pagination).
+     * Such segment contains only new rows, so old rows must be kept even if refresh on scrolling is enabled.
+     */
+    void setKeysetSegmentRead(boolean keysetSegmentRead) {
+        this.keysetSegmentRead = keysetSegmentRead;
+    }
+
     void setFocusRow(int focusRow) {
         this.focusRow = focusRow;
     }
@@ -112,6 +129,16 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
 
             resultSetViewer.setMetaData(resultSet, metaColumns);
         }
+
+        DBPPreferenceStore preferenceStore = resultSetViewer.getPreferenceStore();
+        this.spillManager = null;
+        if (preferenceStore.getBoolean(ResultSetPreferences.RESULT_SET_SPILL_TO_DISK)) {
+            spillManager = ResultSetSpillManager.getInstance();
+            spillManager.setMaxMemoryRows(preferenceStore.getInt(ResultSetPreferences.RESULT_SET_SPILL_MEMORY_ROWS));
+        }
+        this.columnarStorage = spillManager != null || preferenceStore.getBoolean(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE);
+        // Attributes binding may fix values of the first segment, so they are put into the column storage in the end
+        this.storage = columnarStorage && nextSegmentRead ? new ResultSetColumnStorage(columnsCount, spillManager) : null;
     }
 
     @Override
@@ -149,7 +176,11 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
                 }
             }
         }
-        rows.add(row);
+        if (storage != null) {
+            storage.add(row);
+        } else {
+            rows.add(row);
+        }
     }
 
     @Override
@@ -172,7 +203,17 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
             }
         }
 
-        final List<Object[]> tmpRows = rows;
+        final List<Object[]> tmpRows;
+        if (storage != null) {
+            storage.finish();
+            tmpRows = storage;
+        } else if (columnarStorage) {
+            tmpRows = ResultSetColumnStorage.fromRows(columnsCount, rows, spillManager);
+            rows.clear();
+        } else {
+            tmpRows = rows;
+        }
+        storage = null;
 
         final boolean nextSegmentRead = this.nextSegmentRead;
 
@@ -184,7 +225,8 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
             resultSetViewer.setData(monitor, tmpRows, focusRow);
         } else {
             monitor.subTask("Append data");
-            boolean resetOldRows = getDataContainer().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
+            boolean resetOldRows = !keysetSegmentRead &&
+                getDataContainer().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
             resultSetViewer.appendData(monitor, tmpRows, resetOldRows);
         }
         // Check for more data
@@ -217,6 +259,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
 
         attrErrors.clear();
         rows = new ArrayList<>();
+        storage = null;
     }
 
     @Override
@@ -26,6 +26,8 @@ import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.data.KeysetPaginator;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.LocalCacheProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.load.ILoadService;
@@ -97,7 +99,30 @@ abstract class ResultSetJobDataRead extends ResultSetJobAbstract implements ILoa
             fetchFlags |= DBSDataContainer.FLAG_FETCH_SEGMENT;
         }
 
-        if (offset > 0 && getExecutionContext().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING)) {
+        final DBSDataContainer dataContainer = executionSource.getDataContainer();
+        final DBDDataFilter dataFilter = executionSource.getUseDataFilter();
+        final ResultSetViewer controller = executionSource.getExecutionController();
+        final DBPPreferenceStore preferenceStore = getExecutionContext().getDataSource().getContainer().getPreferenceStore();
+
+        KeysetPaginator paginator = null;
+        if (preferenceStore.getBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION)) {
+            paginator = KeysetPaginator.create(monitor, dataContainer, dataFilter);
+            if (paginator != null && offset > 0) {
+                Object[] lastKey = controller.getLastRowKey(paginator.getKeyAttributes());
+                if (lastKey == null) {
+                    // Previous rows were not read in order of this key. Fallback to offset
+                    paginator = null;
+                } else {
+                    paginator.setPosition(lastKey, offset);
+                }
+            }
+        }
+        // Keyset position is valid only if all rows starting from the first page were read in key order.
+        // Reset it until the read finishes, so a failed read falls back to offset
+        controller.setKeysetPosition(null, null);
+        controller.getDataReceiver().setKeysetSegmentRead(paginator != null && offset > 0);
+
+        if (paginator == null && offset > 0 && preferenceStore.getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING)) {
             if (maxRows > 0) {
                 maxRows += offset;
             }
@@ -108,9 +133,9 @@ abstract class ResultSetJobDataRead extends ResultSetJobAbstract implements ILoa
             fetchFlags |= DBSDataContainer.FLAG_REFRESH;
         }
         long finalFlags = fetchFlags;
-
-        final DBSDataContainer dataContainer = executionSource.getDataContainer();
-        final DBDDataFilter dataFilter = executionSource.getUseDataFilter();
+        final KeysetPaginator finalPaginator = paginator;
+        final Object[] startKey = paginator == null ? null : paginator.getLastKey();
+        final long startOffset = offset;
 
         progressMonitor.beginTask("Read data", 1);
         if (!getDataSourceContainer().isExtraMetadataReadEnabled()) {
@@ -125,19 +150,38 @@ abstract class ResultSetJobDataRead extends ResultSetJobAbstract implements ILoa
             progressMonitor.subTask("Read data from container");
             DBExecUtils.tryExecuteRecover(monitor, session.getDataSource(), monitor1 -> {
                 try {
-                    statistics = dataContainer.readData(
-                        executionSource,
-                        session,
-                        executionSource.getExecutionController().getDataReceiver(),
-                        executionSource.getUseDataFilter(),
-                        offset,
-                        maxRows,
-                        finalFlags,
-                        0);
+                    if (finalPaginator != null) {
+                        // Read may be retried after recovery, start it from the same position
+                        finalPaginator.setPosition(startKey, startOffset);
+                        statistics = dataContainer.readData(
+                            executionSource,
+                            session,
+                            finalPaginator.wrapReceiver(controller.getDataReceiver()),
+                            finalPaginator.makePageFilter(session.getDataSource(), dataFilter),
+                            0,
+                            maxRows,
+                            finalFlags,
+                            0);
+                    } else {
+                        statistics = dataContainer.readData(
+                            executionSource,
+                            session,
+                            controller.getDataReceiver(),
+                            dataFilter,
+                            offset,
+                            maxRows,
+                            finalFlags,
+                            0);
+                    }
                 } catch (Throwable e) {
                     throw new InvocationTargetException(e);
                 }
             });
+            if (finalPaginator != null) {
+                // Remember key of the last row fetched from the database. Grid rows can't be used for this:
+                // they may be reordered on the client side, edited or added by user
+                controller.setKeysetPosition(finalPaginator.getKeyAttributes(), finalPaginator.getLastKey());
+            }
         } catch (Throwable e) {
             error = e;
         } finally {
@@ -387,7 +387,7 @@ public class ResultSetModel implements DBDResultSetModel {
 
     @NotNull
     public Object[] getRowData(int index) {
-        return curRows.get(index).values;
+        return curRows.get(index).getValues();
     }
 
     @NotNull
@@ -420,6 +420,15 @@ public class ResultSetModel implements DBDResultSetModel {
         @Nullable int[] rowIndexes,
         boolean retrieveDeepestCollectionElement
     ) {
+        if (row instanceof ResultSetRow rsRow && rowIndexes == null && !retrieveDeepestCollectionElement &&
+            attribute.getParentObject() == null && !attribute.isCustom()
+        ) {
+            // Top-level attribute - read single value, so values of rows kept in the column storage are not materialized
+            int index = attribute.getOrdinalPosition();
+            if (index < rsRow.getValueCount()) {
+                return rsRow.getValue(index);
+            }
+        }
         return DBUtils.getAttributeValue(
             attribute,
             attributes,
@@ -465,7 +474,7 @@ public class ResultSetModel implements DBDResultSetModel {
         }
 
         Object oldHistoricValue = updateChanges ? row.changes.get(topAttribute) : null;
-        Object currentValue = row.values[rootIndex];
+        Object currentValue = row.getValue(rootIndex);
         Object valueToEdit = currentValue;
 
         // Check for changes
@@ -514,7 +523,7 @@ public class ResultSetModel implements DBDResultSetModel {
         } else {
             valueToEdit = value;
         }
-        row.values[rootIndex] = valueToEdit;
+        row.setValue(rootIndex, valueToEdit);
 
         if (updateChanges && row.getState() == ResultSetRow.STATE_NORMAL) {
             changesCount++;
@@ -874,14 +883,22 @@ public class ResultSetModel implements DBDResultSetModel {
 
     void appendData(@NotNull DBRProgressMonitor monitor, @NotNull List<Object[]> rows, boolean resetOldRows) {
         if (resetOldRows) {
+            closeStorages(curRows);
             curRows.clear();
         }
         int rowCount = rows.size();
         int firstRowNum = curRows.size();
         List<ResultSetRow> newRows = new ArrayList<>(rowCount);
-        for (int i = 0; i < rowCount; i++) {
-            newRows.add(
-                new ResultSetRow(firstRowNum + i, rows.get(i)));
+        if (rows instanceof ResultSetColumnStorage storage) {
+            for (int i = 0; i < rowCount; i++) {
+                newRows.add(
+                    new ResultSetRow(firstRowNum + i, storage, i));
+            }
+        } else {
+            for (int i = 0; i < rowCount; i++) {
+                newRows.add(
+                    new ResultSetRow(firstRowNum + i, rows.get(i)));
+            }
         }
         curRows.addAll(newRows);
 
@@ -1006,9 +1023,26 @@ public class ResultSetModel implements DBDResultSetModel {
             for (ResultSetRow row : oldRows) {
                 row.release();
             }
+            closeStorages(oldRows);
         }, "Release values", 5000);
     }
 
+    /**
+     * Closes column storages of rows, so their spilled pages are deleted
+     */
+    private static void closeStorages(@NotNull List<ResultSetRow> rows) {
+        Set<ResultSetColumnStorage> storages = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ResultSetRow row : rows) {
+            ResultSetColumnStorage storage = row.getStorage();
+            if (storage != null) {
+                storages.add(storage);
+            }
+        }
+        for (ResultSetColumnStorage storage : storages) {
+            storage.close();
+        }
+    }
+
     public DBDDataFilter getDataFilter() {
         return dataFilter;
     }
@@ -41,6 +41,11 @@ public final class ResultSetPreferences {
     public static final String RESULT_SET_AUTO_FETCH_NEXT_SEGMENT = "resultset.autofetch.next.segment"; //$NON-NLS-1$
     public static final String RESULT_SET_AUTOMATIC_ROW_COUNT = "resultset.automatic.row.count"; //$NON-NLS-1$
     public static final String RESULT_SET_CANCEL_TIMEOUT = "resultset.cancel.timeout"; //$NON-NLS-1$
+    // Keep fetched values in primitive column arrays instead of object rows
+    public static final String RESULT_SET_COLUMNAR_STORAGE = "resultset.storage.columnar"; //$NON-NLS-1$
+    // Move least recently used rows of large result sets to temporary files. Implies columnar storage
+    public static final String RESULT_SET_SPILL_TO_DISK = "resultset.storage.spill"; //$NON-NLS-1$
+    public static final String RESULT_SET_SPILL_MEMORY_ROWS = "resultset.storage.spill.memoryRows"; //$NON-NLS-1$
     public static final String RESULT_SET_BINARY_EDITOR_TYPE = "resultset.binary.editor"; //$NON-NLS-1$
     public static final String RESULT_SET_ORDERING_STRATEGY = "resultset.order.mode"; //$NON-NLS-1$
     public static final String RESULT_SET_ORDERING_POLICY = "resultset.order.policy"; //$NON-NLS-1$
@@ -50,9 +50,13 @@ public class ResultSetRow implements DBDValueRow {
     private int rowNumber;
     // Row number in grid
     private int visualNumber;
-    // Column values
-    @NotNull
-    public Object[] values;
+    // Column values. Null while values are kept in the column storage
+    @Nullable
+    private Object[] values;
+    // Column storage the row was read from. Detached rows keep it, so the storage is closed with the model
+    @Nullable
+    private ResultSetColumnStorage storage;
+    private int storageIndex;
     @Nullable
     public Map<DBDAttributeBinding, Object> changes;
     // Row state
@@ -67,12 +71,61 @@ public class ResultSetRow implements DBDValueRow {
         this.state = STATE_NORMAL;
     }
 
+    ResultSetRow(int rowNumber, @NotNull ResultSetColumnStorage storage, int storageIndex) {
+        this.rowNumber = rowNumber;
+        this.visualNumber = rowNumber;
+        this.storage = storage;
+        this.storageIndex = storageIndex;
+        this.state = STATE_NORMAL;
+    }
+
+    /**
+     * Returns row values. For rows kept in the column storage it is a new array on each call,
+     * use {@link #getValue(int)} to read single values and {@link #setValue(int, Object)} to change them.
+     */
     @Override
     @NotNull
     public Object[] getValues() {
+        if (values == null) {
+            return storage.get(storageIndex);
+        }
         return values;
     }
 
+    @Nullable
+    public Object getValue(int index) {
+        if (values == null) {
+            return storage.getValue(storageIndex, index);
+        }
+        return values[index];
+    }
+
+    public int getValueCount() {
+        return values == null ? storage.getColumnCount() : values.length;
+    }
+
+    /**
+     * Changes value. Row is detached from the column storage, so it keeps its own values after that.
+     */
+    void setValue(int index, @Nullable Object value) {
+        if (values == null) {
+            values = storage.get(storageIndex);
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Returns column storage the row was read from or null if row was created with its own values
+     */
+    @Nullable
+    ResultSetColumnStorage getStorage() {
+        return storage;
+    }
+
+    void setValues(@NotNull Object[] values) {
+        this.values = values;
+    }
+
     public boolean isChanged() {
         return changes != null && !changes.isEmpty();
     }
@@ -122,8 +175,12 @@ public class ResultSetRow implements DBDValueRow {
     }
 
     void release() {
-        for (Object value : values) {
-            DBUtils.releaseValue(value);
+        if (values == null) {
+            storage.releaseRow(storageIndex);
+        } else {
+            for (Object value : values) {
+                DBUtils.releaseValue(value);
+            }
         }
         if (changes != null) {
             for (Object oldValue : changes.values()) {
@@ -0,0 +1,107 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only temporary file for spilled result set pages.
+ * The file is memory-mapped in fixed-size windows, records may span several windows.
+ */
+class ResultSetSpillFile {
+
+    private static final Log log = Log.getLog(ResultSetSpillFile.class);
+
+    private static final int WINDOW_SIZE = 16 * 1024 * 1024;
+
+    @NotNull
+    private final Path path;
+    @NotNull
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> windows = new ArrayList<>();
+    private long size;
+
+    ResultSetSpillFile(@NotNull Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Appends data and returns its offset
+     */
+    synchronized long write(@NotNull byte[] data) throws IOException {
+        long offset = size;
+        int written = 0;
+        while (written < data.length) {
+            MappedByteBuffer window = getWindow(size);
+            int windowOffset = (int) (size % WINDOW_SIZE);
+            int count = Math.min(data.length - written, WINDOW_SIZE - windowOffset);
+            window.put(windowOffset, data, written, count);
+            written += count;
+            size += count;
+        }
+        return offset;
+    }
+
+    @NotNull
+    synchronized byte[] read(long offset, int length) throws IOException {
+        if (offset < 0 || offset + length > size) {
+            throw new IOException("Spilled data [" + offset + ":" + length + "] is out of file bounds (" + size + ")");
+        }
+        byte[] data = new byte[length];
+        int read = 0;
+        while (read < length) {
+            long position = offset + read;
+            int windowOffset = (int) (position % WINDOW_SIZE);
+            int count = Math.min(length - read, WINDOW_SIZE - windowOffset);
+            getWindow(position).get(windowOffset, data, read, count);
+            read += count;
+        }
+        return data;
+    }
+
+    synchronized void close() {
+        // Mapped buffers are released by GC, the file may be left on some platforms until then
+        windows.clear();
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Error deleting result set spill file '" + path + "'", e);
+        }
+    }
+
+    @NotNull
+    private MappedByteBuffer getWindow(long position) throws IOException {
+        int index = (int) (position / WINDOW_SIZE);
+        while (windows.size() <= index) {
+            // Read-write mapping extends the file
+            windows.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) windows.size() * WINDOW_SIZE, WINDOW_SIZE));
+        }
+        return windows.get(index);
+    }
+}
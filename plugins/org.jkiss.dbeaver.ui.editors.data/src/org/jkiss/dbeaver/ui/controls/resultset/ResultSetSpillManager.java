@@ -0,0 +1,97 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a limited number of column storage pages in memory.
+ * <p>
+ * The limit is shared by all result sets. When it is exceeded, least recently read pages are moved
+ * to temporary files of their storages (see {@link ResultSetColumnStorage}). Recently read pages get a second chance.
+ */
+public class ResultSetSpillManager {
+
+    private static final String SPILL_FOLDER = "resultset-spill";
+    private static final int MIN_RESIDENT_PAGES = 4;
+    public static final int DEFAULT_MEMORY_ROWS = 500_000;
+
+    private static final ResultSetSpillManager instance = new ResultSetSpillManager();
+
+    private final ArrayDeque<ResultSetColumnStorage.Page> residentPages = new ArrayDeque<>();
+    private volatile int maxResidentPages = DEFAULT_MEMORY_ROWS / ResultSetColumnStorage.PAGE_SIZE;
+
+    @NotNull
+    public static ResultSetSpillManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Sets the number of rows kept in memory
+     */
+    public void setMaxMemoryRows(int rows) {
+        maxResidentPages = Math.max(rows / ResultSetColumnStorage.PAGE_SIZE, MIN_RESIDENT_PAGES);
+    }
+
+    /**
+     * Registers page which was filled or loaded from the spill file. Other pages are spilled if the limit is exceeded.
+     * Must not be called under a page lock.
+     */
+    void pageLoaded(@NotNull ResultSetColumnStorage.Page page) {
+        List<ResultSetColumnStorage.Page> victims = null;
+        synchronized (this) {
+            residentPages.add(page);
+            int secondChances = residentPages.size();
+            while (residentPages.size() > maxResidentPages) {
+                ResultSetColumnStorage.Page candidate = residentPages.poll();
+                if (candidate.accessed && secondChances-- > 0) {
+                    candidate.accessed = false;
+                    residentPages.add(candidate);
+                    continue;
+                }
+                if (victims == null) {
+                    victims = new ArrayList<>();
+                }
+                victims.add(candidate);
+            }
+        }
+        if (victims != null) {
+            for (ResultSetColumnStorage.Page victim : victims) {
+                victim.spill();
+            }
+        }
+    }
+
+    synchronized void removeStorage(@NotNull ResultSetColumnStorage storage) {
+        residentPages.removeIf(page -> page.getStorage() == storage);
+    }
+
+    @NotNull
+    ResultSetSpillFile createSpillFile() throws IOException {
+        Path folder = DBWorkbench.getPlatform().getTempFolder(new VoidProgressMonitor(), SPILL_FOLDER);
+        return new ResultSetSpillFile(Files.createTempFile(folder, "rs", ".spill"));
+    }
+}
@@ -240,6 +240,11 @@ public class ResultSetViewer extends Viewer
     private volatile long lastThemeUpdateTime;
 
     private volatile boolean nextSegmentReadingBlocked;
+    // Unique key used to order all rows read since the first page and its values in the last fetched row (keyset pagination)
+    @Nullable
+    private volatile List<? extends DBSEntityAttribute> keysetAttributes;
+    @Nullable
+    private volatile Object[] keysetLastKey;
 
     private volatile boolean isWindowVisible = true;
     private volatile boolean needToRetryTaskOnWindowDeiconified = false;
@@ -3952,6 +3957,30 @@ public class ResultSetViewer extends Viewer
         return dataReceiver;
     }
 
+    /**
+     * Sets key attributes which were used to order result set from its first page
+     * and key values of the last row fetched from the database.
+     * Null attributes mean that rows were read in unknown order.
+     */
+    void setKeysetPosition(@Nullable List<? extends DBSEntityAttribute> keyAttributes, @Nullable Object[] lastKey) {
+        this.keysetAttributes = keyAttributes;
+        this.keysetLastKey = keyAttributes == null ? null : lastKey;
+    }
+
+    /**
+     * Returns values of specified key attributes in the last row fetched from the database.
+     * Used to read the next segment with keyset pagination.
+     * Returns null if the whole result set wasn't read in order of these key attributes.
+     */
+    @Nullable
+    Object[] getLastRowKey(@NotNull List<? extends DBSEntityAttribute> keyAttributes) {
+        Object[] lastKey = keysetLastKey;
+        if (lastKey == null || !keyAttributes.equals(keysetAttributes)) {
+            return null;
+        }
+        return lastKey;
+    }
+
     @Nullable
     @Override
     public DBCExecutionContext getExecutionContext() {
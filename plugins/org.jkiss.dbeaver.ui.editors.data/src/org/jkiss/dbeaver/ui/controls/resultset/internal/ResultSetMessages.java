@@ -336,6 +336,8 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_automatic_row_count_tip;
     public static String pref_page_database_resultsets_label_reread_on_scrolling;
     public static String pref_page_database_resultsets_label_reread_on_scrolling_tip;
+    public static String pref_page_database_resultsets_label_keyset_pagination;
+    public static String pref_page_database_resultsets_label_keyset_pagination_tip;
     public static String pref_page_database_resultsets_label_use_sql;
     public static String pref_page_database_resultsets_label_use_sql_tip;
     public static String pref_page_database_resultsets_label_order_mode;
@@ -349,6 +351,8 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_order_policy_primary_key_asc;
     public static String pref_page_database_resultsets_label_order_policy_primary_key_desc;
     public static String pref_page_database_resultsets_label_fetch_size;
+    public static String pref_page_database_resultsets_label_columnar_storage;
+    public static String pref_page_database_resultsets_label_spill_to_disk;
     public static String pref_page_database_resultsets_label_read_metadata;
     public static String pref_page_database_resultsets_label_read_references;
     public static String pref_page_database_resultsets_group_string;
@@ -360,6 +364,8 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_read_metadata_tip;
     public static String pref_page_database_resultsets_label_read_references_tip;
     public static String pref_page_database_resultsets_label_fetch_size_tip;
+    public static String pref_page_database_resultsets_label_columnar_storage_tip;
+    public static String pref_page_database_resultsets_label_spill_to_disk_tip;
 
     public static String pref_page_content_cache_clob;
     public static String pref_page_content_cache_blob;
@@ -56,6 +56,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
     private Button autoFetchNextSegmentCheck;
     private Button automaticRowCountCheck;
     private Button rereadOnScrollingCheck;
+    private Button keysetPaginationCheck;
     private Text resultSetSize;
     private Button resultSetUseSQLCheck;
     private Combo orderingStrategyCombo;
@@ -75,6 +76,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
     private Button markCellValueOccurrences;
 
     private Button advUseFetchSize;
+    private Button advColumnarStorage;
+    private Button advSpillToDisk;
 
     private Button ignoreColumnLabelCheck;
     private Button useDateTimeEditor;
@@ -92,6 +95,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
         return
             store.contains(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT) ||
             store.contains(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING) ||
+            store.contains(ModelPreferences.RESULT_SET_KEYSET_PAGINATION) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL) ||
             store.contains(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT) ||
@@ -110,6 +114,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.contains(ResultSetPreferences.RESULT_SET_SHOW_ERRORS_IN_DIALOG) ||
             store.contains(ResultSetPreferences.RESULT_SET_MARK_CELL_VALUE_OCCURRENCES) ||
             store.contains(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL) ||
+            store.contains(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE) ||
+            store.contains(ResultSetPreferences.RESULT_SET_SPILL_TO_DISK) ||
             store.contains(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER);
     }
 
@@ -146,6 +152,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
 
             autoFetchNextSegmentCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment_tip, true, 2);
             rereadOnScrollingCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling_tip, true, 2);
+            keysetPaginationCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_keyset_pagination, ResultSetMessages.pref_page_database_resultsets_label_keyset_pagination_tip, false, 2);
             resultSetUseSQLCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_use_sql, ResultSetMessages.pref_page_database_resultsets_label_use_sql_tip, false, 2);
             automaticRowCountCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_automatic_row_count, ResultSetMessages.pref_page_database_resultsets_label_automatic_row_count_tip, false, 2);
 
@@ -182,6 +189,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
 
             ignoreColumnLabelCheck = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_general_use_column_names, ResultSetMessages.pref_page_database_general_use_column_names_tip, false, 1);
             advUseFetchSize = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_label_fetch_size, ResultSetMessages.pref_page_database_resultsets_label_fetch_size_tip, false, 1);
+            advColumnarStorage = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_label_columnar_storage, ResultSetMessages.pref_page_database_resultsets_label_columnar_storage_tip, false, 1);
+            advSpillToDisk = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_label_spill_to_disk, ResultSetMessages.pref_page_database_resultsets_label_spill_to_disk_tip, false, 1);
         }
 
 
@@ -268,6 +277,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
         try {
             autoFetchNextSegmentCheck.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT));
             rereadOnScrollingCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING));
+            keysetPaginationCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION));
             useDateTimeEditor.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR));
             int rsSegmentSize = store.getInt(ModelPreferences.RESULT_SET_MAX_ROWS);
             if (rsSegmentSize > 0 && rsSegmentSize < ResultSetPreferences.MIN_SEGMENT_SIZE) {
@@ -299,6 +309,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
 
             advUseFetchSize.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE));
             ignoreColumnLabelCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL));
+            advColumnarStorage.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE));
+            advSpillToDisk.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_SPILL_TO_DISK));
 
             if (confirmDataSave != null) {
                 confirmDataSave.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_CONFIRM_BEFORE_SAVE));
@@ -318,6 +330,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.setValue(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR, useDateTimeEditor.getSelection());
             store.setValue(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT, autoFetchNextSegmentCheck.getSelection());
             store.setValue(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING, rereadOnScrollingCheck.getSelection());
+            store.setValue(ModelPreferences.RESULT_SET_KEYSET_PAGINATION, keysetPaginationCheck.getSelection());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS, resultSetSize.getText());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL, resultSetUseSQLCheck.getSelection());
             store.setValue(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT, automaticRowCountCheck.getSelection());
@@ -342,6 +355,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
 
             store.setValue(ModelPreferences.RESULT_SET_USE_FETCH_SIZE, advUseFetchSize.getSelection());
             store.setValue(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL, ignoreColumnLabelCheck.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE, advColumnarStorage.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_SPILL_TO_DISK, advSpillToDisk.getSelection());
 
             if (confirmDataSave != null) {
                 store.setValue(ResultSetPreferences.RESULT_SET_CONFIRM_BEFORE_SAVE, confirmDataSave.getSelection());
@@ -360,6 +375,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
         store.setToDefault(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR);
         store.setToDefault(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT);
         store.setToDefault(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
+        store.setToDefault(ModelPreferences.RESULT_SET_KEYSET_PAGINATION);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL);
         store.setToDefault(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT);
@@ -377,6 +393,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
 
         store.setToDefault(ModelPreferences.RESULT_SET_USE_FETCH_SIZE);
         store.setToDefault(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_SPILL_TO_DISK);
 
         store.setToDefault(ResultSetPreferences.RESULT_SET_CONFIRM_BEFORE_SAVE);
         store.setToDefault(ResultSetPreferences.RESULT_SET_SHOW_ERRORS_IN_DIALOG);
@@ -390,6 +408,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
         DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
         autoFetchNextSegmentCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT));
         rereadOnScrollingCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING));
+        keysetPaginationCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION));
         resultSetSize.setText(String.valueOf(store.getDefaultInt(ModelPreferences.RESULT_SET_MAX_ROWS)));
         resultSetUseSQLCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL));
         automaticRowCountCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT));
@@ -409,6 +428,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
         markCellValueOccurrences.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_MARK_CELL_VALUE_OCCURRENCES));
         advUseFetchSize.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE));
         ignoreColumnLabelCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL));
+        advColumnarStorage.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE));
+        advSpillToDisk.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_SPILL_TO_DISK));
         useDateTimeEditor.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR));
         useBrowserCheckbox.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER));
         super.performDefaults();
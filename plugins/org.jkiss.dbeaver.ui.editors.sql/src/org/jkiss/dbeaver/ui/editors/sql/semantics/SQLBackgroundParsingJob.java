@@ -44,7 +44,6 @@ import org.jkiss.dbeaver.ui.editors.EditorUtils;
 import org.jkiss.dbeaver.ui.editors.sql.SQLEditor;
 import org.jkiss.dbeaver.ui.editors.sql.SQLEditorBase;
 import org.jkiss.dbeaver.ui.editors.sql.SQLEditorUtils;
-import org.jkiss.dbeaver.utils.ListNode;
 
 import java.util.List;
 import java.util.concurrent.*;
@@ -254,39 +253,35 @@ public class SQLBackgroundParsingJob {
                 }
                 this.enqueueToReparse(reparseStart, reparseLength);
             } else {
-                // TODO remove just the affected fragment and enqueue regionToReparse
-                
-                // for now removing the whole tail as its offsets are being invalidated
-                ListNode<Integer> keyOffsetsToRemove = null;
-                NodesIterator<QueuedRegionInfo> it = this.queuedForReparse.nodesIteratorAt(reparseStart);
-                int firstAffectedReparseOffset;
-                if (it.getCurrValue() != null || it.prev()) {
-                    firstAffectedReparseOffset = it.getCurrOffset();
-                    if (firstAffectedReparseOffset < reparseStart &&
-                        firstAffectedReparseOffset + it.getCurrValue().length > reparseStart + insertedLength
-                    ) {
-                        return; // modified region is a subrange of already queued for reparse 
-                    }
-                    keyOffsetsToRemove = ListNode.push(keyOffsetsToRemove, firstAffectedReparseOffset);
+                // regions queued inside the removed fragment are dropped by the offset application, so keep their tails
+                int removedStart = event.getOffset();
+                int removedEnd = removedStart - delta;
+                int droppedRegionsEnd = -1;
+                NodesIterator<QueuedRegionInfo> it = this.queuedForReparse.nodesIteratorAt(removedStart);
+                if (it.getCurrValue() != null) {
+                    droppedRegionsEnd = getRegionEnd(it);
                 }
-                while (it.next()) {
-                    keyOffsetsToRemove = ListNode.push(keyOffsetsToRemove, it.getCurrOffset());
+                while (it.next() && it.getCurrOffset() < removedEnd) {
+                    droppedRegionsEnd = Math.max(droppedRegionsEnd, getRegionEnd(it));
                 }
-                for (ListNode<Integer> kn = keyOffsetsToRemove; kn != null; kn = kn.next) {
-                    if (DEBUG) {
-                        log.debug("remove " + kn.data + "+" + this.queuedForReparse.find(kn.data).length);
-                    }
-                    this.queuedForReparse.removeAt(kn.data);
-                    if (DEBUG) {
-                        log.debug("beforeDocumentModification, delta <= 0: queuedForReparse count is " + queuedForReparse.size());
-                    }
+                this.queuedForReparse.applyOffset(removedStart, delta);
+                if (DEBUG) {
+                    log.debug("beforeDocumentModification, delta <= 0: queuedForReparse count is " + queuedForReparse.size());
+                }
+                // the removal may join the statement with adjacent ones, so the region to reparse is never empty
+                this.enqueueToReparse(reparseStart, Math.max(1, reparseLength));
+                if (droppedRegionsEnd > removedEnd) {
+                    this.enqueueToReparse(removedStart, droppedRegionsEnd - removedEnd);
                 }
-                this.enqueueToReparse(reparseStart, Integer.MAX_VALUE);
             }
             this.resetLastParsingFinishTime();
         }
     }
 
+    private static int getRegionEnd(@NotNull NodesIterator<QueuedRegionInfo> it) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) it.getCurrOffset() + it.getCurrValue().length);
+    }
+
     private void enqueueToReparse(int toParseStart, int toParseLength) {
         synchronized (this.syncRoot) {
             NodesIterator<QueuedRegionInfo> it = this.queuedForReparse.nodesIteratorAt(toParseStart);
@@ -446,8 +441,7 @@ public class SQLBackgroundParsingJob {
                     log.debug("queued ranges total: " + this.queuedForReparse.size());
                 }
                 
-                // TODO reparse only changed elements
-                // for now just cover the region of interest
+                // cover the region of interest, statements which were not changed will be skipped during the analysis
                 {
                     NodesIterator<QueuedRegionInfo> it = this.queuedForReparse.nodesIteratorAt(0);
                     workOffset = (it.getCurrValue() != null || it.next()) ? it.getCurrOffset() : 0;
@@ -580,6 +574,18 @@ public class SQLBackgroundParsingJob {
                 if (monitor.isCanceled()) {
                     break;
                 }
+                boolean endsWithDelimiter = element instanceof SQLQuery queryElement && Boolean.TRUE.equals(queryElement.isEndsWithDelimiter());
+                if (!(element instanceof SQLControlCommand) && this.context.hasActualScriptItem(
+                    element.getOffset(), element.getOriginalText(), element.getLength(), endsWithDelimiter
+                )) {
+                    // the statement text was not changed since its last analysis, so keep its model
+                    if (DEBUG) {
+                        log.debug("keeping script item @" + element.getOffset() + "+" + element.getLength());
+                    }
+                    monitor.worked(1);
+                    i++;
+                    continue;
+                }
                 try {
                     recognitionContext.reset();
                     SQLQueryModel queryModel = element instanceof SQLControlCommand
@@ -599,7 +605,7 @@ public class SQLBackgroundParsingJob {
                             queryModel,
                             element.getOffset(),
                             element.getLength(),
-                            element instanceof SQLQuery queryElement && Boolean.TRUE.equals(queryElement.isEndsWithDelimiter())
+                            endsWithDelimiter
                         );
                         itemContext.clear();
                         List<SQLQueryRecognitionProblemInfo> problems = recognitionContext.getProblems();
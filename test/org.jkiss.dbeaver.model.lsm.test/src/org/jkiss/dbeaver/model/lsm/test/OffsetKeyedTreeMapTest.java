@@ -130,6 +130,19 @@ public class OffsetKeyedTreeMapTest extends DBeaverUnitTest {
         }
     }
 
+    @Test
+    public void testInsertionsThenApplyNegativeOffsets() {
+        for (int i : SERIES.get().toArray()) {
+            TestScenarioBuilder sb = new TestScenarioBuilder();
+            OffsetGeneratorParameters offsetParams = OffsetGeneratorParameters.makeExclusiveAndExact(0, i / 2, i / 4, 12);
+            sb.appendInsertions(sb.makeEntriesGeneratorRandom(i, 1, 500));
+            sb.appendApplyNegativeOffsetRandom(offsetParams);
+            sb.appendCheckIteratorEverywhere(true);
+            sb.appendCheckIteratorEverywhere(false);
+            sb.complete().run();
+        }
+    }
+
     @Test
     public void testIntermixedInsertionsAndRemovals() {
         for (int count : INTERMIXED_SERIES.get().toArray()) {
@@ -623,6 +636,21 @@ public class OffsetKeyedTreeMapTest extends DBeaverUnitTest {
             this.append(this.makeApplyOffsetRandom(offsetParams));
         }
 
+        public void appendApplyNegativeOffsetRandom(OffsetGeneratorParameters offsetParams) {
+            int seed = staticRandom.nextInt();
+            this.append(() -> {
+                Random rnd = new Random(seed);
+                return this.makeOpsAtRandomOffsets(
+                    offsetParams, "apply negative offset at random entry #" + offsetParams.indexFrom + "-#" + offsetParams.indexTo, true, (s, entry, offset, index) -> {
+                        int delta = -rnd.nextInt(1, offsetParams.deltaLimit);
+
+                        s.arrayBacked.applyOffset(offset, delta);
+                        s.treeBacked.applyOffset(offset, delta);
+                    }
+                ).get();
+            });
+        }
+
         public Supplier<Stream<TestOperation>> makeApplyOffsetRandom(OffsetGeneratorParameters offsetParams) {
             int seed = staticRandom.nextInt();
             return () -> {
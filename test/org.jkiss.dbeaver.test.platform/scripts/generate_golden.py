@@ -0,0 +1,530 @@
+#!/usr/bin/env python3
+# Generates golden files for ColumnarGoldenFilesTest.
+# Run: python3 generate_golden.py
+# Rows must match ColumnarGoldenFilesTest.getExpectedRows()
+#
+# Files are written from the Parquet (parquet.thrift) and Arrow IPC (Schema.fbs, Message.fbs, File.fbs)
+# specifications with Python standard library only, independently of DBeaver readers and writers:
+#   golden_snappy.parquet  - two row groups, dictionary pages, PLAIN_DICTIONARY v1 data pages, Snappy
+#   golden_gzip_v2.parquet - one row group, dictionary pages, RLE_DICTIONARY v2 data pages of 16 rows, GZIP
+#   golden.arrow           - IPC file with record batches of 20 rows
+
+import datetime
+import gzip
+import os
+import struct
+
+ROW_COUNT = 50
+OUTPUT_DIR = os.path.join(os.path.dirname(os.path.abspath(__file__)),
+                          "..", "src", "org", "jkiss", "dbeaver", "tools", "transfer", "golden")
+
+EPOCH_DATE = datetime.date(1970, 1, 1)
+EPOCH_DATETIME = datetime.datetime(1970, 1, 1)
+
+
+def make_rows():
+    rows = []
+    for i in range(ROW_COUNT):
+        created = datetime.datetime(2024, 1, 1, 12, 0, 0, i * 1000)
+        rows.append((
+            i,
+            None if i % 5 == 4 else "name" + str(i % 3),
+            None if i % 7 == 6 else i * 125 - 1000,  # unscaled decimal(12, 2)
+            i < 20 or i % 2 == 0,
+            (datetime.date(2024, 1, 1) + datetime.timedelta(days=i) - EPOCH_DATE).days,
+            (created - EPOCH_DATETIME) // datetime.timedelta(microseconds=1),
+        ))
+    return rows
+
+
+###############################################################################
+# Snappy (literals and 2-byte offset copies)
+
+def snappy_compress(data):
+    out = bytearray(varint(len(data)))
+    table = {}
+    literal_start = 0
+    pos = 0
+    while pos + 4 <= len(data):
+        key = data[pos:pos + 4]
+        candidate = table.get(key)
+        table[key] = pos
+        if candidate is None or pos - candidate >= 65536:
+            pos += 1
+            continue
+        length = 4
+        while pos + length < len(data) and length < 64 and data[candidate + length] == data[pos + length]:
+            length += 1
+        snappy_literal(out, data[literal_start:pos])
+        out.append(((length - 1) << 2) | 2)
+        out += struct.pack("<H", pos - candidate)
+        pos += length
+        literal_start = pos
+    snappy_literal(out, data[literal_start:])
+    return bytes(out)
+
+
+def snappy_literal(out, literal):
+    if not literal:
+        return
+    n = len(literal) - 1
+    if n < 60:
+        out.append(n << 2)
+    elif n < 256:
+        out.append(60 << 2)
+        out.append(n)
+    else:
+        out.append(61 << 2)
+        out += struct.pack("<H", n)
+    out += literal
+
+
+###############################################################################
+# Parquet
+
+def varint(value):
+    out = bytearray()
+    while True:
+        if value < 0x80:
+            out.append(value)
+            return bytes(out)
+        out.append((value & 0x7F) | 0x80)
+        value >>= 7
+
+
+def zigzag(value):
+    return (value << 1) ^ (value >> 63)
+
+
+# Thrift compact protocol. Struct is a list of (field id, type, value)
+T_BOOL, T_I32, T_I64, T_BINARY, T_LIST, T_STRUCT = "bool", 5, 6, 8, 9, 12
+
+
+def thrift_struct(fields):
+    out = bytearray()
+    last_id = 0
+    for field_id, field_type, value in fields:
+        if value is None:
+            continue
+        type_code = (1 if value else 2) if field_type == T_BOOL else field_type
+        delta = field_id - last_id
+        if 0 < delta <= 15:
+            out.append((delta << 4) | type_code)
+        else:
+            out.append(type_code)
+            out += varint(zigzag(field_id))
+        last_id = field_id
+        if field_type != T_BOOL:
+            out += thrift_value(field_type, value)
+    out.append(0)
+    return bytes(out)
+
+
+def thrift_value(field_type, value):
+    if field_type in (T_I32, T_I64):
+        return varint(zigzag(value))
+    if field_type == T_BINARY:
+        data = value.encode("utf-8") if isinstance(value, str) else value
+        return varint(len(data)) + data
+    if field_type == T_STRUCT:
+        return thrift_struct(value)
+    if field_type == T_LIST:
+        element_type, elements = value
+        header = bytes([(len(elements) << 4) | element_type]) if len(elements) < 15 else \
+            bytes([0xF0 | element_type]) + varint(len(elements))
+        return header + b"".join(thrift_value(element_type, e) for e in elements)
+    raise ValueError(field_type)
+
+
+# Physical types, encodings, codecs, page types
+BOOLEAN, INT32, INT64, BYTE_ARRAY, FIXED_LEN_BYTE_ARRAY = 0, 1, 2, 6, 7
+PLAIN, PLAIN_DICTIONARY, RLE, RLE_DICTIONARY = 0, 2, 3, 8
+SNAPPY, GZIP = 1, 2
+DATA_PAGE, DICTIONARY_PAGE, DATA_PAGE_V2 = 0, 2, 3
+DECIMAL_LENGTH = 6  # minimal length for precision 12
+
+PARQUET_COLUMNS = [
+    # name, physical type, schema element fields
+    ("id", INT64, []),
+    ("name", BYTE_ARRAY, [(6, T_I32, 0), (10, T_STRUCT, [(1, T_STRUCT, [])])]),  # UTF8 / STRING
+    ("amount", FIXED_LEN_BYTE_ARRAY, [
+        (2, T_I32, DECIMAL_LENGTH), (6, T_I32, 5), (7, T_I32, 2), (8, T_I32, 12),
+        (10, T_STRUCT, [(5, T_STRUCT, [(1, T_I32, 2), (2, T_I32, 12)])])]),  # DECIMAL(12, 2)
+    ("flag", BOOLEAN, []),
+    ("day", INT32, [(6, T_I32, 6), (10, T_STRUCT, [(6, T_STRUCT, [])])]),  # DATE
+    ("created", INT64, [(10, T_STRUCT, [(8, T_STRUCT, [
+        (1, T_BOOL, False), (2, T_STRUCT, [(2, T_STRUCT, [])])])])]),  # TIMESTAMP(false, MICROS)
+]
+
+
+def rle_hybrid(values, bit_width):
+    """RLE/bit-packed hybrid: uniform groups of 8 values are merged into RLE runs, others are bit-packed"""
+    value_bytes = (bit_width + 7) // 8
+    groups = [values[i:i + 8] for i in range(0, len(values), 8)]
+    out = bytearray()
+    i = 0
+    while i < len(groups):
+        if len(set(groups[i])) == 1:
+            value = groups[i][0]
+            count = 0
+            while i < len(groups) and set(groups[i]) == {value}:
+                count += len(groups[i])
+                i += 1
+            out += varint(count << 1)
+            out += value.to_bytes(value_bytes, "little")
+        else:
+            packed = []
+            while i < len(groups) and len(set(groups[i])) != 1:
+                packed += groups[i] + [0] * (8 - len(groups[i]))
+                i += 1
+            out += varint(((len(packed) // 8) << 1) | 1)
+            bits = 0
+            for k, value in enumerate(packed):
+                bits |= value << (k * bit_width)
+            out += bits.to_bytes(len(packed) * bit_width // 8, "little")
+    return bytes(out)
+
+
+def plain(physical_type, values):
+    if physical_type == BOOLEAN:
+        out = bytearray((len(values) + 7) // 8)
+        for k, value in enumerate(values):
+            if value:
+                out[k // 8] |= 1 << (k % 8)
+        return bytes(out)
+    if physical_type == INT32:
+        return b"".join(struct.pack("<i", v) for v in values)
+    if physical_type == INT64:
+        return b"".join(struct.pack("<q", v) for v in values)
+    if physical_type == BYTE_ARRAY:
+        return b"".join(struct.pack("<I", len(v.encode())) + v.encode() for v in values)
+    if physical_type == FIXED_LEN_BYTE_ARRAY:
+        return b"".join(v.to_bytes(DECIMAL_LENGTH, "big", signed=True) for v in values)
+    raise ValueError(physical_type)
+
+
+def page_header(page_type, uncompressed_size, compressed_size, header_field, header):
+    return thrift_struct([
+        (1, T_I32, page_type), (2, T_I32, uncompressed_size), (3, T_I32, compressed_size),
+        (header_field, T_STRUCT, header)])
+
+
+def write_column_chunk(out, physical_type, values, codec, page_rows, v2):
+    compress = snappy_compress if codec == SNAPPY else (lambda data: gzip.compress(data, mtime=0))
+    start = len(out)
+    dictionary = None
+    dictionary_offset = None
+    if physical_type != BOOLEAN:
+        dictionary = []
+        for value in values:
+            if value is not None and value not in dictionary:
+                dictionary.append(value)
+        dictionary_offset = len(out)
+        data = plain(physical_type, dictionary)
+        compressed = compress(data)
+        header = page_header(DICTIONARY_PAGE, len(data), len(compressed), 7, [
+            (1, T_I32, len(dictionary)), (2, T_I32, PLAIN if v2 else PLAIN_DICTIONARY)])
+        out += header
+        out += compressed
+        uncompressed_total = len(header) + len(data)
+    else:
+        uncompressed_total = 0
+    value_encoding = PLAIN if dictionary is None else (RLE_DICTIONARY if v2 else PLAIN_DICTIONARY)
+
+    data_offset = len(out)
+    for page_start in range(0, len(values), page_rows):
+        page_values = values[page_start:page_start + page_rows]
+        non_null = [v for v in page_values if v is not None]
+        levels = rle_hybrid([0 if v is None else 1 for v in page_values], 1)
+        if dictionary is None:
+            encoded = plain(physical_type, non_null)
+        else:
+            bit_width = max(1, (len(dictionary) - 1).bit_length())
+            encoded = bytes([bit_width]) + rle_hybrid([dictionary.index(v) for v in non_null], bit_width)
+        if v2:
+            compressed = compress(encoded)
+            header = page_header(DATA_PAGE_V2, len(levels) + len(encoded), len(levels) + len(compressed), 8, [
+                (1, T_I32, len(page_values)), (2, T_I32, len(page_values) - len(non_null)),
+                (3, T_I32, len(page_values)), (4, T_I32, value_encoding), (5, T_I32, len(levels)),
+                (6, T_I32, 0), (7, T_BOOL, True)])
+            body = levels + compressed
+            uncompressed_total += len(header) + len(levels) + len(encoded)
+        else:
+            data = struct.pack("<I", len(levels)) + levels + encoded
+            body = compress(data)
+            header = page_header(DATA_PAGE, len(data), len(body), 5, [
+                (1, T_I32, len(page_values)), (2, T_I32, value_encoding), (3, T_I32, RLE), (4, T_I32, RLE)])
+            uncompressed_total += len(header) + len(data)
+        out += header
+        out += body
+
+    encodings = [RLE] + ([value_encoding] if dictionary is None else [PLAIN if v2 else PLAIN_DICTIONARY, value_encoding])
+    return {
+        "offset": start,
+        "data_offset": data_offset,
+        "dictionary_offset": dictionary_offset,
+        "encodings": encodings,
+        "values": len(values),
+        "compressed": len(out) - start,
+        "uncompressed": uncompressed_total,
+    }
+
+
+def write_parquet(file_name, rows, codec, row_group_rows, page_rows, v2):
+    out = bytearray(b"PAR1")
+    row_groups = []
+    for group_start in range(0, len(rows), row_group_rows):
+        group = rows[group_start:group_start + row_group_rows]
+        chunks = []
+        total_size = 0
+        for index, (name, physical_type, _) in enumerate(PARQUET_COLUMNS):
+            meta = write_column_chunk(out, physical_type, [row[index] for row in group], codec, page_rows, v2)
+            chunks.append([
+                (2, T_I64, meta["offset"]),
+                (3, T_STRUCT, [
+                    (1, T_I32, physical_type), (2, T_LIST, (T_I32, meta["encodings"])),
+                    (3, T_LIST, (T_BINARY, [name])), (4, T_I32, codec), (5, T_I64, meta["values"]),
+                    (6, T_I64, meta["uncompressed"]), (7, T_I64, meta["compressed"]),
+                    (9, T_I64, meta["data_offset"]), (11, T_I64, meta["dictionary_offset"])])])
+            total_size += meta["uncompressed"]
+        row_groups.append([
+            (1, T_LIST, (T_STRUCT, chunks)), (2, T_I64, total_size), (3, T_I64, len(group))])
+
+    schema = [[(4, T_BINARY, "schema"), (5, T_I32, len(PARQUET_COLUMNS))]]
+    for name, physical_type, fields in PARQUET_COLUMNS:
+        schema.append(sorted([(1, T_I32, physical_type), (3, T_I32, 1), (4, T_BINARY, name)] + fields))
+    footer = thrift_struct([
+        (1, T_I32, 2), (2, T_LIST, (T_STRUCT, schema)), (3, T_I64, len(rows)),
+        (4, T_LIST, (T_STRUCT, row_groups)), (6, T_BINARY, "generate_golden.py")])
+    out += footer
+    out += struct.pack("<I", len(footer))
+    out += b"PAR1"
+    with open(os.path.join(OUTPUT_DIR, file_name), "wb") as f:
+        f.write(out)
+
+
+###############################################################################
+# FlatBuffers (built back to front, as in the reference builder)
+
+class FlatBufferBuilder:
+
+    def __init__(self):
+        self.data = bytearray()
+        self.min_align = 1
+        self.vtable = None
+        self.object_end = 0
+
+    def offset(self):
+        return len(self.data)
+
+    def prep(self, size, additional):
+        self.min_align = max(self.min_align, size)
+        self.data[0:0] = bytes((-(len(self.data) + additional)) % size)
+
+    def prepend(self, fmt, value):
+        self.data[0:0] = struct.pack("<" + fmt, value)
+
+    def add_scalar(self, fmt, value):
+        self.prep(struct.calcsize("<" + fmt), 0)
+        self.prepend(fmt, value)
+
+    def add_uoffset(self, target):
+        self.prep(4, 0)
+        self.prepend("I", self.offset() + 4 - target)
+
+    def create_string(self, value):
+        data = value.encode("utf-8")
+        self.prep(4, len(data) + 1)
+        self.data[0:0] = data + b"\0"
+        self.prepend("I", len(data))
+        return self.offset()
+
+    def create_offset_vector(self, offsets):
+        self.prep(4, 4 * len(offsets))
+        for target in reversed(offsets):
+            self.add_uoffset(target)
+        self.prepend("I", len(offsets))
+        return self.offset()
+
+    def create_struct_vector(self, structs, struct_size):
+        self.prep(4, struct_size * len(structs))
+        self.prep(8, struct_size * len(structs))
+        for data in reversed(structs):
+            self.data[0:0] = data
+        self.prepend("I", len(structs))
+        return self.offset()
+
+    def start_table(self, slots):
+        self.vtable = [0] * slots
+        self.object_end = self.offset()
+
+    def add_field(self, slot, fmt, value):
+        self.add_scalar(fmt, value)
+        self.vtable[slot] = self.offset()
+
+    def add_offset_field(self, slot, target):
+        self.add_uoffset(target)
+        self.vtable[slot] = self.offset()
+
+    def end_table(self):
+        self.add_scalar("i", 0)
+        object_offset = self.offset()
+        field_offsets = [object_offset - field if field else 0 for field in self.vtable]
+        while field_offsets and field_offsets[-1] == 0:
+            field_offsets.pop()
+        for field_offset in reversed(field_offsets):
+            self.prepend("H", field_offset)
+        self.prepend("H", object_offset - self.object_end)
+        self.prepend("H", 4 + 2 * len(field_offsets))
+        vtable_offset = self.offset()
+        struct.pack_into("<i", self.data, len(self.data) - object_offset, vtable_offset - object_offset)
+        self.vtable = None
+        return object_offset
+
+    def table(self, slots, fields):
+        """fields: (slot, fmt, value); fmt "o" means offset to already created object"""
+        self.start_table(slots)
+        # Larger scalars first to reduce padding
+        for slot, fmt, value in sorted(fields, key=lambda f: -struct.calcsize("<" + ("I" if f[1] == "o" else f[1]))):
+            if fmt == "o":
+                self.add_offset_field(slot, value)
+            else:
+                self.add_field(slot, fmt, value)
+        return self.end_table()
+
+    def finish(self, root):
+        self.prep(self.min_align, 4)
+        self.add_uoffset(root)
+        return bytes(self.data)
+
+
+###############################################################################
+# Arrow IPC
+
+METADATA_V5 = 4
+HEADER_SCHEMA, HEADER_RECORD_BATCH = 1, 3
+TYPE_INT, TYPE_UTF8, TYPE_BOOL, TYPE_DECIMAL, TYPE_DATE, TYPE_TIMESTAMP = 2, 5, 6, 7, 8, 10
+
+ARROW_COLUMNS = [
+    # name, type id, type table fields
+    ("id", TYPE_INT, [(0, "i", 64), (1, "B", 1)]),
+    ("name", TYPE_UTF8, []),
+    ("amount", TYPE_DECIMAL, [(0, "i", 12), (1, "i", 2), (2, "i", 128)]),
+    ("flag", TYPE_BOOL, []),
+    ("day", TYPE_DATE, [(0, "h", 0)]),  # DAY
+    ("created", TYPE_TIMESTAMP, [(0, "h", 2)]),  # MICROSECOND, no time zone
+]
+
+
+def build_schema(builder):
+    fields = []
+    for name, type_id, type_fields in ARROW_COLUMNS:
+        name_offset = builder.create_string(name)
+        type_offset = builder.table(4, type_fields)
+        children = builder.create_offset_vector([])
+        fields.append(builder.table(7, [
+            (0, "o", name_offset), (1, "B", 1), (2, "B", type_id), (3, "o", type_offset), (5, "o", children)]))
+    fields_offset = builder.create_offset_vector(fields)
+    return builder.table(4, [(0, "h", 0), (1, "o", fields_offset)])
+
+
+def pad8(data):
+    return data + bytes((-len(data)) % 8)
+
+
+def bitmap(flags):
+    out = bytearray((len(flags) + 7) // 8)
+    for k, flag in enumerate(flags):
+        if flag:
+            out[k // 8] |= 1 << (k % 8)
+    return bytes(out)
+
+
+def column_buffers(type_id, values):
+    """Returns buffers of column except validity"""
+    if type_id == TYPE_UTF8:
+        offsets = [0]
+        data = bytearray()
+        for value in values:
+            if value is not None:
+                data += value.encode("utf-8")
+            offsets.append(len(data))
+        return [b"".join(struct.pack("<i", o) for o in offsets), bytes(data)]
+    if type_id == TYPE_BOOL:
+        return [bitmap([bool(v) for v in values])]
+    if type_id == TYPE_INT:
+        return [b"".join(struct.pack("<q", v or 0) for v in values)]
+    if type_id == TYPE_DECIMAL:
+        return [b"".join((v or 0).to_bytes(16, "little", signed=True) for v in values)]
+    if type_id == TYPE_DATE:
+        return [b"".join(struct.pack("<i", v or 0) for v in values)]
+    if type_id == TYPE_TIMESTAMP:
+        return [b"".join(struct.pack("<q", v or 0) for v in values)]
+    raise ValueError(type_id)
+
+
+def encapsulate(metadata, body):
+    # Continuation marker, metadata length, metadata padded to 8 bytes
+    padded = metadata + bytes((-(len(metadata) + 8)) % 8)
+    return struct.pack("<Ii", 0xFFFFFFFF, len(padded)) + padded + body, 8 + len(padded)
+
+
+def message(header_type, build_header, body_length):
+    builder = FlatBufferBuilder()
+    header = build_header(builder)
+    root = builder.table(5, [(0, "h", METADATA_V5), (1, "B", header_type), (2, "o", header), (3, "q", body_length)])
+    return builder.finish(root)
+
+
+def write_arrow(file_name, rows, batch_rows):
+    out = bytearray(b"ARROW1\0\0")
+    schema_message, _ = encapsulate(message(HEADER_SCHEMA, build_schema, 0), b"")
+    out += schema_message
+
+    blocks = []
+    for batch_start in range(0, len(rows), batch_rows):
+        batch = rows[batch_start:batch_start + batch_rows]
+        nodes = []
+        buffers = []
+        body = bytearray()
+        for index, (_, type_id, _) in enumerate(ARROW_COLUMNS):
+            values = [row[index] for row in batch]
+            null_count = sum(1 for v in values if v is None)
+            nodes.append(struct.pack("<qq", len(values), null_count))
+            column = [bitmap([v is not None for v in values]) if null_count else b""] + column_buffers(type_id, values)
+            for data in column:
+                buffers.append(struct.pack("<qq", len(body), len(data)))
+                body += pad8(data)
+
+        def build_batch(builder, batch_length=len(batch), nodes=nodes, buffers=buffers):
+            nodes_offset = builder.create_struct_vector(nodes, 16)
+            buffers_offset = builder.create_struct_vector(buffers, 16)
+            return builder.table(4, [(0, "q", batch_length), (1, "o", nodes_offset), (2, "o", buffers_offset)])
+
+        block_offset = len(out)
+        batch_message, metadata_length = encapsulate(message(HEADER_RECORD_BATCH, build_batch, len(body)), bytes(body))
+        out += batch_message
+        blocks.append(struct.pack("<qi4xq", block_offset, metadata_length, len(body)))
+
+    # End of stream
+    out += struct.pack("<Ii", 0xFFFFFFFF, 0)
+
+    builder = FlatBufferBuilder()
+    schema = build_schema(builder)
+    dictionaries = builder.create_struct_vector([], 24)
+    record_batches = builder.create_struct_vector(blocks, 24)
+    footer = builder.finish(builder.table(5, [
+        (0, "h", METADATA_V5), (1, "o", schema), (2, "o", dictionaries), (3, "o", record_batches)]))
+    out += footer
+    out += struct.pack("<i", len(footer))
+    out += b"ARROW1"
+    with open(os.path.join(OUTPUT_DIR, file_name), "wb") as f:
+        f.write(out)
+
+
+if __name__ == "__main__":
+    os.makedirs(OUTPUT_DIR, exist_ok=True)
+    rows = make_rows()
+    write_parquet("golden_snappy.parquet", rows, SNAPPY, row_group_rows=30, page_rows=30, v2=False)
+    write_parquet("golden_gzip_v2.parquet", rows, GZIP, row_group_rows=ROW_COUNT, page_rows=16, v2=True)
+    write_arrow("golden.arrow", rows, batch_rows=20)
@@ -0,0 +1,122 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data.formatters;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DataFormattersTest extends DBeaverUnitTest {
+
+    private static final long[] LONG_VALUES = {0, 7, -7, 999, 1000, -1000, 1234567, -987654321, Long.MAX_VALUE, Long.MIN_VALUE};
+
+    @Test
+    public void testIntegersMatchDecimalFormat() {
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, Locale.forLanguageTag("de-CH"), Locale.forLanguageTag("ar-EG")}) {
+            for (Boolean useGrouping : new Boolean[]{null, false}) {
+                Map<String, Object> properties = new HashMap<>();
+                if (useGrouping != null) {
+                    properties.put(NumberFormatSample.PROP_USE_GROUPING, useGrouping);
+                }
+                NumberDataFormatter formatter = new NumberDataFormatter();
+                formatter.init(null, locale, properties);
+
+                DecimalFormat expectedFormat = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+                if (useGrouping != null) {
+                    expectedFormat.setGroupingUsed(useGrouping);
+                }
+                for (long value : LONG_VALUES) {
+                    Assert.assertEquals(expectedFormat.format(value), formatter.formatValue(value));
+                    Assert.assertEquals(expectedFormat.format((int) value), formatter.formatValue((int) value));
+                }
+                Assert.assertEquals(expectedFormat.format(new BigDecimal("-12345.678")), formatter.formatValue(new BigDecimal("-12345.678")));
+            }
+        }
+    }
+
+    @Test
+    public void testIsoDatesMatchDateFormat() {
+        Random random = new Random(1);
+        for (String pattern : new String[]{"yyyy-MM-dd", "HH:mm:ss", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm:ss.SSS"}) {
+            DateTimeDataFormatter formatter = new DateTimeDataFormatter();
+            formatter.init(null, Locale.US, Map.of(DateTimeDataFormatter.PROP_PATTERN, pattern));
+            SimpleDateFormat expectedFormat = new SimpleDateFormat(pattern, Locale.US);
+            DateTimeFormatter expectedTemporalFormat = DateTimeFormatter.ofPattern(pattern);
+            for (int i = 0; i < 1000; i++) {
+                long millis = (long) (random.nextDouble() * 1e13) - 5_000_000_000_000L;
+                Timestamp timestamp = new Timestamp(millis);
+                Assert.assertEquals(expectedFormat.format(timestamp), formatter.formatValue(timestamp));
+                Assert.assertEquals(expectedFormat.format(new Date(millis)), formatter.formatValue(new Date(millis)));
+
+                LocalDateTime dateTime = timestamp.toLocalDateTime();
+                Assert.assertEquals(expectedTemporalFormat.format(dateTime), formatter.formatValue(dateTime));
+                if (!pattern.contains("H")) {
+                    LocalDate date = dateTime.toLocalDate();
+                    Assert.assertEquals(expectedTemporalFormat.format(date), formatter.formatValue(date));
+                }
+                if (!pattern.contains("y")) {
+                    LocalTime time = dateTime.toLocalTime();
+                    Assert.assertEquals(expectedTemporalFormat.format(time), formatter.formatValue(time));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelFormatting() throws Exception {
+        DateTimeDataFormatter formatter = new DateTimeDataFormatter();
+        formatter.init(null, Locale.US, Map.of(DateTimeDataFormatter.PROP_PATTERN, "dd.MM.yyyy HH:mm"));
+        SimpleDateFormat expectedFormat = new SimpleDateFormat("dd.MM.yyyy HH:mm", Locale.US);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                long seed = thread;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 2000; i++) {
+                        Date date = new Date(random.nextLong() % 4_000_000_000_000L);
+                        String expected;
+                        synchronized (expectedFormat) {
+                            expected = expectedFormat.format(date);
+                        }
+                        Assert.assertEquals(expected, formatter.formatValue(date));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.dpi;
+
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DPIRowBatchTest extends DBeaverUnitTest {
+
+    @Test
+    public void valuesKeepTypes() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            Timestamp timestamp = new Timestamp(1_700_000_000_000L + i);
+            timestamp.setNanos(123_456_789);
+            rows.add(new Object[]{
+                i,
+                i % 3 == 0 ? null : (long) i * 1_000_000_000L,
+                i / 2.0,
+                i % 2 == 0,
+                "value " + i,
+                new BigDecimal("12345.678").add(BigDecimal.valueOf(i)),
+                i % 2 == 0 ? timestamp : LocalDateTime.of(2024, 1, 2, 3, 4, 5, i),
+                OffsetDateTime.of(2024, 5, 6, 7, 8, 9, i, ZoneOffset.ofHours(3)),
+                null,
+                (short) i
+            });
+        }
+        DPIRowBatch batch = roundTrip(rows, 10);
+
+        Assert.assertEquals(rows.size(), batch.getRowCount());
+        Assert.assertEquals(10, batch.getColumnCount());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            for (int column = 0; column < row.length; column++) {
+                Object value = batch.getValue(i, column);
+                Assert.assertEquals(row[column], value);
+                if (value != null) {
+                    Assert.assertSame(row[column].getClass(), value.getClass());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void valueErrorsAndShortRows() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{"text", new DBDValueError(new DBCException("Broken value"))});
+        rows.add(new Object[]{"short row"});
+        DPIRowBatch batch = roundTrip(rows, 2);
+
+        Assert.assertEquals("text", batch.getValue(0, 0));
+        Assert.assertTrue(batch.getValue(0, 1) instanceof DBDValueError);
+        Assert.assertEquals("Broken value", ((DBDValueError) batch.getValue(0, 1)).getErrorTitle());
+        Assert.assertEquals("short row", batch.getValue(1, 0));
+        Assert.assertNull(batch.getValue(1, 1));
+    }
+
+    @Test
+    public void unsupportedValuesFail() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{"text"});
+        rows.add(new Object[]{new StringBuilder("text")});
+        Assert.assertThrows(IOException.class, () -> roundTrip(rows, 1));
+    }
+
+    private static DPIRowBatch roundTrip(List<Object[]> rows, int columnCount) throws IOException, DBCException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            DPIRowBatch.write(out, rows, columnCount);
+        }
+        return DPIRowBatch.read(ByteBuffer.wrap(buffer.toByteArray()));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.net;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.net.DBWChannel;
+import org.jkiss.dbeaver.model.net.DBWChannelTunnel;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+
+public class ChannelSocketFactoryTest extends DBeaverUnitTest {
+    @Mock
+    private DBWChannelTunnel tunnel;
+
+    private ServerSocket echoServer;
+    private String tunnelId;
+
+    @Before
+    public void init() throws IOException {
+        echoServer = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        Thread echoThread = new Thread(this::runEchoServer, "Channel socket echo server");
+        echoThread.setDaemon(true);
+        echoThread.start();
+        tunnelId = ChannelSocketFactory.registerTunnel(tunnel);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        ChannelSocketFactory.unregisterTunnel(tunnelId);
+        echoServer.close();
+    }
+
+    @Test
+    public void testConnectThroughTunnelChannel() throws Exception {
+        Mockito.when(tunnel.openChannel("db.internal", 5432, 1000)).thenAnswer(invocation -> new LoopbackChannel(echoServer.getLocalPort()));
+
+        Socket socket = new ChannelSocketFactory(tunnelId).createSocket();
+        Assert.assertFalse(socket.isConnected());
+
+        // Drivers set options before connect, they must not touch real socket implementation
+        socket.setTcpNoDelay(true);
+        socket.setKeepAlive(true);
+        socket.setSoTimeout(5000);
+        socket.connect(InetSocketAddress.createUnresolved("db.internal", 5432), 1000);
+
+        Assert.assertTrue(socket.isConnected());
+        Assert.assertEquals(5432, socket.getPort());
+        Assert.assertEquals(5000, socket.getSoTimeout());
+
+        OutputStream out = socket.getOutputStream();
+        out.write("ping".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        Assert.assertEquals("ping", new String(socket.getInputStream().readNBytes(4), StandardCharsets.US_ASCII));
+
+        socket.close();
+        Assert.assertTrue(socket.isClosed());
+        Assert.assertThrows(SocketException.class, socket::getInputStream);
+        Mockito.verify(tunnel).openChannel("db.internal", 5432, 1000);
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        Mockito.when(tunnel.openChannel("db.internal", 5432, 0)).thenAnswer(invocation -> new LoopbackChannel(echoServer.getLocalPort()));
+
+        Socket socket = new ChannelSocketFactory(tunnelId).createSocket("db.internal", 5432);
+        InputStream in = socket.getInputStream();
+
+        // No data - read must time out and socket must remain usable
+        socket.setSoTimeout(100);
+        Assert.assertThrows(SocketTimeoutException.class, in::read);
+        Assert.assertFalse(socket.isClosed());
+
+        socket.getOutputStream().write("pong".getBytes(StandardCharsets.US_ASCII));
+        socket.getOutputStream().flush();
+        socket.setSoTimeout(5000);
+        Assert.assertEquals("pong", new String(in.readNBytes(4), StandardCharsets.US_ASCII));
+
+        socket.close();
+        Assert.assertThrows(SocketException.class, in::read);
+    }
+
+    @Test
+    public void testSocketOptions() throws Exception {
+        Socket socket = new ChannelSocketFactory(tunnelId).createSocket();
+        Assert.assertTrue(socket.supportedOptions().isEmpty());
+        Assert.assertThrows(UnsupportedOperationException.class, () -> socket.setOption(StandardSocketOptions.TCP_NODELAY, true));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> socket.getOption(StandardSocketOptions.TCP_NODELAY));
+        socket.close();
+    }
+
+    @Test
+    public void testUnregisteredTunnel() {
+        ChannelSocketFactory.unregisterTunnel(tunnelId);
+        Assert.assertThrows(SocketException.class, () -> new ChannelSocketFactory(tunnelId));
+    }
+
+    @Test
+    public void testNotConnectedSocket() throws Exception {
+        Socket socket = new ChannelSocketFactory(tunnelId).createSocket();
+        Assert.assertThrows(SocketException.class, socket::getOutputStream);
+        socket.close();
+        Assert.assertThrows(SocketException.class, () -> socket.connect(InetSocketAddress.createUnresolved("db.internal", 5432)));
+        Mockito.verifyNoInteractions(tunnel);
+    }
+
+    private void runEchoServer() {
+        while (!echoServer.isClosed()) {
+            try (Socket client = echoServer.accept()) {
+                client.getInputStream().transferTo(client.getOutputStream());
+            } catch (IOException e) {
+                // Server closed
+            }
+        }
+    }
+
+    private static class LoopbackChannel implements DBWChannel {
+        private final Socket socket;
+
+        LoopbackChannel(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        }
+
+        @NotNull
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return socket.getInputStream();
+        }
+
+        @NotNull
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            return socket.getOutputStream();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct.cache;
+
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPIdentifierCase;
+import org.jkiss.dbeaver.model.impl.struct.RelationalObjectType;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectReference;
+import org.jkiss.dbeaver.model.struct.DBSObjectType;
+import org.jkiss.dbeaver.model.struct.DBSStructureAssistant;
+import org.jkiss.dbeaver.model.struct.rdb.DBSProcedure;
+import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+
+public class ObjectNameIndexTest extends DBeaverUnitTest {
+
+    private DBPDataSource dataSource;
+    private DBSSchema schema;
+    private SimpleObjectCache<DBSSchema, DBSTable> tableCache;
+
+    @Before
+    public void init() {
+        Map<String, Object> attributes = new HashMap<>();
+        SQLDialect dialect = Mockito.mock(SQLDialect.class);
+        Mockito.lenient().when(dialect.storesUnquotedCase()).thenReturn(DBPIdentifierCase.MIXED);
+        dataSource = Mockito.mock(DBPDataSource.class);
+        Mockito.lenient().when(dataSource.getSQLDialect()).thenReturn(dialect);
+        Mockito.lenient().when(dataSource.getContextAttribute(Mockito.anyString()))
+            .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        Mockito.lenient().doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(dataSource).setContextAttribute(Mockito.anyString(), Mockito.any());
+        schema = Mockito.mock(DBSSchema.class);
+
+        tableCache = new SimpleObjectCache<>();
+        tableCache.setIndexedObjectTypes(RelationalObjectType.TYPE_TABLE);
+        tableCache.setCache(List.of(
+            mockObject(DBSTable.class, "ORDERS", schema),
+            mockObject(DBSTable.class, "order_items", schema),
+            mockObject(DBSTable.class, "Customers", schema),
+            mockObject(DBSTable.class, "customer_orders", schema),
+            mockObject(DBSTable.class, "A%B", schema),
+            mockObject(DBSTable.class, "AXB", schema)
+        ));
+    }
+
+    @Test
+    public void matchMasks() {
+        Assert.assertEquals(Set.of("ORDERS", "order_items"), findNames("ORDER%"));
+        Assert.assertEquals(Set.of("ORDERS", "order_items", "customer_orders"), findNames("%order%"));
+        Assert.assertEquals(Set.of("ORDERS", "customer_orders"), findNames("*orders"));
+        Assert.assertEquals(Set.of("Customers"), findNames("customer_"));
+        Assert.assertEquals(Set.of("Customers"), findNames("c?stomers"));
+        Assert.assertEquals(Set.of("A%B", "AXB"), findNames("a%b"));
+        Assert.assertEquals(Set.of("A%B"), findNames("a\\%b"));
+        Assert.assertEquals(Set.of(), findNames("orders_"));
+    }
+
+    @Test
+    public void matchCaseSensitive() {
+        DBSStructureAssistant.ObjectsSearchParams params = makeParams("order%", RelationalObjectType.TYPE_TABLE);
+        params.setCaseSensitive(true);
+        Assert.assertEquals(Set.of("order_items"), getNames(getIndex().findObjects(schema, params)));
+    }
+
+    @Test
+    public void trigramCandidates() {
+        // All mask trigrams must be present, but not necessarily adjacent or in the same order
+        Assert.assertEquals(Set.of("customer_orders"), findNames("%tom%ord%"));
+        Assert.assertEquals(Set.of(), findNames("%ord%tom%"));
+        Assert.assertEquals(Set.of(), findNames("%ordersx%"));
+        // Parts shorter than a trigram don't restrict candidates
+        Assert.assertEquals(Set.of("ORDERS", "order_items", "customer_orders"), findNames("%or%"));
+    }
+
+    @Test
+    public void maxResults() {
+        DBSStructureAssistant.ObjectsSearchParams params = makeParams("%", RelationalObjectType.TYPE_TABLE);
+        params.setMaxResults(2);
+        Assert.assertEquals(2, getIndex().findObjects(schema, params).size());
+    }
+
+    @Test
+    public void segmentInvalidation() {
+        Assert.assertEquals(Set.of(), findNames("invoices"));
+
+        DBSTable invoices = mockObject(DBSTable.class, "INVOICES", schema);
+        tableCache.cacheObject(invoices);
+        Assert.assertEquals(Set.of("INVOICES"), findNames("invoices"));
+
+        Mockito.when(invoices.getName()).thenReturn("BILLS");
+        tableCache.renameObject(invoices, "INVOICES", "BILLS");
+        Assert.assertEquals(Set.of(), findNames("invoices"));
+        Assert.assertEquals(Set.of("BILLS"), findNames("bills"));
+
+        tableCache.removeObject(invoices, false);
+        Assert.assertEquals(Set.of(), findNames("bills"));
+
+        tableCache.setFullCache(false);
+        Assert.assertNull(getIndex().findObjects(schema, makeParams("orders", RelationalObjectType.TYPE_TABLE)));
+    }
+
+    @Test
+    public void requireDeclaredTypes() {
+        // Procedures are not cached yet
+        Assert.assertNull(getIndex().findObjects(schema, makeParams("%", RelationalObjectType.TYPE_TABLE, RelationalObjectType.TYPE_PROCEDURE)));
+
+        // Cache without declared types is not indexed even if it contains procedures
+        SimpleObjectCache<DBSSchema, DBSProcedure> undeclaredCache = new SimpleObjectCache<>();
+        undeclaredCache.setCache(List.of(mockObject(DBSProcedure.class, "order_proc", schema)));
+        Assert.assertNull(getIndex().findObjects(schema, makeParams("%", RelationalObjectType.TYPE_PROCEDURE)));
+
+        SimpleObjectCache<DBSSchema, DBSProcedure> procedureCache = new SimpleObjectCache<>();
+        procedureCache.setIndexedObjectTypes(RelationalObjectType.TYPE_PROCEDURE);
+        procedureCache.setCache(List.of(mockObject(DBSProcedure.class, "create_order", schema)));
+        List<DBSObjectReference> result = getIndex().findObjects(
+            schema, makeParams("%order%", RelationalObjectType.TYPE_TABLE, RelationalObjectType.TYPE_PROCEDURE));
+        Assert.assertNotNull(result);
+        Assert.assertEquals(Set.of("ORDERS", "order_items", "customer_orders", "create_order"), getNames(result));
+        for (DBSObjectReference reference : result) {
+            Assert.assertEquals(
+                reference.getName().equals("create_order") ? RelationalObjectType.TYPE_PROCEDURE : RelationalObjectType.TYPE_TABLE,
+                reference.getObjectType());
+        }
+
+        // Other parent
+        Assert.assertNull(getIndex().findObjects(Mockito.mock(DBSSchema.class), makeParams("%", RelationalObjectType.TYPE_TABLE)));
+        // Index keeps caches weakly
+        Assert.assertTrue(undeclaredCache.isFullyCached() && procedureCache.isFullyCached());
+    }
+
+    private ObjectNameIndex getIndex() {
+        ObjectNameIndex index = ObjectNameIndex.getIndex(dataSource);
+        Assert.assertNotNull(index);
+        return index;
+    }
+
+    private Set<String> findNames(String mask) {
+        List<DBSObjectReference> result = getIndex().findObjects(schema, makeParams(mask, RelationalObjectType.TYPE_TABLE));
+        Assert.assertNotNull(result);
+        return getNames(result);
+    }
+
+    private static Set<String> getNames(List<DBSObjectReference> references) {
+        Set<String> names = new HashSet<>();
+        for (DBSObjectReference reference : references) {
+            names.add(reference.getName());
+        }
+        return names;
+    }
+
+    private static DBSStructureAssistant.ObjectsSearchParams makeParams(String mask, DBSObjectType... objectTypes) {
+        return new DBSStructureAssistant.ObjectsSearchParams(objectTypes, mask);
+    }
+
+    private <T extends DBSObject> T mockObject(Class<T> type, String name, DBSObject parent) {
+        T object = Mockito.mock(type);
+        Mockito.lenient().when(object.getName()).thenReturn(name);
+        Mockito.lenient().when(object.getParentObject()).thenReturn(parent);
+        Mockito.lenient().when(object.getDataSource()).thenReturn(dataSource);
+        return object;
+    }
+}
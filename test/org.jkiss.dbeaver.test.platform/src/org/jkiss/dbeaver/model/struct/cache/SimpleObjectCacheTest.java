@@ -0,0 +1,106 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct.cache;
+
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPIdentifierCase;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimpleObjectCacheTest extends DBeaverUnitTest {
+
+    @Test
+    public void cachedListIsSnapshot() {
+        SimpleObjectCache<DBSObject, DBSObject> cache = new SimpleObjectCache<>();
+        DBPDataSource dataSource = mockDataSource(DBPIdentifierCase.UPPER);
+        List<DBSObject> objects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            objects.add(mockObject("TABLE_" + i, dataSource));
+        }
+        cache.setCache(objects);
+        objects.clear();
+
+        List<DBSObject> snapshot = cache.getCachedObjects();
+        cache.cacheObject(mockObject("EXTRA", dataSource));
+        cache.removeObject(snapshot.get(0), false);
+
+        Assert.assertEquals(10, snapshot.size());
+        Assert.assertEquals(10, cache.getCacheSize());
+        Assert.assertNull(cache.getCachedObject("TABLE_0"));
+        Assert.assertNotNull(cache.getCachedObject("EXTRA"));
+        Assert.assertNull(cache.getCachedObject("extra"));
+    }
+
+    @Test
+    public void caseInsensitiveLookup() {
+        SimpleObjectCache<DBSObject, DBSObject> cache = new SimpleObjectCache<>();
+        DBPDataSource dataSource = mockDataSource(DBPIdentifierCase.MIXED);
+        DBSObject table = mockObject("MyTable", dataSource);
+        cache.cacheObject(table);
+
+        Assert.assertSame(table, cache.getCachedObject("mytable"));
+        Assert.assertSame(table, cache.getCachedObject("MYTABLE"));
+
+        cache.renameObject(table, "MyTable", "Renamed");
+        Assert.assertNull(cache.getCachedObject("mytable"));
+        Assert.assertSame(table, cache.getCachedObject("RENAMED"));
+    }
+
+    @Test
+    public void concurrentReads() throws Exception {
+        SimpleObjectCache<DBSObject, DBSObject> cache = new SimpleObjectCache<>();
+        DBPDataSource dataSource = mockDataSource(DBPIdentifierCase.UPPER);
+        List<DBSObject> objects = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            objects.add(mockObject("T" + i, dataSource));
+        }
+        Thread writer = new Thread(() -> objects.forEach(cache::cacheObject));
+        writer.start();
+        while (writer.isAlive()) {
+            for (DBSObject object : cache.getCachedObjects()) {
+                Assert.assertNotNull(object);
+            }
+            cache.getCachedObject("T1");
+        }
+        writer.join();
+
+        Assert.assertEquals(objects.size(), cache.getCacheSize());
+        Assert.assertSame(objects.get(4999), cache.getCachedObject("T4999"));
+    }
+
+    private static DBPDataSource mockDataSource(DBPIdentifierCase identifierCase) {
+        SQLDialect dialect = Mockito.mock(SQLDialect.class);
+        Mockito.lenient().when(dialect.storesUnquotedCase()).thenReturn(identifierCase);
+        DBPDataSource dataSource = Mockito.mock(DBPDataSource.class);
+        Mockito.lenient().when(dataSource.getSQLDialect()).thenReturn(dialect);
+        return dataSource;
+    }
+
+    private static DBSObject mockObject(String name, DBPDataSource dataSource) {
+        DBSObject object = Mockito.mock(DBSObject.class);
+        Mockito.lenient().when(object.getName()).thenReturn(name);
+        Mockito.lenient().when(object.getDataSource()).thenReturn(dataSource);
+        return object;
+    }
+}
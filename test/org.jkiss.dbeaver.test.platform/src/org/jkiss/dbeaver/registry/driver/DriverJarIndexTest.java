@@ -0,0 +1,133 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.driver;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+public class DriverJarIndexTest extends DBeaverUnitTest {
+    private static final String TEST_CLASS_ENTRY = DriverJarIndexTest.class.getName().replace('.', '/') + ".class";
+
+    private Path tempFolder;
+
+    @Before
+    public void init() throws IOException {
+        tempFolder = Files.createTempDirectory("driver-index-test");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(tempFolder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testReadPackagesAndServices() throws IOException {
+        Path jarFile = createJar(tempFolder.resolve("driver.jar"), "com/example/driver/Impl.class");
+        DriverJarIndex index = DriverJarIndex.getIndex(jarFile);
+
+        Assert.assertTrue(index.containsPackage("org/jkiss/dbeaver/registry/driver"));
+        Assert.assertTrue(index.containsPackage("org/jkiss"));
+        Assert.assertTrue(index.containsPackage("com/example/driver"));
+        Assert.assertTrue(index.containsPackage(""));
+        Assert.assertFalse(index.containsPackage("org/jkiss/dbeaver/model"));
+        Assert.assertFalse(index.hasClassPath());
+        Assert.assertEquals(List.of("com.example.driver.Impl"), index.getServiceProviders("java.sql.Driver"));
+        Assert.assertTrue(index.getServiceProviders("javax.sql.DataSource").isEmpty());
+    }
+
+    @Test
+    public void testClassHeadersArePersisted() throws IOException {
+        Path indexFolder = tempFolder.resolve(DriverJarIndex.INDEX_DIR);
+        Path jarFile = createJar(tempFolder.resolve("driver.jar"), "com/example/driver/Impl.class");
+
+        Map<String, DriverJarIndex.ClassInfo> classes = DriverJarIndex.getIndex(jarFile).getClasses(indexFolder);
+        DriverJarIndex.ClassInfo classInfo = classes.get(DriverJarIndexTest.class.getName().replace('.', '/'));
+        Assert.assertNotNull(classInfo);
+        Assert.assertEquals(DBeaverUnitTest.class.getName().replace('.', '/'), classInfo.superName());
+        try (Stream<Path> indexFiles = Files.list(indexFolder)) {
+            Assert.assertEquals(1, indexFiles.count());
+        }
+
+        // Same content at another location is read from the index file
+        Path copyFile = Files.copy(jarFile, tempFolder.resolve("driver-copy.jar"));
+        Map<String, DriverJarIndex.ClassInfo> copyClasses = DriverJarIndex.getIndex(copyFile).getClasses(indexFolder);
+        Assert.assertEquals(classes.keySet(), copyClasses.keySet());
+        Assert.assertEquals(classInfo.superName(), copyClasses.get(classInfo.name()).superName());
+        try (Stream<Path> indexFiles = Files.list(indexFolder)) {
+            Assert.assertEquals(1, indexFiles.count());
+        }
+    }
+
+    @Test
+    public void testIndexIsRefreshedOnChange() throws IOException {
+        Path jarFile = createJar(tempFolder.resolve("driver.jar"), "com/example/driver/Impl.class");
+        Assert.assertTrue(DriverJarIndex.getIndex(jarFile).containsPackage("com/example/driver"));
+
+        createJar(jarFile, "com/example/other/Impl.class");
+        Files.setLastModifiedTime(jarFile, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        DriverJarIndex index = DriverJarIndex.getIndex(jarFile);
+        Assert.assertFalse(index.containsPackage("com/example/driver"));
+        Assert.assertTrue(index.containsPackage("com/example/other"));
+    }
+
+    @NotNull
+    private static Path createJar(@NotNull Path jarFile, @NotNull String driverEntry) throws IOException {
+        try (JarOutputStream os = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            os.putNextEntry(new JarEntry(TEST_CLASS_ENTRY));
+            try (InputStream is = DriverJarIndexTest.class.getResourceAsStream(DriverJarIndexTest.class.getSimpleName() + ".class")) {
+                Assert.assertNotNull(is);
+                is.transferTo(os);
+            }
+            os.closeEntry();
+            os.putNextEntry(new JarEntry(driverEntry));
+            os.closeEntry();
+            os.putNextEntry(new JarEntry("META-INF/services/java.sql.Driver"));
+            writeString(os, "# Driver\n" + driverEntry.replace('/', '.').replace(".class", "") + "\n");
+            os.closeEntry();
+            os.putNextEntry(new JarEntry("driver.properties"));
+            writeString(os, "version=1\n");
+            os.closeEntry();
+        }
+        return jarFile;
+    }
+
+    private static void writeString(@NotNull OutputStream os, @NotNull String text) throws IOException {
+        os.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
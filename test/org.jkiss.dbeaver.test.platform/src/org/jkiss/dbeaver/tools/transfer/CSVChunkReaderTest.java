@@ -0,0 +1,96 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.stream.importer.CSVChunkReader;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.jkiss.utils.csv.CSVReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CSVChunkReaderTest extends DBeaverUnitTest {
+
+    @Test
+    public void chunksMatchSequentialParsing() throws IOException {
+        StringBuilder content = new StringBuilder("\uFEFFid,value\n");
+        for (int i = 0; i < 5000; i++) {
+            content.append(i).append(',');
+            switch (i % 4) {
+                case 0 -> content.append("\"multi\nline, \"\"quoted\"\"\"");
+                case 1 -> content.append("\"escaped \\\" quote\"");
+                case 2 -> content.append("ünicode");
+                default -> content.append("plain ").append(i);
+            }
+            content.append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        Path file = Files.createTempFile("dbeaver-test", ".csv");
+        try {
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+
+            List<String[]> expected = new ArrayList<>();
+            try (CSVReader reader = new CSVReader(new StringReader(content.substring(1)), ',', '"', '\\')) {
+                for (String[] line = reader.readNext(); line != null; line = reader.readNext()) {
+                    expected.add(line);
+                }
+            }
+
+            List<String[]> actual = new ArrayList<>();
+            try (CSVChunkReader chunkReader = new CSVChunkReader(
+                file, StandardCharsets.UTF_8, '"', '\\', 4, 1000,
+                reader -> new CSVReader(reader, ',', '"', '\\'), line -> line)
+            ) {
+                for (List<String[]> rows = chunkReader.nextChunk(new VoidProgressMonitor()); rows != null; rows = chunkReader.nextChunk(new VoidProgressMonitor())) {
+                    actual.addAll(rows);
+                }
+            }
+
+            Assert.assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertArrayEquals("Row " + i, expected.get(i), actual.get(i));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void unterminatedQuote() throws IOException {
+        Path file = Files.createTempFile("dbeaver-test", ".csv");
+        try {
+            Files.writeString(file, "a,b\nc,\"d\ne,f\n", StandardCharsets.UTF_8);
+            try (CSVChunkReader chunkReader = new CSVChunkReader(
+                file, StandardCharsets.UTF_8, '"', '\\', 2, 4,
+                reader -> new CSVReader(reader, ',', '"', '\\'), line -> line)
+            ) {
+                while (chunkReader.nextChunk(new VoidProgressMonitor()) != null) {
+                    // Read all chunks
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
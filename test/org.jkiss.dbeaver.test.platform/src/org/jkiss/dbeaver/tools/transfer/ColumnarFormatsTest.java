@@ -0,0 +1,142 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.*;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ColumnarFormatsTest extends DBeaverUnitTest {
+
+    private static final ColumnarField[] FIELDS = {
+        new ColumnarField("id", ColumnarType.INT64),
+        new ColumnarField("flag", ColumnarType.BOOLEAN),
+        new ColumnarField("amount", ColumnarType.DECIMAL, 12, 2),
+        new ColumnarField("big_amount", ColumnarType.DECIMAL, 30, 4),
+        new ColumnarField("ratio", ColumnarType.DOUBLE),
+        new ColumnarField("category", ColumnarType.STRING),
+        new ColumnarField("comment", ColumnarType.STRING),
+        new ColumnarField("data", ColumnarType.BINARY),
+        new ColumnarField("day", ColumnarType.DATE),
+        new ColumnarField("created", ColumnarType.TIMESTAMP),
+    };
+
+    @Test
+    public void parquetRoundTrip() throws IOException {
+        for (ParquetFileWriter.Compression compression : ParquetFileWriter.Compression.values()) {
+            List<Object[]> rows = generateRows(2500);
+            Path file = Files.createTempFile("dbeaver-test", ".parquet");
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                writeRows(new ParquetFileWriter(out, FIELDS, compression, true), rows, 1000);
+                Files.write(file, out.toByteArray());
+                try (ColumnarReader reader = new ParquetFileReader(Files.newByteChannel(file))) {
+                    assertRows(reader, rows);
+                }
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void arrowRoundTrip() throws IOException {
+        List<Object[]> rows = generateRows(2500);
+        Path file = Files.createTempFile("dbeaver-test", ".arrow");
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeRows(new ArrowFileWriter(out, FIELDS), rows, 1000);
+            Files.write(file, out.toByteArray());
+            try (ColumnarReader reader = new ArrowFileReader(Files.newByteChannel(file))) {
+                assertRows(reader, rows);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<Object[]> generateRows(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean nulls = i % 7 == 3;
+            rows.add(new Object[]{
+                (long) i * 1_000_000_007L,
+                nulls ? null : i % 3 == 0,
+                nulls ? null : BigDecimal.valueOf(i * 31L - 5000, 2),
+                new BigDecimal("-12345678901234567890.1234").add(BigDecimal.valueOf(i)),
+                i / 7.0,
+                "category" + (i % 5),
+                nulls ? null : "comment " + i,
+                new byte[]{(byte) i, 1, 2},
+                java.sql.Date.valueOf("2024-02-" + (10 + i % 19)),
+                Timestamp.valueOf("2023-12-31 23:59:59.123456"),
+            });
+        }
+        return rows;
+    }
+
+    private static void writeRows(ColumnarWriter writer, List<Object[]> rows, int batchSize) throws IOException {
+        ColumnVector[] vectors = new ColumnVector[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            vectors[i] = new ColumnVector(FIELDS[i], batchSize);
+        }
+        for (Object[] row : rows) {
+            for (int i = 0; i < FIELDS.length; i++) {
+                vectors[i].add(row[i]);
+            }
+            if (vectors[0].getSize() == batchSize) {
+                writer.writeBatch(vectors);
+                Arrays.stream(vectors).forEach(ColumnVector::reset);
+            }
+        }
+        writer.writeBatch(vectors);
+        writer.finish();
+    }
+
+    private static void assertRows(ColumnarReader reader, List<Object[]> rows) throws IOException {
+        Assert.assertEquals(FIELDS.length, reader.getFields().size());
+        for (int i = 0; i < FIELDS.length; i++) {
+            Assert.assertEquals(FIELDS[i].toString(), reader.getFields().get(i).toString());
+        }
+        int rowIndex = 0;
+        for (ColumnVector[] batch = reader.readBatch(); batch != null; batch = reader.readBatch()) {
+            for (int row = 0; row < batch[0].getSize(); row++, rowIndex++) {
+                Object[] expected = rows.get(rowIndex);
+                for (int i = 0; i < FIELDS.length; i++) {
+                    Object value = batch[i].getValue(row);
+                    if (expected[i] instanceof byte[] bytes) {
+                        Assert.assertArrayEquals(bytes, (byte[]) value);
+                    } else {
+                        Assert.assertEquals(FIELDS[i].getName() + " at row " + rowIndex, expected[i], value);
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(rows.size(), rowIndex);
+    }
+}
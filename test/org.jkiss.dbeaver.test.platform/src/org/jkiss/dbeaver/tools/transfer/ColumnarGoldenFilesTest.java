@@ -0,0 +1,108 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ArrowFileReader;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnVector;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ColumnarReader;
+import org.jkiss.dbeaver.tools.transfer.stream.columnar.ParquetFileReader;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads files written independently of DBeaver writers (see scripts/generate_golden.py in this bundle)
+ */
+public class ColumnarGoldenFilesTest extends DBeaverUnitTest {
+
+    private static final String[] FIELD_NAMES = {"id", "name", "amount", "flag", "day", "created"};
+    private static final int ROW_COUNT = 50;
+
+    @Test
+    public void readParquetSnappy() throws IOException {
+        checkGoldenFile("golden_snappy.parquet", false);
+    }
+
+    @Test
+    public void readParquetGzipV2() throws IOException {
+        checkGoldenFile("golden_gzip_v2.parquet", false);
+    }
+
+    @Test
+    public void readArrow() throws IOException {
+        checkGoldenFile("golden.arrow", true);
+    }
+
+    private void checkGoldenFile(String fileName, boolean arrow) throws IOException {
+        Path file = Files.createTempFile("dbeaver-golden", fileName);
+        try {
+            try (InputStream is = ColumnarGoldenFilesTest.class.getResourceAsStream("golden/" + fileName)) {
+                Assert.assertNotNull("Golden file " + fileName + " not found", is);
+                Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            SeekableByteChannel channel = Files.newByteChannel(file);
+            try (ColumnarReader reader = arrow ? new ArrowFileReader(channel) : new ParquetFileReader(channel)) {
+                Assert.assertEquals(FIELD_NAMES.length, reader.getFields().size());
+                for (int i = 0; i < FIELD_NAMES.length; i++) {
+                    Assert.assertEquals(FIELD_NAMES[i], reader.getFields().get(i).getName());
+                }
+                List<Object[]> expectedRows = getExpectedRows();
+                int rowIndex = 0;
+                for (ColumnVector[] batch = reader.readBatch(); batch != null; batch = reader.readBatch()) {
+                    for (int row = 0; row < batch[0].getSize(); row++, rowIndex++) {
+                        Object[] expected = expectedRows.get(rowIndex);
+                        for (int i = 0; i < FIELD_NAMES.length; i++) {
+                            Assert.assertEquals(
+                                fileName + ": " + FIELD_NAMES[i] + " at row " + rowIndex, expected[i], batch[i].getValue(row));
+                        }
+                    }
+                }
+                Assert.assertEquals(ROW_COUNT, rowIndex);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<Object[]> getExpectedRows() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(new Object[]{
+                (long) i,
+                i % 5 == 4 ? null : "name" + (i % 3),
+                i % 7 == 6 ? null : BigDecimal.valueOf(i * 125L - 1000, 2),
+                i < 20 || i % 2 == 0,
+                java.sql.Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i)),
+                Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 12, 0, 0, i * 1_000_000)),
+            });
+        }
+        return rows;
+    }
+}
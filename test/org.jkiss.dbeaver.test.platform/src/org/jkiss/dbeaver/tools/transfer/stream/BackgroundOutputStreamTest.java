@@ -0,0 +1,142 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class BackgroundOutputStreamTest extends DBeaverUnitTest {
+
+    @Test(timeout = 10000)
+    public void testWriteFlushCloseOrder() throws Exception {
+        RecordingTarget target = new RecordingTarget();
+        BackgroundOutputStream out = new BackgroundOutputStream(target, "Test writer", 4, 2);
+
+        out.write(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        out.write(10);
+        // Flush returns after all previous data was written and target was flushed
+        out.flush();
+        Assert.assertEquals(List.of("write 4", "write 4", "write 2", "flush"), target.getEvents());
+
+        out.write(new byte[]{11, 12, 13});
+        out.close();
+        Assert.assertTrue(out.isDone());
+        Assert.assertEquals(List.of("write 4", "write 4", "write 2", "flush", "write 3", "close"), target.getEvents());
+        Assert.assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13}, target.toByteArray());
+    }
+
+    @Test(timeout = 10000)
+    public void testWriteErrorIsReported() throws Exception {
+        RecordingTarget target = new RecordingTarget();
+        target.failWrites = true;
+        BackgroundOutputStream out = new BackgroundOutputStream(target, "Test writer", 4, 2);
+
+        out.write(new byte[]{1, 2, 3, 4, 5});
+        Assert.assertThrows(IOException.class, out::flush);
+        Assert.assertThrows(IOException.class, out::close);
+        // Target is closed even after failure
+        Assert.assertTrue(out.isDone());
+        Assert.assertEquals("close", target.getEvents().get(target.getEvents().size() - 1));
+    }
+
+    @Test(timeout = 10000)
+    public void testAbortEndsWriterJob() throws Exception {
+        BlockingTarget target = new BlockingTarget();
+        BackgroundOutputStream out = new BackgroundOutputStream(target, "Test writer", 4, 2);
+
+        // Export fails in the middle: one block is being written, another one is queued, the third is not sent
+        out.write(new byte[12]);
+        target.writeStarted.await();
+        out.abort();
+        target.release.countDown();
+
+        out.waitForClose();
+        Assert.assertTrue(out.isDone());
+        Assert.assertTrue(target.closed);
+        // Queued and buffered blocks are discarded
+        Assert.assertEquals(4, target.size());
+        Assert.assertThrows(IOException.class, () -> out.write(1));
+    }
+
+    private static class RecordingTarget extends OutputStream {
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private final List<String> events = new ArrayList<>();
+        volatile boolean failWrites;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            if (failWrites) {
+                throw new IOException("Disk is full");
+            }
+            events.add("write " + len);
+            data.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void flush() {
+            events.add("flush");
+        }
+
+        @Override
+        public synchronized void close() {
+            events.add("close");
+        }
+
+        synchronized List<String> getEvents() {
+            return new ArrayList<>(events);
+        }
+
+        synchronized byte[] toByteArray() {
+            return data.toByteArray();
+        }
+    }
+
+    private static class BlockingTarget extends ByteArrayOutputStream {
+        final CountDownLatch writeStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean closed;
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            writeStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
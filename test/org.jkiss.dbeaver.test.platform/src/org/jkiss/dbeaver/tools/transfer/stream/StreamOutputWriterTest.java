@@ -0,0 +1,97 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class StreamOutputWriterTest extends DBeaverUnitTest {
+
+    // Grinning face emoji, encoded as a surrogate pair
+    private static final String EMOJI = "\uD83D\uDE00";
+
+    @Test
+    public void testSurrogatePairSplitAcrossBlocks() throws IOException {
+        // Block of 4 characters, the pair starts at the last position of the first block
+        String text = "abc" + EMOJI + "def" + EMOJI + EMOJI + "g";
+        for (int i = 0; i < 3; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            StreamOutputWriter writer = new StreamOutputWriter(out, StandardCharsets.UTF_8, 4);
+            switch (i) {
+                case 0 -> writer.write(text);
+                case 1 -> writer.write(text.toCharArray());
+                default -> {
+                    for (int k = 0; k < text.length(); k++) {
+                        writer.write(text.charAt(k));
+                    }
+                }
+            }
+            writer.finish();
+            Assert.assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        }
+    }
+
+    @Test
+    public void testFlushWithPendingHighSurrogate() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamOutputWriter writer = new StreamOutputWriter(out, StandardCharsets.UTF_8, 16);
+        writer.write("ab" + EMOJI.charAt(0));
+        writer.flush();
+        // High surrogate waits for its pair
+        Assert.assertArrayEquals("ab".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        writer.write(EMOJI.charAt(1));
+        writer.finish();
+        Assert.assertArrayEquals(("ab" + EMOJI).getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testUnmappableCharactersAreReplaced() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamOutputWriter writer = new StreamOutputWriter(out, StandardCharsets.ISO_8859_1, 4);
+        writer.write("a" + EMOJI + "\u0416b");
+        writer.finish();
+        Assert.assertEquals("a??b", out.toString(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testFinishAndClose() throws IOException {
+        ClosingTarget out = new ClosingTarget();
+        StreamOutputWriter writer = new StreamOutputWriter(out, StandardCharsets.UTF_8, 4);
+        writer.write("data");
+        writer.finish();
+        // Finish doesn't close the target, writer can't be used after finish
+        Assert.assertFalse(out.closed);
+        Assert.assertThrows(IOException.class, () -> writer.write("more"));
+        writer.close();
+        Assert.assertTrue(out.closed);
+        Assert.assertEquals("data", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static class ClosingTarget extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
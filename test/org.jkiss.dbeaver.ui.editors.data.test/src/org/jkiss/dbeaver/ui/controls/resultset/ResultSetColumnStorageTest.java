@@ -0,0 +1,126 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultSetColumnStorageTest extends DBeaverUnitTest {
+
+    @Test
+    public void testNulls() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ResultSetColumnStorage.PAGE_SIZE + 100; i++) {
+            boolean isNull = i % 7 == 0;
+            rows.add(new Object[]{
+                isNull ? null : (long) i,
+                isNull ? null : i / 4.0,
+                isNull ? null : i % 2 == 0,
+                isNull ? null : "value" + i % 10,
+                isNull ? null : BigDecimal.valueOf(i),
+                null
+            });
+        }
+        // Missing trailing values are nulls
+        rows.add(new Object[]{1L});
+        ResultSetColumnStorage storage = ResultSetColumnStorage.fromRows(6, rows);
+
+        assertRows(rows, storage);
+        Assert.assertThrows(IllegalStateException.class, () -> storage.add(new Object[]{1L}));
+    }
+
+    @Test
+    public void testSwitchToObjects() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rows.add(new Object[]{
+                // Switch happens after arrays grow beyond the initial capacity
+                i == 100 ? (Object) 100L : (Object) i,
+                i == 150 ? "text" : i * 1.5,
+                i == 199 ? (Object) 1 : (Object) (i % 3 == 0),
+                i % 5 == 0 ? null : (short) i
+            });
+        }
+        ResultSetColumnStorage storage = ResultSetColumnStorage.fromRows(4, rows);
+
+        assertRows(rows, storage);
+        Assert.assertEquals(Integer.class, storage.getValue(99, 0).getClass());
+        Assert.assertEquals(Long.class, storage.getValue(100, 0).getClass());
+        Assert.assertEquals(Short.class, storage.getValue(1, 3).getClass());
+    }
+
+    @Test
+    public void testDictionaryOverflow() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ResultSetColumnStorage.PAGE_SIZE + 3000; i++) {
+            rows.add(new Object[]{
+                "unique" + i,
+                "group" + i % 5,
+                // Repeated values first, so the dictionary is dropped in the middle of the page
+                i < 1500 ? "repeated" + i % 3 : "unique" + i,
+                i % 10 == 0 ? null : "unique" + i
+            });
+        }
+        ResultSetColumnStorage storage = ResultSetColumnStorage.fromRows(4, rows);
+
+        assertRows(rows, storage);
+    }
+
+    @Test
+    public void testSetValueDetachesRow() {
+        ResultSetColumnStorage storage = ResultSetColumnStorage.fromRows(2, List.of(
+            new Object[]{1L, "first"},
+            new Object[]{2L, "second"}
+        ));
+        ResultSetRow row = new ResultSetRow(1, storage, 1);
+        Assert.assertSame(storage, row.getStorage());
+        Assert.assertEquals("second", row.getValue(1));
+        Assert.assertNotSame(row.getValues(), row.getValues());
+
+        row.setValue(1, "changed");
+
+        // Detached row keeps the storage reference, so the storage is closed with the model
+        Assert.assertSame(storage, row.getStorage());
+        Assert.assertEquals(2L, row.getValue(0));
+        Assert.assertEquals("changed", row.getValue(1));
+        Assert.assertSame(row.getValues(), row.getValues());
+        Assert.assertEquals(2, row.getValueCount());
+        // Storage keeps original values
+        Assert.assertEquals("second", storage.getValue(1, 1));
+        Assert.assertArrayEquals(new Object[]{1L, "first"}, storage.get(0));
+    }
+
+    static void assertRows(@NotNull List<Object[]> expected, @NotNull ResultSetColumnStorage storage) {
+        Assert.assertEquals(expected.size(), storage.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Object[] expectedRow = expected.get(i);
+            Object[] row = storage.get(i);
+            Assert.assertEquals(storage.getColumnCount(), row.length);
+            for (int column = 0; column < row.length; column++) {
+                Object value = column < expectedRow.length ? expectedRow[column] : null;
+                Assert.assertEquals("Row " + i + ", column " + column, value, row[column]);
+                Assert.assertEquals("Row " + i + ", column " + column, value, storage.getValue(i, column));
+            }
+        }
+    }
+}
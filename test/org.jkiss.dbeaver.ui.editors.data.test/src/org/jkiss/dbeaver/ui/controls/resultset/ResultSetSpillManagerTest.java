@@ -0,0 +1,144 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class ResultSetSpillManagerTest extends DBeaverUnitTest {
+    // Spill manager keeps at least 4 pages in memory
+    private static final int ROW_COUNT = ResultSetColumnStorage.PAGE_SIZE * 7 + 100;
+
+    private Path tempFolder;
+    private final List<Path> spillFiles = new ArrayList<>();
+    private ResultSetSpillManager spillManager;
+
+    @Before
+    public void init() throws IOException {
+        tempFolder = Files.createTempDirectory("resultset-spill-test");
+        spillManager = new ResultSetSpillManager() {
+            @NotNull
+            @Override
+            ResultSetSpillFile createSpillFile() throws IOException {
+                Path file = Files.createTempFile(tempFolder, "rs", ".spill");
+                spillFiles.add(file);
+                return new ResultSetSpillFile(file);
+            }
+        };
+        spillManager.setMaxMemoryRows(0);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(tempFolder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testSpillAndReload() throws IOException {
+        List<Object[]> rows = makeRows();
+        ResultSetColumnStorage storage = ResultSetColumnStorage.fromRows(6, rows, spillManager);
+
+        Assert.assertEquals(1, spillFiles.size());
+        Path spillFile = spillFiles.get(0);
+        long spilledSize = Files.size(spillFile);
+        Assert.assertTrue(spilledSize > 0);
+
+        // Spilled pages are loaded back, other pages are spilled to keep the limit
+        ResultSetColumnStorageTest.assertRows(rows, storage);
+        for (int i = rows.size() - 1; i >= 0; i -= 1000) {
+            Assert.assertArrayEquals(rows.get(i), storage.get(i));
+        }
+        // Pages don't change, so they are written only once
+        Assert.assertEquals(spilledSize, Files.size(spillFile));
+
+        storage.close();
+        Assert.assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    public void testObjectValuesStayInMemory() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(new Object[]{(long) i, new StringBuilder("value" + i)});
+        }
+        ResultSetColumnStorage storage = ResultSetColumnStorage.fromRows(2, rows, spillManager);
+
+        Assert.assertEquals(1, spillFiles.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assert.assertEquals((long) i, storage.getValue(i, 0));
+            Assert.assertSame(rows.get(i)[1], storage.getValue(i, 1));
+        }
+        storage.close();
+    }
+
+    @Test
+    public void testCloseStoragesDeletesSpillFiles() {
+        List<Object[]> rows = makeRows();
+        ResultSetColumnStorage storage = ResultSetColumnStorage.fromRows(6, rows, spillManager);
+        Assert.assertEquals(1, spillFiles.size());
+        Path spillFile = spillFiles.get(0);
+        Assert.assertTrue(Files.exists(spillFile));
+
+        ResultSetModel model = new ResultSetModel();
+        model.appendData(new VoidProgressMonitor(), storage, false);
+        // Storage is closed even if all rows were detached by value changes
+        for (ResultSetRow row : model.getAllRows()) {
+            row.setValue(0, null);
+        }
+        Assert.assertEquals(rows.get(1)[3], model.getRow(1).getValue(3));
+
+        // New data replaces old rows
+        model.appendData(new VoidProgressMonitor(), new ArrayList<>(), true);
+        Assert.assertFalse(Files.exists(spillFile));
+    }
+
+    @NotNull
+    private static List<Object[]> makeRows() {
+        List<Object[]> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            boolean isNull = i % 11 == 0;
+            rows.add(new Object[]{
+                (long) i,
+                isNull ? null : i * 0.25,
+                i % 3 == 0,
+                "value" + i % 20,
+                isNull ? null : BigDecimal.valueOf(i, 2),
+                isNull ? null : new Timestamp(1_700_000_000_000L + i)
+            });
+        }
+        return rows;
+    }
+}